@@ -17,9 +17,11 @@ package io.agentscope.core;
 
 import io.agentscope.core.agent.StructuredOutputCapableAgent;
 import io.agentscope.core.agent.accumulator.ReasoningContext;
+import io.agentscope.core.agent.accumulator.SegmentedText;
 import io.agentscope.core.hook.ActingChunkEvent;
 import io.agentscope.core.hook.Hook;
 import io.agentscope.core.hook.HookEvent;
+import io.agentscope.core.hook.HookEventType;
 import io.agentscope.core.hook.PostActingEvent;
 import io.agentscope.core.hook.PostReasoningEvent;
 import io.agentscope.core.hook.PostSummaryEvent;
@@ -72,6 +74,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.slf4j.Logger;
@@ -144,12 +147,12 @@ public class ReActAgent extends StructuredOutputCapableAgent {
 
     // ==================== Constructor ====================
 
-    private ReActAgent(Builder builder, Toolkit agentToolkit) {
+    private ReActAgent(Builder builder, Toolkit agentToolkit, List<Hook> agentHooks) {
         super(
                 builder.name,
                 builder.description,
                 builder.checkRunning,
-                new ArrayList<>(builder.hooks),
+                agentHooks,
                 agentToolkit,
                 builder.structuredOutputReminder);
 
@@ -799,11 +802,7 @@ public class ReActAgent extends StructuredOutputCapableAgent {
      * Generic hook notification method.
      */
     private <T extends HookEvent> Mono<T> notifyHooks(T event) {
-        Mono<T> result = Mono.just(event);
-        for (Hook hook : getSortedHooks()) {
-            result = result.flatMap(hook::onEvent);
-        }
-        return result;
+        return applyHooks(event);
     }
 
     private Mono<PreReasoningEvent> notifyPreReasoningEvent(List<Msg> msgs) {
@@ -822,50 +821,70 @@ public class ReActAgent extends StructuredOutputCapableAgent {
     }
 
     private Mono<Void> notifyActingChunk(ToolUseBlock toolUse, ToolResultBlock chunk) {
+        if (!hasHooks(HookEventType.ACTING_CHUNK)) {
+            return Mono.empty();
+        }
         ActingChunkEvent event =
                 new ActingChunkEvent(
                         this,
                         toolkit,
                         toolUse,
                         chunk.withIdAndName(toolUse.getId(), toolUse.getName()));
-        return Flux.fromIterable(getSortedHooks()).flatMap(hook -> hook.onEvent(event)).then();
+        return fireHooks(event);
     }
 
     private Mono<Void> notifyReasoningChunk(Msg chunkMsg, ReasoningContext context) {
+        if (!hasHooks(HookEventType.REASONING_CHUNK)) {
+            return Mono.empty();
+        }
+        Supplier<Msg> accumulated = accumulatedChunkMsg(chunkMsg, context, true);
+        if (accumulated != null) {
+            ReasoningChunkEvent event =
+                    ReasoningChunkEvent.lazy(
+                            this, model.getModelName(), null, chunkMsg, accumulated);
+            return fireHooks(event);
+        }
+
+        return Mono.empty();
+    }
+
+    /**
+     * Snapshot the content accumulated up to a streamed chunk, to be built into a message only
+     * if a hook asks for it. Taking the snapshot is O(1), so streaming stays linear in the output
+     * length however many chunks there are.
+     *
+     * @return supplier of the accumulated message, or null if the chunk has no accumulated form
+     */
+    private Supplier<Msg> accumulatedChunkMsg(
+            Msg chunkMsg, ReasoningContext context, boolean includeToolCalls) {
         ContentBlock content = chunkMsg.getFirstContentBlock();
 
-        ContentBlock accumulatedContent = null;
+        Supplier<ContentBlock> accumulatedContent = null;
         if (content instanceof TextBlock) {
-            accumulatedContent = TextBlock.builder().text(context.getAccumulatedText()).build();
+            SegmentedText.Snapshot text = context.getAccumulatedTextSnapshot();
+            accumulatedContent = () -> TextBlock.builder().text(text.toString()).build();
         } else if (content instanceof ThinkingBlock) {
+            SegmentedText.Snapshot thinking = context.getAccumulatedThinkingSnapshot();
             accumulatedContent =
-                    ThinkingBlock.builder().thinking(context.getAccumulatedThinking()).build();
-        } else if (content instanceof ToolUseBlock tub) {
+                    () -> ThinkingBlock.builder().thinking(thinking.toString()).build();
+        } else if (includeToolCalls && content instanceof ToolUseBlock tub) {
             // Support streaming ToolUseBlock events
-            ToolUseBlock accumulated = context.getAccumulatedToolCall(tub.getId());
-            if (accumulated != null) {
-                accumulatedContent = accumulated;
-            } else {
-                // If no accumulated data, use the current chunk directly
-                accumulatedContent = tub;
-            }
+            Supplier<ToolUseBlock> toolCall = context.getAccumulatedToolCallSnapshot(tub.getId());
+            // If no accumulated data, use the current chunk directly
+            accumulatedContent = toolCall != null ? toolCall::get : () -> tub;
         }
 
-        if (accumulatedContent != null) {
-            Msg accumulated =
-                    Msg.builder()
-                            .id(chunkMsg.getId())
-                            .name(chunkMsg.getName())
-                            .role(chunkMsg.getRole())
-                            .content(accumulatedContent)
-                            .build();
-            ReasoningChunkEvent event =
-                    new ReasoningChunkEvent(
-                            this, model.getModelName(), null, chunkMsg, accumulated);
-            return Flux.fromIterable(getSortedHooks()).flatMap(hook -> hook.onEvent(event)).then();
+        if (accumulatedContent == null) {
+            return null;
         }
-
-        return Mono.empty();
+        Supplier<ContentBlock> blockSupplier = accumulatedContent;
+        return () ->
+                Msg.builder()
+                        .id(chunkMsg.getId())
+                        .name(chunkMsg.getName())
+                        .role(chunkMsg.getRole())
+                        .content(blockSupplier.get())
+                        .build();
     }
 
     // ==================== Summary Hook Notification Methods ====================
@@ -883,28 +902,15 @@ public class ReActAgent extends StructuredOutputCapableAgent {
 
     private Mono<Void> notifySummaryChunk(
             Msg chunkMsg, ReasoningContext context, GenerateOptions generateOptions) {
-        ContentBlock content = chunkMsg.getFirstContentBlock();
-
-        ContentBlock accumulatedContent = null;
-        if (content instanceof TextBlock) {
-            accumulatedContent = TextBlock.builder().text(context.getAccumulatedText()).build();
-        } else if (content instanceof ThinkingBlock) {
-            accumulatedContent =
-                    ThinkingBlock.builder().thinking(context.getAccumulatedThinking()).build();
+        if (!hasHooks(HookEventType.SUMMARY_CHUNK)) {
+            return Mono.empty();
         }
-
-        if (accumulatedContent != null) {
-            Msg accumulated =
-                    Msg.builder()
-                            .id(chunkMsg.getId())
-                            .name(chunkMsg.getName())
-                            .role(chunkMsg.getRole())
-                            .content(accumulatedContent)
-                            .build();
+        Supplier<Msg> accumulated = accumulatedChunkMsg(chunkMsg, context, false);
+        if (accumulated != null) {
             SummaryChunkEvent event =
-                    new SummaryChunkEvent(
+                    SummaryChunkEvent.lazy(
                             this, model.getModelName(), generateOptions, chunkMsg, accumulated);
-            return Flux.fromIterable(getSortedHooks()).flatMap(hook -> hook.onEvent(event)).then();
+            return fireHooks(event);
         }
 
         return Mono.empty();
@@ -1354,6 +1360,8 @@ public class ReActAgent extends StructuredOutputCapableAgent {
         public ReActAgent build() {
             // Deep copy toolkit to avoid state interference between agents
             Toolkit agentToolkit = this.toolkit.copy();
+            // Hooks added below belong to this agent only, so the builder can be reused
+            List<Hook> agentHooks = new ArrayList<>(hooks);
 
             if (enableMetaTool) {
                 agentToolkit.registerMetaTool();
@@ -1361,25 +1369,25 @@ public class ReActAgent extends StructuredOutputCapableAgent {
 
             // Configure long-term memory if provided
             if (longTermMemory != null) {
-                configureLongTermMemory(agentToolkit);
+                configureLongTermMemory(agentToolkit, agentHooks);
             }
 
             // Configure RAG if knowledge bases are provided
             if (!knowledgeBases.isEmpty()) {
-                configureRAG(agentToolkit);
+                configureRAG(agentToolkit, agentHooks);
             }
 
             // Configure PlanNotebook if provided
             if (planNotebook != null) {
-                configurePlan(agentToolkit);
+                configurePlan(agentToolkit, agentHooks);
             }
 
             // Configure SkillBox if provided
             if (skillBox != null) {
-                configureSkillBox(agentToolkit);
+                configureSkillBox(agentToolkit, agentHooks);
             }
 
-            return new ReActAgent(this, agentToolkit);
+            return new ReActAgent(this, agentToolkit, agentHooks);
         }
 
         /**
@@ -1392,7 +1400,7 @@ public class ReActAgent extends StructuredOutputCapableAgent {
          *   <li>BOTH: Combines both approaches (registers tools + hook)</li>
          * </ul>
          */
-        private void configureLongTermMemory(Toolkit agentToolkit) {
+        private void configureLongTermMemory(Toolkit agentToolkit, List<Hook> agentHooks) {
             // If agent control is enabled, register memory tools via adapter
             if (longTermMemoryMode == LongTermMemoryMode.AGENT_CONTROL
                     || longTermMemoryMode == LongTermMemoryMode.BOTH) {
@@ -1404,7 +1412,7 @@ public class ReActAgent extends StructuredOutputCapableAgent {
                     || longTermMemoryMode == LongTermMemoryMode.BOTH) {
                 StaticLongTermMemoryHook hook =
                         new StaticLongTermMemoryHook(longTermMemory, memory);
-                hooks.add(hook);
+                agentHooks.add(hook);
             }
         }
 
@@ -1418,7 +1426,7 @@ public class ReActAgent extends StructuredOutputCapableAgent {
          *   <li>NONE: Does nothing</li>
          * </ul>
          */
-        private void configureRAG(Toolkit agentToolkit) {
+        private void configureRAG(Toolkit agentToolkit, List<Hook> agentHooks) {
             // Aggregate knowledge bases if multiple are provided
             Knowledge aggregatedKnowledge;
             if (knowledgeBases.size() == 1) {
@@ -1433,7 +1441,7 @@ public class ReActAgent extends StructuredOutputCapableAgent {
                     // Create and add GenericRAGHook
                     GenericRAGHook ragHook =
                             new GenericRAGHook(aggregatedKnowledge, retrieveConfig);
-                    hooks.add(ragHook);
+                    agentHooks.add(ragHook);
                 }
                 case AGENTIC -> {
                     // Register knowledge retrieval tools
@@ -1499,7 +1507,7 @@ public class ReActAgent extends StructuredOutputCapableAgent {
          *   <li>Adds a hook to inject plan hints before each reasoning step
          * </ul>
          */
-        private void configurePlan(Toolkit agentToolkit) {
+        private void configurePlan(Toolkit agentToolkit, List<Hook> agentHooks) {
             // Register plan tools to toolkit
             agentToolkit.registerTool(planNotebook);
 
@@ -1526,7 +1534,7 @@ public class ReActAgent extends StructuredOutputCapableAgent {
                         }
                     };
 
-            hooks.add(planHintHook);
+            agentHooks.add(planHintHook);
         }
 
         /**
@@ -1539,7 +1547,7 @@ public class ReActAgent extends StructuredOutputCapableAgent {
          *   <li>Uploads skill files to the upload directory if auto upload is enabled
          * </ul>
          */
-        private void configureSkillBox(Toolkit agentToolkit) {
+        private void configureSkillBox(Toolkit agentToolkit, List<Hook> agentHooks) {
             skillBox.bindToolkit(agentToolkit);
             // Register skill loader tools to toolkit
             skillBox.registerSkillLoadTool();
@@ -1549,7 +1557,7 @@ public class ReActAgent extends StructuredOutputCapableAgent {
                 skillBox.uploadSkillFiles();
             }
 
-            hooks.add(new SkillHook(skillBox));
+            agentHooks.add(new SkillHook(skillBox));
         }
     }
 }
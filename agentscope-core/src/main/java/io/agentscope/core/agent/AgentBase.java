@@ -18,6 +18,8 @@ package io.agentscope.core.agent;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.agentscope.core.hook.ErrorEvent;
 import io.agentscope.core.hook.Hook;
+import io.agentscope.core.hook.HookEvent;
+import io.agentscope.core.hook.HookEventType;
 import io.agentscope.core.hook.PostCallEvent;
 import io.agentscope.core.hook.PreCallEvent;
 import io.agentscope.core.interruption.InterruptContext;
@@ -91,7 +93,7 @@ public abstract class AgentBase implements StateModule, Agent {
     private final String description;
     private final AtomicBoolean running = new AtomicBoolean(false);
     private final boolean checkRunning;
-    private final List<Hook> hooks;
+    private final HookRegistry hooks;
     private static final List<Hook> systemHooks = new CopyOnWriteArrayList<>();
     private final Map<String, List<AgentBase>> hubSubscribers = new ConcurrentHashMap<>();
 
@@ -131,8 +133,9 @@ public abstract class AgentBase implements StateModule, Agent {
         this.name = name;
         this.description = description;
         this.checkRunning = checkRunning;
-        this.hooks = new CopyOnWriteArrayList<>(hooks != null ? hooks : List.of());
-        this.hooks.addAll(systemHooks);
+        List<Hook> allHooks = new ArrayList<>(hooks != null ? hooks : List.of());
+        allHooks.addAll(systemHooks);
+        this.hooks = new HookRegistry(allHooks);
     }
 
     @Override
@@ -479,7 +482,44 @@ public abstract class AgentBase implements StateModule, Agent {
      * @return Sorted list of hooks
      */
     protected List<Hook> getSortedHooks() {
-        return hooks.stream().sorted(java.util.Comparator.comparingInt(Hook::priority)).toList();
+        return hooks.table().sorted();
+    }
+
+    /**
+     * Check whether any hook handles events of a type, so that events nobody handles need not be
+     * built, e.g. for streamed chunks.
+     *
+     * @param type The event type
+     * @return true if at least one hook declares the type in {@link Hook#eventTypes()}
+     */
+    protected boolean hasHooks(HookEventType type) {
+        return hooks.table().hasHooks(type);
+    }
+
+    /**
+     * Pass an event through the hooks that handle it, in priority order, each hook receiving the
+     * event returned by the previous one. Use this for events hooks may modify.
+     *
+     * @param event The event
+     * @param <T> The event type
+     * @return Mono containing the event after all hooks have processed it
+     */
+    protected <T extends HookEvent> Mono<T> applyHooks(T event) {
+        return hooks.table().apply(event);
+    }
+
+    /**
+     * Notify the hooks that handle an event, concurrently. Use this for notification-only events.
+     *
+     * <p>Unlike {@link #applyHooks(HookEvent)}, the hooks are called right away; hooks that
+     * complete synchronously cost no Reactor pipeline, so this is cheap enough for every streamed
+     * chunk.
+     *
+     * @param event The event
+     * @return Mono that completes when all hooks are notified
+     */
+    protected Mono<Void> fireHooks(HookEvent event) {
+        return hooks.table().fire(event);
     }
 
     /**
@@ -492,12 +532,7 @@ public abstract class AgentBase implements StateModule, Agent {
      * @return Mono containing the messages after all hooks have processed them (may be modified)
      */
     private Mono<List<Msg>> notifyPreCall(List<Msg> msgs) {
-        PreCallEvent event = new PreCallEvent(this, msgs);
-        Mono<PreCallEvent> result = Mono.just(event);
-        for (Hook hook : getSortedHooks()) {
-            result = result.flatMap(hook::onEvent);
-        }
-        return result.map(PreCallEvent::getInputMessages);
+        return applyHooks(new PreCallEvent(this, msgs)).map(PreCallEvent::getInputMessages);
     }
 
     /**
@@ -511,13 +546,9 @@ public abstract class AgentBase implements StateModule, Agent {
         if (finalMsg == null) {
             return Mono.error(new IllegalStateException("Agent returned null message"));
         }
-        PostCallEvent event = new PostCallEvent(this, finalMsg);
-        Mono<PostCallEvent> result = Mono.just(event);
-        for (Hook hook : getSortedHooks()) {
-            result = result.flatMap(hook::onEvent);
-        }
         // After hooks, broadcast to subscribers
-        return result.map(PostCallEvent::getFinalMessage)
+        return applyHooks(new PostCallEvent(this, finalMsg))
+                .map(PostCallEvent::getFinalMessage)
                 .flatMap(msg -> broadcastToSubscribers(msg).thenReturn(msg));
     }
 
@@ -528,8 +559,7 @@ public abstract class AgentBase implements StateModule, Agent {
      * @return Mono that completes when all hooks are notified
      */
     private Mono<Void> notifyError(Throwable error) {
-        ErrorEvent event = new ErrorEvent(this, error);
-        return Flux.fromIterable(getSortedHooks()).flatMap(hook -> hook.onEvent(event)).then();
+        return fireHooks(new ErrorEvent(this, error));
     }
 
     /**
@@ -0,0 +1,428 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.agent;
+
+import io.agentscope.core.session.InMemorySession;
+import io.agentscope.core.session.Session;
+import io.agentscope.core.session.SessionManager;
+import io.agentscope.core.state.SessionKey;
+import io.agentscope.core.state.SimpleSessionKey;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Bounded pool of agents that serves concurrent sessions without building an agent per request.
+ *
+ * <p>An agent handles one call at a time, so a server would otherwise have to build a new agent
+ * (copying the toolkit and registering memory, RAG, plan and skill tools) for every request. The
+ * pool builds at most {@code maxSize} agents with the given factory and lends each of them to one
+ * session at a time:
+ * <ul>
+ *   <li>When acquired for a session, an agent is reset to the state it had right after it was
+ *       built and then loaded from the configured {@link Session} through {@link SessionManager}
+ *   <li>When released, the agent's state is saved back to the session
+ *   <li>An idle agent that last served the same session is preferred and reused as is, without
+ *       resetting or loading; otherwise the least recently used idle agent is taken
+ *   <li>When all agents are busy, callers wait until one is released. Waiting callers are served
+ *       in arrival order: a released agent is handed directly to the longest waiting caller, so a
+ *       newly arriving caller cannot take it first
+ * </ul>
+ *
+ * <p>Without a configured session, per-session state lives only in the pooled agents and is lost
+ * when an agent is handed to another session. Concurrent leases for the same session get
+ * different agents and the last one released wins, so callers should serialize requests per
+ * session.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * AgentPool<ReActAgent> pool = AgentPool.builder(() -> ReActAgent.builder()
+ *         .name("Assistant")
+ *         .model(model)
+ *         .toolkit(toolkit)
+ *         .memory(new InMemoryMemory())
+ *         .build())
+ *     .maxSize(32)
+ *     .session(new JsonSession(Path.of("sessions")))
+ *     .build();
+ *
+ * Msg reply = pool.withAgent("user123", agent -> agent.call(userMsg)).block();
+ * }</pre>
+ *
+ * <p>This class is thread-safe.
+ *
+ * @param <A> the agent type
+ */
+public class AgentPool<A extends AgentBase> {
+
+    private final Supplier<? extends A> factory;
+    private final int maxSize;
+    private final Session session;
+
+    /** State of every pooled agent right after it was built, keyed by agent ID. */
+    private final Session initialStates = new InMemorySession();
+
+    // Guarded by this
+    private final ArrayDeque<Idle<A>> idle = new ArrayDeque<>();
+    private final ArrayDeque<Waiter<A>> waiters = new ArrayDeque<>();
+    private int size;
+
+    private AgentPool(Builder<A> builder) {
+        this.factory = builder.factory;
+        this.maxSize = builder.maxSize;
+        this.session = builder.session;
+    }
+
+    /**
+     * Creates a new builder for AgentPool.
+     *
+     * <p>The factory must return a new agent with its own memory and plan notebook on every call;
+     * model, toolkit template and knowledge bases can be shared.
+     *
+     * @param factory creates the pooled agents
+     * @param <A> the agent type
+     * @return a new Builder instance
+     * @throws IllegalArgumentException if factory is null
+     */
+    public static <A extends AgentBase> Builder<A> builder(Supplier<? extends A> factory) {
+        if (factory == null) {
+            throw new IllegalArgumentException("Agent factory cannot be null");
+        }
+        return new Builder<>(factory);
+    }
+
+    /**
+     * Acquires an agent for a session, waiting if all agents are busy.
+     *
+     * <p>The returned lease must be released once the agent is no longer used.
+     *
+     * @param sessionId the session the agent will serve
+     * @return Mono emitting the lease of an agent bound to the session
+     * @throws IllegalArgumentException if sessionId is null or empty
+     */
+    public Mono<Lease<A>> acquire(String sessionId) {
+        if (sessionId == null || sessionId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Session ID cannot be null or empty");
+        }
+        return Mono.defer(() -> tryAcquire(sessionId));
+    }
+
+    /**
+     * Runs work with an agent bound to a session and releases the agent when the work terminates
+     * or is cancelled.
+     *
+     * @param sessionId the session the agent will serve
+     * @param work the work to run with the agent
+     * @param <T> the result type
+     * @return Mono emitting the result of the work
+     * @throws IllegalArgumentException if sessionId is null or empty
+     */
+    public <T> Mono<T> withAgent(String sessionId, Function<? super A, ? extends Mono<T>> work) {
+        return Mono.usingWhen(
+                acquire(sessionId),
+                lease -> work.apply(lease.getAgent()),
+                lease -> Mono.fromRunnable(lease::release));
+    }
+
+    /**
+     * Gets the number of agents built by this pool, busy or idle.
+     *
+     * @return the number of pooled agents
+     */
+    public synchronized int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the number of idle agents available to be acquired.
+     *
+     * @return the number of idle agents
+     */
+    public synchronized int getIdleCount() {
+        return idle.size();
+    }
+
+    private Mono<Lease<A>> tryAcquire(String sessionId) {
+        Idle<A> grant;
+        Waiter<A> waiter = null;
+        synchronized (this) {
+            grant = takeIdle(sessionId);
+            if (grant == null) {
+                if (size < maxSize) {
+                    size++;
+                    grant = newAgent();
+                } else {
+                    waiter = new Waiter<>();
+                    waiters.add(waiter);
+                }
+            }
+        }
+        if (waiter != null) {
+            Waiter<A> w = waiter;
+            return w.granted
+                    .asMono()
+                    .doOnCancel(() -> cancel(w))
+                    // A cancel may race with the hand-off; whoever settles first owns the agent
+                    .flatMap(
+                            granted ->
+                                    w.settled.compareAndSet(false, true)
+                                            ? lend(granted, sessionId)
+                                            : Mono.<Lease<A>>empty());
+        }
+        return lend(grant, sessionId);
+    }
+
+    /** Binds a granted agent to a session, building it first if the grant is for a new agent. */
+    private Mono<Lease<A>> lend(Idle<A> granted, String sessionId) {
+        if (granted.agent() == null) {
+            return Mono.fromCallable(() -> bind(create(), null, sessionId));
+        }
+        return Mono.fromCallable(() -> bind(granted.agent(), granted.sessionId(), sessionId));
+    }
+
+    /** Takes the idle agent of the session, or else the least recently used one. */
+    private Idle<A> takeIdle(String sessionId) {
+        Iterator<Idle<A>> it = idle.descendingIterator();
+        while (it.hasNext()) {
+            Idle<A> candidate = it.next();
+            if (candidate.sessionId().equals(sessionId)) {
+                it.remove();
+                return candidate;
+            }
+        }
+        return idle.pollFirst();
+    }
+
+    private A create() {
+        A agent;
+        try {
+            agent = factory.get();
+            if (agent == null) {
+                throw new IllegalStateException("Agent factory returned null");
+            }
+            agent.saveTo(initialStates, initialStateKey(agent));
+        } catch (RuntimeException e) {
+            discard(null);
+            throw e;
+        }
+        return agent;
+    }
+
+    private Lease<A> bind(A agent, String boundSessionId, String sessionId) {
+        if (!sessionId.equals(boundSessionId)) {
+            try {
+                agent.loadFrom(initialStates, initialStateKey(agent));
+                if (session != null) {
+                    sessionManager(sessionId, agent).loadIfExists();
+                }
+            } catch (RuntimeException e) {
+                discard(agent);
+                throw e;
+            }
+        }
+        return new Lease<>(this, agent, sessionId);
+    }
+
+    private void release(A agent, String sessionId) {
+        try {
+            if (session != null) {
+                sessionManager(sessionId, agent).saveSession();
+            }
+        } finally {
+            Waiter<A> next;
+            synchronized (this) {
+                next = handOver(new Idle<>(agent, sessionId));
+            }
+            signal(next);
+        }
+    }
+
+    private void discard(A agent) {
+        if (agent != null) {
+            initialStates.delete(initialStateKey(agent));
+        }
+        // The discarded agent's slot may be used to build a new one
+        Waiter<A> next;
+        synchronized (this) {
+            next = handOver(newAgent());
+        }
+        signal(next);
+    }
+
+    private void cancel(Waiter<A> waiter) {
+        Waiter<A> next = null;
+        synchronized (this) {
+            if (!waiters.remove(waiter)
+                    && waiter.grant != null
+                    && waiter.settled.compareAndSet(false, true)) {
+                // The agent handed to this waiter was never used; pass it on
+                next = handOver(waiter.grant);
+            }
+        }
+        signal(next);
+    }
+
+    /**
+     * Hands an agent, or the permission to build one, to the longest waiting caller. Without
+     * waiters the agent becomes idle and the permission is given up. Caller must hold the lock.
+     */
+    private Waiter<A> handOver(Idle<A> grant) {
+        Waiter<A> waiter = waiters.poll();
+        if (waiter != null) {
+            waiter.grant = grant;
+        } else if (grant.agent() != null) {
+            idle.addLast(grant);
+        } else {
+            size--;
+        }
+        return waiter;
+    }
+
+    private void signal(Waiter<A> waiter) {
+        if (waiter != null) {
+            waiter.granted.tryEmitValue(waiter.grant);
+        }
+    }
+
+    private static <T> Idle<T> newAgent() {
+        return new Idle<>(null, null);
+    }
+
+    private SessionManager sessionManager(String sessionId, A agent) {
+        return SessionManager.forSessionId(sessionId).withSession(session).addComponent(agent);
+    }
+
+    private static SessionKey initialStateKey(AgentBase agent) {
+        return SimpleSessionKey.of(agent.getAgentId());
+    }
+
+    /**
+     * An agent lent to a session.
+     *
+     * @param <A> the agent type
+     */
+    public static final class Lease<A extends AgentBase> {
+
+        private final AgentPool<A> pool;
+        private final A agent;
+        private final String sessionId;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Lease(AgentPool<A> pool, A agent, String sessionId) {
+            this.pool = pool;
+            this.agent = agent;
+            this.sessionId = sessionId;
+        }
+
+        /**
+         * Gets the leased agent.
+         *
+         * @return the agent
+         */
+        public A getAgent() {
+            return agent;
+        }
+
+        /**
+         * Gets the session the agent is bound to.
+         *
+         * @return the session ID
+         */
+        public String getSessionId() {
+            return sessionId;
+        }
+
+        /**
+         * Saves the agent's state to the session and returns the agent to the pool. Calling this
+         * method more than once has no effect.
+         *
+         * @throws RuntimeException if the state cannot be saved; the agent is returned anyway
+         */
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                pool.release(agent, sessionId);
+            }
+        }
+    }
+
+    /**
+     * Builder for AgentPool.
+     *
+     * @param <A> the agent type
+     */
+    public static class Builder<A extends AgentBase> {
+        private final Supplier<? extends A> factory;
+        private int maxSize = Runtime.getRuntime().availableProcessors() * 2;
+        private Session session;
+
+        private Builder(Supplier<? extends A> factory) {
+            this.factory = factory;
+        }
+
+        /**
+         * Sets the maximum number of agents the pool builds.
+         *
+         * @param maxSize the maximum pool size (must be positive, default twice the number of
+         *     processors)
+         * @return this builder instance
+         * @throws IllegalArgumentException if maxSize is not positive
+         */
+        public Builder<A> maxSize(int maxSize) {
+            if (maxSize <= 0) {
+                throw new IllegalArgumentException("Max size must be positive");
+            }
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * Sets the session storage used to load and save per-session agent state.
+         *
+         * @param session the session storage, or null to keep state only in the pooled agents
+         * @return this builder instance
+         */
+        public Builder<A> session(Session session) {
+            this.session = session;
+            return this;
+        }
+
+        /**
+         * Builds the AgentPool instance. No agent is built until one is first acquired.
+         *
+         * @return configured AgentPool instance
+         */
+        public AgentPool<A> build() {
+            return new AgentPool<>(this);
+        }
+    }
+
+    /**
+     * An idle agent and the session it last served. A null agent stands for the permission to
+     * build a new agent.
+     */
+    private record Idle<A>(A agent, String sessionId) {}
+
+    /** A caller waiting for an agent to be released. */
+    private static final class Waiter<A> {
+        private final Sinks.One<Idle<A>> granted = Sinks.one();
+        private final AtomicBoolean settled = new AtomicBoolean();
+        private Idle<A> grant; // guarded by the pool
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.agent;
+
+import io.agentscope.core.hook.Hook;
+import io.agentscope.core.hook.HookEvent;
+import io.agentscope.core.hook.HookEventType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import reactor.core.Exceptions;
+import reactor.core.Fuseable;
+import reactor.core.publisher.Mono;
+
+/**
+ * The hooks of an agent, with a dispatch table compiled from them on first use after a change.
+ *
+ * <p>The table holds the hooks sorted by priority, once in total and once per {@link
+ * HookEventType} according to {@link Hook#eventTypes()}, so dispatching an event neither sorts
+ * nor visits hooks that do not handle it. Every change to the list drops the table; the list is
+ * otherwise a plain {@link CopyOnWriteArrayList}, except that {@link #subList(int, int)} views
+ * are read-only.
+ */
+final class HookRegistry extends CopyOnWriteArrayList<Hook> {
+
+    private static final Comparator<Hook> PRIORITY_ORDER = Comparator.comparingInt(Hook::priority);
+
+    private final transient Object tableLock = new Object();
+    private transient volatile Table table;
+    private transient long version; // Guarded by tableLock
+
+    HookRegistry(Collection<? extends Hook> hooks) {
+        super(hooks);
+    }
+
+    /**
+     * Gets the dispatch table for the current hooks.
+     *
+     * @return the table, compiled if the hooks changed since it was last used
+     */
+    Table table() {
+        Table result = table;
+        if (result == null) {
+            long compiledVersion;
+            synchronized (tableLock) {
+                compiledVersion = version;
+            }
+            result = new Table(this);
+            synchronized (tableLock) {
+                // A change made while compiling has already dropped the table; do not restore it
+                if (version == compiledVersion) {
+                    table = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private <R> R changed(R result) {
+        synchronized (tableLock) {
+            version++;
+            table = null;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean add(Hook hook) {
+        return changed(super.add(hook));
+    }
+
+    @Override
+    public void add(int index, Hook hook) {
+        super.add(index, hook);
+        changed(null);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Hook> hooks) {
+        return changed(super.addAll(hooks));
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends Hook> hooks) {
+        return changed(super.addAll(index, hooks));
+    }
+
+    @Override
+    public boolean addIfAbsent(Hook hook) {
+        return changed(super.addIfAbsent(hook));
+    }
+
+    @Override
+    public int addAllAbsent(Collection<? extends Hook> hooks) {
+        return changed(super.addAllAbsent(hooks));
+    }
+
+    @Override
+    public Hook set(int index, Hook hook) {
+        return changed(super.set(index, hook));
+    }
+
+    @Override
+    public Hook remove(int index) {
+        return changed(super.remove(index));
+    }
+
+    @Override
+    public boolean remove(Object hook) {
+        return changed(super.remove(hook));
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> hooks) {
+        return changed(super.removeAll(hooks));
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> hooks) {
+        return changed(super.retainAll(hooks));
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Hook> filter) {
+        return changed(super.removeIf(filter));
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<Hook> operator) {
+        super.replaceAll(operator);
+        changed(null);
+    }
+
+    @Override
+    public void sort(Comparator<? super Hook> comparator) {
+        super.sort(comparator);
+        changed(null);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        changed(null);
+    }
+
+    @Override
+    public List<Hook> subList(int fromIndex, int toIndex) {
+        // Changes through a view would bypass the table invalidation
+        return Collections.unmodifiableList(super.subList(fromIndex, toIndex));
+    }
+
+    /** Hooks sorted by priority, in total and per event type. Immutable. */
+    static final class Table {
+
+        private static final Hook[] NO_HOOKS = new Hook[0];
+
+        private final List<Hook> sorted;
+        private final Hook[][] byType;
+
+        private Table(List<Hook> hooks) {
+            List<Hook> list = new ArrayList<>(hooks);
+            // List.sort is stable: hooks with the same priority keep their registration order
+            list.sort(PRIORITY_ORDER);
+            this.sorted = Collections.unmodifiableList(list);
+
+            HookEventType[] types = HookEventType.values();
+            List<Set<HookEventType>> eventTypes = new ArrayList<>(list.size());
+            for (Hook hook : list) {
+                eventTypes.add(hook.eventTypes());
+            }
+            this.byType = new Hook[types.length][];
+            for (HookEventType type : types) {
+                List<Hook> handlers = new ArrayList<>();
+                for (int i = 0; i < list.size(); i++) {
+                    if (eventTypes.get(i).contains(type)) {
+                        handlers.add(list.get(i));
+                    }
+                }
+                byType[type.ordinal()] = handlers.isEmpty() ? NO_HOOKS : handlers.toArray(NO_HOOKS);
+            }
+        }
+
+        List<Hook> sorted() {
+            return sorted;
+        }
+
+        boolean hasHooks(HookEventType type) {
+            return byType[type.ordinal()].length > 0;
+        }
+
+        /**
+         * Passes an event through the hooks that handle it, each receiving the event returned by
+         * the one before. Hooks are called on subscription; those that complete synchronously
+         * with {@code Mono.just(event)} are chained without Reactor operators.
+         */
+        <T extends HookEvent> Mono<T> apply(T event) {
+            Hook[] hooks = byType[event.getType().ordinal()];
+            if (hooks.length == 0) {
+                return Mono.just(event);
+            }
+            return Mono.defer(() -> applyFrom(hooks, 0, event));
+        }
+
+        private static <T extends HookEvent> Mono<T> applyFrom(Hook[] hooks, int start, T event) {
+            T current = event;
+            for (int i = start; i < hooks.length; i++) {
+                Mono<T> result = hooks[i].onEvent(current);
+                if (!(result instanceof Fuseable.ScalarCallable<?> scalar)) {
+                    int next = i + 1;
+                    return next == hooks.length
+                            ? result
+                            : result.flatMap(e -> applyFrom(hooks, next, e));
+                }
+                try {
+                    @SuppressWarnings("unchecked")
+                    T value = (T) scalar.call();
+                    if (value == null) {
+                        return Mono.empty();
+                    }
+                    current = value;
+                } catch (Throwable e) {
+                    return Mono.error(Exceptions.unwrap(e));
+                }
+            }
+            return Mono.just(current);
+        }
+
+        /**
+         * Notifies the hooks that handle an event, all at once. Hooks are called immediately;
+         * the returned Mono only waits for those that did not complete synchronously.
+         */
+        Mono<Void> fire(HookEvent event) {
+            Hook[] hooks = byType[event.getType().ordinal()];
+            List<Mono<?>> pending = null;
+            for (Hook hook : hooks) {
+                Mono<?> result;
+                boolean failed = false;
+                try {
+                    result = hook.onEvent(event);
+                    if (result instanceof Fuseable.ScalarCallable<?> scalar) {
+                        scalar.call();
+                        continue;
+                    }
+                } catch (Throwable e) {
+                    result = Mono.error(Exceptions.unwrap(e));
+                    failed = true;
+                }
+                if (pending == null) {
+                    pending = new ArrayList<>(hooks.length);
+                }
+                pending.add(result);
+                if (failed) {
+                    // Like a failed hook in a Reactor chain, stop notifying the rest
+                    break;
+                }
+            }
+            if (pending == null) {
+                return Mono.empty();
+            }
+            return pending.size() == 1 ? pending.get(0).then() : Mono.when(pending);
+        }
+    }
+}
@@ -18,6 +18,7 @@ package io.agentscope.core.agent;
 import io.agentscope.core.hook.ActingChunkEvent;
 import io.agentscope.core.hook.Hook;
 import io.agentscope.core.hook.HookEvent;
+import io.agentscope.core.hook.HookEventType;
 import io.agentscope.core.hook.PostActingEvent;
 import io.agentscope.core.hook.PostReasoningEvent;
 import io.agentscope.core.hook.PostSummaryEvent;
@@ -28,9 +29,11 @@ import io.agentscope.core.message.Msg;
 import io.agentscope.core.message.MsgRole;
 import io.agentscope.core.message.ToolResultBlock;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
 
@@ -44,6 +47,7 @@ class StreamingHook implements Hook {
 
     private final FluxSink<Event> sink;
     private final StreamOptions options;
+    private final Set<HookEventType> eventTypes;
 
     // Track previous content for incremental mode
     private final Map<String, List<ContentBlock>> previousContent = new HashMap<>();
@@ -57,6 +61,40 @@ class StreamingHook implements Hook {
     StreamingHook(FluxSink<Event> sink, StreamOptions options) {
         this.sink = sink;
         this.options = options;
+        this.eventTypes = streamedEventTypes(options);
+    }
+
+    @Override
+    public Set<HookEventType> eventTypes() {
+        return eventTypes;
+    }
+
+    /** The hook events this hook turns into stream events under the given options. */
+    private static Set<HookEventType> streamedEventTypes(StreamOptions options) {
+        Set<HookEventType> types = EnumSet.noneOf(HookEventType.class);
+        if (options.shouldStream(EventType.REASONING)) {
+            if (options.shouldIncludeReasoningEmission(false)) {
+                types.add(HookEventType.POST_REASONING);
+            }
+            if (options.shouldIncludeReasoningEmission(true)) {
+                types.add(HookEventType.REASONING_CHUNK);
+            }
+        }
+        if (options.shouldStream(EventType.TOOL_RESULT)) {
+            types.add(HookEventType.POST_ACTING);
+            if (options.isIncludeActingChunk()) {
+                types.add(HookEventType.ACTING_CHUNK);
+            }
+        }
+        if (options.shouldStream(EventType.SUMMARY)) {
+            if (options.shouldIncludeSummaryEmission(false)) {
+                types.add(HookEventType.POST_SUMMARY);
+            }
+            if (options.shouldIncludeSummaryEmission(true)) {
+                types.add(HookEventType.SUMMARY_CHUNK);
+            }
+        }
+        return types;
     }
 
     @Override
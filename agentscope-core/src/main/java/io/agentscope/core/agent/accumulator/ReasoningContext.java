@@ -28,6 +28,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Reasoning context that manages all state and content accumulation for a single reasoning round.
@@ -250,6 +251,26 @@ public class ReasoningContext {
         return thinkingAcc.getAccumulated();
     }
 
+    /**
+     * Get a snapshot of the accumulated text content, taken in constant time.
+     *
+     * @hidden
+     * @return accumulated text as a snapshot, materialized on first use
+     */
+    public SegmentedText.Snapshot getAccumulatedTextSnapshot() {
+        return textAcc.getSnapshot();
+    }
+
+    /**
+     * Get a snapshot of the accumulated thinking content, taken in constant time.
+     *
+     * @hidden
+     * @return accumulated thinking as a snapshot, materialized on first use
+     */
+    public SegmentedText.Snapshot getAccumulatedThinkingSnapshot() {
+        return thinkingAcc.getSnapshot();
+    }
+
     /**
      * Get accumulated tool call by ID.
      *
@@ -263,6 +284,17 @@ public class ReasoningContext {
         return toolCallsAcc.getAccumulatedToolCall(id);
     }
 
+    /**
+     * Get a snapshot of the accumulated tool call by ID, built into a block on first use.
+     *
+     * @param id The tool call ID to look up, with the same fallback as {@link
+     *     #getAccumulatedToolCall(String)}
+     * @return Supplier of the accumulated ToolUseBlock, or null if not found
+     */
+    public Supplier<ToolUseBlock> getAccumulatedToolCallSnapshot(String id) {
+        return toolCallsAcc.getAccumulatedToolCallSnapshot(id);
+    }
+
     /**
      * Get all accumulated tool calls.
      *
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.agent.accumulator;
+
+import java.util.Arrays;
+
+/**
+ * Append-only text built from streamed chunks, with constant-time snapshots.
+ *
+ * <p>Chunks are kept as a list of segments rather than copied into a single buffer, so appending
+ * a chunk and taking a {@link Snapshot} of the text received so far cost O(1) regardless of the
+ * text length. A snapshot only joins its segments into a string when its text is first asked
+ * for, so streaming consumers that only use the latest chunk never pay for copying the whole
+ * text on every chunk.
+ *
+ * <p>Segments are never overwritten: appending writes past the end of the existing segments, and
+ * growing or resetting replaces the segment array. Snapshots therefore stay valid, and can be
+ * read from other threads once published, while the text keeps growing.
+ *
+ * <p>This class is not thread-safe; snapshots are immutable.
+ * @hidden
+ */
+public final class SegmentedText {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private String[] segments = new String[INITIAL_CAPACITY];
+    private int count;
+    private int length;
+
+    /**
+     * Appends a chunk of text.
+     *
+     * @param chunk the text to append; null and empty chunks are ignored
+     */
+    public void append(String chunk) {
+        if (chunk == null || chunk.isEmpty()) {
+            return;
+        }
+        if (count == segments.length) {
+            segments = Arrays.copyOf(segments, count * 2);
+        }
+        segments[count++] = chunk;
+        length += chunk.length();
+    }
+
+    /**
+     * Gets the length of the text.
+     *
+     * @return the number of characters appended so far
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Checks whether any text has been appended.
+     *
+     * @return true if the text is empty
+     */
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    /**
+     * Takes a snapshot of the text appended so far, without copying it.
+     *
+     * @return an immutable view of the current text
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(segments, count, length);
+    }
+
+    /** Clears the text. Snapshots taken before keep their text. */
+    public void reset() {
+        segments = new String[INITIAL_CAPACITY];
+        count = 0;
+        length = 0;
+    }
+
+    /**
+     * Gets the text appended so far.
+     *
+     * @return the text
+     */
+    @Override
+    public String toString() {
+        String text = snapshot().toString();
+        if (count > 1) {
+            // Keep the joined text so that asking again without appending costs nothing
+            segments = new String[Math.max(INITIAL_CAPACITY, count)];
+            segments[0] = text;
+            count = 1;
+        }
+        return text;
+    }
+
+    /**
+     * Immutable view of the text at the time it was taken, materialized into a string on first
+     * use.
+     */
+    public static final class Snapshot implements CharSequence {
+
+        private final String[] segments;
+        private final int count;
+        private final int length;
+        private volatile String text;
+
+        private Snapshot(String[] segments, int count, int length) {
+            this.segments = segments;
+            this.count = count;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return toString().charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            String result = text;
+            if (result == null) {
+                if (count == 1) {
+                    result = segments[0];
+                } else {
+                    StringBuilder sb = new StringBuilder(length);
+                    for (int i = 0; i < count; i++) {
+                        sb.append(segments[i]);
+                    }
+                    result = sb.toString();
+                }
+                text = result;
+            }
+            return result;
+        }
+    }
+}
@@ -26,7 +26,7 @@ import io.agentscope.core.message.TextBlock;
  */
 public class TextAccumulator implements ContentAccumulator<TextBlock> {
 
-    private final StringBuilder accumulated = new StringBuilder();
+    private final SegmentedText accumulated = new SegmentedText();
 
     /**
      * @hidden
@@ -43,7 +43,7 @@ public class TextAccumulator implements ContentAccumulator<TextBlock> {
      */
     @Override
     public boolean hasContent() {
-        return accumulated.length() > 0;
+        return !accumulated.isEmpty();
     }
 
     /**
@@ -62,7 +62,7 @@ public class TextAccumulator implements ContentAccumulator<TextBlock> {
      */
     @Override
     public void reset() {
-        accumulated.setLength(0);
+        accumulated.reset();
     }
 
     /**
@@ -74,4 +74,14 @@ public class TextAccumulator implements ContentAccumulator<TextBlock> {
     public String getAccumulated() {
         return accumulated.toString();
     }
+
+    /**
+     * Get a snapshot of the accumulated text content, without copying it.
+     *
+     * @hidden
+     * @return immutable view of the accumulated text, materialized on first use
+     */
+    public SegmentedText.Snapshot getSnapshot() {
+        return accumulated.snapshot();
+    }
 }
@@ -27,7 +27,7 @@ import io.agentscope.core.message.ThinkingBlock;
  */
 public class ThinkingAccumulator implements ContentAccumulator<ThinkingBlock> {
 
-    private final StringBuilder accumulated = new StringBuilder();
+    private final SegmentedText accumulated = new SegmentedText();
 
     /**
      * @hidden
@@ -44,7 +44,7 @@ public class ThinkingAccumulator implements ContentAccumulator<ThinkingBlock> {
      */
     @Override
     public boolean hasContent() {
-        return accumulated.length() > 0;
+        return !accumulated.isEmpty();
     }
 
     /**
@@ -63,7 +63,7 @@ public class ThinkingAccumulator implements ContentAccumulator<ThinkingBlock> {
      */
     @Override
     public void reset() {
-        accumulated.setLength(0);
+        accumulated.reset();
     }
 
     /**
@@ -75,4 +75,14 @@ public class ThinkingAccumulator implements ContentAccumulator<ThinkingBlock> {
     public String getAccumulated() {
         return accumulated.toString();
     }
+
+    /**
+     * Get a snapshot of the accumulated thinking content, without copying it.
+     *
+     * @hidden
+     * @return immutable view of the accumulated thinking, materialized on first use
+     */
+    public SegmentedText.Snapshot getSnapshot() {
+        return accumulated.snapshot();
+    }
 }
@@ -22,6 +22,7 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -48,15 +49,24 @@ public class ToolCallsAccumulator implements ContentAccumulator<ToolUseBlock> {
     // This is needed when models return fragments with placeholder names and empty IDs
     private String lastToolCallKey = null;
 
-    /** Builder for a single tool call. */
+    /**
+     * Builder for a single tool call.
+     *
+     * <p>The raw content is kept as segments and the argument and metadata maps are replaced
+     * rather than modified, so a {@link Snapshot} of the call can be taken in constant time on
+     * every chunk and only built if it is used.
+     */
     private static class ToolCallBuilder {
         String toolId;
         String name;
-        Map<String, Object> args = new HashMap<>();
-        StringBuilder rawContent = new StringBuilder();
-        Map<String, Object> metadata = new HashMap<>();
+        Map<String, Object> args = Map.of();
+        final SegmentedText rawContent = new SegmentedText();
+        Map<String, Object> metadata = Map.of();
+        ToolUseBlock built; // cleared by every merge
 
         void merge(ToolUseBlock block) {
+            built = null;
+
             // Update ID if present
             if (this.toolId == null && block.getId() != null && !block.getId().isEmpty()) {
                 this.toolId = block.getId();
@@ -68,8 +78,10 @@ public class ToolCallsAccumulator implements ContentAccumulator<ToolUseBlock> {
             }
 
             // Merge parameters
-            if (block.getInput() != null) {
-                this.args.putAll(block.getInput());
+            if (block.getInput() != null && !block.getInput().isEmpty()) {
+                Map<String, Object> merged = new HashMap<>(this.args);
+                merged.putAll(block.getInput());
+                this.args = merged;
             }
 
             // Accumulate raw content (for parsing complete JSON)
@@ -79,13 +91,66 @@ public class ToolCallsAccumulator implements ContentAccumulator<ToolUseBlock> {
 
             // Merge metadata (e.g., thoughtSignature for Gemini 3 Pro)
             if (block.getMetadata() != null && !block.getMetadata().isEmpty()) {
-                this.metadata.putAll(block.getMetadata());
+                Map<String, Object> merged = new HashMap<>(this.metadata);
+                merged.putAll(block.getMetadata());
+                this.metadata = merged;
             }
         }
 
         ToolUseBlock build() {
+            if (built == null) {
+                built = snapshot().get();
+            }
+            return built;
+        }
+
+        Snapshot snapshot() {
+            return new Snapshot(toolId, name, args, rawContent.snapshot(), metadata);
+        }
+
+        private boolean isPlaceholder(String name) {
+            // Common placeholder names
+            return "__fragment__".equals(name)
+                    || "__pending__".equals(name)
+                    || (name != null && name.startsWith("__"));
+        }
+    }
+
+    /** State of a tool call at one point of the stream, built into a block on first use. */
+    private static final class Snapshot implements Supplier<ToolUseBlock> {
+        private final String toolId;
+        private final String name;
+        private final Map<String, Object> args;
+        private final SegmentedText.Snapshot rawContent;
+        private final Map<String, Object> metadata;
+        private volatile ToolUseBlock block;
+
+        private Snapshot(
+                String toolId,
+                String name,
+                Map<String, Object> args,
+                SegmentedText.Snapshot rawContent,
+                Map<String, Object> metadata) {
+            this.toolId = toolId;
+            this.name = name;
+            this.args = args;
+            this.rawContent = rawContent;
+            this.metadata = metadata;
+        }
+
+        @Override
+        public ToolUseBlock get() {
+            ToolUseBlock result = block;
+            if (result == null) {
+                result = build();
+                block = result;
+            }
+            return result;
+        }
+
+        private ToolUseBlock build() {
             Map<String, Object> finalArgs = new HashMap<>(args);
-            String rawContentStr = this.rawContent.toString();
+            String rawContentStr = rawContent.toString();
 
             // If no parsed arguments but has raw JSON content, try to parse
             if (finalArgs.isEmpty() && rawContentStr.length() > 0) {
@@ -106,18 +171,11 @@ public class ToolCallsAccumulator implements ContentAccumulator<ToolUseBlock> {
                     .name(name)
                     .input(finalArgs)
                     .content(rawContentStr.isEmpty() ? "{}" : rawContentStr)
-                    .metadata(metadata.isEmpty() ? null : metadata)
+                    .metadata(metadata.isEmpty() ? null : new HashMap<>(metadata))
                     .build();
         }
 
-        private boolean isPlaceholder(String name) {
-            // Common placeholder names
-            return "__fragment__".equals(name)
-                    || "__pending__".equals(name)
-                    || (name != null && name.startsWith("__"));
-        }
-
-        private String generateId() {
+        private static String generateId() {
             return "tool_call_" + System.currentTimeMillis();
         }
     }
@@ -230,20 +288,37 @@ public class ToolCallsAccumulator implements ContentAccumulator<ToolUseBlock> {
      * @return The accumulated ToolUseBlock, or null if not found
      */
     public ToolUseBlock getAccumulatedToolCall(String id) {
+        ToolCallBuilder builder = findBuilder(id);
+        return builder != null ? builder.build() : null;
+    }
+
+    /**
+     * Get a snapshot of the accumulated tool call by ID, built into a block on first use.
+     *
+     * <p>Taking a snapshot costs O(1), so it can be done on every streamed chunk; the block,
+     * including its raw content and parsed arguments, is only built if the snapshot is used.
+     * The ID is looked up as in {@link #getAccumulatedToolCall(String)}.
+     *
+     * @param id The tool call ID to look up
+     * @return Supplier of the tool call as accumulated so far, or null if not found
+     */
+    public Supplier<ToolUseBlock> getAccumulatedToolCallSnapshot(String id) {
+        ToolCallBuilder builder = findBuilder(id);
+        return builder != null ? builder.snapshot() : null;
+    }
+
+    private ToolCallBuilder findBuilder(String id) {
         if (id != null && !id.isEmpty()) {
             // First try to find by ID directly
             ToolCallBuilder builder = builders.get(id);
             if (builder != null) {
-                return builder.build();
+                return builder;
             }
         }
 
         // Fallback to lastToolCallKey if ID is empty or not found
         if (lastToolCallKey != null) {
-            ToolCallBuilder builder = builders.get(lastToolCallKey);
-            if (builder != null) {
-                return builder.build();
-            }
+            return builders.get(lastToolCallKey);
         }
 
         return null;
@@ -29,12 +29,14 @@ import io.agentscope.core.message.ToolResultBlock;
 import io.agentscope.core.message.URLSource;
 import io.agentscope.core.message.VideoBlock;
 import io.agentscope.core.model.GenerateOptions;
+import io.agentscope.core.model.ToolSchema;
 import io.agentscope.core.tracing.TracerRegistry;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -51,6 +53,8 @@ import org.slf4j.LoggerFactory;
  *   <li>Media content detection
  *   <li>Role label formatting
  *   <li>Shared ObjectMapper instance
+ *   <li>Per-message conversion cache ({@link #formatCached})
+ *   <li>Converted tool definitions cache ({@link #convertToolsCached})
  * </ul>
  *
  * @param <TReq>    Provider-specific request message type
@@ -62,6 +66,14 @@ public abstract class AbstractBaseFormatter<TReq, TResp, TParams>
 
     private static final Logger log = LoggerFactory.getLogger(AbstractBaseFormatter.class);
 
+    /** Maximum number of messages whose converted form is cached per formatter. */
+    private static final int MESSAGE_CACHE_SIZE = 1024;
+
+    private final FormattedMessageCache<TReq> messageCache =
+            new FormattedMessageCache<>(MESSAGE_CACHE_SIZE);
+
+    private volatile ConvertedTools convertedTools;
+
     /**
      * Format AgentScope messages to provider-specific request format.
      *
@@ -75,6 +87,59 @@ public abstract class AbstractBaseFormatter<TReq, TResp, TParams>
 
     protected abstract List<TReq> doFormat(List<Msg> msgs);
 
+    /**
+     * Convert a single message, reusing the result of an earlier conversion of the same message.
+     *
+     * <p>Formatters whose conversion of a message does not depend on the surrounding messages use
+     * this in {@link #doFormat(List)}, so that the history resent on every reasoning step is not
+     * converted again. Results are reused only for the identical {@link Msg} instance. Converted
+     * objects implementing {@link CachedJsonFragment} also get their JSON attached, which is then
+     * reused when the request is serialized.
+     *
+     * @param msg       The message to convert
+     * @param converter Converts the message to zero or more provider messages
+     * @return The provider messages (unmodifiable)
+     */
+    protected List<TReq> formatCached(Msg msg, Function<Msg, List<TReq>> converter) {
+        return messageCache.getOrConvert(msg, converter);
+    }
+
+    /**
+     * Convert tool schemas to provider tool definitions, reusing the previous result when the
+     * same tool schemas are passed again.
+     *
+     * <p>Agents pass the same schemas on every reasoning step (see {@code
+     * Toolkit.getToolSchemas()}), so only the most recent conversion is kept; it is reused when
+     * the list holds the identical schema instances. Converted objects implementing {@link
+     * CachedJsonFragment} are serialized once when cached. Implementations must produce the same
+     * result for the same schemas.
+     *
+     * @param tools The tool schemas (may be null)
+     * @param converter Converts the schemas to provider tool definitions
+     * @param <T> The provider tool type
+     * @return The provider tool definitions (unmodifiable, or whatever the converter returned for
+     *     null or empty input)
+     */
+    @SuppressWarnings("unchecked")
+    protected <T> List<T> convertToolsCached(
+            List<ToolSchema> tools, Function<List<ToolSchema>, List<T>> converter) {
+        if (tools == null || tools.isEmpty()) {
+            return converter.apply(tools);
+        }
+        ConvertedTools cached = convertedTools;
+        if (cached != null && cached.isConvertedFrom(tools)) {
+            return (List<T>) cached.converted();
+        }
+        List<T> converted = converter.apply(tools);
+        if (converted == null) {
+            return null;
+        }
+        converted = Collections.unmodifiableList(new ArrayList<>(converted));
+        FormattedMessageCache.attachJson(converted);
+        convertedTools = new ConvertedTools(new ArrayList<>(tools), converted);
+        return converted;
+    }
+
     /**
      * Extract text content from a message, filtering out ThinkingBlock.
      *
@@ -298,4 +363,28 @@ public abstract class AbstractBaseFormatter<TReq, TResp, TParams>
         // Return absolute path
         return tempFile.toAbsolutePath().toString();
     }
+
+    /**
+     * The most recent tool conversion.
+     *
+     * @param tools The converted tool schemas, compared element by element by identity
+     * @param converted The provider tool definitions
+     */
+    private record ConvertedTools(List<ToolSchema> tools, List<?> converted) {
+
+        boolean isConvertedFrom(List<ToolSchema> other) {
+            if (tools == other) {
+                return true;
+            }
+            if (tools.size() != other.size()) {
+                return false;
+            }
+            for (int i = 0; i < tools.size(); i++) {
+                if (tools.get(i) != other.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
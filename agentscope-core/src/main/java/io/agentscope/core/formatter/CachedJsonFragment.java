@@ -0,0 +1,45 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.formatter;
+
+/**
+ * A provider request DTO that can carry its own serialized JSON form.
+ *
+ * <p>Formatters cache the DTOs converted from each message (see {@link
+ * AbstractBaseFormatter#formatCached}) and attach their JSON to them once. When a request is
+ * serialized, {@link CachedJsonFragmentSerializer} writes the attached JSON verbatim instead of
+ * serializing the message again, so a conversation of N messages costs one serialization for the
+ * newest message rather than N per request.
+ *
+ * <p>Implementations detach the JSON when modified through their setters. Objects they reference
+ * (content parts, tool calls) must not be modified once the JSON has been attached.
+ */
+public interface CachedJsonFragment {
+
+    /**
+     * Gets the attached JSON form of this object.
+     *
+     * @return the JSON, or null if none is attached
+     */
+    String getCachedJson();
+
+    /**
+     * Attaches the JSON form of this object.
+     *
+     * @param json the JSON produced by serializing this object, or null to detach it
+     */
+    void setCachedJson(String json);
+}
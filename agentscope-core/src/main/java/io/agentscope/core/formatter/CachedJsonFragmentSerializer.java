@@ -0,0 +1,51 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.formatter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+
+/**
+ * Jackson serializer that writes the cached JSON of a {@link CachedJsonFragment} verbatim.
+ *
+ * <p>Intended for the message lists of request DTOs:
+ *
+ * <pre>{@code
+ * @JsonSerialize(contentUsing = CachedJsonFragmentSerializer.class)
+ * private List<OpenAIMessage> messages;
+ * }</pre>
+ *
+ * <p>Values without cached JSON are serialized normally. So are all values when converting
+ * rather than writing text (e.g. {@code ObjectMapper.convertValue}), where raw JSON cannot be
+ * represented.
+ */
+public class CachedJsonFragmentSerializer extends JsonSerializer<Object> {
+
+    @Override
+    public void serialize(Object value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        if (value instanceof CachedJsonFragment fragment
+                && fragment.getCachedJson() != null
+                && !(gen instanceof TokenBuffer)) {
+            gen.writeRawValue(fragment.getCachedJson());
+            return;
+        }
+        provider.defaultSerializeValue(value, gen);
+    }
+}
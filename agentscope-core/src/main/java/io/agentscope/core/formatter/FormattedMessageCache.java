@@ -0,0 +1,144 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.formatter;
+
+import io.agentscope.core.message.Msg;
+import io.agentscope.core.util.JsonUtils;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of provider messages already converted from AgentScope messages.
+ *
+ * <p>Agents send the whole conversation on every reasoning step, so without caching every message
+ * is converted (and serialized) again on each call. Entries are keyed by message ID and are only
+ * reused for the identical {@link Msg} instance: messages are immutable, so the same instance
+ * always converts to the same result. Messages are referenced weakly, and the least recently used
+ * entries are evicted beyond {@code maxEntries}.
+ *
+ * <p>Converted objects implementing {@link CachedJsonFragment} are serialized once when cached,
+ * so that request bodies can be assembled from the cached JSON.
+ *
+ * <p>This class is thread-safe.
+ *
+ * @param <T> the provider message type
+ */
+final class FormattedMessageCache<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(FormattedMessageCache.class);
+
+    private final Map<String, Entry<T>> entries;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxEntries the maximum number of cached messages
+     */
+    FormattedMessageCache(int maxEntries) {
+        this.entries =
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, Entry<T>> eldest) {
+                        return size() > maxEntries;
+                    }
+                };
+    }
+
+    /**
+     * Gets the converted form of a message, converting and caching it on a miss.
+     *
+     * @param msg the message to convert
+     * @param converter converts a message to zero or more provider messages
+     * @return the provider messages (unmodifiable)
+     */
+    List<T> getOrConvert(Msg msg, Function<Msg, List<T>> converter) {
+        String id = msg.getId();
+        if (id == null) {
+            return converter.apply(msg);
+        }
+        synchronized (entries) {
+            Entry<T> entry = entries.get(id);
+            if (entry != null && entry.msg().get() == msg) {
+                return entry.converted();
+            }
+        }
+
+        List<T> converted = Collections.unmodifiableList(new ArrayList<>(converter.apply(msg)));
+        attachJson(converted);
+        synchronized (entries) {
+            entries.put(id, new Entry<>(new WeakReference<>(msg), converted));
+        }
+        return converted;
+    }
+
+    /**
+     * Gets the number of cached messages.
+     *
+     * @return the number of entries
+     */
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /** Removes all entries. */
+    void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Serializes the items that implement {@link CachedJsonFragment} and attach no JSON yet.
+     *
+     * @param items the provider objects
+     */
+    static void attachJson(List<?> items) {
+        for (Object item : items) {
+            if (item instanceof CachedJsonFragment fragment && fragment.getCachedJson() == null) {
+                attachJson(fragment);
+            }
+        }
+    }
+
+    private static void attachJson(CachedJsonFragment fragment) {
+        try {
+            fragment.setCachedJson(JsonUtils.getJsonCodec().toJson(fragment));
+        } catch (RuntimeException e) {
+            // Leave it to be serialized with the request, which reports the error
+            log.debug(
+                    "Failed to pre-serialize {}: {}",
+                    fragment.getClass().getSimpleName(),
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * A cached conversion.
+     *
+     * @param msg the converted message, compared by identity
+     * @param converted the provider messages
+     */
+    private record Entry<T>(WeakReference<Msg> msg, List<T> converted) {}
+}
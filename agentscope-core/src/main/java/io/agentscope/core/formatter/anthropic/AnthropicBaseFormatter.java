@@ -32,6 +32,7 @@ import java.util.List;
  * <ul>
  *   <li>System message extraction and application (Anthropic requires system via system parameter)
  *   <li>Tool choice configuration with GenerateOptions
+ *   <li>Prompt cache breakpoints, when enabled with GenerateOptions
  * </ul>
  */
 public abstract class AnthropicBaseFormatter
@@ -103,4 +104,22 @@ public abstract class AnthropicBaseFormatter
             paramsBuilder.system(systemMessage);
         }
     }
+
+    /**
+     * Adds prompt cache breakpoints to a request if prompt caching is enabled in the options.
+     *
+     * @param params the request
+     * @param options Generation options
+     * @param defaultOptions Default options to use if options parameter is null
+     * @return the request, with cache breakpoints if prompt caching is enabled
+     * @see AnthropicCacheHelper
+     */
+    public MessageCreateParams applyPromptCaching(
+            MessageCreateParams params, GenerateOptions options, GenerateOptions defaultOptions) {
+        GenerateOptions effectiveOptions = GenerateOptions.mergeOptions(options, defaultOptions);
+        if (effectiveOptions == null || !Boolean.TRUE.equals(effectiveOptions.getPromptCaching())) {
+            return params;
+        }
+        return AnthropicCacheHelper.applyCacheControl(params);
+    }
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.formatter.anthropic;
+
+import com.anthropic.models.messages.CacheControlEphemeral;
+import com.anthropic.models.messages.ContentBlockParam;
+import com.anthropic.models.messages.MessageCreateParams;
+import com.anthropic.models.messages.MessageParam;
+import com.anthropic.models.messages.TextBlockParam;
+import com.anthropic.models.messages.ToolUnion;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * Helper class for marking prompt cache breakpoints in Anthropic requests.
+ *
+ * <p>Anthropic caches the request prefix up to each block marked with {@code cache_control}. An
+ * agent resends the same system prompt, tools and history on every reasoning step, so breakpoints
+ * are placed at the end of each of them:
+ * <ul>
+ *   <li>the last system prompt block
+ *   <li>the last tool definition
+ *   <li>the last content block of the last message, so that the next step reads the whole
+ *       conversation so far from the cache
+ * </ul>
+ *
+ * <p>This uses three of the four breakpoints Anthropic allows per request.
+ */
+public class AnthropicCacheHelper {
+
+    private static final CacheControlEphemeral EPHEMERAL = CacheControlEphemeral.builder().build();
+
+    private AnthropicCacheHelper() {}
+
+    /**
+     * Adds cache breakpoints to a request.
+     *
+     * @param params the request
+     * @return the request with cache breakpoints
+     */
+    public static MessageCreateParams applyCacheControl(MessageCreateParams params) {
+        MessageCreateParams.Builder builder = params.toBuilder();
+
+        params.system()
+                .ifPresent(
+                        system -> {
+                            List<TextBlockParam> blocks =
+                                    system.isString()
+                                            ? List.of(
+                                                    TextBlockParam.builder()
+                                                            .text(system.asString())
+                                                            .build())
+                                            : system.asTextBlockParams();
+                            if (!blocks.isEmpty()) {
+                                builder.systemOfTextBlockParams(
+                                        replaceLast(
+                                                blocks,
+                                                block ->
+                                                        block.toBuilder()
+                                                                .cacheControl(EPHEMERAL)
+                                                                .build()));
+                            }
+                        });
+
+        params.tools()
+                .filter(tools -> !tools.isEmpty() && tools.get(tools.size() - 1).isTool())
+                .ifPresent(
+                        tools ->
+                                builder.tools(
+                                        replaceLast(
+                                                tools,
+                                                tool ->
+                                                        ToolUnion.ofTool(
+                                                                tool.asTool().toBuilder()
+                                                                        .cacheControl(EPHEMERAL)
+                                                                        .build()))));
+
+        List<MessageParam> messages = params.messages();
+        if (!messages.isEmpty()) {
+            MessageParam last = messages.get(messages.size() - 1);
+            MessageParam marked = markLastBlock(last);
+            if (marked != last) {
+                builder.messages(replaceLast(messages, message -> marked));
+            }
+        }
+
+        return builder.build();
+    }
+
+    /** Marks the last content block of a message, if it is of a type that takes a breakpoint. */
+    private static MessageParam markLastBlock(MessageParam message) {
+        MessageParam.Content content = message.content();
+        List<ContentBlockParam> blocks =
+                content.isString()
+                        ? List.of(
+                                ContentBlockParam.ofText(
+                                        TextBlockParam.builder().text(content.asString()).build()))
+                        : content.asBlockParams();
+        if (blocks.isEmpty()) {
+            return message;
+        }
+        ContentBlockParam block = blocks.get(blocks.size() - 1);
+        ContentBlockParam marked;
+        if (block.isText()) {
+            marked =
+                    ContentBlockParam.ofText(
+                            block.asText().toBuilder().cacheControl(EPHEMERAL).build());
+        } else if (block.isImage()) {
+            marked =
+                    ContentBlockParam.ofImage(
+                            block.asImage().toBuilder().cacheControl(EPHEMERAL).build());
+        } else if (block.isToolUse()) {
+            marked =
+                    ContentBlockParam.ofToolUse(
+                            block.asToolUse().toBuilder().cacheControl(EPHEMERAL).build());
+        } else if (block.isToolResult()) {
+            marked =
+                    ContentBlockParam.ofToolResult(
+                            block.asToolResult().toBuilder().cacheControl(EPHEMERAL).build());
+        } else {
+            // Thinking blocks cannot be marked
+            return message;
+        }
+        return message.toBuilder().contentOfBlockParams(replaceLast(blocks, b -> marked)).build();
+    }
+
+    private static <T> List<T> replaceLast(List<T> list, UnaryOperator<T> replacement) {
+        List<T> result = new ArrayList<>(list);
+        int last = result.size() - 1;
+        result.set(last, replacement.apply(result.get(last)));
+        return result;
+    }
+}
@@ -20,6 +20,7 @@ import com.anthropic.models.messages.MessageParam;
 import io.agentscope.core.message.Msg;
 import io.agentscope.core.model.ChatResponse;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -38,7 +39,12 @@ public class AnthropicChatFormatter extends AnthropicBaseFormatter {
 
     @Override
     public List<MessageParam> doFormat(List<Msg> msgs) {
-        return messageConverter.convert(msgs);
+        List<MessageParam> result = new ArrayList<>();
+        for (Msg msg : msgs) {
+            // Each message converts independently, so earlier conversions can be reused
+            result.addAll(formatCached(msg, m -> messageConverter.convert(List.of(m))));
+        }
+        return result;
     }
 
     @Override
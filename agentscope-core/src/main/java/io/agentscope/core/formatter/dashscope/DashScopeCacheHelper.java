@@ -0,0 +1,98 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.formatter.dashscope;
+
+import io.agentscope.core.formatter.dashscope.dto.DashScopeContentPart;
+import io.agentscope.core.formatter.dashscope.dto.DashScopeMessage;
+import io.agentscope.core.formatter.dashscope.dto.DashScopeRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Helper class for marking prompt cache breakpoints in DashScope requests.
+ *
+ * <p>DashScope explicit caching caches the request prefix up to each content part marked with
+ * {@code cache_control}. The system message and the last message are marked, so that both the
+ * system prompt and the whole conversation so far are read from the cache on the next call.
+ * Text content is turned into a single text part to carry the marker.
+ *
+ * <p>Formatted messages may be shared with the formatter's message cache, so marked messages are
+ * copies and the request's message list is replaced rather than modified.
+ */
+public class DashScopeCacheHelper {
+
+    private static final Map<String, String> EPHEMERAL = Map.of("type", "ephemeral");
+
+    private DashScopeCacheHelper() {}
+
+    /**
+     * Adds cache breakpoints to a request.
+     *
+     * @param request the request to modify
+     */
+    public static void applyCacheControl(DashScopeRequest request) {
+        if (request.getInput() == null || request.getInput().getMessages() == null) {
+            return;
+        }
+        List<DashScopeMessage> messages = new ArrayList<>(request.getInput().getMessages());
+        if (messages.isEmpty()) {
+            return;
+        }
+        int last = messages.size() - 1;
+        messages.set(last, mark(messages.get(last)));
+        if (last > 0 && "system".equals(messages.get(0).getRole())) {
+            messages.set(0, mark(messages.get(0)));
+        }
+        request.getInput().setMessages(messages);
+    }
+
+    /** Returns a copy of the message with its last content part marked. */
+    private static DashScopeMessage mark(DashScopeMessage message) {
+        List<DashScopeContentPart> parts;
+        if (message.getContent() instanceof String text) {
+            if (text.isEmpty()) {
+                return message;
+            }
+            parts = List.of(DashScopeContentPart.builder().text(text).build());
+        } else if (message.getContentAsList() != null && !message.getContentAsList().isEmpty()) {
+            parts = message.getContentAsList();
+        } else {
+            return message;
+        }
+
+        List<DashScopeContentPart> marked = new ArrayList<>(parts);
+        DashScopeContentPart lastPart = marked.get(marked.size() - 1);
+        marked.set(
+                marked.size() - 1,
+                DashScopeContentPart.builder()
+                        .text(lastPart.getText())
+                        .image(lastPart.getImage())
+                        .audio(lastPart.getAudio())
+                        .video(lastPart.getVideo())
+                        .cacheControl(EPHEMERAL)
+                        .build());
+
+        return DashScopeMessage.builder()
+                .role(message.getRole())
+                .content(marked)
+                .name(message.getName())
+                .toolCallId(message.getToolCallId())
+                .toolCalls(message.getToolCalls())
+                .reasoningContent(message.getReasoningContent())
+                .build();
+    }
+}
@@ -55,15 +55,18 @@ public class DashScopeChatFormatter
     protected List<DashScopeMessage> doFormat(List<Msg> msgs) {
         List<DashScopeMessage> result = new ArrayList<>();
         for (Msg msg : msgs) {
-            boolean hasMedia = hasMediaContent(msg);
-            DashScopeMessage dsMsg = messageConverter.convertToMessage(msg, hasMedia);
-            if (dsMsg != null) {
-                result.add(dsMsg);
-            }
+            // Each message converts independently, so earlier conversions can be reused
+            result.addAll(formatCached(msg, this::convertMessage));
         }
         return result;
     }
 
+    private List<DashScopeMessage> convertMessage(Msg msg) {
+        boolean hasMedia = hasMediaContent(msg);
+        DashScopeMessage dsMsg = messageConverter.convertToMessage(msg, hasMedia);
+        return dsMsg != null ? List.of(dsMsg) : List.of();
+    }
+
     @Override
     public ChatResponse parseResponse(DashScopeResponse result, Instant startTime) {
         return responseParser.parseResponse(result, startTime);
@@ -87,7 +90,7 @@ public class DashScopeChatFormatter
             params = DashScopeParameters.builder().build();
             request.setParameters(params);
         }
-        params.setTools(toolsHelper.convertTools(tools));
+        params.setTools(convertToolsCached(tools, toolsHelper::convertTools));
     }
 
     /**
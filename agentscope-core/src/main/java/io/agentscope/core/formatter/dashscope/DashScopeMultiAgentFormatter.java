@@ -139,7 +139,7 @@ public class DashScopeMultiAgentFormatter
             params = DashScopeParameters.builder().build();
             request.setParameters(params);
         }
-        params.setTools(toolsHelper.convertTools(tools));
+        params.setTools(convertToolsCached(tools, toolsHelper::convertTools));
     }
 
     @Override
@@ -18,6 +18,7 @@ package io.agentscope.core.formatter.dashscope.dto;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
+import java.util.Map;
 
 /**
  * DashScope content part DTO for multimodal messages.
@@ -39,6 +40,11 @@ import java.util.List;
  * <pre>{@code
  * {"image": "data:image/png;base64,iVBORw0KGgo..."}
  * }</pre>
+ *
+ * <p>Example text part marked as a prompt cache breakpoint:
+ * <pre>{@code
+ * {"text": "You are a helpful assistant...", "cache_control": {"type": "ephemeral"}}
+ * }</pre>
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class DashScopeContentPart {
@@ -59,6 +65,10 @@ public class DashScopeContentPart {
     @JsonProperty("video")
     private Object video;
 
+    /** Prompt cache breakpoint, e.g. {@code {"type": "ephemeral"}}. */
+    @JsonProperty("cache_control")
+    private Map<String, String> cacheControl;
+
     public DashScopeContentPart() {}
 
     public String getText() {
@@ -93,6 +103,14 @@ public class DashScopeContentPart {
         this.video = video;
     }
 
+    public Map<String, String> getCacheControl() {
+        return cacheControl;
+    }
+
+    public void setCacheControl(Map<String, String> cacheControl) {
+        this.cacheControl = cacheControl;
+    }
+
     /**
      * Get video as URL string.
      *
@@ -205,6 +223,11 @@ public class DashScopeContentPart {
             return this;
         }
 
+        public Builder cacheControl(Map<String, String> cacheControl) {
+            part.setCacheControl(cacheControl);
+            return this;
+        }
+
         public DashScopeContentPart build() {
             return part;
         }
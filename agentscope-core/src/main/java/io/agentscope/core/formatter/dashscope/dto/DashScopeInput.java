@@ -17,6 +17,8 @@ package io.agentscope.core.formatter.dashscope.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.agentscope.core.formatter.CachedJsonFragmentSerializer;
 import java.util.List;
 
 /**
@@ -27,8 +29,9 @@ import java.util.List;
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class DashScopeInput {
 
-    /** The list of messages in the conversation. */
+    /** The list of messages in the conversation; cached message JSON is written verbatim. */
     @JsonProperty("messages")
+    @JsonSerialize(contentUsing = CachedJsonFragmentSerializer.class)
     private List<DashScopeMessage> messages;
 
     public DashScopeInput() {}
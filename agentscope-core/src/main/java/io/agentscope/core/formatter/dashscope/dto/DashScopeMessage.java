@@ -20,6 +20,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.type.TypeReference;
+import io.agentscope.core.formatter.CachedJsonFragment;
 import io.agentscope.core.util.JsonUtils;
 import java.util.List;
 
@@ -51,7 +52,7 @@ import java.util.List;
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class DashScopeMessage {
+public class DashScopeMessage implements CachedJsonFragment {
 
     /** Message role: "system", "user", "assistant", or "tool". */
     @JsonProperty("role")
@@ -80,14 +81,30 @@ public class DashScopeMessage {
     @JsonProperty("reasoning_content")
     private String reasoningContent;
 
+    /** Serialized form attached by the formatter's message cache; cleared by every setter. */
+    @JsonIgnore private String cachedJson;
+
     public DashScopeMessage() {}
 
+    @Override
+    @JsonIgnore
+    public String getCachedJson() {
+        return cachedJson;
+    }
+
+    @Override
+    @JsonIgnore
+    public void setCachedJson(String cachedJson) {
+        this.cachedJson = cachedJson;
+    }
+
     public String getRole() {
         return role;
     }
 
     public void setRole(String role) {
         this.role = role;
+        this.cachedJson = null;
     }
 
     public Object getContent() {
@@ -96,6 +113,7 @@ public class DashScopeMessage {
 
     public void setContent(Object content) {
         this.content = content;
+        this.cachedJson = null;
     }
 
     /**
@@ -151,6 +169,7 @@ public class DashScopeMessage {
 
     public void setName(String name) {
         this.name = name;
+        this.cachedJson = null;
     }
 
     public String getToolCallId() {
@@ -159,6 +178,7 @@ public class DashScopeMessage {
 
     public void setToolCallId(String toolCallId) {
         this.toolCallId = toolCallId;
+        this.cachedJson = null;
     }
 
     public List<DashScopeToolCall> getToolCalls() {
@@ -167,6 +187,7 @@ public class DashScopeMessage {
 
     public void setToolCalls(List<DashScopeToolCall> toolCalls) {
         this.toolCalls = toolCalls;
+        this.cachedJson = null;
     }
 
     public String getReasoningContent() {
@@ -175,6 +196,7 @@ public class DashScopeMessage {
 
     public void setReasoningContent(String reasoningContent) {
         this.reasoningContent = reasoningContent;
+        this.cachedJson = null;
     }
 
     public static Builder builder() {
@@ -17,6 +17,8 @@ package io.agentscope.core.formatter.dashscope.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.agentscope.core.formatter.CachedJsonFragmentSerializer;
 import io.agentscope.core.formatter.ResponseFormat;
 import java.util.List;
 
@@ -70,6 +72,7 @@ public class DashScopeParameters {
 
     /** List of available tools. */
     @JsonProperty("tools")
+    @JsonSerialize(contentUsing = CachedJsonFragmentSerializer.class)
     private List<DashScopeTool> tools;
 
     /**
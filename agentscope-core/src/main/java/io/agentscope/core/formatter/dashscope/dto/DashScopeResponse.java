@@ -21,7 +21,6 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import java.io.IOException;
 
@@ -125,7 +124,7 @@ public class DashScopeResponse {
      * (decrypted) values.
      *
      * <p>When the output field is a string (encrypted), it returns null since the value should
-     * have been decrypted by decryptResponse() before deserialization. If it's still a string at
+     * have been decrypted by the HTTP client before deserialization. If it's still a string at
      * this point, it means decryption failed or wasn't performed, so we skip it.
      */
     static class DashScopeOutputDeserializer extends JsonDeserializer<DashScopeOutput> {
@@ -144,14 +143,8 @@ public class DashScopeResponse {
                 p.getValueAsString(); // Read and skip the string value
                 return null;
             } else if (token == JsonToken.START_OBJECT) {
-                // Object value - normal deserialization
-                // Use readTree and treeToValue for standard deserialization
-                // This handles the case where output is a decrypted JSON object
-                JsonNode node = p.getCodec().readTree(p);
-                if (node == null || node.isNull() || !node.isObject()) {
-                    return null;
-                }
-                return p.getCodec().treeToValue(node, DashScopeOutput.class);
+                // Object value - normal deserialization, straight from the parser
+                return p.getCodec().readValue(p, DashScopeOutput.class);
             }
             // Unexpected token type
             throw new IOException(
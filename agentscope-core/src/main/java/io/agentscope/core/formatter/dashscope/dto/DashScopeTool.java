@@ -15,8 +15,10 @@
  */
 package io.agentscope.core.formatter.dashscope.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.agentscope.core.formatter.CachedJsonFragment;
 
 /**
  * DashScope tool definition DTO.
@@ -42,7 +44,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  * }</pre>
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class DashScopeTool {
+public class DashScopeTool implements CachedJsonFragment {
 
     /** Tool type, always "function" for now. */
     @JsonProperty("type")
@@ -52,18 +54,34 @@ public class DashScopeTool {
     @JsonProperty("function")
     private DashScopeToolFunction function;
 
+    /** Serialized form attached by the formatter's tool cache; cleared by every setter. */
+    @JsonIgnore private String cachedJson;
+
     public DashScopeTool() {}
 
     public DashScopeTool(DashScopeToolFunction function) {
         this.function = function;
     }
 
+    @Override
+    @JsonIgnore
+    public String getCachedJson() {
+        return cachedJson;
+    }
+
+    @Override
+    @JsonIgnore
+    public void setCachedJson(String cachedJson) {
+        this.cachedJson = cachedJson;
+    }
+
     public String getType() {
         return type;
     }
 
     public void setType(String type) {
         this.type = type;
+        this.cachedJson = null;
     }
 
     public DashScopeToolFunction getFunction() {
@@ -72,6 +90,7 @@ public class DashScopeTool {
 
     public void setFunction(DashScopeToolFunction function) {
         this.function = function;
+        this.cachedJson = null;
     }
 
     /**
@@ -28,6 +28,7 @@ import io.agentscope.core.model.GenerateOptions;
 import io.agentscope.core.model.ToolChoice;
 import io.agentscope.core.model.ToolSchema;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -66,7 +67,12 @@ public class GeminiChatFormatter
 
     @Override
     protected List<Content> doFormat(List<Msg> msgs) {
-        return messageConverter.convertMessages(msgs);
+        List<Content> result = new ArrayList<>();
+        for (Msg msg : msgs) {
+            // Each message converts independently, so earlier conversions can be reused
+            result.addAll(formatCached(msg, m -> messageConverter.convertMessages(List.of(m))));
+        }
+        return result;
     }
 
     @Override
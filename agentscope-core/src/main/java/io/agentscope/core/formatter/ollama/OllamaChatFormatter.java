@@ -20,6 +20,7 @@ import io.agentscope.core.formatter.ollama.dto.OllamaFunction;
 import io.agentscope.core.formatter.ollama.dto.OllamaMessage;
 import io.agentscope.core.formatter.ollama.dto.OllamaRequest;
 import io.agentscope.core.formatter.ollama.dto.OllamaResponse;
+import io.agentscope.core.formatter.ollama.dto.OllamaTool;
 import io.agentscope.core.formatter.ollama.dto.OllamaToolCall;
 import io.agentscope.core.message.ContentBlock;
 import io.agentscope.core.message.ImageBlock;
@@ -72,8 +73,15 @@ public class OllamaChatFormatter
         List<OllamaMessage> result = new ArrayList<>();
 
         for (Msg msg : msgs) {
-            // Process each message and add to result
-            processMessage(msg, result);
+            // Process each message and add to result, reusing earlier conversions
+            result.addAll(
+                    formatCached(
+                            msg,
+                            m -> {
+                                List<OllamaMessage> converted = new ArrayList<>();
+                                processMessage(m, converted);
+                                return converted;
+                            }));
         }
 
         return result;
@@ -419,7 +427,10 @@ public class OllamaChatFormatter
 
     @Override
     public void applyTools(OllamaRequest request, List<ToolSchema> tools) {
-        toolsHelper.applyTools(request, tools);
+        List<OllamaTool> ollamaTools = convertToolsCached(tools, toolsHelper::convertTools);
+        if (ollamaTools != null && !ollamaTools.isEmpty()) {
+            request.setTools(ollamaTools);
+        }
     }
 
     @Override
@@ -19,6 +19,7 @@ import io.agentscope.core.formatter.AbstractBaseFormatter;
 import io.agentscope.core.formatter.ollama.dto.OllamaMessage;
 import io.agentscope.core.formatter.ollama.dto.OllamaRequest;
 import io.agentscope.core.formatter.ollama.dto.OllamaResponse;
+import io.agentscope.core.formatter.ollama.dto.OllamaTool;
 import io.agentscope.core.message.ContentBlock;
 import io.agentscope.core.message.ImageBlock;
 import io.agentscope.core.message.Msg;
@@ -264,7 +265,10 @@ public class OllamaMultiAgentFormatter
 
     @Override
     public void applyTools(OllamaRequest request, List<ToolSchema> tools) {
-        toolsHelper.applyTools(request, tools);
+        List<OllamaTool> ollamaTools = convertToolsCached(tools, toolsHelper::convertTools);
+        if (ollamaTools != null && !ollamaTools.isEmpty()) {
+            request.setTools(ollamaTools);
+        }
     }
 
     @Override
@@ -15,8 +15,10 @@
  */
 package io.agentscope.core.formatter.ollama.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.agentscope.core.formatter.CachedJsonFragment;
 import java.util.List;
 
 /**
@@ -25,7 +27,7 @@ import java.util.List;
  *
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class OllamaMessage {
+public class OllamaMessage implements CachedJsonFragment {
 
     /** The role of the message sender (system, user, assistant, tool). */
     @JsonProperty("role")
@@ -51,8 +53,23 @@ public class OllamaMessage {
     @JsonProperty("name")
     private String name;
 
+    /** Serialized form attached by the formatter's message cache; cleared by every setter. */
+    @JsonIgnore private String cachedJson;
+
     public OllamaMessage() {}
 
+    @Override
+    @JsonIgnore
+    public String getCachedJson() {
+        return cachedJson;
+    }
+
+    @Override
+    @JsonIgnore
+    public void setCachedJson(String cachedJson) {
+        this.cachedJson = cachedJson;
+    }
+
     public OllamaMessage(String role, String content) {
         this.role = role;
         this.content = content;
@@ -64,6 +81,7 @@ public class OllamaMessage {
 
     public void setRole(String role) {
         this.role = role;
+        this.cachedJson = null;
     }
 
     public String getContent() {
@@ -72,6 +90,7 @@ public class OllamaMessage {
 
     public void setContent(String content) {
         this.content = content;
+        this.cachedJson = null;
     }
 
     public List<String> getImages() {
@@ -80,6 +99,7 @@ public class OllamaMessage {
 
     public void setImages(List<String> images) {
         this.images = images;
+        this.cachedJson = null;
     }
 
     public List<OllamaToolCall> getToolCalls() {
@@ -88,6 +108,7 @@ public class OllamaMessage {
 
     public void setToolCalls(List<OllamaToolCall> toolCalls) {
         this.toolCalls = toolCalls;
+        this.cachedJson = null;
     }
 
     public String getToolCallId() {
@@ -96,6 +117,7 @@ public class OllamaMessage {
 
     public void setToolCallId(String toolCallId) {
         this.toolCallId = toolCallId;
+        this.cachedJson = null;
     }
 
     public String getName() {
@@ -104,5 +126,6 @@ public class OllamaMessage {
 
     public void setName(String name) {
         this.name = name;
+        this.cachedJson = null;
     }
 }
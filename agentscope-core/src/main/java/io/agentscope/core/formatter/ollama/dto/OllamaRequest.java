@@ -17,6 +17,8 @@ package io.agentscope.core.formatter.ollama.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.agentscope.core.formatter.CachedJsonFragmentSerializer;
 import java.util.List;
 import java.util.Map;
 
@@ -32,8 +34,9 @@ public class OllamaRequest {
     @JsonProperty("model")
     private String model;
 
-    /** The list of messages in the conversation. */
+    /** The list of messages in the conversation; cached message JSON is written verbatim. */
     @JsonProperty("messages")
+    @JsonSerialize(contentUsing = CachedJsonFragmentSerializer.class)
     private List<OllamaMessage> messages;
 
     /** Whether to stream the response. */
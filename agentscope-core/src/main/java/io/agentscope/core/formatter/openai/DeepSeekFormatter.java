@@ -78,6 +78,11 @@ public class DeepSeekFormatter extends OpenAIChatFormatter {
         return false;
     }
 
+    @Override
+    protected boolean supportsPromptCacheKey() {
+        return false;
+    }
+
     /**
      * Apply DeepSeek-specific message format fixes.
      *
@@ -93,4 +93,9 @@ public class DeepSeekMultiAgentFormatter extends OpenAIMultiAgentFormatter {
     protected boolean supportsStrict() {
         return false;
     }
+
+    @Override
+    protected boolean supportsPromptCacheKey() {
+        return false;
+    }
 }
@@ -64,6 +64,11 @@ public class GLMFormatter extends OpenAIChatFormatter {
         return false;
     }
 
+    @Override
+    protected boolean supportsPromptCacheKey() {
+        return false;
+    }
+
     @Override
     public void applyToolChoice(OpenAIRequest request, ToolChoice toolChoice) {
         applyGLMToolChoice(request, toolChoice);
@@ -62,6 +62,11 @@ public class GLMMultiAgentFormatter extends OpenAIMultiAgentFormatter {
         return false;
     }
 
+    @Override
+    protected boolean supportsPromptCacheKey() {
+        return false;
+    }
+
     @Override
     public void applyToolChoice(OpenAIRequest request, ToolChoice toolChoice) {
         GLMFormatter.applyGLMToolChoice(request, toolChoice);
@@ -24,8 +24,13 @@ import io.agentscope.core.message.Msg;
 import io.agentscope.core.model.GenerateOptions;
 import io.agentscope.core.model.ToolChoice;
 import io.agentscope.core.model.ToolSchema;
+import io.agentscope.core.util.JsonUtils;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -55,15 +60,18 @@ public class OpenAIChatFormatter extends OpenAIBaseFormatter {
     protected List<OpenAIMessage> doFormat(List<Msg> msgs) {
         List<OpenAIMessage> result = new ArrayList<>();
         for (Msg msg : msgs) {
-            boolean hasMedia = hasMediaContent(msg);
-            OpenAIMessage openAIMsg = messageConverter.convertToMessage(msg, hasMedia);
-            if (openAIMsg != null) {
-                result.add(openAIMsg);
-            }
+            // Each message converts independently, so earlier conversions can be reused
+            result.addAll(formatCached(msg, this::convertMessage));
         }
         return result;
     }
 
+    private List<OpenAIMessage> convertMessage(Msg msg) {
+        boolean hasMedia = hasMediaContent(msg);
+        OpenAIMessage openAIMsg = messageConverter.convertToMessage(msg, hasMedia);
+        return openAIMsg != null ? List.of(openAIMsg) : List.of();
+    }
+
     @Override
     public void applyOptions(
             OpenAIRequest request, GenerateOptions options, GenerateOptions defaultOptions) {
@@ -118,17 +126,69 @@ public class OpenAIChatFormatter extends OpenAIBaseFormatter {
             request.setSeed(seed.intValue());
         }
 
+        // Group requests sharing the system prompt and tools, which OpenAI caches automatically
+        Boolean promptCaching =
+                getOptionOrDefault(options, defaultOptions, GenerateOptions::getPromptCaching);
+        if (Boolean.TRUE.equals(promptCaching) && supportsPromptCacheKey()) {
+            request.setPromptCacheKey(promptCacheKey(request));
+        }
+
         // Apply additional body params (must be last to allow overriding)
         applyAdditionalBodyParams(request, defaultOptions);
         applyAdditionalBodyParams(request, options);
     }
 
+    /**
+     * Derives a prompt cache key from the stable prefix of a request: its system messages and
+     * tools. Called from both {@link #applyOptions} and {@link #applyTools}, so the key covers the
+     * tools whichever is applied first.
+     */
+    private static String promptCacheKey(OpenAIRequest request) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        if (request.getMessages() != null) {
+            for (OpenAIMessage message : request.getMessages()) {
+                if ("system".equals(message.getRole()) || "developer".equals(message.getRole())) {
+                    digest.update(JsonUtils.getJsonCodec().toJsonBytes(message.getContent()));
+                    digest.update((byte) '\n');
+                }
+            }
+        }
+        if (request.getTools() != null) {
+            for (OpenAITool tool : request.getTools()) {
+                // Converted tools are cached with their JSON attached; reuse it
+                String json = tool.getCachedJson();
+                digest.update(
+                        json != null
+                                ? json.getBytes(StandardCharsets.UTF_8)
+                                : JsonUtils.getJsonCodec().toJsonBytes(tool));
+                digest.update((byte) '\n');
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, 16);
+    }
+
     @Override
     public void applyTools(OpenAIRequest request, List<ToolSchema> tools) {
         if (tools == null || tools.isEmpty()) {
             return;
         }
 
+        List<OpenAITool> openAITools = convertToolsCached(tools, this::convertTools);
+        if (!openAITools.isEmpty()) {
+            request.setTools(openAITools);
+            // Prompt caching was enabled by applyOptions before the tools were known
+            if (request.getPromptCacheKey() != null) {
+                request.setPromptCacheKey(promptCacheKey(request));
+            }
+        }
+    }
+
+    private List<OpenAITool> convertTools(List<ToolSchema> tools) {
         List<OpenAITool> openAITools = new ArrayList<>();
 
         try {
@@ -155,9 +215,7 @@ public class OpenAIChatFormatter extends OpenAIBaseFormatter {
             log.error("Failed to convert tools to OpenAI format: {}", e.getMessage(), e);
         }
 
-        if (!openAITools.isEmpty()) {
-            request.setTools(openAITools);
-        }
+        return openAITools;
     }
 
     /**
@@ -173,6 +231,18 @@ public class OpenAIChatFormatter extends OpenAIBaseFormatter {
         return true;
     }
 
+    /**
+     * Returns whether this formatter's target API accepts the prompt_cache_key request field.
+     *
+     * <p>Subclasses for other providers override this method to leave the field out of their
+     * requests, since it is specific to OpenAI.
+     *
+     * @return true if prompt_cache_key is supported, false otherwise
+     */
+    protected boolean supportsPromptCacheKey() {
+        return true;
+    }
+
     @Override
     public void applyToolChoice(OpenAIRequest request, ToolChoice toolChoice) {
         // Only apply tool_choice if tools are present
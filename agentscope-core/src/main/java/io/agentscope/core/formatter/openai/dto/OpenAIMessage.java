@@ -19,6 +19,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.agentscope.core.formatter.CachedJsonFragment;
 import java.util.List;
 
 /**
@@ -49,7 +50,7 @@ import java.util.List;
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class OpenAIMessage {
+public class OpenAIMessage implements CachedJsonFragment {
 
     /** Message role: "system", "user", "assistant", or "tool". */
     @JsonProperty("role")
@@ -93,14 +94,30 @@ public class OpenAIMessage {
     @JsonProperty("refusal")
     private String refusal;
 
+    /** Serialized form attached by the formatter's message cache; cleared by every setter. */
+    @JsonIgnore private String cachedJson;
+
     public OpenAIMessage() {}
 
+    @Override
+    @JsonIgnore
+    public String getCachedJson() {
+        return cachedJson;
+    }
+
+    @Override
+    @JsonIgnore
+    public void setCachedJson(String cachedJson) {
+        this.cachedJson = cachedJson;
+    }
+
     public String getRole() {
         return role;
     }
 
     public void setRole(String role) {
         this.role = role;
+        this.cachedJson = null;
     }
 
     public Object getContent() {
@@ -109,6 +126,7 @@ public class OpenAIMessage {
 
     public void setContent(Object content) {
         this.content = content;
+        this.cachedJson = null;
     }
 
     public String getName() {
@@ -117,6 +135,7 @@ public class OpenAIMessage {
 
     public void setName(String name) {
         this.name = name;
+        this.cachedJson = null;
     }
 
     public String getToolCallId() {
@@ -125,6 +144,7 @@ public class OpenAIMessage {
 
     public void setToolCallId(String toolCallId) {
         this.toolCallId = toolCallId;
+        this.cachedJson = null;
     }
 
     public List<OpenAIToolCall> getToolCalls() {
@@ -133,6 +153,7 @@ public class OpenAIMessage {
 
     public void setToolCalls(List<OpenAIToolCall> toolCalls) {
         this.toolCalls = toolCalls;
+        this.cachedJson = null;
     }
 
     public String getReasoningContent() {
@@ -141,6 +162,7 @@ public class OpenAIMessage {
 
     public void setReasoningContent(String reasoningContent) {
         this.reasoningContent = reasoningContent;
+        this.cachedJson = null;
     }
 
     public List<OpenAIReasoningDetail> getReasoningDetails() {
@@ -149,6 +171,7 @@ public class OpenAIMessage {
 
     public void setReasoningDetails(List<OpenAIReasoningDetail> reasoningDetails) {
         this.reasoningDetails = reasoningDetails;
+        this.cachedJson = null;
     }
 
     public String getRefusal() {
@@ -157,6 +180,7 @@ public class OpenAIMessage {
 
     public void setRefusal(String refusal) {
         this.refusal = refusal;
+        this.cachedJson = null;
     }
 
     /**
@@ -19,6 +19,8 @@ import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.agentscope.core.formatter.CachedJsonFragmentSerializer;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -46,8 +48,9 @@ public class OpenAIRequest {
     @JsonProperty("model")
     private String model;
 
-    /** The list of messages in the conversation. */
+    /** The list of messages in the conversation; cached message JSON is written verbatim. */
     @JsonProperty("messages")
+    @JsonSerialize(contentUsing = CachedJsonFragmentSerializer.class)
     private List<OpenAIMessage> messages;
 
     /** Whether to stream the response. */
@@ -96,6 +99,7 @@ public class OpenAIRequest {
 
     /** List of available tools. */
     @JsonProperty("tools")
+    @JsonSerialize(contentUsing = CachedJsonFragmentSerializer.class)
     private List<OpenAITool> tools;
 
     /**
@@ -135,6 +139,12 @@ public class OpenAIRequest {
     @JsonProperty("parallel_tool_calls")
     private Boolean parallelToolCalls;
 
+    /**
+     * Key grouping requests that share a prompt prefix, to improve prompt cache hit rates.
+     */
+    @JsonProperty("prompt_cache_key")
+    private String promptCacheKey;
+
     /**
      * Service tier for the request.
      * Values: "auto", "default".
@@ -353,6 +363,14 @@ public class OpenAIRequest {
         this.parallelToolCalls = parallelToolCalls;
     }
 
+    public String getPromptCacheKey() {
+        return promptCacheKey;
+    }
+
+    public void setPromptCacheKey(String promptCacheKey) {
+        this.promptCacheKey = promptCacheKey;
+    }
+
     public String getServiceTier() {
         return serviceTier;
     }
@@ -559,6 +577,11 @@ public class OpenAIRequest {
             return this;
         }
 
+        public Builder promptCacheKey(String promptCacheKey) {
+            request.setPromptCacheKey(promptCacheKey);
+            return this;
+        }
+
         public Builder serviceTier(String serviceTier) {
             request.setServiceTier(serviceTier);
             return this;
@@ -15,6 +15,8 @@
  */
 package io.agentscope.core.hook;
 
+import java.util.EnumSet;
+import java.util.Set;
 import reactor.core.publisher.Mono;
 
 /**
@@ -160,4 +162,20 @@ public interface Hook {
     default int priority() {
         return 100;
     }
+
+    /**
+     * The event types this hook handles.
+     *
+     * <p>Agents only call {@link #onEvent(HookEvent)} with events of these types, and skip
+     * building streaming events nobody handles. Hooks that only care about a few event types,
+     * especially not the per-chunk {@link HookEventType#REASONING_CHUNK}, {@link
+     * HookEventType#ACTING_CHUNK} and {@link HookEventType#SUMMARY_CHUNK}, should declare them.
+     *
+     * <p>The result is read when the hook is registered and must not change afterwards.
+     *
+     * @return The handled event types (default: all)
+     */
+    default Set<HookEventType> eventTypes() {
+        return EnumSet.allOf(HookEventType.class);
+    }
 }
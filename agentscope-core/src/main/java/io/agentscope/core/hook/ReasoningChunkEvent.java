@@ -19,6 +19,7 @@ import io.agentscope.core.agent.Agent;
 import io.agentscope.core.message.Msg;
 import io.agentscope.core.model.GenerateOptions;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * Event fired during reasoning streaming.
@@ -44,6 +45,10 @@ import java.util.Objects;
  *   <li>Log streaming content</li>
  * </ul>
  *
+ * <p>The accumulated message is built on the first call to {@link #getAccumulated()}, so
+ * hooks that only read the incremental chunk do not pay for copying everything generated so
+ * far on every chunk.
+ *
  * <p><b>Example:</b>
  * <pre>{@code
  * case ReasoningChunkEvent e -> {
@@ -60,7 +65,8 @@ import java.util.Objects;
 public final class ReasoningChunkEvent extends ReasoningEvent {
 
     private final Msg incrementalChunk;
-    private final Msg accumulated;
+    private final Supplier<Msg> accumulatedSupplier;
+    private volatile Msg accumulated;
 
     /**
      * Constructor for ReasoningChunkEvent.
@@ -80,10 +86,55 @@ public final class ReasoningChunkEvent extends ReasoningEvent {
             GenerateOptions generateOptions,
             Msg incrementalChunk,
             Msg accumulated) {
+        this(
+                agent,
+                modelName,
+                generateOptions,
+                incrementalChunk,
+                Objects.requireNonNull(accumulated, "accumulated cannot be null"),
+                null);
+    }
+
+    private ReasoningChunkEvent(
+            Agent agent,
+            String modelName,
+            GenerateOptions generateOptions,
+            Msg incrementalChunk,
+            Msg accumulated,
+            Supplier<Msg> accumulatedSupplier) {
         super(HookEventType.REASONING_CHUNK, agent, modelName, generateOptions);
         this.incrementalChunk =
                 Objects.requireNonNull(incrementalChunk, "incrementalChunk cannot be null");
-        this.accumulated = Objects.requireNonNull(accumulated, "accumulated cannot be null");
+        this.accumulated = accumulated;
+        this.accumulatedSupplier = accumulatedSupplier;
+    }
+
+    /**
+     * Create a ReasoningChunkEvent whose accumulated message is built on first use.
+     *
+     * @param agent The agent instance (must not be null)
+     * @param modelName The model name (must not be null)
+     * @param generateOptions The generation options (may be null)
+     * @param incrementalChunk Only the new content generated in this streaming event (must not be
+     *     null)
+     * @param accumulated Supplier of the full accumulated message, called at most once, on the
+     *     first call to {@link #getAccumulated()} (must not be null, nor return null)
+     * @return The event
+     * @throws NullPointerException if agent, modelName, incrementalChunk, or accumulated is null
+     */
+    public static ReasoningChunkEvent lazy(
+            Agent agent,
+            String modelName,
+            GenerateOptions generateOptions,
+            Msg incrementalChunk,
+            Supplier<Msg> accumulated) {
+        return new ReasoningChunkEvent(
+                agent,
+                modelName,
+                generateOptions,
+                incrementalChunk,
+                null,
+                Objects.requireNonNull(accumulated, "accumulated cannot be null"));
     }
 
     /**
@@ -101,6 +152,18 @@ public final class ReasoningChunkEvent extends ReasoningEvent {
      * @return The accumulated message
      */
     public Msg getAccumulated() {
-        return accumulated;
+        Msg result = accumulated;
+        if (result == null) {
+            synchronized (this) {
+                result = accumulated;
+                if (result == null) {
+                    result =
+                            Objects.requireNonNull(
+                                    accumulatedSupplier.get(), "accumulated cannot be null");
+                    accumulated = result;
+                }
+            }
+        }
+        return result;
     }
 }
@@ -17,10 +17,12 @@ package io.agentscope.core.model;
 
 import com.anthropic.client.AnthropicClient;
 import com.anthropic.client.okhttp.AnthropicOkHttpClient;
+import com.anthropic.core.ObjectMappers;
 import com.anthropic.core.http.StreamResponse;
 import com.anthropic.models.messages.MessageCreateParams;
 import com.anthropic.models.messages.MessageParam;
 import com.anthropic.models.messages.RawMessageStreamEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import io.agentscope.core.formatter.anthropic.AnthropicBaseFormatter;
 import io.agentscope.core.formatter.anthropic.AnthropicChatFormatter;
 import io.agentscope.core.formatter.anthropic.AnthropicResponseParser;
@@ -131,83 +133,112 @@ public class AnthropicChatModel extends ChatModelBase {
                 messages != null ? messages.size() : 0,
                 tools != null && !tools.isEmpty());
 
-        Flux<ChatResponse> responseFlux =
-                Flux.defer(
-                        () -> {
-                            try {
-                                // Build message create params
-                                MessageCreateParams.Builder paramsBuilder =
-                                        MessageCreateParams.builder()
-                                                .model(modelName)
-                                                .maxTokens(4096);
+        return Flux.defer(
+                () -> {
+                    try {
+                        // Build message create params
+                        MessageCreateParams.Builder paramsBuilder =
+                                MessageCreateParams.builder().model(modelName).maxTokens(4096);
+
+                        // Extract and apply system message
+                        // (Anthropic-specific requirement)
+                        formatter.applySystemMessage(paramsBuilder, messages);
 
-                                // Extract and apply system message
-                                // (Anthropic-specific requirement)
-                                formatter.applySystemMessage(paramsBuilder, messages);
+                        // Use formatter to convert Msg to Anthropic
+                        // MessageParam
+                        List<MessageParam> formattedMessages = formatter.format(messages);
+                        for (MessageParam param : formattedMessages) {
+                            paramsBuilder.addMessage(param);
+                        }
 
-                                // Use formatter to convert Msg to Anthropic
-                                // MessageParam
-                                List<MessageParam> formattedMessages = formatter.format(messages);
-                                for (MessageParam param : formattedMessages) {
-                                    paramsBuilder.addMessage(param);
-                                }
+                        // Apply generation options via formatter
+                        formatter.applyOptions(paramsBuilder, options, defaultOptions);
 
-                                // Apply generation options via formatter
-                                formatter.applyOptions(paramsBuilder, options, defaultOptions);
+                        // Add tools if provided
+                        if (tools != null && !tools.isEmpty()) {
+                            formatter.applyTools(paramsBuilder, tools);
+                        }
 
-                                // Add tools if provided
-                                if (tools != null && !tools.isEmpty()) {
-                                    formatter.applyTools(paramsBuilder, tools);
-                                }
+                        // Create the request
+                        MessageCreateParams params =
+                                formatter.applyPromptCaching(
+                                        paramsBuilder.build(), options, defaultOptions);
 
-                                // Create the request
-                                MessageCreateParams params = paramsBuilder.build();
+                        Flux<ChatResponse> call =
+                                streamEnabled
+                                        ? Flux.defer(() -> streamMessages(params, startTime))
+                                        : Mono.fromFuture(
+                                                        () ->
+                                                                client.async()
+                                                                        .messages()
+                                                                        .create(params))
+                                                .map(
+                                                        message ->
+                                                                formatter.parseResponse(
+                                                                        message, startTime))
+                                                .flux();
 
-                                if (streamEnabled) {
-                                    // Make streaming API call
-                                    StreamResponse<RawMessageStreamEvent> streamResponse =
-                                            client.messages().createStreaming(params);
+                        // Apply timeout and retry if configured; the cache wraps them, so that a
+                        // hit is answered without a permit of the limiter
+                        call =
+                                ModelUtils.applyTimeoutAndRetry(
+                                        call, options, defaultOptions, modelName, "anthropic");
+                        return ModelUtils.applyResponseCache(
+                                call,
+                                () -> requestJson(params),
+                                options,
+                                defaultOptions,
+                                modelName);
+                    } catch (Exception e) {
+                        return Flux.error(
+                                new ModelException(
+                                        "Failed to stream Anthropic API: " + e.getMessage(),
+                                        e,
+                                        modelName,
+                                        "anthropic"));
+                    }
+                });
+    }
 
-                                    // Convert the SDK's Stream to Flux
-                                    return AnthropicResponseParser.parseStreamEvents(
-                                                    Flux.fromStream(streamResponse.stream())
-                                                            .subscribeOn(
-                                                                    Schedulers.boundedElastic()),
-                                                    startTime)
-                                            .doFinally(
-                                                    signalType -> {
-                                                        try {
-                                                            streamResponse.close();
-                                                        } catch (Exception e) {
-                                                            log.debug(
-                                                                    "Error closing stream"
-                                                                            + " response",
-                                                                    e);
-                                                        }
-                                                    });
-                                } else {
-                                    // For non-streaming, make a single call
-                                    // via CompletableFuture
-                                    return Mono.fromFuture(client.async().messages().create(params))
-                                            .map(
-                                                    message ->
-                                                            formatter.parseResponse(
-                                                                    message, startTime))
-                                            .flux();
-                                }
+    /**
+     * Serializes a request with the SDK's JSON mapper, which is how it is sent, for use as a
+     * response cache key. The SDK's field types do not serialize faithfully with a plain mapper.
+     */
+    private static String requestJson(MessageCreateParams params) {
+        try {
+            return ObjectMappers.jsonMapper().writeValueAsString(params._body());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize request to a cache key", e);
+        }
+    }
+
+    /**
+     * Makes a streaming API call and converts the SDK's stream to a Flux.
+     */
+    private Flux<ChatResponse> streamMessages(MessageCreateParams params, Instant startTime) {
+        StreamResponse<RawMessageStreamEvent> streamResponse;
+        try {
+            streamResponse = client.messages().createStreaming(params);
+        } catch (Exception e) {
+            return Flux.error(
+                    new ModelException(
+                            "Failed to stream Anthropic API: " + e.getMessage(),
+                            e,
+                            modelName,
+                            "anthropic"));
+        }
+        return AnthropicResponseParser.parseStreamEvents(
+                        Flux.fromStream(streamResponse.stream())
+                                .subscribeOn(Schedulers.boundedElastic()),
+                        startTime)
+                .doFinally(
+                        signalType -> {
+                            try {
+                                streamResponse.close();
                             } catch (Exception e) {
-                                return Flux.error(
-                                        new ModelException(
-                                                "Failed to stream Anthropic API: " + e.getMessage(),
-                                                e,
-                                                modelName,
-                                                "anthropic"));
+                                log.debug("Error closing stream response", e);
                             }
                         });
-
-        // Apply timeout and retry if configured
-        return ModelUtils.applyTimeoutAndRetry(
-                responseFlux, options, defaultOptions, modelName, "anthropic");
     }
 
     /**
@@ -16,6 +16,7 @@
 package io.agentscope.core.model;
 
 import io.agentscope.core.formatter.Formatter;
+import io.agentscope.core.formatter.dashscope.DashScopeCacheHelper;
 import io.agentscope.core.formatter.dashscope.DashScopeChatFormatter;
 import io.agentscope.core.formatter.dashscope.DashScopeMultiAgentFormatter;
 import io.agentscope.core.formatter.dashscope.dto.DashScopeMessage;
@@ -154,11 +155,7 @@ public class DashScopeChatModel extends ChatModelBase {
             log.debug("DashScope API call: model={}, multimodal={}", modelName, useMultimodal);
         }
 
-        Flux<ChatResponse> responseFlux = streamWithHttpClient(messages, tools, options);
-
-        // Apply timeout and retry if configured
-        return ModelUtils.applyTimeoutAndRetry(
-                responseFlux, options, defaultOptions, modelName, "dashscope");
+        return streamWithHttpClient(messages, tools, options);
     }
 
     /**
@@ -218,38 +215,58 @@ public class DashScopeChatModel extends ChatModelBase {
         // Apply thinking mode if enabled
         applyThinkingMode(request, effectiveOptions);
 
+        if (Boolean.TRUE.equals(effectiveOptions.getPromptCaching())) {
+            DashScopeCacheHelper.applyCacheControl(request);
+        }
+
+        Flux<ChatResponse> responseFlux;
         if (stream) {
             // Streaming mode
-            return httpClient.stream(
-                            request,
-                            effectiveOptions.getAdditionalHeaders(),
-                            effectiveOptions.getAdditionalBodyParams(),
-                            effectiveOptions.getAdditionalQueryParams())
-                    .map(response -> formatter.parseResponse(response, start));
+            responseFlux =
+                    httpClient.stream(
+                                    request,
+                                    effectiveOptions.getAdditionalHeaders(),
+                                    effectiveOptions.getAdditionalBodyParams(),
+                                    effectiveOptions.getAdditionalQueryParams())
+                            .map(response -> formatter.parseResponse(response, start));
         } else {
             // Non-streaming mode
-            return Flux.defer(
-                            () -> {
-                                try {
-                                    DashScopeResponse response =
-                                            httpClient.call(
-                                                    request,
-                                                    effectiveOptions.getAdditionalHeaders(),
-                                                    effectiveOptions.getAdditionalBodyParams(),
-                                                    effectiveOptions.getAdditionalQueryParams());
-                                    ChatResponse chatResponse =
-                                            formatter.parseResponse(response, start);
-                                    return Flux.just(chatResponse);
-                                } catch (Exception e) {
-                                    log.error("DashScope HTTP client error: {}", e.getMessage(), e);
-                                    return Flux.error(
-                                            new ModelException(
-                                                    "DashScope API call failed: " + e.getMessage(),
-                                                    e));
-                                }
-                            })
-                    .subscribeOn(Schedulers.boundedElastic());
+            responseFlux =
+                    Flux.defer(
+                                    () -> {
+                                        try {
+                                            DashScopeResponse response =
+                                                    httpClient.call(
+                                                            request,
+                                                            effectiveOptions.getAdditionalHeaders(),
+                                                            effectiveOptions
+                                                                    .getAdditionalBodyParams(),
+                                                            effectiveOptions
+                                                                    .getAdditionalQueryParams());
+                                            ChatResponse chatResponse =
+                                                    formatter.parseResponse(response, start);
+                                            return Flux.just(chatResponse);
+                                        } catch (Exception e) {
+                                            log.error(
+                                                    "DashScope HTTP client error: {}",
+                                                    e.getMessage(),
+                                                    e);
+                                            return Flux.error(
+                                                    new ModelException(
+                                                            "DashScope API call failed: "
+                                                                    + e.getMessage(),
+                                                            e));
+                                        }
+                                    })
+                            .subscribeOn(Schedulers.boundedElastic());
         }
+        // Apply timeout and retry if configured; the cache wraps them, so that a hit is
+        // answered without a permit of the limiter
+        responseFlux =
+                ModelUtils.applyTimeoutAndRetry(
+                        responseFlux, options, defaultOptions, modelName, "dashscope");
+        return ModelUtils.applyResponseCache(
+                responseFlux, () -> request, effectiveOptions, null, modelName);
     }
 
     /**
@@ -15,12 +15,17 @@
  */
 package io.agentscope.core.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.agentscope.core.Version;
-import io.agentscope.core.formatter.dashscope.dto.DashScopeParameters;
+import io.agentscope.core.formatter.dashscope.dto.DashScopeInput;
+import io.agentscope.core.formatter.dashscope.dto.DashScopeOutput;
 import io.agentscope.core.formatter.dashscope.dto.DashScopePublicKeyResponse;
 import io.agentscope.core.formatter.dashscope.dto.DashScopeRequest;
 import io.agentscope.core.formatter.dashscope.dto.DashScopeResponse;
+import io.agentscope.core.formatter.dashscope.dto.DashScopeUsage;
 import io.agentscope.core.model.transport.HttpRequest;
 import io.agentscope.core.model.transport.HttpResponse;
 import io.agentscope.core.model.transport.HttpTransport;
@@ -31,6 +36,7 @@ import io.agentscope.core.util.JsonUtils;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.StringJoiner;
 import org.slf4j.Logger;
@@ -169,15 +175,15 @@ public class DashScopeHttpClient {
         String url = buildUrl(endpoint, additionalQueryParams);
 
         try {
-            EncryptionContext encryptionContext = null;
-            String requestBody = buildRequestBody(request, additionalBodyParams);
-            if (isEncryptionEnabled()) {
-                EncryptionResult encryptionResult = encryptRequestBodyIfNeeded(requestBody);
-                requestBody = encryptionResult.requestBody;
-                encryptionContext = encryptionResult.context;
+            PreparedRequest prepared = buildRequestBody(request, additionalBodyParams);
+            byte[] requestBody = prepared.body();
+            final EncryptionContext finalEncryptionContext = prepared.context();
+            if (log.isDebugEnabled()) {
+                log.debug(
+                        "DashScope request to {}: {}",
+                        url,
+                        new String(requestBody, StandardCharsets.UTF_8));
             }
-            final EncryptionContext finalEncryptionContext = encryptionContext;
-            log.debug("DashScope request to {}: {}", url, requestBody);
 
             HttpRequest httpRequest =
                     HttpRequest.builder()
@@ -199,13 +205,7 @@ public class DashScopeHttpClient {
             String responseBody = httpResponse.getBody();
             log.debug("DashScope response: {}", responseBody);
 
-            // Decrypt response if encryption is enabled
-            if (finalEncryptionContext != null) {
-                responseBody = decryptResponse(responseBody, finalEncryptionContext);
-            }
-
-            DashScopeResponse response =
-                    JsonUtils.getJsonCodec().fromJson(responseBody, DashScopeResponse.class);
+            DashScopeResponse response = parseResponse(responseBody, finalEncryptionContext);
 
             if (response.isError()) {
                 throw new DashScopeHttpException(
@@ -245,15 +245,15 @@ public class DashScopeHttpClient {
                 request.getParameters().setIncrementalOutput(true);
             }
 
-            EncryptionContext encryptionContext = null;
-            String requestBody = buildRequestBody(request, additionalBodyParams);
-            if (isEncryptionEnabled()) {
-                EncryptionResult encryptionResult = encryptRequestBodyIfNeeded(requestBody);
-                requestBody = encryptionResult.requestBody;
-                encryptionContext = encryptionResult.context;
+            PreparedRequest prepared = buildRequestBody(request, additionalBodyParams);
+            byte[] requestBody = prepared.body();
+            final EncryptionContext finalEncryptionContext = prepared.context();
+            if (log.isDebugEnabled()) {
+                log.debug(
+                        "DashScope streaming request to {}: {}",
+                        url,
+                        new String(requestBody, StandardCharsets.UTF_8));
             }
-            final EncryptionContext finalEncryptionContext = encryptionContext;
-            log.debug("DashScope streaming request to {}: {}", url, requestBody);
 
             HttpRequest httpRequest =
                     HttpRequest.builder()
@@ -267,12 +267,7 @@ public class DashScopeHttpClient {
                     .map(
                             data -> {
                                 try {
-                                    // Decrypt response if encryption is enabled
-                                    if (finalEncryptionContext != null) {
-                                        data = decryptResponse(data, finalEncryptionContext);
-                                    }
-                                    return JsonUtils.getJsonCodec()
-                                            .fromJson(data, DashScopeResponse.class);
+                                    return parseResponse(data, finalEncryptionContext);
                                 } catch (JsonException e) {
                                     log.warn(
                                             "Failed to parse SSE data: {}. Error: {}",
@@ -462,75 +457,90 @@ public class DashScopeHttpClient {
     }
 
     /**
-     * Build request body with additional parameters merged.
+     * Build the request body, merging additional parameters and encrypting the input if enabled.
+     *
+     * <p>The body is serialized in a single pass: the input is serialized once (and encrypted as
+     * is), parameters are converted to a map only when additional parameters must be merged into
+     * them, and the assembled body is serialized once.
      *
      * @param request the DashScope request
      * @param additionalBodyParams additional parameters to merge (may be null)
-     * @return the serialized request body
+     * @return the serialized request body and its encryption context (null if not encrypted)
      */
-    private String buildRequestBody(
+    private PreparedRequest buildRequestBody(
             DashScopeRequest request, Map<String, Object> additionalBodyParams) {
-        String requestBody = JsonUtils.getJsonCodec().toJson(request);
-
-        if (additionalBodyParams == null || additionalBodyParams.isEmpty()) {
-            return requestBody;
-        }
-
-        // Deserialize to Map, merge additional params, re-serialize
-        // The additional params should be added to dashscope parameters
-        DashScopeParameters parameters = request.getParameters();
-        String parametersJson = JsonUtils.getJsonCodec().toJson(parameters);
-        Map<String, Object> parametersMap =
-                JsonUtils.getJsonCodec().fromJson(parametersJson, new TypeReference<>() {});
-        parametersMap.putAll(additionalBodyParams);
-
-        // Set the merged parameters to dashscope request body map
-        Map<String, Object> bodyMap =
-                JsonUtils.getJsonCodec().fromJson(requestBody, new TypeReference<>() {});
-        bodyMap.put("parameters", parametersMap);
-        requestBody = JsonUtils.getJsonCodec().toJson(bodyMap);
-        return requestBody;
+        boolean mergeParams = additionalBodyParams != null && !additionalBodyParams.isEmpty();
+        boolean encrypt = isEncryptionEnabled() && request.getInput() != null;
+        if (!mergeParams && !encrypt) {
+            return new PreparedRequest(JsonUtils.getJsonCodec().toJsonBytes(request), null);
+        }
+
+        // Same fields and order as DashScopeRequest, with input and parameters substituted
+        Map<String, Object> body = new LinkedHashMap<>();
+        if (request.getModel() != null) {
+            body.put("model", request.getModel());
+        }
+
+        EncryptionContext context = null;
+        if (encrypt) {
+            context = newEncryptionContext();
+            body.put("input", encryptInput(request.getInput(), context));
+        } else if (request.getInput() != null) {
+            body.put("input", request.getInput());
+        }
+
+        Object parameters = request.getParameters();
+        if (mergeParams) {
+            // The additional params should be added to dashscope parameters
+            Map<String, Object> parametersMap = new LinkedHashMap<>();
+            if (parameters != null) {
+                parametersMap.putAll(
+                        JsonUtils.getJsonCodec()
+                                .convertValue(
+                                        parameters, new TypeReference<Map<String, Object>>() {}));
+            }
+            parametersMap.putAll(additionalBodyParams);
+            parameters = parametersMap;
+        }
+        if (parameters != null) {
+            body.put("parameters", parameters);
+        }
+
+        return new PreparedRequest(JsonUtils.getJsonCodec().toJsonBytes(body), context);
     }
 
     /**
-     * Encrypt the input field in the request body if present.
+     * Create the encryption context for a request: a fresh AES key and IV, and the AES key
+     * encrypted with the RSA public key.
      *
-     * @param requestBody the original request body JSON string
-     * @return encryption result with possibly-updated body and context (null context if no input)
+     * @return the encryption context
      */
-    private EncryptionResult encryptRequestBodyIfNeeded(String requestBody) {
+    private EncryptionContext newEncryptionContext() {
         try {
-            // Parse request body to get input field
-            Map<String, Object> bodyMap =
-                    JsonUtils.getJsonCodec()
-                            .fromJson(requestBody, new TypeReference<Map<String, Object>>() {});
-
-            Object inputObj = bodyMap.get("input");
-            if (inputObj == null) {
-                return new EncryptionResult(requestBody, null); // No input to encrypt
-            }
-
-            // Serialize input to JSON string
-            String inputJson = JsonUtils.getJsonCodec().toJson(inputObj);
-
-            // Generate AES key and IV for this request
             javax.crypto.SecretKey aesSecretKey = DashScopeEncryptionUtils.generateAesSecretKey();
             byte[] iv = DashScopeEncryptionUtils.generateIv();
-
-            // Encrypt input
-            String encryptedInput =
-                    DashScopeEncryptionUtils.encryptWithAes(aesSecretKey, iv, inputJson);
-
-            // Encrypt AES key with RSA public key
             String encryptedAesKey =
                     DashScopeEncryptionUtils.encryptAesKeyWithRsa(aesSecretKey, publicKey);
+            return new EncryptionContext(aesSecretKey, iv, encryptedAesKey);
+        } catch (Exception e) {
+            log.error("Failed to encrypt request body", e);
+            throw new DashScopeHttpException(
+                    "Failed to encrypt request body: " + e.getMessage(), e);
+        }
+    }
 
-            EncryptionContext context = new EncryptionContext(aesSecretKey, iv, encryptedAesKey);
-
-            // Replace input with encrypted value
-            bodyMap.put("input", encryptedInput);
-
-            return new EncryptionResult(JsonUtils.getJsonCodec().toJson(bodyMap), context);
+    /**
+     * Serialize and encrypt the input field of a request.
+     *
+     * @param input the request input
+     * @param context the encryption context of the request
+     * @return the encrypted input (Base64)
+     */
+    private String encryptInput(DashScopeInput input, EncryptionContext context) {
+        String inputJson = JsonUtils.getJsonCodec().toJson(input);
+        try {
+            return DashScopeEncryptionUtils.encryptWithAes(
+                    context.secretKey, context.iv, inputJson);
         } catch (Exception e) {
             log.error("Failed to encrypt request body", e);
             throw new DashScopeHttpException(
@@ -562,41 +572,67 @@ public class DashScopeHttpClient {
     }
 
     /**
-     * Decrypt the output field in the response body.
+     * Parse a response body, decrypting its output field if the request was encrypted.
      *
-     * @param responseBody the encrypted response body JSON string
-     * @return the decrypted response body JSON string
+     * <p>The body is parsed once; an encrypted output is decrypted and parsed directly into
+     * {@link DashScopeOutput}. If decryption fails the output is left null.
+     *
+     * @param responseBody the response body JSON string
+     * @param context the encryption context of the request (null if not encrypted)
+     * @return the parsed response
+     * @throws JsonException if the body is not valid JSON
      */
-    private String decryptResponse(String responseBody, EncryptionContext context) {
-        try {
-            // Parse response to get encrypted output
-            Map<String, Object> responseMap =
-                    JsonUtils.getJsonCodec()
-                            .fromJson(responseBody, new TypeReference<Map<String, Object>>() {});
+    private DashScopeResponse parseResponse(String responseBody, EncryptionContext context) {
+        if (context == null) {
+            return JsonUtils.getJsonCodec().fromJson(responseBody, DashScopeResponse.class);
+        }
 
-            Object outputObj = responseMap.get("output");
-            if (outputObj == null || !(outputObj instanceof String)) {
-                return responseBody; // No encrypted output to decrypt
+        EncryptedResponse encrypted =
+                JsonUtils.getJsonCodec().fromJson(responseBody, EncryptedResponse.class);
+        DashScopeResponse response = new DashScopeResponse();
+        response.setRequestId(encrypted.requestId);
+        response.setUsage(encrypted.usage);
+        response.setCode(encrypted.code);
+        response.setMessage(encrypted.message);
+
+        JsonNode output = encrypted.output;
+        if (output != null && output.isTextual()) {
+            try {
+                String decryptedOutput =
+                        DashScopeEncryptionUtils.decryptWithAes(
+                                context.secretKey, context.iv, output.textValue());
+                response.setOutput(
+                        JsonUtils.getJsonCodec().fromJson(decryptedOutput, DashScopeOutput.class));
+            } catch (Exception e) {
+                log.error("Failed to decrypt response body", e);
             }
+        } else if (output != null && output.isObject()) {
+            // Not encrypted by the server
+            response.setOutput(
+                    JsonUtils.getJsonCodec().convertValue(output, DashScopeOutput.class));
+        }
+        return response;
+    }
 
-            String encryptedOutput = (String) outputObj;
+    /**
+     * Response whose output may still be encrypted.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class EncryptedResponse {
+        @JsonProperty("request_id")
+        String requestId;
 
-            // Decrypt output
-            String decryptedOutput =
-                    DashScopeEncryptionUtils.decryptWithAes(
-                            context.secretKey, context.iv, encryptedOutput);
+        @JsonProperty("output")
+        JsonNode output;
 
-            // Replace output with decrypted value (parse as JSON object)
-            Object decryptedOutputObj =
-                    JsonUtils.getJsonCodec().fromJson(decryptedOutput, Object.class);
-            responseMap.put("output", decryptedOutputObj);
+        @JsonProperty("usage")
+        DashScopeUsage usage;
 
-            return JsonUtils.getJsonCodec().toJson(responseMap);
-        } catch (Exception e) {
-            log.error("Failed to decrypt response body", e);
-            // Return original response if decryption fails
-            return responseBody;
-        }
+        @JsonProperty("code")
+        String code;
+
+        @JsonProperty("message")
+        String message;
     }
 
     /**
@@ -614,15 +650,13 @@ public class DashScopeHttpClient {
         }
     }
 
-    private static class EncryptionResult {
-        final String requestBody;
-        final EncryptionContext context;
-
-        EncryptionResult(String requestBody, EncryptionContext context) {
-            this.requestBody = requestBody;
-            this.context = context;
-        }
-    }
+    /**
+     * A serialized request body and the encryption context used for it.
+     *
+     * @param body the request body JSON string
+     * @param context the encryption context (null if the body is not encrypted)
+     */
+    private record PreparedRequest(byte[] body, EncryptionContext context) {}
 
     /**
      * Get the base URL.
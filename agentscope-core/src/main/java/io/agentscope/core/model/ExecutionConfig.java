@@ -16,6 +16,7 @@
 
 package io.agentscope.core.model;
 
+import io.agentscope.core.model.concurrency.ConcurrencyLimiter;
 import io.agentscope.core.model.exception.BadRequestException;
 import io.agentscope.core.model.exception.RateLimitException;
 import io.agentscope.core.model.transport.HttpTransportException;
@@ -33,6 +34,9 @@ import java.util.function.Predicate;
  *
  * <p>Use the builder pattern to construct instances. All fields are optional and nullable.
  *
+ * <p>Model calls can additionally be limited with a shared {@link ConcurrencyLimiter}, served by
+ * priority when the limit is reached, and hedged; these settings do not apply to tool executions.
+ *
  * <h2>Standard Defaults</h2>
  *
  * <ul>
@@ -72,6 +76,15 @@ public class ExecutionConfig {
     /** Predicate to determine if an error should trigger a retry. */
     private final Predicate<Throwable> retryOn;
 
+    /** Limiter shared by the model calls using this config. */
+    private final ConcurrencyLimiter limiter;
+
+    /** Priority of the model calls when waiting for the limiter. */
+    private final Integer priority;
+
+    /** Delay after which a second, hedged request is sent if no response has arrived. */
+    private final Duration hedgeDelay;
+
     /**
      * Predicate that determines if an error should be retried.
      *
@@ -176,6 +189,9 @@ public class ExecutionConfig {
         this.maxBackoff = builder.maxBackoff;
         this.backoffMultiplier = builder.backoffMultiplier;
         this.retryOn = builder.retryOn;
+        this.limiter = builder.limiter;
+        this.priority = builder.priority;
+        this.hedgeDelay = builder.hedgeDelay;
     }
 
     /**
@@ -232,6 +248,33 @@ public class ExecutionConfig {
         return retryOn;
     }
 
+    /**
+     * Gets the concurrency limiter.
+     *
+     * @return the limiter, or null if model calls are not limited
+     */
+    public ConcurrencyLimiter getLimiter() {
+        return limiter;
+    }
+
+    /**
+     * Gets the priority of model calls when waiting for the limiter.
+     *
+     * @return the priority, or null if not set
+     */
+    public Integer getPriority() {
+        return priority;
+    }
+
+    /**
+     * Gets the delay after which a hedged request is sent.
+     *
+     * @return the hedge delay, or null if requests are not hedged
+     */
+    public Duration getHedgeDelay() {
+        return hedgeDelay;
+    }
+
     /**
      * Creates a new builder for ExecutionConfig.
      *
@@ -292,6 +335,9 @@ public class ExecutionConfig {
                         ? primary.backoffMultiplier
                         : fallback.backoffMultiplier);
         builder.retryOn(primary.retryOn != null ? primary.retryOn : fallback.retryOn);
+        builder.limiter(primary.limiter != null ? primary.limiter : fallback.limiter);
+        builder.priority(primary.priority != null ? primary.priority : fallback.priority);
+        builder.hedgeDelay(primary.hedgeDelay != null ? primary.hedgeDelay : fallback.hedgeDelay);
 
         return builder.build();
     }
@@ -304,6 +350,9 @@ public class ExecutionConfig {
         private Duration maxBackoff;
         private Double backoffMultiplier;
         private Predicate<Throwable> retryOn;
+        private ConcurrencyLimiter limiter;
+        private Integer priority;
+        private Duration hedgeDelay;
 
         /**
          * Sets the timeout duration for a single execution.
@@ -382,6 +431,52 @@ public class ExecutionConfig {
             return this;
         }
 
+        /**
+         * Sets the limiter of concurrent model calls.
+         *
+         * <p>Every attempt of a model call, including retries and hedged requests, acquires a
+         * permit from the limiter before it is sent. Share one limiter per model (or per provider
+         * account) by setting it in the model's default options.
+         *
+         * @param limiter the concurrency limiter, or null for no limit
+         * @return this builder instance
+         */
+        public Builder limiter(ConcurrencyLimiter limiter) {
+            this.limiter = limiter;
+            return this;
+        }
+
+        /**
+         * Sets the priority of model calls when waiting for the limiter. Higher values are served
+         * first; the default is 0.
+         *
+         * @param priority the priority, or null
+         * @return this builder instance
+         */
+        public Builder priority(Integer priority) {
+            this.priority = priority;
+            return this;
+        }
+
+        /**
+         * Sets the delay after which a second, hedged request is sent if the first one has not
+         * produced a response yet. The first response wins and the other request is cancelled.
+         *
+         * <p>Hedging trades extra load for lower tail latency. It is intended for non-streaming
+         * calls, where the response arrives as a whole; for streaming calls it races the time to
+         * the first chunk.
+         *
+         * @param hedgeDelay the hedge delay (must be positive), or null to disable hedging
+         * @return this builder instance
+         */
+        public Builder hedgeDelay(Duration hedgeDelay) {
+            if (hedgeDelay != null && (hedgeDelay.isNegative() || hedgeDelay.isZero())) {
+                throw new IllegalArgumentException("hedgeDelay must be positive");
+            }
+            this.hedgeDelay = hedgeDelay;
+            return this;
+        }
+
         /**
          * Builds a new ExecutionConfig instance.
          *
@@ -47,6 +47,8 @@ public class GenerateOptions {
     private final ToolChoice toolChoice;
     private final Integer topK;
     private final Long seed;
+    private final Boolean promptCaching;
+    private final ResponseCache responseCache;
     private final Map<String, String> additionalHeaders;
     private final Map<String, Object> additionalBodyParams;
     private final Map<String, String> additionalQueryParams;
@@ -73,6 +75,8 @@ public class GenerateOptions {
         this.toolChoice = builder.toolChoice;
         this.topK = builder.topK;
         this.seed = builder.seed;
+        this.promptCaching = builder.promptCaching;
+        this.responseCache = builder.responseCache;
         this.additionalHeaders =
                 builder.additionalHeaders != null
                         ? Collections.unmodifiableMap(new HashMap<>(builder.additionalHeaders))
@@ -282,6 +286,31 @@ public class GenerateOptions {
         return seed;
     }
 
+    /**
+     * Gets whether the stable request prefix is marked for provider-side prompt caching.
+     *
+     * <p>When enabled, formatters annotate the system prompt, tool definitions and conversation
+     * history with the provider's cache hints, where the provider supports them, so that the
+     * prefix resent on every reasoning step is read from the provider's prompt cache.
+     *
+     * @return true to add prompt cache hints, or null if not set (disabled)
+     */
+    public Boolean getPromptCaching() {
+        return promptCaching;
+    }
+
+    /**
+     * Gets the local cache of model responses.
+     *
+     * <p>When set, responses to requests sent with temperature 0 are cached locally, keyed by the
+     * model name and the formatted request, and repeated requests are answered from the cache.
+     *
+     * @return the response cache, or null if responses are not cached
+     */
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
     /**
      * Gets the additional HTTP headers to include in API requests.
      *
@@ -407,6 +436,10 @@ public class GenerateOptions {
         builder.toolChoice(primary.toolChoice != null ? primary.toolChoice : fallback.toolChoice);
         builder.topK(primary.topK != null ? primary.topK : fallback.topK);
         builder.seed(primary.seed != null ? primary.seed : fallback.seed);
+        builder.promptCaching(
+                primary.promptCaching != null ? primary.promptCaching : fallback.promptCaching);
+        builder.responseCache(
+                primary.responseCache != null ? primary.responseCache : fallback.responseCache);
 
         // Merge map fields: fallback first, then override with primary
         mergeMaps(fallback.additionalHeaders, primary.additionalHeaders, builder::additionalHeader);
@@ -458,6 +491,8 @@ public class GenerateOptions {
         private ToolChoice toolChoice;
         private Integer topK;
         private Long seed;
+        private Boolean promptCaching;
+        private ResponseCache responseCache;
         private Map<String, String> additionalHeaders;
         private Map<String, Object> additionalBodyParams;
         private Map<String, String> additionalQueryParams;
@@ -680,6 +715,34 @@ public class GenerateOptions {
             return this;
         }
 
+        /**
+         * Sets whether the stable request prefix is marked for provider-side prompt caching.
+         *
+         * <p>Supported by the Anthropic and DashScope formatters, which add cache breakpoints,
+         * and by the OpenAI formatter, which sends a prompt cache key derived from the prefix.
+         *
+         * @param promptCaching true to add prompt cache hints
+         * @return this builder instance
+         */
+        public Builder promptCaching(Boolean promptCaching) {
+            this.promptCaching = promptCaching;
+            return this;
+        }
+
+        /**
+         * Sets the local cache of model responses.
+         *
+         * <p>Only requests sent with temperature 0 are cached, as other requests are not
+         * expected to get the same response twice.
+         *
+         * @param responseCache the response cache, or null to not cache responses
+         * @return this builder instance
+         */
+        public Builder responseCache(ResponseCache responseCache) {
+            this.responseCache = responseCache;
+            return this;
+        }
+
         /**
          * Adds an additional HTTP header to include in API requests.
          *
@@ -15,10 +15,18 @@
  */
 package io.agentscope.core.model;
 
+import io.agentscope.core.model.concurrency.ConcurrencyLimiter;
+import io.agentscope.core.model.transport.HttpTransportException;
 import java.time.Duration;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
+import reactor.core.Exceptions;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
 /**
@@ -56,6 +64,18 @@ public final class ModelUtils {
      *   <li>Retries respect the maxAttempts, initialBackoff, and maxBackoff settings
      *   <li>Only errors matching the retryOn predicate will be retried
      *   <li>Each retry is logged with attempt number and failure reason
+     *   <li>If the server sent a Retry-After delay, the retry waits for it in addition to the
+     *       backoff; a Retry-After delay longer than maxBackoff ends the retries
+     * </ul>
+     *
+     * <p><b>Concurrency Limit and Hedging:</b>
+     * <ul>
+     *   <li>If a limiter is configured, every attempt waits for a permit before it is sent, with
+     *       the configured priority, and reports its outcome (latency, or whether it failed with
+     *       an overload error) to the limiter. The timeout starts once the permit is acquired
+     *   <li>If a hedge delay is configured, a second attempt is sent when the first one has not
+     *       emitted a response within the delay; the first to emit wins and the other is
+     *       cancelled
      * </ul>
      *
      * @param responseFlux the original response Flux to enhance
@@ -85,13 +105,24 @@ public final class ModelUtils {
                         responseFlux.timeout(
                                 timeout,
                                 Flux.error(
-                                        new ModelException(
+                                        new ModelTimeoutException(
                                                 "Model request timeout after " + timeout,
                                                 modelName,
                                                 provider)));
                 LOG.debug("Applied timeout: {} for model: {}", timeout, modelName);
             }
 
+            ConcurrencyLimiter limiter = execConfig.getLimiter();
+            if (limiter != null) {
+                Integer priority = execConfig.getPriority();
+                responseFlux = limit(responseFlux, limiter, priority != null ? priority : 0);
+            }
+
+            Duration hedgeDelay = execConfig.getHedgeDelay();
+            if (hedgeDelay != null) {
+                responseFlux = hedge(responseFlux, hedgeDelay);
+            }
+
             // Apply retry if configured (maxAttempts > 1 means retry is enabled)
             Integer maxAttempts = execConfig.getMaxAttempts();
             if (maxAttempts != null && maxAttempts > 1) {
@@ -109,6 +140,14 @@ public final class ModelUtils {
                 if (retryOn == null) {
                     retryOn = error -> true; // retry all errors by default
                 }
+                Duration maxRetryAfter = maxBackoff;
+                retryOn =
+                        retryOn.and(
+                                error -> {
+                                    Duration retryAfter = retryAfter(error);
+                                    return retryAfter == null
+                                            || retryAfter.compareTo(maxRetryAfter) <= 0;
+                                });
 
                 Retry retrySpec =
                         Retry.backoff(maxAttempts - 1, initialBackoff)
@@ -123,7 +162,14 @@ public final class ModelUtils {
                                                         signal.totalRetriesInARow() + 1,
                                                         maxAttempts - 1,
                                                         signal.failure().getMessage(),
-                                                        signal.failure()));
+                                                        signal.failure()))
+                                .doBeforeRetryAsync(
+                                        signal -> {
+                                            Duration retryAfter = retryAfter(signal.failure());
+                                            return retryAfter != null
+                                                    ? Mono.delay(retryAfter).then()
+                                                    : Mono.empty();
+                                        });
 
                 responseFlux = responseFlux.retryWhen(retrySpec);
                 LOG.debug(
@@ -137,6 +183,113 @@ public final class ModelUtils {
         return responseFlux;
     }
 
+    /**
+     * Answers a model call from the response cache configured in the options, if any.
+     *
+     * <p>Only calls with an effective temperature of 0 are cached; other calls are returned
+     * unchanged. Pass the call with {@link #applyTimeoutAndRetry} already applied, so that a hit is
+     * answered without waiting for a permit of the limiter and is not subject to the timeout.
+     *
+     * @param responseFlux the call sending the request
+     * @param request supplies the formatted request, used as the cache key with the model name;
+     *     only called when the call is cached
+     * @param options the per-request options
+     * @param defaultOptions the default options of the model
+     * @param modelName the model name
+     * @return the call, answered from the cache where possible
+     */
+    public static Flux<ChatResponse> applyResponseCache(
+            Flux<ChatResponse> responseFlux,
+            Supplier<?> request,
+            GenerateOptions options,
+            GenerateOptions defaultOptions,
+            String modelName) {
+        GenerateOptions effectiveOptions = GenerateOptions.mergeOptions(options, defaultOptions);
+        if (effectiveOptions == null || effectiveOptions.getResponseCache() == null) {
+            return responseFlux;
+        }
+        Double temperature = effectiveOptions.getTemperature();
+        if (temperature == null || temperature != 0.0) {
+            return responseFlux;
+        }
+        // Extra body parameters are merged into the request body by the clients
+        Object cacheKey =
+                effectiveOptions.getAdditionalBodyParams().isEmpty()
+                        ? request.get()
+                        : List.of(request.get(), effectiveOptions.getAdditionalBodyParams());
+        return effectiveOptions.getResponseCache().cached(modelName, cacheKey, responseFlux);
+    }
+
+    /** Runs each subscription to the attempt with a permit of the limiter. */
+    private static Flux<ChatResponse> limit(
+            Flux<ChatResponse> attempt, ConcurrencyLimiter limiter, int priority) {
+        return limiter.acquire(priority)
+                .flatMapMany(
+                        permit -> {
+                            long start = System.nanoTime();
+                            AtomicLong firstResponseLatency = new AtomicLong(-1);
+                            return attempt.doOnNext(
+                                            response ->
+                                                    firstResponseLatency.compareAndSet(
+                                                            -1, System.nanoTime() - start))
+                                    .doOnComplete(
+                                            () -> {
+                                                long latency = firstResponseLatency.get();
+                                                permit.success(
+                                                        latency >= 0
+                                                                ? latency
+                                                                : System.nanoTime() - start);
+                                            })
+                                    .doOnError(
+                                            error -> {
+                                                if (isOverload(error)) {
+                                                    permit.dropped();
+                                                } else {
+                                                    permit.ignored();
+                                                }
+                                            })
+                                    .doOnCancel(permit::ignored);
+                        });
+    }
+
+    /** Races the attempt against a second one started after the delay. */
+    private static Flux<ChatResponse> hedge(Flux<ChatResponse> attempt, Duration delay) {
+        return Flux.firstWithValue(attempt, Mono.delay(delay).thenMany(attempt))
+                .onErrorMap(
+                        NoSuchElementException.class,
+                        error -> {
+                            // Both attempts failed; report the first attempt's error
+                            Throwable cause = error.getCause();
+                            if (cause != null && Exceptions.isMultiple(cause)) {
+                                return Exceptions.unwrapMultiple(cause).get(0);
+                            }
+                            return cause != null ? cause : error;
+                        });
+    }
+
+    /** Checks whether an error shows that the provider is overloaded. */
+    private static boolean isOverload(Throwable error) {
+        return error instanceof ModelTimeoutException
+                || ExecutionConfig.RETRYABLE_ERRORS.test(error);
+    }
+
+    /** Finds the Retry-After delay of the HTTP error that caused an error, if any. */
+    private static Duration retryAfter(Throwable error) {
+        for (Throwable e = error; e != null; e = e.getCause() != e ? e.getCause() : null) {
+            if (e instanceof HttpTransportException hte && hte.getRetryAfter() != null) {
+                return hte.getRetryAfter();
+            }
+        }
+        return null;
+    }
+
+    /** Timeout of a model request attempt. */
+    private static final class ModelTimeoutException extends ModelException {
+        ModelTimeoutException(String message, String modelName, String provider) {
+            super(message, modelName, provider);
+        }
+    }
+
     /**
      * Ensures GenerateOptions has MODEL_DEFAULTS for executionConfig applied.
      *
@@ -27,6 +27,7 @@ import io.agentscope.core.model.transport.HttpTransportFactory;
 import io.agentscope.core.model.transport.TransportConstants;
 import io.agentscope.core.util.JsonException;
 import io.agentscope.core.util.JsonUtils;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -122,10 +123,15 @@ public class OllamaHttpClient {
     public <T> T call(String endpoint, Object request, Class<T> responseType) {
         String url = baseUrl + endpoint;
 
-        final String requestBody;
+        final byte[] requestBody;
         try {
-            requestBody = JsonUtils.getJsonCodec().toJson(request);
-            log.debug("Ollama request to {}: {}", url, requestBody);
+            requestBody = JsonUtils.getJsonCodec().toJsonBytes(request);
+            if (log.isDebugEnabled()) {
+                log.debug(
+                        "Ollama request to {}: {}",
+                        url,
+                        new String(requestBody, StandardCharsets.UTF_8));
+            }
         } catch (JsonException e) {
             // Known Jackson checked exception -> wrap into OllamaHttpException
             throw new OllamaHttpException("Failed to serialize/deserialize request", e);
@@ -184,8 +190,13 @@ public class OllamaHttpClient {
         String url = baseUrl + CHAT_ENDPOINT;
 
         try {
-            String requestBody = JsonUtils.getJsonCodec().toJson(request);
-            log.debug("Ollama streaming request to {}: {}", url, requestBody);
+            byte[] requestBody = JsonUtils.getJsonCodec().toJsonBytes(request);
+            if (log.isDebugEnabled()) {
+                log.debug(
+                        "Ollama streaming request to {}: {}",
+                        url,
+                        new String(requestBody, StandardCharsets.UTF_8));
+            }
 
             Map<String, String> headers = new HashMap<>();
             headers.put("Content-Type", "application/json");
@@ -81,12 +81,7 @@ public class OpenAIChatModel extends ChatModelBase {
     @Override
     protected Flux<ChatResponse> doStream(
             List<Msg> messages, List<ToolSchema> tools, GenerateOptions options) {
-        return ModelUtils.applyTimeoutAndRetry(
-                doStream0(messages, tools, options),
-                options,
-                configuredOptions,
-                configuredOptions.getModelName(),
-                "openai");
+        return doStream0(messages, tools, options);
     }
 
     protected Flux<ChatResponse> doStream0(
@@ -143,32 +138,46 @@ public class OpenAIChatModel extends ChatModelBase {
         }
 
         // Make the API call
+        Flux<ChatResponse> responseFlux;
         if (stream) {
             // Streaming mode
-            return client.stream(apiKey, baseUrl, request, effectiveOptions)
-                    .map(response -> formatter.parseResponse(response, start))
-                    .filter(Objects::nonNull);
+            responseFlux =
+                    client.stream(apiKey, baseUrl, request, effectiveOptions)
+                            .map(response -> formatter.parseResponse(response, start))
+                            .filter(Objects::nonNull);
         } else {
             // Non-streaming mode: make a single call and return as Flux
-            return Flux.defer(
-                            () -> {
-                                try {
-                                    OpenAIResponse response =
-                                            client.call(apiKey, baseUrl, request, effectiveOptions);
-                                    ChatResponse chatResponse =
-                                            formatter.parseResponse(response, start);
-                                    return Flux.just(chatResponse);
-                                } catch (Exception e) {
-                                    return Flux.error(
-                                            new ModelException(
-                                                    "Failed to call OpenAI API: " + e.getMessage(),
-                                                    e,
-                                                    modelName,
-                                                    "openai"));
-                                }
-                            })
-                    .subscribeOn(Schedulers.boundedElastic());
+            responseFlux =
+                    Flux.defer(
+                                    () -> {
+                                        try {
+                                            OpenAIResponse response =
+                                                    client.call(
+                                                            apiKey,
+                                                            baseUrl,
+                                                            request,
+                                                            effectiveOptions);
+                                            ChatResponse chatResponse =
+                                                    formatter.parseResponse(response, start);
+                                            return Flux.just(chatResponse);
+                                        } catch (Exception e) {
+                                            return Flux.error(
+                                                    new ModelException(
+                                                            "Failed to call OpenAI API: "
+                                                                    + e.getMessage(),
+                                                            e,
+                                                            modelName,
+                                                            "openai"));
+                                        }
+                                    })
+                            .subscribeOn(Schedulers.boundedElastic());
         }
+        // The cache wraps the limited and retried call, so that a hit is answered without a permit
+        responseFlux =
+                ModelUtils.applyTimeoutAndRetry(
+                        responseFlux, options, configuredOptions, modelName, "openai");
+        return ModelUtils.applyResponseCache(
+                responseFlux, () -> request, effectiveOptions, null, modelName);
     }
 
     /**
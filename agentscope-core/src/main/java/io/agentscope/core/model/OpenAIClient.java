@@ -278,8 +278,13 @@ public class OpenAIClient {
             // Ensure stream is false for non-streaming call
             request.setStream(false);
 
-            String requestBody = JsonUtils.getJsonCodec().toJson(request);
-            log.debug("OpenAI request to {}: {}", url, requestBody);
+            byte[] requestBody = JsonUtils.getJsonCodec().toJsonBytes(request);
+            if (log.isDebugEnabled()) {
+                log.debug(
+                        "OpenAI request to {}: {}",
+                        url,
+                        new String(requestBody, StandardCharsets.UTF_8));
+            }
 
             HttpRequest httpRequest =
                     HttpRequest.builder()
@@ -395,8 +400,13 @@ public class OpenAIClient {
             // Enable streaming
             request.setStream(true);
 
-            String requestBody = JsonUtils.getJsonCodec().toJson(request);
-            log.debug("OpenAI streaming request to {}: {}", url, requestBody);
+            byte[] requestBody = JsonUtils.getJsonCodec().toJsonBytes(request);
+            if (log.isDebugEnabled()) {
+                log.debug(
+                        "OpenAI streaming request to {}: {}",
+                        url,
+                        new String(requestBody, StandardCharsets.UTF_8));
+            }
 
             HttpRequest httpRequest =
                     HttpRequest.builder()
@@ -439,12 +449,17 @@ public class OpenAIClient {
                     .onErrorMap(
                             ex -> {
                                 if (ex instanceof HttpTransportException) {
-                                    return OpenAIException.create(
-                                            ((HttpTransportException) ex).getStatusCode(),
-                                            "HTTP transport error during streaming: "
-                                                    + ex.getMessage(),
-                                            null,
-                                            ((HttpTransportException) ex).getResponseBody());
+                                    OpenAIException error =
+                                            OpenAIException.create(
+                                                    ((HttpTransportException) ex).getStatusCode(),
+                                                    "HTTP transport error during streaming: "
+                                                            + ex.getMessage(),
+                                                    null,
+                                                    ((HttpTransportException) ex)
+                                                            .getResponseBody());
+                                    // Keep the transport error, e.g. for its Retry-After delay
+                                    error.initCause(ex);
+                                    return error;
                                 }
                                 return ex;
                             });
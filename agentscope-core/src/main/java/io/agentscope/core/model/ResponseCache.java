@@ -0,0 +1,259 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import reactor.core.publisher.Flux;
+
+/**
+ * Local cache of model responses, for requests that are expected to get the same response every
+ * time they are sent.
+ *
+ * <p>Calls with temperature 0, such as structured-output or summarization calls, are often
+ * repeated with the same prompt. The cache answers a repeated request with the responses recorded
+ * for the first one, without calling the provider. Entries are keyed by a SHA-256 hash of the
+ * model name and the canonical JSON of the formatted request, so two requests share an entry
+ * only if the provider would receive the same request. Only calls that complete successfully are
+ * cached; entries expire after the configured time to live, and the least recently used entries
+ * are evicted beyond {@code maxEntries}.
+ *
+ * <p>A cache is enabled for a model through {@link GenerateOptions.Builder#responseCache}, and
+ * only applies to calls made with a temperature of 0:
+ * <pre>{@code
+ * ResponseCache cache = ResponseCache.builder()
+ *     .ttl(Duration.ofMinutes(30))
+ *     .maxEntries(500)
+ *     .build();
+ *
+ * GenerateOptions options = GenerateOptions.builder()
+ *     .temperature(0.0)
+ *     .responseCache(cache)
+ *     .build();
+ * }</pre>
+ *
+ * <p>This class is thread-safe.
+ */
+public final class ResponseCache {
+
+    /**
+     * Writes JSON with sorted map keys, so that equal requests have equal JSON. Bean properties
+     * are already written in a fixed order per class.
+     */
+    private static final ObjectMapper CANONICAL_MAPPER =
+            new ObjectMapper()
+                    .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
+                    .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+
+    private final long ttlNanos;
+    private final Map<String, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private ResponseCache(Builder builder) {
+        this.ttlNanos = builder.ttl.toNanos();
+        int maxEntries = builder.maxEntries;
+        this.entries =
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                        return size() > maxEntries;
+                    }
+                };
+    }
+
+    /**
+     * Creates a new builder for ResponseCache.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Answers a request from the cache, or else makes the call and caches its responses once it
+     * completes. The responses of the call are passed on as they arrive.
+     *
+     * @param modelName the model the request is sent to
+     * @param request the formatted request, serializable to JSON
+     * @param call the call sending the request
+     * @return Flux of the cached responses, or of the responses of the call
+     * @throws IllegalArgumentException if the request cannot be serialized to JSON
+     */
+    public Flux<ChatResponse> cached(String modelName, Object request, Flux<ChatResponse> call) {
+        String key = key(modelName, request);
+        return Flux.defer(
+                () -> {
+                    List<ChatResponse> cached = get(key);
+                    if (cached != null) {
+                        hits.increment();
+                        return Flux.fromIterable(cached);
+                    }
+                    misses.increment();
+                    List<ChatResponse> responses = new ArrayList<>();
+                    return call.doOnNext(responses::add)
+                            .doOnComplete(() -> put(key, List.copyOf(responses)));
+                });
+    }
+
+    /**
+     * Gets the number of calls answered from the cache.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of calls that were not found in the cache.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the number of cached requests, including expired ones not evicted yet.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /** Removes all entries. */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Computes the cache key of a request: the SHA-256 hash of the model name and the JSON of the
+     * request, written with sorted map keys.
+     *
+     * <p>The JSON is streamed into the digest as it is written, so messages that carry their
+     * serialized form are hashed from it verbatim instead of being serialized again.
+     *
+     * @param modelName the model the request is sent to
+     * @param request the formatted request
+     * @return the key, as a hex string
+     * @throws IllegalArgumentException if the request cannot be serialized to JSON
+     */
+    static String key(String modelName, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(String.valueOf(modelName).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            try (OutputStream out =
+                    new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+                CANONICAL_MAPPER.writeValue(out, request);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Cannot serialize request to a cache key", e);
+        }
+    }
+
+    private List<ChatResponse> get(String key) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (System.nanoTime() - entry.createdAt() > ttlNanos) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.responses();
+        }
+    }
+
+    private void put(String key, List<ChatResponse> responses) {
+        synchronized (entries) {
+            entries.put(key, new Entry(responses, System.nanoTime()));
+        }
+    }
+
+    /** Responses recorded for a request. */
+    private record Entry(List<ChatResponse> responses, long createdAt) {}
+
+    /**
+     * Builder for ResponseCache.
+     */
+    public static class Builder {
+        private Duration ttl = Duration.ofMinutes(10);
+        private int maxEntries = 1000;
+
+        /**
+         * Sets how long responses are kept.
+         *
+         * @param ttl the time to live (must be positive, default 10 minutes)
+         * @return this builder instance
+         * @throws IllegalArgumentException if ttl is null or not positive
+         */
+        public Builder ttl(Duration ttl) {
+            if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+                throw new IllegalArgumentException("TTL must be positive");
+            }
+            this.ttl = ttl;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of cached requests.
+         *
+         * @param maxEntries the maximum number of entries (must be positive, default 1000)
+         * @return this builder instance
+         * @throws IllegalArgumentException if maxEntries is not positive
+         */
+        public Builder maxEntries(int maxEntries) {
+            if (maxEntries <= 0) {
+                throw new IllegalArgumentException("Max entries must be positive");
+            }
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Builds the ResponseCache instance.
+         *
+         * @return configured ResponseCache instance
+         */
+        public ResponseCache build() {
+            return new ResponseCache(this);
+        }
+    }
+}
@@ -0,0 +1,388 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.model.concurrency;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * Concurrency limiter that adapts its limit to the provider's capacity with AIMD (additive
+ * increase, multiplicative decrease), using latency as an early congestion signal like TCP Vegas.
+ *
+ * <p>The limit starts at {@code initialLimit} and moves between {@code minLimit} and {@code
+ * maxLimit}:
+ * <ul>
+ *   <li>It grows by about one per limit's worth of successful requests, as long as the limit is
+ *       actually being used
+ *   <li>It is multiplied by {@code backoffRatio} when a request is dropped (rate limit, server
+ *       error, timeout)
+ *   <li>It is also multiplied by {@code backoffRatio} when a request succeeds with a latency above
+ *       {@code latencyTolerance} times the lowest latency seen recently, since queueing at the
+ *       provider shows up in latency before it shows up as errors
+ * </ul>
+ *
+ * <p>Requests that find the limit reached wait in a bounded queue, by priority and then in arrival
+ * order. A request is rejected with {@link ConcurrencyLimitException} if the queue is full or it
+ * waits longer than {@code maxWait}.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * ConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder()
+ *     .initialLimit(20)
+ *     .maxLimit(200)
+ *     .maxQueueSize(1000)
+ *     .maxWait(Duration.ofSeconds(30))
+ *     .build();
+ *
+ * OpenAIChatModel model = OpenAIChatModel.builder()
+ *     .apiKey(apiKey)
+ *     .modelName("gpt-4o")
+ *     .generateOptions(GenerateOptions.builder()
+ *         .executionConfig(ExecutionConfig.builder().limiter(limiter).build())
+ *         .build())
+ *     .build();
+ * }</pre>
+ *
+ * <p>This class is thread-safe.
+ */
+public class AdaptiveConcurrencyLimiter implements ConcurrencyLimiter {
+
+    /** Number of latency samples after which the lowest latency is measured afresh. */
+    private static final int MIN_LATENCY_WINDOW = 100;
+
+    private static final Comparator<Waiter> WAITER_ORDER =
+            Comparator.comparingInt((Waiter w) -> -w.priority).thenComparingLong(w -> w.sequence);
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final int maxQueueSize;
+    private final Duration maxWait;
+
+    // Guarded by this
+    private double limit;
+    private int inFlight;
+    private long minLatency = Long.MAX_VALUE;
+    private int latencySamples;
+    private long sequence;
+    private long rejected;
+    private long dropped;
+    private final PriorityQueue<Waiter> queue = new PriorityQueue<>(WAITER_ORDER);
+
+    private AdaptiveConcurrencyLimiter(Builder builder) {
+        this.minLimit = builder.minLimit;
+        this.maxLimit = builder.maxLimit;
+        this.backoffRatio = builder.backoffRatio;
+        this.latencyTolerance = builder.latencyTolerance;
+        this.maxQueueSize = builder.maxQueueSize;
+        this.maxWait = builder.maxWait;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, builder.initialLimit));
+    }
+
+    /**
+     * Creates a new builder for AdaptiveConcurrencyLimiter.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public Mono<Permit> acquire(int priority) {
+        Mono<Permit> permit =
+                Mono.create(
+                        sink -> {
+                            Waiter waiter;
+                            synchronized (this) {
+                                if (queue.isEmpty() && inFlight < (int) limit) {
+                                    inFlight++;
+                                    waiter = null;
+                                } else if (queue.size() >= maxQueueSize) {
+                                    rejected++;
+                                    sink.error(
+                                            new ConcurrencyLimitException(
+                                                    "Concurrency limit reached and wait queue is"
+                                                            + " full ("
+                                                            + maxQueueSize
+                                                            + " requests)"));
+                                    return;
+                                } else {
+                                    waiter = new Waiter(sink, priority, sequence++);
+                                    queue.add(waiter);
+                                }
+                            }
+                            if (waiter == null) {
+                                sink.success(new LimiterPermit());
+                            } else {
+                                sink.onCancel(() -> cancel(waiter));
+                            }
+                        });
+        if (maxWait == null) {
+            return permit;
+        }
+        return permit.timeout(
+                maxWait,
+                Mono.defer(
+                        () -> {
+                            synchronized (this) {
+                                rejected++;
+                            }
+                            return Mono.error(
+                                    new ConcurrencyLimitException(
+                                            "Timed out after "
+                                                    + maxWait
+                                                    + " waiting for a concurrency permit"));
+                        }));
+    }
+
+    @Override
+    public synchronized LimiterStats getStats() {
+        return new LimiterStats((int) limit, inFlight, queue.size(), rejected, dropped);
+    }
+
+    private void cancel(Waiter waiter) {
+        boolean granted;
+        synchronized (this) {
+            granted = !queue.remove(waiter);
+        }
+        if (granted) {
+            // The permit was handed over as the waiter was cancelled; pass it on
+            release(null, false);
+        }
+    }
+
+    /**
+     * Releases a permit, updates the limit with the outcome and hands permits to waiters.
+     *
+     * @param latencyNanos the latency of a successful request, or null if it did not succeed
+     * @param overload whether the request failed because the provider is overloaded
+     */
+    private void release(Long latencyNanos, boolean overload) {
+        Waiter next;
+        synchronized (this) {
+            inFlight--;
+            if (overload) {
+                dropped++;
+                decrease();
+            } else if (latencyNanos != null) {
+                onLatency(latencyNanos);
+            }
+            next = pollWaiter();
+        }
+        while (next != null) {
+            next.sink.success(new LimiterPermit());
+            synchronized (this) {
+                next = pollWaiter();
+            }
+        }
+    }
+
+    // Guarded by this
+    private void onLatency(long latencyNanos) {
+        if (++latencySamples > MIN_LATENCY_WINDOW) {
+            // Let the baseline follow lasting changes, such as a switch to a slower deployment
+            latencySamples = 1;
+            minLatency = latencyNanos;
+        } else {
+            minLatency = Math.min(minLatency, latencyNanos);
+        }
+        if (latencyNanos > minLatency * latencyTolerance) {
+            decrease();
+        } else if (inFlight + 1 >= limit / 2) {
+            // Only grow while the limit is in use; an idle limit says nothing about capacity
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    // Guarded by this
+    private void decrease() {
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+
+    // Guarded by this
+    private Waiter pollWaiter() {
+        if (inFlight >= (int) limit) {
+            return null;
+        }
+        Waiter waiter = queue.poll();
+        if (waiter != null) {
+            inFlight++;
+        }
+        return waiter;
+    }
+
+    /** A request waiting for a permit. */
+    private record Waiter(MonoSink<Permit> sink, int priority, long sequence) {}
+
+    private final class LimiterPermit implements Permit {
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        @Override
+        public void success(long latencyNanos) {
+            if (released.compareAndSet(false, true)) {
+                release(latencyNanos, false);
+            }
+        }
+
+        @Override
+        public void dropped() {
+            if (released.compareAndSet(false, true)) {
+                release(null, true);
+            }
+        }
+
+        @Override
+        public void ignored() {
+            if (released.compareAndSet(false, true)) {
+                release(null, false);
+            }
+        }
+    }
+
+    /**
+     * Builder for AdaptiveConcurrencyLimiter.
+     */
+    public static class Builder {
+        private int initialLimit = 20;
+        private int minLimit = 1;
+        private int maxLimit = 200;
+        private double backoffRatio = 0.9;
+        private double latencyTolerance = 2.0;
+        private int maxQueueSize = 1000;
+        private Duration maxWait;
+
+        /**
+         * Sets the initial concurrency limit.
+         *
+         * @param initialLimit the initial limit (default 20), clamped to the min and max limits
+         * @return this builder instance
+         * @throws IllegalArgumentException if initialLimit is not positive
+         */
+        public Builder initialLimit(int initialLimit) {
+            if (initialLimit <= 0) {
+                throw new IllegalArgumentException("initialLimit must be positive");
+            }
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+        /**
+         * Sets the lowest concurrency limit.
+         *
+         * @param minLimit the min limit (default 1)
+         * @return this builder instance
+         * @throws IllegalArgumentException if minLimit is not positive
+         */
+        public Builder minLimit(int minLimit) {
+            if (minLimit <= 0) {
+                throw new IllegalArgumentException("minLimit must be positive");
+            }
+            this.minLimit = minLimit;
+            return this;
+        }
+
+        /**
+         * Sets the highest concurrency limit.
+         *
+         * @param maxLimit the max limit (default 200)
+         * @return this builder instance
+         * @throws IllegalArgumentException if maxLimit is not positive
+         */
+        public Builder maxLimit(int maxLimit) {
+            if (maxLimit <= 0) {
+                throw new IllegalArgumentException("maxLimit must be positive");
+            }
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        /**
+         * Sets the factor applied to the limit on an overload signal.
+         *
+         * @param backoffRatio the ratio, between 0.5 and 1 exclusive (default 0.9)
+         * @return this builder instance
+         * @throws IllegalArgumentException if backoffRatio is out of range
+         */
+        public Builder backoffRatio(double backoffRatio) {
+            if (backoffRatio < 0.5 || backoffRatio >= 1.0) {
+                throw new IllegalArgumentException("backoffRatio must be in [0.5, 1.0)");
+            }
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        /**
+         * Sets how much slower than the lowest recent latency a request may be before the limit
+         * is decreased.
+         *
+         * @param latencyTolerance the latency ratio, greater than 1 (default 2.0)
+         * @return this builder instance
+         * @throws IllegalArgumentException if latencyTolerance is not greater than 1
+         */
+        public Builder latencyTolerance(double latencyTolerance) {
+            if (latencyTolerance <= 1.0) {
+                throw new IllegalArgumentException("latencyTolerance must be greater than 1.0");
+            }
+            this.latencyTolerance = latencyTolerance;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of requests waiting for a permit.
+         *
+         * @param maxQueueSize the max queue size (default 1000), 0 to reject instead of waiting
+         * @return this builder instance
+         * @throws IllegalArgumentException if maxQueueSize is negative
+         */
+        public Builder maxQueueSize(int maxQueueSize) {
+            if (maxQueueSize < 0) {
+                throw new IllegalArgumentException("maxQueueSize cannot be negative");
+            }
+            this.maxQueueSize = maxQueueSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum time a request waits for a permit.
+         *
+         * @param maxWait the max wait, or null to wait indefinitely (default)
+         * @return this builder instance
+         */
+        public Builder maxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+            return this;
+        }
+
+        /**
+         * Builds the AdaptiveConcurrencyLimiter instance.
+         *
+         * @return configured AdaptiveConcurrencyLimiter instance
+         * @throws IllegalArgumentException if minLimit is greater than maxLimit
+         */
+        public AdaptiveConcurrencyLimiter build() {
+            if (minLimit > maxLimit) {
+                throw new IllegalArgumentException("minLimit cannot be greater than maxLimit");
+            }
+            return new AdaptiveConcurrencyLimiter(this);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.model.concurrency;
+
+import io.agentscope.core.model.ModelException;
+
+/**
+ * Exception thrown when a {@link ConcurrencyLimiter} rejects a request, because its wait queue is
+ * full or the request waited too long for a permit.
+ */
+public class ConcurrencyLimitException extends ModelException {
+
+    /**
+     * Creates a new ConcurrencyLimitException.
+     *
+     * @param message the error message
+     */
+    public ConcurrencyLimitException(String message) {
+        super(message);
+    }
+}
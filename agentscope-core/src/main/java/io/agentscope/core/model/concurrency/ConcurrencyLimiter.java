@@ -0,0 +1,77 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.model.concurrency;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Limits the number of concurrent requests to a model.
+ *
+ * <p>A limiter is attached to a model through {@link
+ * io.agentscope.core.model.ExecutionConfig.Builder#limiter(ConcurrencyLimiter)}, usually in the
+ * model's default options so that all calls to the model share it. Every attempt of a model
+ * request acquires a permit before it is sent, and reports its outcome when it ends, so that
+ * adaptive implementations can adjust the limit to the provider's current capacity.
+ *
+ * @see AdaptiveConcurrencyLimiter
+ */
+public interface ConcurrencyLimiter {
+
+    /**
+     * Acquires a permit, waiting if the limit is reached.
+     *
+     * <p>Waiting requests are served by priority, then in arrival order. Cancelling the returned
+     * Mono gives up the place in the queue.
+     *
+     * @param priority the request priority; higher values are served first
+     * @return Mono emitting the permit, or failing with {@link ConcurrencyLimitException} if the
+     *     request is rejected
+     */
+    Mono<Permit> acquire(int priority);
+
+    /**
+     * Gets a snapshot of the limiter state.
+     *
+     * @return the limiter statistics
+     */
+    LimiterStats getStats();
+
+    /**
+     * Permission to send one request. Exactly one of the outcome methods releases it; later calls
+     * have no effect.
+     */
+    interface Permit {
+
+        /**
+         * Releases the permit after the request succeeded.
+         *
+         * @param latencyNanos the request latency (for streams, the time to the first chunk)
+         */
+        void success(long latencyNanos);
+
+        /**
+         * Releases the permit after the request failed because the provider is overloaded, such
+         * as a rate limit, a server error or a timeout.
+         */
+        void dropped();
+
+        /**
+         * Releases the permit without a signal about the provider's capacity, such as when the
+         * request was cancelled or rejected as invalid.
+         */
+        void ignored();
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.model.concurrency;
+
+/**
+ * Snapshot of the state of a {@link ConcurrencyLimiter}.
+ *
+ * @param limit the current concurrency limit
+ * @param inFlight the number of permits held
+ * @param queued the number of requests waiting for a permit
+ * @param rejected the number of requests rejected since the limiter was created
+ * @param dropped the number of requests that failed with an overload signal
+ */
+public record LimiterStats(int limit, int inFlight, int queued, long rejected, long dropped) {}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.model.transport;
+
+/**
+ * Content codings that transports can use to compress request bodies and decompress responses.
+ *
+ * <p>Both codings are implemented with {@code java.util.zip}, so no extra dependency is needed.
+ */
+public enum CompressionCodec {
+
+    /** GZIP format (RFC 1952), supported by virtually all HTTP servers. */
+    GZIP("gzip"),
+
+    /** ZLIB format (RFC 1950), sent as the HTTP {@code deflate} coding. */
+    DEFLATE("deflate");
+
+    private final String encoding;
+
+    CompressionCodec(String encoding) {
+        this.encoding = encoding;
+    }
+
+    /**
+     * Get the value of this codec in {@code Content-Encoding} and {@code Accept-Encoding}
+     * headers.
+     *
+     * @return the content coding name
+     */
+    public String getEncoding() {
+        return encoding;
+    }
+
+    /**
+     * Find the codec of a {@code Content-Encoding} header value.
+     *
+     * @param encoding the header value (case-insensitive)
+     * @return the codec, or null if the coding is not supported
+     */
+    public static CompressionCodec fromEncoding(String encoding) {
+        if (encoding == null) {
+            return null;
+        }
+        String normalized = encoding.trim();
+        for (CompressionCodec codec : values()) {
+            if (codec.encoding.equalsIgnoreCase(normalized)) {
+                return codec;
+            }
+        }
+        return null;
+    }
+}
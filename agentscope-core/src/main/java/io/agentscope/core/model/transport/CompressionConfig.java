@@ -0,0 +1,201 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.model.transport;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Configuration for HTTP compression in the transport layer.
+ *
+ * <p>Request compression is opt-in per endpoint: a request body is compressed only if the request
+ * URL starts with one of the configured endpoint prefixes and the body is at least {@code minSize}
+ * bytes, since not every model API accepts compressed bodies. Response decompression is enabled by
+ * default: transports advertise the supported codecs in {@code Accept-Encoding} for non-streaming
+ * requests and decompress the responses transparently.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * HttpTransportConfig config = HttpTransportConfig.builder()
+ *     .compression(CompressionConfig.builder()
+ *         .codec(CompressionCodec.GZIP)
+ *         .minSize(4096)
+ *         .endpoint("https://dashscope.aliyuncs.com/")
+ *         .build())
+ *     .build();
+ * }</pre>
+ *
+ * @see CompressionMetrics
+ */
+public class CompressionConfig {
+
+    /** Default minimum body size to compress: 1 KB. */
+    public static final int DEFAULT_MIN_SIZE = 1024;
+
+    private final CompressionCodec codec;
+    private final int minSize;
+    private final List<String> endpoints;
+    private final boolean decompressResponses;
+
+    private CompressionConfig(Builder builder) {
+        this.codec = builder.codec;
+        this.minSize = builder.minSize;
+        this.endpoints = Collections.unmodifiableList(new ArrayList<>(builder.endpoints));
+        this.decompressResponses = builder.decompressResponses;
+    }
+
+    /**
+     * Get the codec used to compress request bodies.
+     *
+     * @return the request codec
+     */
+    public CompressionCodec getCodec() {
+        return codec;
+    }
+
+    /**
+     * Get the minimum size of a request body to compress it.
+     *
+     * @return the minimum body size in bytes
+     */
+    public int getMinSize() {
+        return minSize;
+    }
+
+    /**
+     * Get the URL prefixes of the endpoints whose request bodies are compressed.
+     *
+     * @return an unmodifiable list of URL prefixes
+     */
+    public List<String> getEndpoints() {
+        return endpoints;
+    }
+
+    /**
+     * Check whether compressed responses are requested and decompressed.
+     *
+     * @return true if responses are decompressed
+     */
+    public boolean isDecompressResponses() {
+        return decompressResponses;
+    }
+
+    /**
+     * Check whether the body of a request to the URL should be compressed.
+     *
+     * @param url the request URL
+     * @param bodySize the body size in bytes
+     * @return true if the body should be compressed
+     */
+    public boolean shouldCompress(String url, int bodySize) {
+        if (bodySize < minSize || url == null) {
+            return false;
+        }
+        for (String endpoint : endpoints) {
+            if (url.startsWith(endpoint)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Create a new builder for CompressionConfig.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for CompressionConfig.
+     */
+    public static class Builder {
+        private CompressionCodec codec = CompressionCodec.GZIP;
+        private int minSize = DEFAULT_MIN_SIZE;
+        private final List<String> endpoints = new ArrayList<>();
+        private boolean decompressResponses = true;
+
+        /**
+         * Set the codec used to compress request bodies.
+         *
+         * @param codec the request codec (default GZIP)
+         * @return this builder
+         * @throws IllegalArgumentException if codec is null
+         */
+        public Builder codec(CompressionCodec codec) {
+            if (codec == null) {
+                throw new IllegalArgumentException("Codec cannot be null");
+            }
+            this.codec = codec;
+            return this;
+        }
+
+        /**
+         * Set the minimum size of a request body to compress it. Smaller bodies are sent as is,
+         * since compressing them saves little and costs CPU.
+         *
+         * @param minSize the minimum body size in bytes (default 1024)
+         * @return this builder
+         * @throws IllegalArgumentException if minSize is negative
+         */
+        public Builder minSize(int minSize) {
+            if (minSize < 0) {
+                throw new IllegalArgumentException("Min size cannot be negative");
+            }
+            this.minSize = minSize;
+            return this;
+        }
+
+        /**
+         * Enable request compression for an endpoint.
+         *
+         * @param urlPrefix the URL prefix of the endpoint, e.g. {@code https://api.example.com/v1/}
+         * @return this builder
+         * @throws IllegalArgumentException if urlPrefix is null or empty
+         */
+        public Builder endpoint(String urlPrefix) {
+            if (urlPrefix == null || urlPrefix.isEmpty()) {
+                throw new IllegalArgumentException("Endpoint URL prefix cannot be null or empty");
+            }
+            this.endpoints.add(urlPrefix);
+            return this;
+        }
+
+        /**
+         * Enable or disable transparent response decompression.
+         *
+         * @param decompressResponses true to request and decompress compressed responses (default
+         *     true)
+         * @return this builder
+         */
+        public Builder decompressResponses(boolean decompressResponses) {
+            this.decompressResponses = decompressResponses;
+            return this;
+        }
+
+        /**
+         * Build the CompressionConfig.
+         *
+         * @return a new CompressionConfig instance
+         */
+        public CompressionConfig build() {
+            return new CompressionConfig(this);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.model.transport;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the bytes saved by HTTP compression in a transport.
+ *
+ * <p>Request counters cover the bodies compressed by the transport; response counters cover the
+ * non-streaming responses it decompressed. This class is thread-safe.
+ *
+ * @see CompressionConfig
+ */
+public final class CompressionMetrics {
+
+    private final LongAdder compressedRequests = new LongAdder();
+    private final LongAdder requestBytes = new LongAdder();
+    private final LongAdder compressedRequestBytes = new LongAdder();
+    private final LongAdder decompressedResponses = new LongAdder();
+    private final LongAdder responseBytes = new LongAdder();
+    private final LongAdder compressedResponseBytes = new LongAdder();
+
+    CompressionMetrics() {}
+
+    void recordRequest(long originalSize, long compressedSize) {
+        compressedRequests.increment();
+        requestBytes.add(originalSize);
+        compressedRequestBytes.add(compressedSize);
+    }
+
+    void recordResponse(long compressedSize, long originalSize) {
+        decompressedResponses.increment();
+        compressedResponseBytes.add(compressedSize);
+        responseBytes.add(originalSize);
+    }
+
+    /**
+     * Get the number of request bodies compressed.
+     *
+     * @return the number of compressed requests
+     */
+    public long getCompressedRequests() {
+        return compressedRequests.sum();
+    }
+
+    /**
+     * Get the total size of the compressed request bodies before compression.
+     *
+     * @return the uncompressed size in bytes
+     */
+    public long getRequestBytes() {
+        return requestBytes.sum();
+    }
+
+    /**
+     * Get the total size of the compressed request bodies as sent.
+     *
+     * @return the compressed size in bytes
+     */
+    public long getCompressedRequestBytes() {
+        return compressedRequestBytes.sum();
+    }
+
+    /**
+     * Get the number of request bytes saved by compression.
+     *
+     * @return the bytes saved
+     */
+    public long getRequestBytesSaved() {
+        return getRequestBytes() - getCompressedRequestBytes();
+    }
+
+    /**
+     * Get the number of responses decompressed.
+     *
+     * @return the number of decompressed responses
+     */
+    public long getDecompressedResponses() {
+        return decompressedResponses.sum();
+    }
+
+    /**
+     * Get the total size of the decompressed responses as received.
+     *
+     * @return the compressed size in bytes
+     */
+    public long getCompressedResponseBytes() {
+        return compressedResponseBytes.sum();
+    }
+
+    /**
+     * Get the total size of the decompressed responses after decompression.
+     *
+     * @return the uncompressed size in bytes
+     */
+    public long getResponseBytes() {
+        return responseBytes.sum();
+    }
+
+    /**
+     * Get the number of response bytes saved by compression.
+     *
+     * @return the bytes saved
+     */
+    public long getResponseBytesSaved() {
+        return getResponseBytes() - getCompressedResponseBytes();
+    }
+
+    @Override
+    public String toString() {
+        return "CompressionMetrics{requests="
+                + getCompressedRequests()
+                + ", requestBytesSaved="
+                + getRequestBytesSaved()
+                + ", responses="
+                + getDecompressedResponses()
+                + ", responseBytesSaved="
+                + getResponseBytesSaved()
+                + "}";
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.model.transport;
+
+/**
+ * Snapshot of the requests and connections of an HTTP transport.
+ *
+ * <p>Values a transport cannot observe are reported as {@value #UNKNOWN}.
+ *
+ * @param activeRequests requests being executed or streamed
+ * @param queuedRequests requests waiting for the per-host or total request limit
+ * @param idleConnections pooled connections not used by any request
+ * @param connections all pooled connections, active or idle
+ */
+public record ConnectionPoolStats(
+        int activeRequests, int queuedRequests, int idleConnections, int connections) {
+
+    /** Value of the statistics a transport cannot observe. */
+    public static final int UNKNOWN = -1;
+
+    /** Statistics of a transport that does not report any. */
+    public static final ConnectionPoolStats UNAVAILABLE =
+            new ConnectionPoolStats(UNKNOWN, UNKNOWN, UNKNOWN, UNKNOWN);
+}
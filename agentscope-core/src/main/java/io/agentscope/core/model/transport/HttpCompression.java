@@ -0,0 +1,163 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.model.transport;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Request compression and response decompression shared by the transports.
+ *
+ * <p>Without a {@link CompressionConfig}, requests and responses are passed through unchanged.
+ */
+final class HttpCompression {
+
+    static final String CONTENT_ENCODING = "Content-Encoding";
+    static final String ACCEPT_ENCODING = "Accept-Encoding";
+
+    private static final String SUPPORTED_ENCODINGS =
+            CompressionCodec.GZIP.getEncoding() + ", " + CompressionCodec.DEFLATE.getEncoding();
+
+    private final CompressionConfig config;
+    private final CompressionMetrics metrics = new CompressionMetrics();
+
+    HttpCompression(CompressionConfig config) {
+        this.config = config;
+    }
+
+    CompressionMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Compresses the body of a request if compression is enabled for its endpoint and size.
+     *
+     * @param request the request
+     * @return the compressed body, or null if the body is sent as is
+     * @throws HttpTransportException if compression fails
+     */
+    byte[] compressBody(HttpRequest request) {
+        if (config == null
+                || config.getEndpoints().isEmpty()
+                || !request.hasBody()
+                || hasHeader(request.getHeaders(), CONTENT_ENCODING)) {
+            return null;
+        }
+        byte[] body = request.getBodyBytes();
+        if (!config.shouldCompress(request.getUrl(), body.length)) {
+            return null;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (OutputStream compressor = compressor(config.getCodec(), out)) {
+            compressor.write(body);
+        } catch (IOException e) {
+            throw new HttpTransportException("Failed to compress request body", e);
+        }
+        byte[] compressed = out.toByteArray();
+        metrics.recordRequest(body.length, compressed.length);
+        return compressed;
+    }
+
+    /**
+     * Gets the content coding of compressed request bodies.
+     *
+     * @return the Content-Encoding header value
+     */
+    String getContentEncoding() {
+        return config.getCodec().getEncoding();
+    }
+
+    /**
+     * Gets the Accept-Encoding value to add to a non-streaming request.
+     *
+     * @param request the request
+     * @return the header value, or null if the header should not be added
+     */
+    String acceptEncoding(HttpRequest request) {
+        if (config == null
+                || !config.isDecompressResponses()
+                || hasHeader(request.getHeaders(), ACCEPT_ENCODING)) {
+            return null;
+        }
+        return SUPPORTED_ENCODINGS;
+    }
+
+    /**
+     * Decompresses a response body requested with {@link #acceptEncoding}.
+     *
+     * @param contentEncoding the Content-Encoding of the response, may be null
+     * @param body the response body as received
+     * @return the decompressed body, or the body as is if it is not compressed with a supported
+     *     codec
+     * @throws IOException if the body is not valid for its coding
+     */
+    byte[] decompress(String contentEncoding, byte[] body) throws IOException {
+        CompressionCodec codec = CompressionCodec.fromEncoding(contentEncoding);
+        if (codec == null || body.length == 0) {
+            return body;
+        }
+        byte[] decompressed;
+        try (InputStream in = decompressor(codec, new ByteArrayInputStream(body))) {
+            decompressed = in.readAllBytes();
+        }
+        metrics.recordResponse(body.length, decompressed.length);
+        return decompressed;
+    }
+
+    /**
+     * Checks whether a response header is dropped after its body was decompressed, since it
+     * describes the compressed body.
+     *
+     * @param name the header name
+     * @return true if the header no longer applies
+     */
+    static boolean isCompressedBodyHeader(String name) {
+        return CONTENT_ENCODING.equalsIgnoreCase(name) || "Content-Length".equalsIgnoreCase(name);
+    }
+
+    private static OutputStream compressor(CompressionCodec codec, OutputStream out)
+            throws IOException {
+        return switch (codec) {
+            case GZIP -> new GZIPOutputStream(out);
+            case DEFLATE -> new DeflaterOutputStream(out);
+        };
+    }
+
+    private static InputStream decompressor(CompressionCodec codec, InputStream in)
+            throws IOException {
+        return switch (codec) {
+            case GZIP -> new GZIPInputStream(in);
+            case DEFLATE -> new InflaterInputStream(in);
+        };
+    }
+
+    private static boolean hasHeader(Map<String, String> headers, String name) {
+        for (String header : headers.keySet()) {
+            if (header.equalsIgnoreCase(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -15,6 +15,11 @@
  */
 package io.agentscope.core.model.transport;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -24,6 +29,11 @@ import java.util.Map;
  *
  * <p>This class represents an HTTP request with URL, method, headers, and body.
  * Use the builder pattern to construct requests.
+ *
+ * <p>The body can be given as a string, as UTF-8 encoded bytes, or as a {@link BodyWriter} that
+ * transports call to write the body directly to the connection. Large bodies (such as requests
+ * with base64 encoded images) should be given as bytes or as a writer, so that they are not
+ * copied into a string and then encoded again.
  */
 public class HttpRequest {
 
@@ -31,12 +41,16 @@ public class HttpRequest {
     private final String method;
     private final Map<String, String> headers;
     private final String body;
+    private final byte[] bodyBytes;
+    private final BodyWriter bodyWriter;
 
     private HttpRequest(Builder builder) {
         this.url = builder.url;
         this.method = builder.method;
         this.headers = Collections.unmodifiableMap(new HashMap<>(builder.headers));
         this.body = builder.body;
+        this.bodyBytes = builder.bodyBytes;
+        this.bodyWriter = builder.bodyWriter;
     }
 
     /**
@@ -67,12 +81,64 @@ public class HttpRequest {
     }
 
     /**
-     * Get the request body.
+     * Get the request body as a string.
+     *
+     * <p>Bodies given as bytes are decoded and bodies given as a writer are written to memory
+     * first, so transports should use {@link #getBodyBytes()} or {@link #getBodyWriter()}.
      *
      * @return the body string, or null if no body
      */
     public String getBody() {
-        return body;
+        if (body != null || !hasBody()) {
+            return body;
+        }
+        return new String(getBodyBytes(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Get the request body as UTF-8 encoded bytes.
+     *
+     * <p>A body given as bytes is returned as is, without copying; it must not be modified. A body
+     * given as a writer is written to memory first.
+     *
+     * @return the body bytes, or null if no body
+     * @throws UncheckedIOException if the body writer fails
+     */
+    public byte[] getBodyBytes() {
+        if (bodyBytes != null) {
+            return bodyBytes;
+        }
+        if (body != null) {
+            return body.getBytes(StandardCharsets.UTF_8);
+        }
+        if (bodyWriter != null) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try {
+                bodyWriter.writeTo(out);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write request body", e);
+            }
+            return out.toByteArray();
+        }
+        return null;
+    }
+
+    /**
+     * Get the writer of the request body, if the body was given as a writer.
+     *
+     * @return the body writer, or null if the body is not given as a writer
+     */
+    public BodyWriter getBodyWriter() {
+        return bodyWriter;
+    }
+
+    /**
+     * Check whether the request has a body.
+     *
+     * @return true if a body was set
+     */
+    public boolean hasBody() {
+        return body != null || bodyBytes != null || bodyWriter != null;
     }
 
     /**
@@ -92,6 +158,8 @@ public class HttpRequest {
         private String method = "GET";
         private final Map<String, String> headers = new HashMap<>();
         private String body;
+        private byte[] bodyBytes;
+        private BodyWriter bodyWriter;
 
         /**
          * Set the request URL.
@@ -146,6 +214,35 @@ public class HttpRequest {
          */
         public Builder body(String body) {
             this.body = body;
+            this.bodyBytes = null;
+            this.bodyWriter = null;
+            return this;
+        }
+
+        /**
+         * Set the request body as UTF-8 encoded bytes. The array is sent as is and must not be
+         * modified afterwards.
+         *
+         * @param body the body bytes
+         * @return this builder
+         */
+        public Builder body(byte[] body) {
+            this.body = null;
+            this.bodyBytes = body;
+            this.bodyWriter = null;
+            return this;
+        }
+
+        /**
+         * Set the request body as a writer, which is called every time the request is sent.
+         *
+         * @param body the body writer
+         * @return this builder
+         */
+        public Builder body(BodyWriter body) {
+            this.body = null;
+            this.bodyBytes = null;
+            this.bodyWriter = body;
             return this;
         }
 
@@ -161,4 +258,22 @@ public class HttpRequest {
             return new HttpRequest(this);
         }
     }
+
+    /**
+     * Writes a request body to the connection.
+     *
+     * <p>A writer may be called more than once, for example when a request is retried, and must
+     * write the same body every time.
+     */
+    @FunctionalInterface
+    public interface BodyWriter {
+
+        /**
+         * Write the body as UTF-8 encoded bytes.
+         *
+         * @param out the stream to write to; it must not be closed
+         * @throws IOException if writing fails
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
 }
@@ -53,6 +53,15 @@ public interface HttpTransport {
      */
     Flux<String> stream(HttpRequest request);
 
+    /**
+     * Get a snapshot of the requests and connections of this transport.
+     *
+     * @return the connection pool statistics, {@link ConnectionPoolStats#UNAVAILABLE} by default
+     */
+    default ConnectionPoolStats getConnectionPoolStats() {
+        return ConnectionPoolStats.UNAVAILABLE;
+    }
+
     /**
      * Close the transport and release any resources.
      *
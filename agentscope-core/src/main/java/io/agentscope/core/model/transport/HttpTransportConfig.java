@@ -21,7 +21,7 @@ import java.time.Duration;
  * Configuration for HTTP transport layer.
  *
  * <p>This class holds configuration options for HTTP client behavior such as
- * timeouts, connection pool settings, and retry policies.
+ * timeouts, connection pool settings, compression, and retry policies.
  */
 public class HttpTransportConfig {
 
@@ -34,13 +34,24 @@ public class HttpTransportConfig {
     /** Default write timeout: 30 seconds. */
     public static final Duration DEFAULT_WRITE_TIMEOUT = Duration.ofSeconds(30);
 
+    /** Default maximum number of concurrent requests: 256. */
+    public static final int DEFAULT_MAX_REQUESTS = 256;
+
+    /** Default maximum number of concurrent requests per host: 64. */
+    public static final int DEFAULT_MAX_REQUESTS_PER_HOST = 64;
+
     private final Duration connectTimeout;
     private final Duration readTimeout;
     private final Duration writeTimeout;
     private final int maxIdleConnections;
     private final Duration keepAliveDuration;
+    private final int maxRequests;
+    private final int maxRequestsPerHost;
+    private final HttpVersion httpVersion;
+    private final Duration pingInterval;
     private final boolean ignoreSsl;
     private final ProxyConfig proxyConfig;
+    private final CompressionConfig compression;
 
     private HttpTransportConfig(Builder builder) {
         this.connectTimeout = builder.connectTimeout;
@@ -48,8 +59,13 @@ public class HttpTransportConfig {
         this.writeTimeout = builder.writeTimeout;
         this.maxIdleConnections = builder.maxIdleConnections;
         this.keepAliveDuration = builder.keepAliveDuration;
+        this.maxRequests = builder.maxRequests;
+        this.maxRequestsPerHost = builder.maxRequestsPerHost;
+        this.httpVersion = builder.httpVersion;
+        this.pingInterval = builder.pingInterval;
         this.ignoreSsl = builder.ignoreSsl;
         this.proxyConfig = builder.proxyConfig;
+        this.compression = builder.compression;
     }
 
     /**
@@ -97,6 +113,42 @@ public class HttpTransportConfig {
         return keepAliveDuration;
     }
 
+    /**
+     * Get the maximum number of concurrent requests.
+     *
+     * @return the max concurrent requests
+     */
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+
+    /**
+     * Get the maximum number of concurrent requests to one host.
+     *
+     * @return the max concurrent requests per host
+     */
+    public int getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    /**
+     * Get the preferred HTTP protocol version.
+     *
+     * @return the HTTP version
+     */
+    public HttpVersion getHttpVersion() {
+        return httpVersion;
+    }
+
+    /**
+     * Get the interval of HTTP/2 pings that keep idle connections alive.
+     *
+     * @return the ping interval, or null if pings are disabled
+     */
+    public Duration getPingInterval() {
+        return pingInterval;
+    }
+
     /**
      * Get whether SSL certificate verification should be ignored.
      *
@@ -119,6 +171,15 @@ public class HttpTransportConfig {
         return proxyConfig;
     }
 
+    /**
+     * Get the compression configuration.
+     *
+     * @return the compression configuration, or null if compression is not configured
+     */
+    public CompressionConfig getCompression() {
+        return compression;
+    }
+
     /**
      * Create a new builder for HttpTransportConfig.
      *
@@ -146,8 +207,13 @@ public class HttpTransportConfig {
         private Duration writeTimeout = DEFAULT_WRITE_TIMEOUT;
         private int maxIdleConnections = 5;
         private Duration keepAliveDuration = Duration.ofMinutes(5);
+        private int maxRequests = DEFAULT_MAX_REQUESTS;
+        private int maxRequestsPerHost = DEFAULT_MAX_REQUESTS_PER_HOST;
+        private HttpVersion httpVersion = HttpVersion.HTTP_2;
+        private Duration pingInterval = null;
         private boolean ignoreSsl = false;
         private ProxyConfig proxyConfig = null;
+        private CompressionConfig compression = null;
 
         /**
          * Set the connect timeout.
@@ -204,6 +270,71 @@ public class HttpTransportConfig {
             return this;
         }
 
+        /**
+         * Set the maximum number of concurrent requests. Further requests are queued until one
+         * completes.
+         *
+         * <p>Applies to streaming requests of OkHttp-based transports. The JDK HttpClient has no
+         * request limits; it multiplexes HTTP/2 requests over one connection per host.
+         *
+         * @param maxRequests the max concurrent requests (must be positive)
+         * @return this builder
+         * @throws IllegalArgumentException if maxRequests is not positive
+         */
+        public Builder maxRequests(int maxRequests) {
+            if (maxRequests <= 0) {
+                throw new IllegalArgumentException("Max requests must be positive");
+            }
+            this.maxRequests = maxRequests;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of concurrent requests to one host. Further requests to the host
+         * are queued until one completes.
+         *
+         * <p>Applies to streaming requests of OkHttp-based transports, see {@link
+         * #maxRequests(int)}.
+         *
+         * @param maxRequestsPerHost the max concurrent requests per host (must be positive)
+         * @return this builder
+         * @throws IllegalArgumentException if maxRequestsPerHost is not positive
+         */
+        public Builder maxRequestsPerHost(int maxRequestsPerHost) {
+            if (maxRequestsPerHost <= 0) {
+                throw new IllegalArgumentException("Max requests per host must be positive");
+            }
+            this.maxRequestsPerHost = maxRequestsPerHost;
+            return this;
+        }
+
+        /**
+         * Set the preferred HTTP protocol version.
+         *
+         * @param httpVersion the HTTP version (default HTTP_2)
+         * @return this builder
+         * @throws IllegalArgumentException if httpVersion is null
+         */
+        public Builder httpVersion(HttpVersion httpVersion) {
+            if (httpVersion == null) {
+                throw new IllegalArgumentException("HTTP version cannot be null");
+            }
+            this.httpVersion = httpVersion;
+            return this;
+        }
+
+        /**
+         * Set the interval of HTTP/2 pings, which keep idle connections from being dropped by
+         * proxies and detect dead connections. Only supported by OkHttp-based transports.
+         *
+         * @param pingInterval the ping interval, or null to disable pings (default)
+         * @return this builder
+         */
+        public Builder pingInterval(Duration pingInterval) {
+            this.pingInterval = pingInterval;
+            return this;
+        }
+
         /**
          * Set whether to ignore SSL certificate verification.
          *
@@ -232,6 +363,20 @@ public class HttpTransportConfig {
             return this;
         }
 
+        /**
+         * Set the compression configuration.
+         *
+         * <p>See {@link CompressionConfig} for the request compression opt-in and response
+         * decompression.
+         *
+         * @param compression the compression configuration, or null to disable compression
+         * @return this builder
+         */
+        public Builder compression(CompressionConfig compression) {
+            this.compression = compression;
+            return this;
+        }
+
         /**
          * Build the HttpTransportConfig.
          *
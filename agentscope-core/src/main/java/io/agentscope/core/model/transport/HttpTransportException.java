@@ -15,6 +15,12 @@
  */
 package io.agentscope.core.model.transport;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
 /**
  * Exception thrown when HTTP transport operations fail.
  *
@@ -25,6 +31,7 @@ public class HttpTransportException extends RuntimeException {
 
     private final Integer statusCode;
     private final String responseBody;
+    private final Duration retryAfter;
 
     /**
      * Create a new HttpTransportException with a message.
@@ -35,6 +42,7 @@ public class HttpTransportException extends RuntimeException {
         super(message);
         this.statusCode = null;
         this.responseBody = null;
+        this.retryAfter = null;
     }
 
     /**
@@ -47,6 +55,7 @@ public class HttpTransportException extends RuntimeException {
         super(message, cause);
         this.statusCode = null;
         this.responseBody = null;
+        this.retryAfter = null;
     }
 
     /**
@@ -57,9 +66,23 @@ public class HttpTransportException extends RuntimeException {
      * @param responseBody the response body (may contain error details)
      */
     public HttpTransportException(String message, int statusCode, String responseBody) {
+        this(message, statusCode, responseBody, (Duration) null);
+    }
+
+    /**
+     * Create a new HttpTransportException for an HTTP error response that asks to retry later.
+     *
+     * @param message the error message
+     * @param statusCode the HTTP status code
+     * @param responseBody the response body (may contain error details)
+     * @param retryAfter the delay of the response's Retry-After header, or null if absent
+     */
+    public HttpTransportException(
+            String message, int statusCode, String responseBody, Duration retryAfter) {
         super(message);
         this.statusCode = statusCode;
         this.responseBody = responseBody;
+        this.retryAfter = retryAfter;
     }
 
     /**
@@ -75,6 +98,7 @@ public class HttpTransportException extends RuntimeException {
         super(message, cause);
         this.statusCode = statusCode;
         this.responseBody = responseBody;
+        this.retryAfter = null;
     }
 
     /**
@@ -95,6 +119,16 @@ public class HttpTransportException extends RuntimeException {
         return responseBody;
     }
 
+    /**
+     * Get the delay the server asked to wait before retrying, from the Retry-After header of a 429
+     * or 503 response.
+     *
+     * @return the delay, or null if the server did not send one
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
     /**
      * Check if this is an HTTP error (has status code).
      *
@@ -184,4 +218,29 @@ public class HttpTransportException extends RuntimeException {
         }
         return sb.toString();
     }
+
+    /**
+     * Parse a Retry-After header value, given either in seconds or as an HTTP date.
+     *
+     * @param value the header value, may be null
+     * @return the delay (zero for dates in the past), or null if absent or malformed
+     */
+    static Duration parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(trimmed)));
+        } catch (NumberFormatException e) {
+            // Not delta-seconds, try an HTTP date
+        }
+        try {
+            ZonedDateTime date = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration delay = Duration.between(Instant.now(), date.toInstant());
+            return delay.isNegative() ? Duration.ZERO : delay;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.model.transport;
+
+/**
+ * Preferred HTTP protocol version of a transport.
+ *
+ * <p>With HTTP/2, concurrent requests and streams to the same host are multiplexed over a few
+ * connections instead of needing a connection each.
+ */
+public enum HttpVersion {
+
+    /** HTTP/1.1 only: one request at a time per connection. */
+    HTTP_1_1,
+
+    /**
+     * HTTP/2 when the server supports it, negotiated with ALPN for HTTPS, with fallback to
+     * HTTP/1.1.
+     */
+    HTTP_2,
+
+    /**
+     * HTTP/2 without negotiation, for cleartext ({@code http://}) servers known to speak HTTP/2,
+     * such as local model gateways.
+     *
+     * <p>Only supported by OkHttp-based transports; the JDK HttpClient treats it as {@link
+     * #HTTP_2} and upgrades cleartext connections from HTTP/1.1.
+     */
+    HTTP_2_PRIOR_KNOWLEDGE
+}
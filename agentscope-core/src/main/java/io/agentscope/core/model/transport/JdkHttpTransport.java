@@ -15,10 +15,9 @@
  */
 package io.agentscope.core.model.transport;
 
-import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.net.PasswordAuthentication;
 import java.net.Proxy;
@@ -29,26 +28,30 @@ import java.net.http.HttpClient;
 import java.net.http.HttpClient.Redirect;
 import java.net.http.HttpClient.Version;
 import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.adapter.JdkFlowAdapter;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 /**
  * Pure JDK implementation of the HttpTransport interface.
@@ -61,6 +64,7 @@ import reactor.core.scheduler.Schedulers;
  *   <li>HTTP/2 with fallback to HTTP/1.1</li>
  *   <li>Connection pooling (built-in)</li>
  *   <li>Configurable timeouts</li>
+ *   <li>Opt-in request compression and response decompression ({@link CompressionConfig})</li>
  * </ul>
  *
  * <p>This implementation has no external dependencies beyond the JDK.
@@ -68,12 +72,12 @@ import reactor.core.scheduler.Schedulers;
 public class JdkHttpTransport implements HttpTransport {
 
     private static final Logger log = LoggerFactory.getLogger(JdkHttpTransport.class);
-    private static final String SSE_DATA_PREFIX = "data:";
-    private static final String SSE_DONE_MARKER = "[DONE]";
 
     private final HttpClient client;
     private final HttpTransportConfig config;
+    private final HttpCompression compression;
     private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final AtomicInteger activeRequests = new AtomicInteger();
 
     /**
      * Create a new JdkHttpTransport with default configuration.
@@ -91,6 +95,7 @@ public class JdkHttpTransport implements HttpTransport {
     JdkHttpTransport(HttpTransportConfig config) {
         this.config = Objects.requireNonNull(config, "config must not be null");
         this.client = buildClient(config);
+        this.compression = new HttpCompression(config.getCompression());
     }
 
     /**
@@ -106,12 +111,16 @@ public class JdkHttpTransport implements HttpTransport {
     public JdkHttpTransport(HttpClient client, HttpTransportConfig config) {
         this.client = Objects.requireNonNull(client, "client must not be null");
         this.config = Objects.requireNonNull(config, "config must not be null");
+        this.compression = new HttpCompression(config.getCompression());
     }
 
     private static HttpClient buildClient(HttpTransportConfig config) {
         HttpClient.Builder builder =
                 HttpClient.newBuilder()
-                        .version(Version.HTTP_2)
+                        .version(
+                                config.getHttpVersion() == HttpVersion.HTTP_1_1
+                                        ? Version.HTTP_1_1
+                                        : Version.HTTP_2)
                         .followRedirects(Redirect.NORMAL)
                         .connectTimeout(config.getConnectTimeout());
 
@@ -174,16 +183,19 @@ public class JdkHttpTransport implements HttpTransport {
             throw new HttpTransportException("Transport has been closed");
         }
 
-        var jdkRequest = buildJdkRequest(request);
+        var jdkRequest = buildJdkRequest(request, true);
 
+        activeRequests.incrementAndGet();
         try {
-            var response = client.send(jdkRequest, BodyHandlers.ofString());
+            var response = client.send(jdkRequest, BodyHandlers.ofByteArray());
             return buildHttpResponse(response);
         } catch (IOException e) {
             throw new HttpTransportException("HTTP request failed: " + e.getMessage(), e);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new HttpTransportException("HTTP request interrupted", e);
+        } finally {
+            activeRequests.decrementAndGet();
         }
     }
 
@@ -193,39 +205,12 @@ public class JdkHttpTransport implements HttpTransport {
             return Flux.error(new HttpTransportException("Transport has been closed"));
         }
 
-        var jdkRequest = buildJdkRequest(request);
-
-        // Check status code and read error body immediately when CompletableFuture completes
-        // to avoid stream being closed before we can read it
-        CompletableFuture<java.net.http.HttpResponse<InputStream>> future =
-                client.sendAsync(jdkRequest, BodyHandlers.ofInputStream())
-                        .thenApply(
-                                response -> {
-                                    int statusCode = response.statusCode();
-                                    if (statusCode < 200 || statusCode >= 300) {
-                                        // Read error body immediately while stream is still open
-                                        String errorBody = readInputStream(response.body());
-                                        log.warn(
-                                                "HTTP request failed. URL: {} | Status: {} | Error:"
-                                                        + " {}",
-                                                request.getUrl(),
-                                                statusCode,
-                                                errorBody);
-                                        throw new CompletionException(
-                                                new HttpTransportException(
-                                                        "HTTP request failed with status "
-                                                                + statusCode
-                                                                + " | "
-                                                                + errorBody,
-                                                        statusCode,
-                                                        errorBody));
-                                    }
-                                    return response;
-                                });
-
-        return Mono.fromCompletionStage(future)
+        var jdkRequest = buildJdkRequest(request, false);
+
+        // The body is consumed as it arrives, without blocking a thread per stream
+        return Mono.fromCompletionStage(
+                        () -> client.sendAsync(jdkRequest, BodyHandlers.ofPublisher()))
                 .flatMapMany(response -> processStreamResponse(response, request))
-                .publishOn(Schedulers.boundedElastic())
                 .onErrorMap(
                         e -> !(e instanceof HttpTransportException),
                         e -> {
@@ -236,14 +221,53 @@ public class JdkHttpTransport implements HttpTransport {
                             return new HttpTransportException(
                                     "SSE/NDJSON stream failed: " + e.getMessage(), e);
                         })
-                .subscribeOn(Schedulers.boundedElastic());
+                .doOnSubscribe(s -> activeRequests.incrementAndGet())
+                .doFinally(signal -> activeRequests.decrementAndGet());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The JDK HttpClient does not expose its connection pool, so only the active requests are
+     * reported.
+     */
+    @Override
+    public ConnectionPoolStats getConnectionPoolStats() {
+        return new ConnectionPoolStats(
+                activeRequests.get(),
+                ConnectionPoolStats.UNKNOWN,
+                ConnectionPoolStats.UNKNOWN,
+                ConnectionPoolStats.UNKNOWN);
     }
 
     private Flux<String> processStreamResponse(
-            java.net.http.HttpResponse<InputStream> response, HttpRequest request) {
-        InputStream inputStream = response.body();
-        if (inputStream == null) {
-            return Flux.empty();
+            java.net.http.HttpResponse<Flow.Publisher<List<ByteBuffer>>> response,
+            HttpRequest request) {
+        Flux<List<ByteBuffer>> body = JdkFlowAdapter.flowPublisherToFlux(response.body());
+
+        int statusCode = response.statusCode();
+        if (statusCode < 200 || statusCode >= 300) {
+            return readBody(body)
+                    .flatMapMany(
+                            errorBody -> {
+                                log.warn(
+                                        "HTTP request failed. URL: {} | Status: {} | Error: {}",
+                                        request.getUrl(),
+                                        statusCode,
+                                        errorBody);
+                                return Flux.error(
+                                        new HttpTransportException(
+                                                "HTTP request failed with status "
+                                                        + statusCode
+                                                        + " | "
+                                                        + errorBody,
+                                                statusCode,
+                                                errorBody,
+                                                HttpTransportException.parseRetryAfter(
+                                                        response.headers()
+                                                                .firstValue("Retry-After")
+                                                                .orElse(null))));
+                            });
         }
 
         // Check if the request has the NDJSON format header
@@ -251,28 +275,39 @@ public class JdkHttpTransport implements HttpTransport {
                 TransportConstants.STREAM_FORMAT_NDJSON.equals(
                         request.getHeaders().get(TransportConstants.STREAM_FORMAT_HEADER));
 
-        // Use Flux.using to manage resource lifecycle
-        return Flux.using(
-                () ->
-                        new BufferedReader(
-                                new InputStreamReader(inputStream, StandardCharsets.UTF_8)),
-                reader -> isNdjson ? readNdJsonLines(reader) : readSseLines(reader),
-                this::closeQuietly);
-    }
-
-    private Flux<String> readSseLines(BufferedReader reader) {
-        return Flux.fromStream(reader.lines())
-                .filter(line -> line.startsWith(SSE_DATA_PREFIX))
-                .map(line -> line.substring(SSE_DATA_PREFIX.length()).trim())
-                .takeWhile(data -> !SSE_DONE_MARKER.equals(data))
-                .doOnNext(data -> log.debug("Received SSE data chunk"))
-                .filter(data -> !data.isEmpty());
+        return Flux.defer(
+                () -> {
+                    StreamDecoder decoder = isNdjson ? StreamDecoder.ndjson() : StreamDecoder.sse();
+                    return body.concatMapIterable(
+                                    buffers -> {
+                                        List<String> payloads = new ArrayList<>();
+                                        for (ByteBuffer buffer : buffers) {
+                                            decoder.decode(buffer, payloads::add);
+                                        }
+                                        return payloads;
+                                    })
+                            .concatWith(
+                                    Flux.defer(
+                                            () -> {
+                                                List<String> payloads = new ArrayList<>(1);
+                                                decoder.finish(payloads::add);
+                                                return Flux.fromIterable(payloads);
+                                            }))
+                            .takeWhile(data -> !StreamDecoder.DONE_MARKER.equals(data))
+                            .doOnNext(data -> log.debug("Received stream chunk"));
+                });
     }
 
-    private Flux<String> readNdJsonLines(BufferedReader reader) {
-        return Flux.fromStream(reader.lines())
-                .doOnNext(line -> log.debug("Received NDJSON line"))
-                .filter(line -> !line.isEmpty());
+    private Mono<String> readBody(Flux<List<ByteBuffer>> body) {
+        return body.flatMapIterable(buffers -> buffers)
+                .collect(
+                        ByteArrayOutputStream::new,
+                        (out, buffer) -> {
+                            byte[] bytes = new byte[buffer.remaining()];
+                            buffer.get(bytes);
+                            out.writeBytes(bytes);
+                        })
+                .map(out -> out.toString(StandardCharsets.UTF_8));
     }
 
     @Override
@@ -301,6 +336,15 @@ public class JdkHttpTransport implements HttpTransport {
         return config;
     }
 
+    /**
+     * Get the counters of the bytes saved by compression.
+     *
+     * @return the compression metrics of this transport
+     */
+    public CompressionMetrics getCompressionMetrics() {
+        return compression.getMetrics();
+    }
+
     /**
      * Check if this transport has been closed.
      *
@@ -310,7 +354,8 @@ public class JdkHttpTransport implements HttpTransport {
         return closed.get();
     }
 
-    private java.net.http.HttpRequest buildJdkRequest(HttpRequest request) {
+    private java.net.http.HttpRequest buildJdkRequest(
+            HttpRequest request, boolean acceptCompressed) {
         URI uri;
         try {
             uri = URI.create(request.getUrl());
@@ -325,44 +370,84 @@ public class JdkHttpTransport implements HttpTransport {
             builder.header(header.getKey(), header.getValue());
         }
 
+        // Streamed responses are not requested compressed, so events are not held back
+        String acceptEncoding = acceptCompressed ? compression.acceptEncoding(request) : null;
+        if (acceptEncoding != null) {
+            builder.header(HttpCompression.ACCEPT_ENCODING, acceptEncoding);
+        }
+
         String method = request.getMethod().toUpperCase();
-        String body = request.getBody();
+        java.net.http.HttpRequest.BodyPublisher body;
+        byte[] compressed = compression.compressBody(request);
+        if (compressed != null) {
+            builder.header(HttpCompression.CONTENT_ENCODING, compression.getContentEncoding());
+            body = java.net.http.HttpRequest.BodyPublishers.ofByteArray(compressed);
+        } else {
+            body = bodyPublisher(request);
+        }
 
         switch (method) {
             case "GET":
                 builder.GET();
                 break;
             case "POST":
-                builder.POST(bodyPublisher(body));
+                builder.POST(body);
                 break;
             case "PUT":
-                builder.PUT(bodyPublisher(body));
+                builder.PUT(body);
                 break;
             case "DELETE":
-                builder.method("DELETE", bodyPublisher(body));
+                builder.method("DELETE", body);
                 break;
             default:
-                builder.method(method, bodyPublisher(body));
+                builder.method(method, body);
         }
 
         return builder.build();
     }
 
-    private java.net.http.HttpRequest.BodyPublisher bodyPublisher(String body) {
+    private java.net.http.HttpRequest.BodyPublisher bodyPublisher(HttpRequest request) {
+        HttpRequest.BodyWriter writer = request.getBodyWriter();
+        if (writer != null) {
+            // The JDK client pulls the body, so the writer fills chunks when the request is sent
+            return java.net.http.HttpRequest.BodyPublishers.ofByteArrays(
+                    () -> writeChunks(writer).iterator());
+        }
+        byte[] body = request.getBodyBytes();
         return body != null
-                ? java.net.http.HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8)
+                ? java.net.http.HttpRequest.BodyPublishers.ofByteArray(body)
                 : java.net.http.HttpRequest.BodyPublishers.noBody();
     }
 
-    private HttpResponse buildHttpResponse(java.net.http.HttpResponse<String> response) {
+    private static List<byte[]> writeChunks(HttpRequest.BodyWriter writer) {
+        ChunkedOutputStream out = new ChunkedOutputStream();
+        try {
+            writer.writeTo(out);
+        } catch (IOException e) {
+            throw new HttpTransportException("Failed to write request body", e);
+        }
+        return out.finish();
+    }
+
+    private HttpResponse buildHttpResponse(java.net.http.HttpResponse<byte[]> response)
+            throws IOException {
+        String contentEncoding =
+                response.headers().firstValue(HttpCompression.CONTENT_ENCODING).orElse(null);
+        byte[] body = compression.decompress(contentEncoding, response.body());
+        boolean decompressed = body != response.body();
+
         HttpResponse.Builder builder =
-                HttpResponse.builder().statusCode(response.statusCode()).body(response.body());
+                HttpResponse.builder()
+                        .statusCode(response.statusCode())
+                        .body(new String(body, StandardCharsets.UTF_8));
 
         response.headers()
                 .map()
                 .forEach(
                         (name, values) -> {
-                            if (!values.isEmpty()) {
+                            if (!values.isEmpty()
+                                    && !(decompressed
+                                            && HttpCompression.isCompressedBodyHeader(name))) {
                                 builder.header(name, values.get(0));
                             }
                         });
@@ -370,28 +455,6 @@ public class JdkHttpTransport implements HttpTransport {
         return builder.build();
     }
 
-    private String readInputStream(InputStream inputStream) {
-        if (inputStream == null) {
-            return null;
-        }
-        try (inputStream) {
-            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            log.warn("Failed to read response body: {}", e.getMessage());
-            return null;
-        }
-    }
-
-    private void closeQuietly(AutoCloseable closeable) {
-        if (closeable != null) {
-            try {
-                closeable.close();
-            } catch (Exception e) {
-                log.debug("Error closing resource: {}", e.getMessage());
-            }
-        }
-    }
-
     /**
      * Create a new builder for JdkHttpTransport.
      *
@@ -446,6 +509,50 @@ public class JdkHttpTransport implements HttpTransport {
         }
     }
 
+    /** Output stream that collects written bytes in chunks instead of one growing array. */
+    private static class ChunkedOutputStream extends OutputStream {
+        private static final int CHUNK_SIZE = 16 * 1024;
+
+        private final List<byte[]> chunks = new ArrayList<>();
+        private byte[] chunk = new byte[CHUNK_SIZE];
+        private int count;
+
+        @Override
+        public void write(int b) {
+            if (count == chunk.length) {
+                nextChunk();
+            }
+            chunk[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            while (len > 0) {
+                if (count == chunk.length) {
+                    nextChunk();
+                }
+                int n = Math.min(len, chunk.length - count);
+                System.arraycopy(b, off, chunk, count, n);
+                count += n;
+                off += n;
+                len -= n;
+            }
+        }
+
+        private void nextChunk() {
+            chunks.add(chunk);
+            chunk = new byte[CHUNK_SIZE];
+            count = 0;
+        }
+
+        List<byte[]> finish() {
+            if (count > 0) {
+                chunks.add(count == chunk.length ? chunk : Arrays.copyOf(chunk, count));
+            }
+            return chunks;
+        }
+    }
+
     /**
      * A TrustManager that trusts all certificates.
      *
@@ -15,13 +15,13 @@
  */
 package io.agentscope.core.model.transport;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.net.Proxy;
 import java.net.ProxySelector;
 import java.net.SocketAddress;
 import java.net.URI;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
@@ -31,21 +31,27 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.ConnectionPool;
 import okhttp3.Credentials;
+import okhttp3.Dispatcher;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
+import okio.BufferedSink;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.publisher.FluxSink;
 
 /**
  * OkHttp implementation of the HttpTransport interface.
@@ -54,8 +60,9 @@ import reactor.core.scheduler.Schedulers;
  * <ul>
  *   <li>Synchronous HTTP requests</li>
  *   <li>Server-Sent Events (SSE) streaming</li>
- *   <li>Connection pooling</li>
+ *   <li>Connection pooling, HTTP/2 multiplexing and per-host request limits</li>
  *   <li>Configurable timeouts</li>
+ *   <li>Opt-in request compression and response decompression ({@link CompressionConfig})</li>
  * </ul>
  */
 public class OkHttpTransport implements HttpTransport {
@@ -63,11 +70,10 @@ public class OkHttpTransport implements HttpTransport {
     private static final Logger log = LoggerFactory.getLogger(OkHttpTransport.class);
     private static final MediaType JSON_MEDIA_TYPE =
             MediaType.parse("application/json; charset=utf-8");
-    private static final String SSE_DATA_PREFIX = "data:";
-    private static final String SSE_DONE_MARKER = "[DONE]";
 
     private final OkHttpClient client;
     private final HttpTransportConfig config;
+    private final HttpCompression compression;
 
     /**
      * Create a new OkHttpTransport with default configuration.
@@ -84,6 +90,7 @@ public class OkHttpTransport implements HttpTransport {
     public OkHttpTransport(HttpTransportConfig config) {
         this.config = config;
         this.client = buildClient(config);
+        this.compression = new HttpCompression(config.getCompression());
     }
 
     /**
@@ -98,6 +105,7 @@ public class OkHttpTransport implements HttpTransport {
     public OkHttpTransport(OkHttpClient client, HttpTransportConfig config) {
         this.client = client;
         this.config = config;
+        this.compression = new HttpCompression(config != null ? config.getCompression() : null);
     }
 
     private OkHttpClient buildClient(HttpTransportConfig config) {
@@ -113,6 +121,15 @@ public class OkHttpTransport implements HttpTransport {
                                         config.getKeepAliveDuration().toMillis(),
                                         TimeUnit.MILLISECONDS));
 
+        // Streams are dispatched asynchronously, so the dispatcher enforces the request limits
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(config.getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(config.getMaxRequestsPerHost());
+        builder.dispatcher(dispatcher).protocols(protocols(config.getHttpVersion()));
+        if (config.getPingInterval() != null) {
+            builder.pingInterval(config.getPingInterval().toMillis(), TimeUnit.MILLISECONDS);
+        }
+
         // Configure SSL (optionally ignore certificate verification)
         if (config.isIgnoreSsl()) {
             log.error(
@@ -157,6 +174,14 @@ public class OkHttpTransport implements HttpTransport {
         return builder.build();
     }
 
+    private static List<Protocol> protocols(HttpVersion httpVersion) {
+        return switch (httpVersion) {
+            case HTTP_1_1 -> List.of(Protocol.HTTP_1_1);
+            case HTTP_2 -> List.of(Protocol.HTTP_2, Protocol.HTTP_1_1);
+            case HTTP_2_PRIOR_KNOWLEDGE -> List.of(Protocol.H2_PRIOR_KNOWLEDGE);
+        };
+    }
+
     /**
      * Create a trust-all SSL socket factory.
      *
@@ -199,7 +224,7 @@ public class OkHttpTransport implements HttpTransport {
 
     @Override
     public HttpResponse execute(HttpRequest request) throws HttpTransportException {
-        Request okHttpRequest = buildOkHttpRequest(request);
+        Request okHttpRequest = buildOkHttpRequest(request, true);
 
         try (Response response = client.newCall(okHttpRequest).execute()) {
             return buildHttpResponse(response);
@@ -210,7 +235,7 @@ public class OkHttpTransport implements HttpTransport {
 
     @Override
     public Flux<String> stream(HttpRequest request) {
-        Request okHttpRequest = buildOkHttpRequest(request);
+        Request okHttpRequest = buildOkHttpRequest(request, false);
         log.debug(
                 "Streaming request: method={}, url={}",
                 okHttpRequest.method(),
@@ -220,90 +245,98 @@ public class OkHttpTransport implements HttpTransport {
                 TransportConstants.STREAM_FORMAT_NDJSON.equals(
                         request.getHeaders().get(TransportConstants.STREAM_FORMAT_HEADER));
         return Flux.<String>create(
-                        sink -> {
-                            Response response = null;
-                            BufferedReader reader = null;
-                            try {
-                                response = client.newCall(okHttpRequest).execute();
-
-                                if (!response.isSuccessful()) {
-                                    String errorBody = getResponseBodyString(response);
-                                    log.error(
-                                            "HTTP error: status={}, body={}",
-                                            response.code(),
-                                            errorBody);
-                                    sink.error(
-                                            new HttpTransportException(
-                                                    "HTTP request failed with status "
-                                                            + response.code(),
-                                                    response.code(),
-                                                    errorBody));
-                                    return;
+                sink -> {
+                    Call call = client.newCall(okHttpRequest);
+                    sink.onCancel(call::cancel);
+                    // The body is read on a dispatcher thread, within the request limits
+                    call.enqueue(
+                            new Callback() {
+                                @Override
+                                public void onFailure(Call call, IOException e) {
+                                    if (!sink.isCancelled()) {
+                                        sink.error(
+                                                new HttpTransportException(
+                                                        "SSE stream read failed: " + e.getMessage(),
+                                                        e));
+                                    }
                                 }
 
-                                ResponseBody body = response.body();
-                                if (body == null) {
-                                    sink.complete();
-                                    return;
+                                @Override
+                                public void onResponse(Call call, Response response) {
+                                    readStream(response, isNdjson, sink);
                                 }
+                            });
+                });
+    }
 
-                                reader =
-                                        new BufferedReader(
-                                                new InputStreamReader(
-                                                        body.byteStream(), StandardCharsets.UTF_8));
-
-                                String line;
-                                while ((line = reader.readLine()) != null) {
-                                    if (sink.isCancelled()) {
-                                        break;
-                                    }
-
-                                    // Skip empty lines
-                                    if (line.isEmpty()) {
-                                        continue;
-                                    }
-
-                                    // Handle NDJSON format
-                                    if (isNdjson) {
-                                        sink.next(line);
-                                        continue;
-                                    }
+    private void readStream(Response response, boolean isNdjson, FluxSink<String> sink) {
+        InputStream input = null;
+        try {
+            if (!response.isSuccessful()) {
+                String errorBody = getResponseBodyString(response);
+                log.error("HTTP error: status={}, body={}", response.code(), errorBody);
+                sink.error(
+                        new HttpTransportException(
+                                "HTTP request failed with status " + response.code(),
+                                response.code(),
+                                errorBody,
+                                HttpTransportException.parseRetryAfter(
+                                        response.header("Retry-After"))));
+                return;
+            }
 
-                                    // Parse SSE data lines
-                                    if (line.startsWith(SSE_DATA_PREFIX)) {
-                                        String data =
-                                                line.substring(SSE_DATA_PREFIX.length()).trim();
+            ResponseBody body = response.body();
+            if (body == null) {
+                sink.complete();
+                return;
+            }
 
-                                        // Check for stream end marker
-                                        if (SSE_DONE_MARKER.equals(data)) {
-                                            log.debug("Received SSE [DONE] marker");
-                                            break;
-                                        }
+            StreamDecoder decoder = isNdjson ? StreamDecoder.ndjson() : StreamDecoder.sse();
+            Consumer<String> emit =
+                    data -> {
+                        if (!StreamDecoder.DONE_MARKER.equals(data)) {
+                            sink.next(data);
+                        }
+                    };
+            input = body.byteStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while (!decoder.isDone() && !sink.isCancelled() && (read = input.read(buffer)) != -1) {
+                decoder.decode(buffer, read, emit);
+            }
+            if (decoder.isDone()) {
+                log.debug("Received SSE [DONE] marker");
+            } else if (!sink.isCancelled()) {
+                decoder.finish(emit);
+            }
 
-                                        if (!data.isEmpty()) {
-                                            sink.next(data);
-                                        }
-                                    }
-                                    // Skip other SSE fields (event:, id:, retry:, comments)
-                                }
+            sink.complete();
+        } catch (IOException e) {
+            if (!sink.isCancelled()) {
+                sink.error(
+                        new HttpTransportException("SSE stream read failed: " + e.getMessage(), e));
+            }
+        } finally {
+            closeQuietly(input);
+            closeQuietly(response.body());
+            closeQuietly(response);
+        }
+    }
 
-                                sink.complete();
-                            } catch (IOException e) {
-                                if (!sink.isCancelled()) {
-                                    sink.error(
-                                            new HttpTransportException(
-                                                    "SSE stream read failed: " + e.getMessage(),
-                                                    e));
-                                }
-                            } finally {
-                                closeQuietly(reader);
-                                if (response != null) {
-                                    closeQuietly(response.body());
-                                }
-                                closeQuietly(response);
-                            }
-                        })
-                .subscribeOn(Schedulers.boundedElastic());
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Active and queued requests are those of the dispatcher: all streaming requests, and the
+     * non-streaming requests in progress, which are executed on the calling thread and not
+     * queued.
+     */
+    @Override
+    public ConnectionPoolStats getConnectionPoolStats() {
+        return new ConnectionPoolStats(
+                client.dispatcher().runningCallsCount(),
+                client.dispatcher().queuedCallsCount(),
+                client.connectionPool().idleConnectionCount(),
+                client.connectionPool().connectionCount());
     }
 
     @Override
@@ -332,7 +365,7 @@ public class OkHttpTransport implements HttpTransport {
         return config;
     }
 
-    private Request buildOkHttpRequest(HttpRequest request) {
+    private Request buildOkHttpRequest(HttpRequest request, boolean acceptCompressed) {
         Request.Builder builder = new Request.Builder().url(request.getUrl());
 
         // Add headers
@@ -340,50 +373,93 @@ public class OkHttpTransport implements HttpTransport {
             builder.addHeader(header.getKey(), header.getValue());
         }
 
+        // Setting Accept-Encoding turns off OkHttp's transparent gzip, so the body can be
+        // decompressed and measured here; streamed responses keep OkHttp's handling
+        String acceptEncoding = acceptCompressed ? compression.acceptEncoding(request) : null;
+        if (acceptEncoding != null) {
+            builder.header(HttpCompression.ACCEPT_ENCODING, acceptEncoding);
+        }
+
         // Set method and body
         String method = request.getMethod().toUpperCase();
-        String body = request.getBody();
+        RequestBody body = requestBody(request, builder);
 
         switch (method) {
             case "GET":
                 builder.get();
                 break;
             case "POST":
-                builder.post(
-                        body != null
-                                ? RequestBody.create(body, JSON_MEDIA_TYPE)
-                                : RequestBody.create("", JSON_MEDIA_TYPE));
+                builder.post(body != null ? body : RequestBody.create("", JSON_MEDIA_TYPE));
                 break;
             case "PUT":
-                builder.put(
-                        body != null
-                                ? RequestBody.create(body, JSON_MEDIA_TYPE)
-                                : RequestBody.create("", JSON_MEDIA_TYPE));
+                builder.put(body != null ? body : RequestBody.create("", JSON_MEDIA_TYPE));
                 break;
             case "DELETE":
                 if (body != null) {
-                    builder.delete(RequestBody.create(body, JSON_MEDIA_TYPE));
+                    builder.delete(body);
                 } else {
                     builder.delete();
                 }
                 break;
             default:
-                builder.method(
-                        method, body != null ? RequestBody.create(body, JSON_MEDIA_TYPE) : null);
+                builder.method(method, body);
         }
 
         return builder.build();
     }
 
+    private RequestBody requestBody(HttpRequest request, Request.Builder builder) {
+        byte[] compressed = compression.compressBody(request);
+        if (compressed != null) {
+            builder.header(HttpCompression.CONTENT_ENCODING, compression.getContentEncoding());
+            return RequestBody.create(compressed, JSON_MEDIA_TYPE);
+        }
+        HttpRequest.BodyWriter writer = request.getBodyWriter();
+        if (writer != null) {
+            // Written straight to the connection, with chunked transfer encoding
+            return new RequestBody() {
+                @Override
+                public MediaType contentType() {
+                    return JSON_MEDIA_TYPE;
+                }
+
+                @Override
+                public void writeTo(BufferedSink sink) throws IOException {
+                    writer.writeTo(sink.outputStream());
+                }
+            };
+        }
+        byte[] body = request.getBodyBytes();
+        return body != null ? RequestBody.create(body, JSON_MEDIA_TYPE) : null;
+    }
+
     private HttpResponse buildHttpResponse(Response response) throws IOException {
+        ResponseBody responseBody = response.body();
+        byte[] received = responseBody != null ? responseBody.bytes() : null;
+        byte[] body =
+                received != null
+                        ? compression.decompress(
+                                response.header(HttpCompression.CONTENT_ENCODING), received)
+                        : null;
+        boolean decompressed = body != received;
+
+        // Decode with the charset of the Content-Type, as ResponseBody.string() does
+        MediaType contentType = responseBody != null ? responseBody.contentType() : null;
+        Charset charset =
+                contentType != null
+                        ? contentType.charset(StandardCharsets.UTF_8)
+                        : StandardCharsets.UTF_8;
+
         HttpResponse.Builder builder =
                 HttpResponse.builder()
                         .statusCode(response.code())
-                        .body(getResponseBodyString(response));
+                        .body(body != null ? new String(body, charset) : null);
 
         // Copy headers
         for (String name : response.headers().names()) {
-            builder.header(name, response.header(name));
+            if (!(decompressed && HttpCompression.isCompressedBodyHeader(name))) {
+                builder.header(name, response.header(name));
+            }
         }
 
         return builder.build();
@@ -409,6 +485,15 @@ public class OkHttpTransport implements HttpTransport {
         }
     }
 
+    /**
+     * Get the counters of the bytes saved by compression.
+     *
+     * @return the compression metrics of this transport
+     */
+    public CompressionMetrics getCompressionMetrics() {
+        return compression.getMetrics();
+    }
+
     /**
      * Create a new builder for OkHttpTransport.
      *
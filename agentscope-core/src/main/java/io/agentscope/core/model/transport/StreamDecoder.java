@@ -0,0 +1,213 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.model.transport;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Incremental decoder of streaming response bodies, in SSE or NDJSON format.
+ *
+ * <p>Bytes are fed in chunks as they arrive and split into lines ({@code \n}, {@code \r\n} or
+ * {@code \r}) without decoding them to text first. Only the payloads are turned into strings:
+ * <ul>
+ *   <li>SSE: the {@code data} fields of an event are joined with {@code \n} and emitted, trimmed,
+ *       when the event ends at a blank line. Comments and the {@code event}, {@code id} and
+ *       {@code retry} fields are skipped, events with empty data are dropped, and a
+ *       {@value #DONE_MARKER} payload is emitted as is and ends the stream.
+ *   <li>NDJSON: every non-empty line is emitted.
+ * </ul>
+ *
+ * <p>This class is not thread-safe.
+ */
+final class StreamDecoder {
+
+    /** Payload that marks the end of an SSE stream. */
+    static final String DONE_MARKER = "[DONE]";
+
+    private static final byte[] DATA_FIELD = "data".getBytes(StandardCharsets.US_ASCII);
+
+    private final boolean ndjson;
+
+    private byte[] line = new byte[256];
+    private int lineLength;
+    private boolean skipLineFeed; // the last line ended with \r, so a following \n belongs to it
+
+    // SSE: data of the current event
+    private byte[] data = new byte[256];
+    private int dataLength;
+    private boolean hasData;
+
+    private boolean done;
+
+    private StreamDecoder(boolean ndjson) {
+        this.ndjson = ndjson;
+    }
+
+    /**
+     * Creates a decoder for Server-Sent Events.
+     *
+     * @return a new decoder
+     */
+    static StreamDecoder sse() {
+        return new StreamDecoder(false);
+    }
+
+    /**
+     * Creates a decoder for newline-delimited JSON.
+     *
+     * @return a new decoder
+     */
+    static StreamDecoder ndjson() {
+        return new StreamDecoder(true);
+    }
+
+    /**
+     * Decodes the next chunk of the body. Input after the end marker is ignored.
+     *
+     * @param buffer the bytes to decode; its position is advanced to its limit
+     * @param sink receives every completed payload
+     */
+    void decode(ByteBuffer buffer, Consumer<String> sink) {
+        while (buffer.hasRemaining() && !done) {
+            byte b = buffer.get();
+            if (b == '\n' && skipLineFeed) {
+                skipLineFeed = false;
+                continue;
+            }
+            skipLineFeed = b == '\r';
+            if (b == '\n' || b == '\r') {
+                endLine(sink);
+                lineLength = 0;
+            } else {
+                if (lineLength == line.length) {
+                    line = Arrays.copyOf(line, line.length * 2);
+                }
+                line[lineLength++] = b;
+            }
+        }
+        buffer.position(buffer.limit());
+    }
+
+    /**
+     * Decodes a chunk of the body held in an array.
+     *
+     * @param bytes the array holding the chunk
+     * @param length the number of bytes of the chunk, starting at index 0
+     * @param sink receives every completed payload
+     */
+    void decode(byte[] bytes, int length, Consumer<String> sink) {
+        decode(ByteBuffer.wrap(bytes, 0, length), sink);
+    }
+
+    /**
+     * Signals the end of the body, emitting the last line or event even if it was not terminated.
+     *
+     * @param sink receives the last payload, if any
+     */
+    void finish(Consumer<String> sink) {
+        if (done) {
+            return;
+        }
+        if (lineLength > 0) {
+            endLine(sink);
+            lineLength = 0;
+        }
+        if (!ndjson) {
+            dispatchEvent(sink);
+        }
+    }
+
+    /**
+     * Checks whether the SSE end marker has been decoded.
+     *
+     * @return true if the stream has ended
+     */
+    boolean isDone() {
+        return done;
+    }
+
+    private void endLine(Consumer<String> sink) {
+        if (ndjson) {
+            if (lineLength > 0) {
+                sink.accept(new String(line, 0, lineLength, StandardCharsets.UTF_8));
+            }
+            return;
+        }
+        if (lineLength == 0) {
+            dispatchEvent(sink);
+            return;
+        }
+        if (line[0] == ':') {
+            return; // comment
+        }
+        int colon = indexOf(line, lineLength, (byte) ':');
+        int nameLength = colon < 0 ? lineLength : colon;
+        if (nameLength != DATA_FIELD.length
+                || !Arrays.equals(line, 0, nameLength, DATA_FIELD, 0, nameLength)) {
+            return; // event, id, retry and unknown fields do not affect the payload
+        }
+        int valueStart = colon < 0 ? lineLength : colon + 1;
+        if (valueStart < lineLength && line[valueStart] == ' ') {
+            valueStart++;
+        }
+        int valueLength = lineLength - valueStart;
+        if (dataLength + valueLength + 1 > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, dataLength + valueLength + 1));
+        }
+        if (hasData) {
+            data[dataLength++] = '\n';
+        }
+        hasData = true;
+        System.arraycopy(line, valueStart, data, dataLength, valueLength);
+        dataLength += valueLength;
+    }
+
+    private void dispatchEvent(Consumer<String> sink) {
+        if (!hasData) {
+            return;
+        }
+        int start = 0;
+        int end = dataLength;
+        while (start < end && (data[start] & 0xFF) <= ' ') {
+            start++;
+        }
+        while (end > start && (data[end - 1] & 0xFF) <= ' ') {
+            end--;
+        }
+        hasData = false;
+        dataLength = 0;
+        if (start == end) {
+            return;
+        }
+        String payload = new String(data, start, end - start, StandardCharsets.UTF_8);
+        if (DONE_MARKER.equals(payload)) {
+            done = true;
+        }
+        sink.accept(payload);
+    }
+
+    private static int indexOf(byte[] bytes, int length, byte b) {
+        for (int i = 0; i < length; i++) {
+            if (bytes[i] == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.session;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Sidecar index for the append-only JSONL list files written by {@link JsonSession}.
+ *
+ * <p>The index is a binary file with one fixed-size entry per list item. Each entry stores the end
+ * offset of the item's line in the JSONL file and a CRC32C checksum of the item's JSON content:
+ *
+ * <pre>
+ * +----------------------+--------------------+
+ * | end offset (8 bytes) | content CRC32C (4) |
+ * +----------------------+--------------------+
+ * </pre>
+ *
+ * <p>Because entries are fixed-size, the item count, the committed length of the JSONL file and the
+ * checksum of any single item can be read in O(1) without scanning the data file. This allows
+ * {@link JsonSession} to append new items without re-reading the history, and to truncate the log
+ * at the first modified item instead of rewriting it entirely.
+ *
+ * <p>Bytes in the JSONL file past the committed length (e.g. left over from an interrupted write)
+ * are ignored by readers and discarded on the next write.
+ */
+final class JsonListIndex {
+
+    /** Size of one index entry in bytes. */
+    static final int ENTRY_SIZE = Long.BYTES + Integer.BYTES;
+
+    private JsonListIndex() {
+        // Utility class, prevent instantiation
+    }
+
+    /**
+     * Read the entry at the given position.
+     *
+     * @param channel an open channel on the index file
+     * @param position the item position
+     * @return the entry
+     * @throws IOException if reading fails
+     */
+    static Entry read(FileChannel channel, int position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(ENTRY_SIZE);
+        long offset = (long) position * ENTRY_SIZE;
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new IOException("Truncated index entry at position " + position);
+            }
+        }
+        buffer.flip();
+        return new Entry(buffer.getLong(), buffer.getInt());
+    }
+
+    /**
+     * Read the checksums of the first items of an index.
+     *
+     * @param channel an open channel on the index file
+     * @param count the number of items to read
+     * @return the checksums in item order
+     * @throws IOException if reading fails
+     */
+    static int[] readChecksums(FileChannel channel, int count) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(count * ENTRY_SIZE);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) < 0) {
+                throw new IOException("Truncated index with " + count + " entries");
+            }
+        }
+        buffer.flip();
+        int[] checksums = new int[count];
+        for (int i = 0; i < count; i++) {
+            buffer.getLong();
+            checksums[i] = buffer.getInt();
+        }
+        return checksums;
+    }
+
+    /**
+     * Read all end offsets from an index file.
+     *
+     * @param indexFile the index file
+     * @return end offsets in item order, empty if the file doesn't exist
+     * @throws IOException if reading fails
+     */
+    static long[] readEndOffsets(Path indexFile) throws IOException {
+        if (!Files.exists(indexFile)) {
+            return new long[0];
+        }
+        byte[] bytes = Files.readAllBytes(indexFile);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long[] offsets = new long[bytes.length / ENTRY_SIZE];
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = buffer.getLong();
+            buffer.getInt();
+        }
+        return offsets;
+    }
+
+    /**
+     * Rebuild an index from an existing JSONL file that has no index yet.
+     *
+     * <p>Used to migrate list files written before the index was introduced. Blank lines are
+     * skipped, matching the behavior of the original reader.
+     *
+     * @param dataFile the JSONL file to scan
+     * @param indexFile the index file to create
+     * @throws IOException if reading or writing fails
+     */
+    static void rebuild(Path dataFile, Path indexFile) throws IOException {
+        ByteBuffer entries = ByteBuffer.allocate(ENTRY_SIZE * 64);
+        try (FileChannel out =
+                        FileChannel.open(
+                                indexFile,
+                                StandardOpenOption.CREATE,
+                                StandardOpenOption.WRITE,
+                                StandardOpenOption.TRUNCATE_EXISTING);
+                InputStream in = new BufferedInputStream(Files.newInputStream(dataFile), 65536)) {
+            CRC32C crc = new CRC32C();
+            long offset = 0;
+            boolean blank = true;
+            int b;
+            while ((b = in.read()) != -1) {
+                offset++;
+                if (b == '\n') {
+                    if (!blank) {
+                        put(out, entries, offset, (int) crc.getValue());
+                    }
+                    crc.reset();
+                    blank = true;
+                } else if (b != '\r') {
+                    crc.update(b);
+                    blank = blank && Character.isWhitespace(b);
+                }
+            }
+            if (!blank) {
+                put(out, entries, offset, (int) crc.getValue());
+            }
+            flush(out, entries);
+        }
+    }
+
+    /**
+     * Compute the checksum stored for an item's serialized JSON line.
+     *
+     * @param json the item's UTF-8 encoded JSON, without line terminator
+     * @return the CRC32C checksum
+     */
+    static int checksum(byte[] json) {
+        CRC32C crc = new CRC32C();
+        crc.update(json);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Decode the UTF-8 line of an item from the committed region of a data file.
+     *
+     * @param data the committed bytes of the data file
+     * @param start start offset of the line
+     * @param end end offset of the line, including the line terminator
+     * @return the JSON line without terminator
+     */
+    static String line(byte[] data, long start, long end) {
+        int to = (int) end;
+        while (to > start && (data[to - 1] == '\n' || data[to - 1] == '\r')) {
+            to--;
+        }
+        return new String(data, (int) start, to - (int) start, StandardCharsets.UTF_8);
+    }
+
+    private static void put(FileChannel out, ByteBuffer entries, long offset, int crc)
+            throws IOException {
+        if (!entries.hasRemaining()) {
+            flush(out, entries);
+        }
+        entries.putLong(offset).putInt(crc);
+    }
+
+    private static void flush(FileChannel out, ByteBuffer entries) throws IOException {
+        entries.flip();
+        while (entries.hasRemaining()) {
+            out.write(entries);
+        }
+        entries.clear();
+    }
+
+    /**
+     * A single index entry.
+     *
+     * @param endOffset end offset of the item's line in the JSONL file, exclusive
+     * @param checksum CRC32C of the item's JSON content
+     */
+    record Entry(long endOffset, int checksum) {}
+}
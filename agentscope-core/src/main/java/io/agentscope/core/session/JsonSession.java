@@ -20,8 +20,10 @@ import io.agentscope.core.state.SimpleSessionKey;
 import io.agentscope.core.state.State;
 import io.agentscope.core.util.JsonUtils;
 import java.io.BufferedReader;
-import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -53,6 +55,7 @@ import reactor.core.scheduler.Schedulers;
  *   <li>UTF-8 encoding
  *   <li>Graceful handling of missing sessions
  *   <li>Configurable storage directory
+ *   <li>Append-only list logs with an O(1) sidecar index
  * </ul>
  */
 public class JsonSession implements Session {
@@ -109,17 +112,26 @@ public class JsonSession implements Session {
     }
 
     /**
-     * Save a list of state values to a JSONL file with hash-based change detection.
+     * Save a list of state values to an append-only JSONL log.
      *
-     * <p>This method uses hash-based change detection to handle both append-only and mutable lists:
+     * <p>Each list file is paired with a small binary index ({key}.idx, see {@link JsonListIndex})
+     * that records the end offset and a content checksum of every stored item. The index is used to
+     * determine how much of the stored log is still valid without reading the log itself:
      *
      * <ul>
-     *   <li>If the hash changes (list was modified), the entire file is rewritten
-     *   <li>If the list shrinks, the entire file is rewritten
+     *   <li>The stored prefix is verified by comparing the checksum of every stored item, so that
+     *       an item replaced in place is always detected
      *   <li>If the list only grows (append-only), only new items are appended
+     *   <li>If the list was modified or shrunk, the log is truncated just after the last verified
+     *       item and the remaining items are re-appended
      *   <li>If nothing changes, the operation is skipped
      * </ul>
      *
+     * <p>Every item is serialized to verify it, but only new or changed items are written, so the
+     * I/O of a save is proportional to the number of new or changed items rather than to the size
+     * of the history. List files written by earlier versions without an index are indexed once on
+     * first save.
+     *
      * @param sessionKey the session identifier
      * @param key the state key (e.g., "memory_messages")
      * @param values the list of state values to save
@@ -127,88 +139,134 @@ public class JsonSession implements Session {
     @Override
     public void save(SessionKey sessionKey, String key, List<? extends State> values) {
         Path file = getListPath(sessionKey, key);
-        Path hashFile = getHashPath(sessionKey, key);
+        Path indexFile = getIndexPath(sessionKey, key);
         ensureDirectoryExists(file.getParent());
 
         try {
-            // Compute current hash
-            String currentHash = ListHashUtil.computeHash(values);
-
-            // Read stored hash (may be null if file doesn't exist)
-            String storedHash = readHashFile(hashFile);
-
-            // Get the count of already stored items
-            long existingCount = countLines(file);
-
-            // Determine if full rewrite is needed
-            boolean needsFullRewrite =
-                    ListHashUtil.needsFullRewrite(
-                            currentHash, storedHash, values.size(), (int) existingCount);
-
-            if (needsFullRewrite) {
-                // Full rewrite: delete existing file and write all items
-                rewriteEntireList(file, values);
-            } else if (values.size() > existingCount) {
-                // Incremental append: only write new items
-                List<? extends State> newItems = values.subList((int) existingCount, values.size());
-                appendToList(file, newItems);
-            }
-            // else: no change, skip writing
+            ensureIndex(file, indexFile, getHashPath(sessionKey, key));
+
+            try (FileChannel index =
+                    FileChannel.open(
+                            indexFile,
+                            StandardOpenOption.CREATE,
+                            StandardOpenOption.READ,
+                            StandardOpenOption.WRITE)) {
+                int existingCount = (int) (index.size() / JsonListIndex.ENTRY_SIZE);
+                int validCount = countValidPrefix(index, values, existingCount);
+
+                if (validCount == existingCount && values.size() == existingCount) {
+                    // No change, skip writing
+                    return;
+                }
 
-            // Update hash file
-            writeHashFile(hashFile, currentHash);
+                long validEnd =
+                        validCount == 0 ? 0 : JsonListIndex.read(index, validCount - 1).endOffset();
+                appendToList(
+                        file,
+                        validEnd,
+                        values.subList(validCount, values.size()),
+                        index,
+                        validCount);
+            }
         } catch (IOException e) {
             throw new RuntimeException("Failed to save list: " + key, e);
         }
     }
 
     /**
-     * Rewrite the entire list file with all values.
+     * Count how many leading stored items still match the given list.
      *
-     * @param file the file to write to
-     * @param values the values to write
-     * @throws IOException if writing fails
+     * <p>The checksum of every stored item is compared, in order, up to the first mismatch. Items
+     * can be replaced anywhere in the list (e.g. by memory compression), so checking only some
+     * positions could keep a stale item on disk.
+     *
+     * @param index channel on the index file
+     * @param values the list being saved
+     * @param existingCount number of items currently stored
+     * @return number of leading items that can be kept as they are
+     * @throws IOException if reading the index fails
      */
-    private void rewriteEntireList(Path file, List<? extends State> values) throws IOException {
-        // Delete existing file if it exists
-        Files.deleteIfExists(file);
-
-        // Write all items
-        try (BufferedWriter writer =
-                Files.newBufferedWriter(
-                        file,
-                        StandardCharsets.UTF_8,
-                        StandardOpenOption.CREATE,
-                        StandardOpenOption.WRITE)) {
-
-            for (State item : values) {
-                String json = JsonUtils.getJsonCodec().toJson(item);
-                writer.write(json);
-                writer.newLine();
+    private int countValidPrefix(FileChannel index, List<? extends State> values, int existingCount)
+            throws IOException {
+        int comparable = Math.min(existingCount, values.size());
+        int[] checksums = JsonListIndex.readChecksums(index, comparable);
+        for (int i = 0; i < comparable; i++) {
+            if (checksums[i] != JsonListIndex.checksum(toJsonBytes(values.get(i)))) {
+                return i;
             }
         }
+        return comparable;
     }
 
     /**
-     * Append items to an existing list file.
+     * Truncate the list log to the given offset and append items after it.
+     *
+     * <p>Any bytes past {@code validEnd}, including the lines of modified items and leftovers from
+     * interrupted writes, are discarded. Stale index entries are dropped before the data file is
+     * touched and new entries are written after it, so an interrupted save never leaves the index
+     * pointing at partially written items.
      *
-     * @param file the file to append to
+     * @param file the JSONL file
+     * @param validEnd offset in the JSONL file after the last item to keep
      * @param items the items to append
+     * @param index channel on the index file
+     * @param validCount number of index entries to keep
      * @throws IOException if writing fails
      */
-    private void appendToList(Path file, List<? extends State> items) throws IOException {
-        try (BufferedWriter writer =
-                Files.newBufferedWriter(
-                        file,
-                        StandardCharsets.UTF_8,
-                        StandardOpenOption.CREATE,
-                        StandardOpenOption.APPEND)) {
-
-            for (State item : items) {
-                String json = JsonUtils.getJsonCodec().toJson(item);
-                writer.write(json);
-                writer.newLine();
-            }
+    private void appendToList(
+            Path file,
+            long validEnd,
+            List<? extends State> items,
+            FileChannel index,
+            int validCount)
+            throws IOException {
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        ByteBuffer entries = ByteBuffer.allocate(items.size() * JsonListIndex.ENTRY_SIZE);
+        long offset = validEnd;
+        for (State item : items) {
+            byte[] json = toJsonBytes(item);
+            data.write(json);
+            data.write('\n');
+            offset += json.length + 1;
+            entries.putLong(offset).putInt(JsonListIndex.checksum(json));
+        }
+
+        long indexEnd = (long) validCount * JsonListIndex.ENTRY_SIZE;
+        index.truncate(indexEnd);
+
+        try (FileChannel channel =
+                FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.truncate(validEnd);
+            writeFully(channel, ByteBuffer.wrap(data.toByteArray()), validEnd);
+        }
+
+        entries.flip();
+        writeFully(index, entries, indexEnd);
+    }
+
+    /**
+     * Create the index for a list file written without one, and drop the legacy hash file.
+     *
+     * @param file the JSONL file
+     * @param indexFile the index file
+     * @param legacyHashFile the hash file used by earlier versions
+     * @throws IOException if indexing fails
+     */
+    private void ensureIndex(Path file, Path indexFile, Path legacyHashFile) throws IOException {
+        if (!Files.exists(indexFile) && Files.exists(file)) {
+            JsonListIndex.rebuild(file, indexFile);
+        }
+        Files.deleteIfExists(legacyHashFile);
+    }
+
+    private static byte[] toJsonBytes(State item) {
+        return JsonUtils.getJsonCodec().toJson(item).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position)
+            throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
         }
     }
 
@@ -249,31 +307,84 @@ public class JsonSession implements Session {
     @Override
     public <T extends State> List<T> getList(SessionKey sessionKey, String key, Class<T> itemType) {
         Path file = getListPath(sessionKey, key);
+        Path indexFile = getIndexPath(sessionKey, key);
 
         if (!Files.exists(file)) {
             return List.of();
         }
 
         try {
-            List<T> result = new ArrayList<>();
-
-            // Read JSONL format - one JSON object per line
-            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    if (!line.isBlank()) {
-                        T item = JsonUtils.getJsonCodec().fromJson(line, itemType);
-                        result.add(item);
-                    }
-                }
+            if (!Files.exists(indexFile)) {
+                return readLegacyList(file, itemType);
             }
 
+            // Only the committed region recorded by the index is read
+            long[] endOffsets = JsonListIndex.readEndOffsets(indexFile);
+            if (endOffsets.length == 0) {
+                return List.of();
+            }
+            byte[] data = readCommitted(file, endOffsets[endOffsets.length - 1]);
+
+            List<T> result = new ArrayList<>(endOffsets.length);
+            long start = 0;
+            for (long end : endOffsets) {
+                String line = JsonListIndex.line(data, start, end);
+                result.add(JsonUtils.getJsonCodec().fromJson(line, itemType));
+                start = end;
+            }
             return result;
         } catch (IOException e) {
             throw new RuntimeException("Failed to load list: " + key, e);
         }
     }
 
+    /**
+     * Read a list file that has no index yet (written by an earlier version).
+     *
+     * @param file the JSONL file
+     * @param itemType the expected item type
+     * @param <T> the item type
+     * @return the list of state values
+     * @throws IOException if reading fails
+     */
+    private <T extends State> List<T> readLegacyList(Path file, Class<T> itemType)
+            throws IOException {
+        List<T> result = new ArrayList<>();
+
+        // Read JSONL format - one JSON object per line
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    T item = JsonUtils.getJsonCodec().fromJson(line, itemType);
+                    result.add(item);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Read the first {@code length} bytes of a file through a file channel.
+     *
+     * @param file the file to read
+     * @param length number of bytes to read
+     * @return the bytes read
+     * @throws IOException if the file is shorter than {@code length} or reading fails
+     */
+    private byte[] readCommitted(Path file, long length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(length));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, buffer.position()) < 0) {
+                    throw new IOException("List file is shorter than its index: " + file);
+                }
+            }
+        }
+        return buffer.array();
+    }
+
     /**
      * Check if a session exists.
      *
@@ -367,60 +478,25 @@ public class JsonSession implements Session {
     }
 
     /**
-     * Get the file path for a list hash file.
+     * Get the file path for a list index file.
      *
      * @param sessionKey the session key
      * @param key the state key
-     * @return Path to the hash file ({sessionDir}/{key}.hash)
-     */
-    private Path getHashPath(SessionKey sessionKey, String key) {
-        return getSessionDir(sessionKey).resolve(key + ".hash");
-    }
-
-    /**
-     * Read the stored hash from a hash file.
-     *
-     * @param hashFile the hash file path
-     * @return the stored hash, or null if file doesn't exist
+     * @return Path to the index file ({sessionDir}/{key}.idx)
      */
-    private String readHashFile(Path hashFile) {
-        if (!Files.exists(hashFile)) {
-            return null;
-        }
-        try {
-            return Files.readString(hashFile, StandardCharsets.UTF_8).trim();
-        } catch (IOException e) {
-            // If we can't read the hash, treat as no hash (will trigger full rewrite)
-            return null;
-        }
-    }
-
-    /**
-     * Write a hash value to a hash file.
-     *
-     * @param hashFile the hash file path
-     * @param hash the hash value to write
-     * @throws IOException if writing fails
-     */
-    private void writeHashFile(Path hashFile, String hash) throws IOException {
-        Files.writeString(hashFile, hash, StandardCharsets.UTF_8);
+    private Path getIndexPath(SessionKey sessionKey, String key) {
+        return getSessionDir(sessionKey).resolve(key + ".idx");
     }
 
     /**
-     * Count the number of non-blank lines in a file.
+     * Get the file path for the list hash file used by earlier versions.
      *
-     * @param file the file to count lines in
-     * @return number of non-blank lines, or 0 if file doesn't exist
+     * @param sessionKey the session key
+     * @param key the state key
+     * @return Path to the hash file ({sessionDir}/{key}.hash)
      */
-    private long countLines(Path file) {
-        if (!Files.exists(file)) {
-            return 0;
-        }
-        try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
-            return lines.filter(line -> !line.isBlank()).count();
-        } catch (IOException e) {
-            return 0;
-        }
+    private Path getHashPath(SessionKey sessionKey, String key) {
+        return getSessionDir(sessionKey).resolve(key + ".hash");
     }
 
     /**
@@ -16,6 +16,11 @@
 package io.agentscope.core.session;
 
 import io.agentscope.core.state.State;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
 
 /**
@@ -95,6 +100,33 @@ public final class ListHashUtil {
         return Integer.toHexString(sb.toString().hashCode());
     }
 
+    /**
+     * Compute a hash of the full content of a list, given the JSON of its items.
+     *
+     * <p>Unlike {@link #computeHash}, which samples a few elements, every item contributes to this
+     * hash, so replacing any item changes it. Session implementations that append to a stored list
+     * use it to check that the stored items are still a prefix of the list being saved.
+     *
+     * @param jsonItems the JSON of the items, in list order
+     * @return a hex string SHA-256 hash of the items
+     */
+    public static String computeContentHash(List<String> jsonItems) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+        for (String json : jsonItems) {
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            // Length-prefixed, so that item boundaries are part of the hash
+            digest.update(length.clear().putInt(bytes.length).array());
+            digest.update(bytes);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
     /**
      * Get the indices to sample from a list of given size.
      *
@@ -15,9 +15,11 @@
  */
 package io.agentscope.core.tool;
 
+import com.networknt.schema.Schema;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Wrapper for AgentTool with metadata for schema extension and execution.
@@ -32,6 +34,7 @@ class RegisteredToolFunction {
     private final String mcpClientName; // null for non-MCP tools
     private volatile Map<String, Object>
             presetParameters; // preset parameters for context injection
+    private volatile CompiledSchema inputSchema; // null until first validation
 
     /**
      * Normalizes preset parameters map to ensure non-null return.
@@ -127,6 +130,33 @@ class RegisteredToolFunction {
         this.presetParameters = normalizePresetParameters(newPresetParameters);
     }
 
+    /**
+     * Validates tool input against the tool's parameter schema.
+     *
+     * <p>The compiled schema is kept and reused for as long as the tool returns an equal
+     * parameter map, so that the schema is only compiled again when it actually changes.
+     *
+     * @param input The raw JSON input of the tool call
+     * @return null if validation passes, or an error message describing the validation failures
+     */
+    String validateInput(String input) {
+        Map<String, Object> parameters = tool.getParameters();
+        if (parameters == null || parameters.isEmpty()) {
+            return null; // No schema, validation passes
+        }
+
+        CompiledSchema compiled = inputSchema;
+        if (compiled == null || !compiled.isCompiledFrom(parameters)) {
+            try {
+                compiled = new CompiledSchema(parameters, ToolValidator.compileSchema(parameters));
+            } catch (Exception e) {
+                return "Schema validation error: " + e.getMessage();
+            }
+            inputSchema = compiled;
+        }
+        return ToolValidator.validateCompiled(input, compiled.schema());
+    }
+
     /**
      * Get the extended JSON schema by merging base parameters with extended model.
      *
@@ -139,4 +169,17 @@ class RegisteredToolFunction {
         }
         return extendedModel.mergeWithBaseSchema(tool.getParameters());
     }
+
+    /**
+     * A compiled input schema and the parameter map it was compiled from.
+     *
+     * @param parameters The tool parameters
+     * @param schema The compiled schema
+     */
+    private record CompiledSchema(Map<String, Object> parameters, Schema schema) {
+
+        boolean isCompiledFrom(Map<String, Object> parameters) {
+            return this.parameters == parameters || Objects.equals(this.parameters, parameters);
+        }
+    }
 }
@@ -141,9 +141,11 @@ class ToolExecutor {
             return Mono.just(ToolResultBlock.error(errorMsg));
         }
 
-        // Validate input against schema
+        // Validate input against schema, compiled once per registration
         String validationError =
-                ToolValidator.validateInput(toolCall.getContent(), tool.getParameters());
+                registered != null
+                        ? registered.validateInput(toolCall.getContent())
+                        : ToolValidator.validateInput(toolCall.getContent(), tool.getParameters());
         if (validationError != null) {
             String errorMsg =
                     String.format(
@@ -45,6 +45,7 @@ public class ToolGroup {
     private final String description;
     private boolean active;
     private final Set<String> tools; // Tool names in this group
+    private volatile Runnable changeListener; // Notified of changes, set by ToolGroupManager
 
     private ToolGroup(Builder builder) {
         this.name = Objects.requireNonNull(builder.name, "name cannot be null");
@@ -87,6 +88,7 @@ public class ToolGroup {
      */
     public void setActive(boolean active) {
         this.active = active;
+        notifyChanged();
     }
 
     /**
@@ -105,6 +107,7 @@ public class ToolGroup {
      */
     public void addTool(String toolName) {
         tools.add(toolName);
+        notifyChanged();
     }
 
     /**
@@ -114,6 +117,7 @@ public class ToolGroup {
      */
     public void removeTool(String toolName) {
         tools.remove(toolName);
+        notifyChanged();
     }
 
     /**
@@ -126,6 +130,22 @@ public class ToolGroup {
         return tools.contains(toolName);
     }
 
+    /**
+     * Sets the listener notified whenever the activation state or the tools of this group change.
+     *
+     * @param changeListener The listener (null for none)
+     */
+    void setChangeListener(Runnable changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    private void notifyChanged() {
+        Runnable listener = changeListener;
+        if (listener != null) {
+            listener.run();
+        }
+    }
+
     /**
      * Creates a new builder for constructing ToolGroup instances.
      *
@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,6 +35,7 @@ class ToolGroupManager {
     private final Map<String, ToolGroup> toolGroups = new ConcurrentHashMap<>(); // group -> tools
     private final Map<String, Set<String>> tools = new ConcurrentHashMap<>(); // tool -> groups
     private List<String> activeGroups = new ArrayList<>();
+    private final AtomicLong generation = new AtomicLong();
 
     /**
      * Create tool groups and record them in the manager.
@@ -52,7 +54,7 @@ class ToolGroupManager {
         ToolGroup group =
                 ToolGroup.builder().name(groupName).description(description).active(active).build();
 
-        toolGroups.put(groupName, group);
+        putGroup(group);
 
         if (active && !activeGroups.contains(groupName)) {
             activeGroups.add(groupName);
@@ -117,6 +119,8 @@ class ToolGroupManager {
                 logger.warn("Tool group '{}' does not exist, skipping removal", groupName);
                 continue;
             }
+            group.setChangeListener(null);
+            generation.incrementAndGet();
 
             // Collect tools from this group
             Set<String> groupTools = group.getTools();
@@ -283,6 +287,7 @@ class ToolGroupManager {
         if (group != null) {
             group.addTool(toolName);
             tools.computeIfAbsent(toolName, key -> ConcurrentHashMap.newKeySet()).add(groupName);
+            generation.incrementAndGet();
         }
     }
 
@@ -297,6 +302,7 @@ class ToolGroupManager {
         if (group != null) {
             group.removeTool(toolName);
             removeGroupFromToolIndex(toolName, groupName);
+            generation.incrementAndGet();
         }
     }
 
@@ -325,6 +331,7 @@ class ToolGroupManager {
      */
     public void setActiveGroups(List<String> activeGroups) {
         this.activeGroups = new ArrayList<>(activeGroups);
+        generation.incrementAndGet();
 
         // Mark corresponding groups as active
         for (String groupName : activeGroups) {
@@ -366,7 +373,7 @@ class ToolGroupManager {
                             .tools(sourceGroup.getTools())
                             .build();
 
-            target.toolGroups.put(groupName, copiedGroup);
+            target.putGroup(copiedGroup);
         }
 
         for (Map.Entry<String, Set<String>> entry : tools.entrySet()) {
@@ -375,6 +382,23 @@ class ToolGroupManager {
 
         // Copy activeGroups list
         target.activeGroups = new ArrayList<>(this.activeGroups);
+        target.generation.incrementAndGet();
+    }
+
+    /**
+     * Get the generation of this manager, which changes whenever groups are created or removed,
+     * activated or deactivated, or tools are added to or removed from a group.
+     *
+     * @return The current generation
+     */
+    long getGeneration() {
+        return generation.get();
+    }
+
+    private void putGroup(ToolGroup group) {
+        group.setChangeListener(generation::incrementAndGet);
+        toolGroups.put(group.getName(), group);
+        generation.incrementAndGet();
     }
 
     private boolean removeGroupFromToolIndex(String toolName, String groupName) {
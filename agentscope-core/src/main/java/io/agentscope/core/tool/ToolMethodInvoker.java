@@ -21,7 +21,12 @@ import io.agentscope.core.message.Msg;
 import io.agentscope.core.message.ToolResultBlock;
 import io.agentscope.core.util.ExceptionUtils;
 import io.agentscope.core.util.JsonUtils;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -31,7 +36,11 @@ import reactor.core.publisher.Mono;
 
 /**
  * Invokes tool methods with type conversion and error handling.
- * This class handles reflection-based method invocation and parameter conversion.
+ * This class handles method invocation and parameter conversion.
+ *
+ * <p>Everything that depends only on the method signature (the method handle, how each
+ * parameter is bound and the result type) is resolved once into a {@link MethodPlan}, which
+ * {@link Toolkit} prepares when the tool is registered.
  */
 class ToolMethodInvoker {
 
@@ -41,6 +50,17 @@ class ToolMethodInvoker {
         this.defaultConverter = resultConverter;
     }
 
+    /**
+     * Prepare the invocation plan for a tool method.
+     *
+     * @param toolObject the object containing the method
+     * @param method the method to invoke
+     * @return the invocation plan
+     */
+    MethodPlan prepare(Object toolObject, Method method) {
+        return new MethodPlan(toolObject, method);
+    }
+
     /**
      * Invoke tool method asynchronously with custom converter support.
      *
@@ -55,36 +75,38 @@ class ToolMethodInvoker {
             Method method,
             ToolCallParam param,
             ToolResultConverter customConverter) {
+        return invokeAsync(prepare(toolObject, method), param, customConverter);
+    }
+
+    /**
+     * Invoke a prepared tool method asynchronously with custom converter support.
+     *
+     * @param plan the invocation plan of the method
+     * @param param the tool call parameters containing input, toolUseBlock, agent, and context
+     * @param customConverter custom converter for this invocation (null to use default)
+     * @return Mono containing ToolResultBlock
+     */
+    Mono<ToolResultBlock> invokeAsync(
+            MethodPlan plan, ToolCallParam param, ToolResultConverter customConverter) {
         // Use custom converter if provided, otherwise use default
         final ToolResultConverter converter =
                 customConverter != null ? customConverter : defaultConverter;
 
-        Map<String, Object> input = param.getInput();
-        Agent agent = param.getAgent();
-        ToolExecutionContext context = param.getContext();
-        ToolEmitter emitter = param.getEmitter();
-
-        Class<?> returnType = method.getReturnType();
+        Class<?> returnType = plan.method.getReturnType();
 
         if (returnType == CompletableFuture.class) {
             // Async method returning CompletableFuture: invoke and convert to Mono
             return Mono.fromCallable(
                             () -> {
-                                method.setAccessible(true);
-                                Object[] args =
-                                        convertParameters(method, input, agent, context, emitter);
                                 @SuppressWarnings("unchecked")
                                 CompletableFuture<Object> future =
-                                        (CompletableFuture<Object>) method.invoke(toolObject, args);
+                                        (CompletableFuture<Object>) plan.invoke(param);
                                 return future;
                             })
                     .flatMap(
                             future ->
                                     Mono.fromFuture(future)
-                                            .map(
-                                                    r ->
-                                                            converter.convert(
-                                                                    r, extractGenericType(method)))
+                                            .map(r -> converter.convert(r, plan.resultType))
                                             .onErrorResume(
                                                     e ->
                                                             Mono.just(
@@ -98,16 +120,13 @@ class ToolMethodInvoker {
             // Async method returning Mono: invoke and flatMap
             return Mono.fromCallable(
                             () -> {
-                                method.setAccessible(true);
-                                Object[] args =
-                                        convertParameters(method, input, agent, context, emitter);
                                 @SuppressWarnings("unchecked")
-                                Mono<Object> mono = (Mono<Object>) method.invoke(toolObject, args);
+                                Mono<Object> mono = (Mono<Object>) plan.invoke(param);
                                 return mono;
                             })
                     .flatMap(
                             mono ->
-                                    mono.map(r -> converter.convert(r, extractGenericType(method)))
+                                    mono.map(r -> converter.convert(r, plan.resultType))
                                             .onErrorResume(
                                                     e ->
                                                             Mono.just(
@@ -121,11 +140,8 @@ class ToolMethodInvoker {
             // Sync method: wrap in Mono.fromCallable
             return Mono.fromCallable(
                             () -> {
-                                method.setAccessible(true);
-                                Object[] args =
-                                        convertParameters(method, input, agent, context, emitter);
-                                Object result = method.invoke(toolObject, args);
-                                return converter.convert(result, method.getGenericReturnType());
+                                Object result = plan.invoke(param);
+                                return converter.convert(result, plan.resultType);
                             })
                     .onErrorResume(
                             e ->
@@ -138,7 +154,7 @@ class ToolMethodInvoker {
     }
 
     /**
-     * Convert input parameters to method arguments with automatic injection support.
+     * Determine how a parameter is bound, with automatic injection support.
      *
      * <p>This method handles automatic injection of framework-managed objects:
      * <ul>
@@ -151,50 +167,39 @@ class ToolMethodInvoker {
      * <p>Parameters without {@link ToolParam} annotation are treated as auto-injected types.
      * Parameters with {@link ToolParam} are converted from the input map.
      *
-     * @param method the method
-     * @param input the input map
-     * @param agent the agent for Agent injection (may be null)
-     * @param context the tool execution context for ToolExecutionContext injection (may be null)
-     * @param emitter the tool emitter for ToolEmitter injection (may be null)
-     * @return array of converted arguments
+     * @param param the parameter
+     * @return the binding of the parameter
      */
-    private Object[] convertParameters(
-            Method method,
-            Map<String, Object> input,
-            Agent agent,
-            ToolExecutionContext context,
-            ToolEmitter emitter) {
-        Parameter[] parameters = method.getParameters();
-
-        if (parameters.length == 0) {
-            return new Object[0];
+    private static ParameterBinding bindParameter(Parameter param) {
+        Class<?> type = param.getType();
+        Source source;
+        // Special handling: inject ToolEmitter automatically
+        if (type == ToolEmitter.class) {
+            source = Source.EMITTER;
         }
-
-        Object[] args = new Object[parameters.length];
-        for (int i = 0; i < parameters.length; i++) {
-            Parameter param = parameters[i];
-
-            // Special handling: inject ToolEmitter automatically
-            if (param.getType() == ToolEmitter.class) {
-                args[i] = emitter;
-            }
-            // Special handling: inject Agent automatically
-            else if (param.getType() == Agent.class) {
-                args[i] = agent;
-            }
-            // Special handling: inject ToolExecutionContext automatically
-            else if (param.getType() == ToolExecutionContext.class) {
-                args[i] = context;
-            }
-            // User-defined POJO: try to resolve from context
-            else if (isUserContextPojo(param)) {
-                args[i] = resolveContextParameter(param, context);
-            } else {
-                args[i] = convertSingleParameter(param, input);
-            }
+        // Special handling: inject Agent automatically
+        else if (type == Agent.class) {
+            source = Source.AGENT;
+        }
+        // Special handling: inject ToolExecutionContext automatically
+        else if (type == ToolExecutionContext.class) {
+            source = Source.CONTEXT;
+        }
+        // User-defined POJO: try to resolve from context
+        else if (isUserContextPojo(param)) {
+            source = Source.CONTEXT_OBJECT;
+        } else {
+            source = Source.INPUT;
         }
 
-        return args;
+        // First check for @ToolParam annotation to get explicit parameter name
+        String name = param.getName(); // fallback to reflection name
+        ToolParam toolParamAnnotation = param.getAnnotation(ToolParam.class);
+        if (toolParamAnnotation != null && !toolParamAnnotation.name().isEmpty()) {
+            name = toolParamAnnotation.name();
+        }
+        return new ParameterBinding(
+                source, name, type, MethodType.methodType(type).wrap().returnType());
     }
 
     /**
@@ -215,7 +220,7 @@ class ToolMethodInvoker {
      * @param param The parameter to check
      * @return true if the parameter should be resolved from context as user POJO
      */
-    private boolean isUserContextPojo(Parameter param) {
+    private static boolean isUserContextPojo(Parameter param) {
         // 1. Explicitly annotated with @ToolParam → tool input from LLM
         if (param.getAnnotation(ToolParam.class) != null) {
             return false;
@@ -249,65 +254,32 @@ class ToolMethodInvoker {
         return true;
     }
 
-    /**
-     * Resolve a context parameter from ToolExecutionContext.
-     *
-     * <p>Resolution order:
-     * <ol>
-     *   <li>If context exists: try {@link ToolExecutionContext#get(Class)} retrieval</li>
-     *   <li>The get() method internally checks local store first, then global provider</li>
-     * </ol>
-     *
-     * @param param The parameter to resolve
-     * @param context The tool execution context (may be null)
-     * @return Resolved parameter value, or null if resolution fails
-     */
-    private Object resolveContextParameter(Parameter param, ToolExecutionContext context) {
-        Class<?> targetType = param.getType();
-
-        // Get from context (delegates to store and provider)
-        if (context != null) {
-            return context.get(targetType);
-        }
-
-        // No context provided - cannot resolve
-        return null;
-    }
-
     /**
      * Convert a single parameter from input map.
      *
-     * @param parameter the parameter to convert
+     * @param binding the binding of the parameter
      * @param input the input map
      * @return converted parameter value
      */
-    private Object convertSingleParameter(Parameter parameter, Map<String, Object> input) {
-        // First check for @ToolParam annotation to get explicit parameter name
-        String paramName = parameter.getName(); // fallback to reflection name
-        ToolParam toolParamAnnotation = parameter.getAnnotation(ToolParam.class);
-        if (toolParamAnnotation != null && !toolParamAnnotation.name().isEmpty()) {
-            paramName = toolParamAnnotation.name();
-        }
-
-        Object value = input.get(paramName);
+    private static Object convertSingleParameter(
+            ParameterBinding binding, Map<String, Object> input) {
+        Object value = input.get(binding.name());
 
         if (value == null) {
             return null;
         }
 
-        Class<?> paramType = parameter.getType();
-
         // Direct assignment if types match
-        if (paramType.isAssignableFrom(value.getClass())) {
+        if (binding.boxedType().isInstance(value)) {
             return value;
         }
 
         // Try JsonCodec conversion first
         try {
-            return JsonUtils.getJsonCodec().convertValue(value, paramType);
+            return JsonUtils.getJsonCodec().convertValue(value, binding.type());
         } catch (Exception e) {
             // Fallback to string-based conversion for primitives
-            return convertFromString(value.toString(), paramType);
+            return convertFromString(value.toString(), binding.type());
         }
     }
 
@@ -318,7 +290,7 @@ class ToolMethodInvoker {
      * @param targetType the target type
      * @return converted value
      */
-    private Object convertFromString(String stringValue, Class<?> targetType) {
+    private static Object convertFromString(String stringValue, Class<?> targetType) {
         if (targetType == Integer.class || targetType == int.class) {
             return Integer.parseInt(stringValue);
         } else if (targetType == Long.class || targetType == long.class) {
@@ -354,7 +326,7 @@ class ToolMethodInvoker {
      * @param method the method
      * @return the generic type, or null if not found
      */
-    private Type extractGenericType(Method method) {
+    private static Type extractGenericType(Method method) {
         Type genericReturnType = method.getGenericReturnType();
         if (genericReturnType instanceof ParameterizedType) {
             ParameterizedType parameterizedType = (ParameterizedType) genericReturnType;
@@ -365,4 +337,119 @@ class ToolMethodInvoker {
         }
         return null;
     }
+
+    /**
+     * Invocation plan of a tool method, resolved once from the method signature.
+     *
+     * <p>The method is called through a {@link MethodHandle} bound to the tool object. If no
+     * handle can be created for it (for example because its class is not accessible to this
+     * module), the plan falls back to reflection and reports the failure when invoked.
+     */
+    static final class MethodPlan {
+
+        private final Object toolObject;
+        private final Method method;
+        private final MethodHandle handle; // (Object[])Object, or null to use reflection
+        private final ParameterBinding[] bindings;
+        private final Type resultType;
+
+        private MethodPlan(Object toolObject, Method method) {
+            this.toolObject = toolObject;
+            this.method = method;
+            Parameter[] parameters = method.getParameters();
+            this.bindings = new ParameterBinding[parameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                bindings[i] = bindParameter(parameters[i]);
+            }
+            Class<?> returnType = method.getReturnType();
+            this.resultType =
+                    returnType == CompletableFuture.class || returnType == Mono.class
+                            ? extractGenericType(method)
+                            : method.getGenericReturnType();
+            this.handle = createHandle(toolObject, method);
+        }
+
+        private static MethodHandle createHandle(Object toolObject, Method method) {
+            try {
+                method.setAccessible(true);
+                MethodHandle handle = MethodHandles.lookup().unreflect(method);
+                if (!Modifier.isStatic(method.getModifiers())) {
+                    handle = handle.bindTo(toolObject);
+                }
+                return handle.asSpreader(Object[].class, method.getParameterCount())
+                        .asType(MethodType.methodType(Object.class, Object[].class));
+            } catch (IllegalAccessException | RuntimeException e) {
+                return null;
+            }
+        }
+
+        /**
+         * Bind the arguments of a call and invoke the method.
+         *
+         * @param param the tool call parameters
+         * @return the value returned by the method
+         * @throws Exception if the arguments cannot be bound, or {@link InvocationTargetException}
+         *     wrapping the exception thrown by the method
+         */
+        Object invoke(ToolCallParam param) throws Exception {
+            Object[] args = bindArguments(param);
+            if (handle == null) {
+                method.setAccessible(true);
+                return method.invoke(toolObject, args);
+            }
+            try {
+                return (Object) handle.invokeExact(args);
+            } catch (Throwable t) {
+                // Report failures the same way as Method.invoke
+                throw new InvocationTargetException(t);
+            }
+        }
+
+        private Object[] bindArguments(ToolCallParam param) {
+            Object[] args = new Object[bindings.length];
+            for (int i = 0; i < bindings.length; i++) {
+                ParameterBinding binding = bindings[i];
+                Object arg =
+                        switch (binding.source()) {
+                            case EMITTER -> param.getEmitter();
+                            case AGENT -> param.getAgent();
+                            case CONTEXT -> param.getContext();
+                            case CONTEXT_OBJECT ->
+                                    param.getContext() != null
+                                            ? param.getContext().get(binding.type())
+                                            : null;
+                            case INPUT -> convertSingleParameter(binding, param.getInput());
+                        };
+                // Reject what Method.invoke would, before the handle sees it
+                if (arg == null
+                        ? binding.type().isPrimitive()
+                        : !binding.boxedType().isInstance(arg)) {
+                    throw new IllegalArgumentException(
+                            "argument type mismatch for parameter '" + binding.name() + "'");
+                }
+                args[i] = arg;
+            }
+            return args;
+        }
+    }
+
+    /** Where the value of a method parameter comes from. */
+    private enum Source {
+        EMITTER,
+        AGENT,
+        CONTEXT,
+        CONTEXT_OBJECT,
+        INPUT
+    }
+
+    /**
+     * Precomputed binding of a method parameter.
+     *
+     * @param source where the value comes from
+     * @param name the input key of the parameter
+     * @param type the declared parameter type
+     * @param boxedType the declared type, boxed if primitive
+     */
+    private record ParameterBinding(
+            Source source, String name, Class<?> type, Class<?> boxedType) {}
 }
@@ -19,6 +19,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Internal registry for managing tool registration and lookup.
@@ -41,6 +42,7 @@ class ToolRegistry {
 
     private final Map<String, AgentTool> tools = new ConcurrentHashMap<>();
     private final Map<String, RegisteredToolFunction> registeredTools = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
 
     /**
      * Register a tool with its metadata.
@@ -52,6 +54,7 @@ class ToolRegistry {
     void registerTool(String toolName, AgentTool tool, RegisteredToolFunction registered) {
         tools.put(toolName, tool);
         registeredTools.put(toolName, registered);
+        generation.incrementAndGet();
     }
 
     /**
@@ -100,6 +103,16 @@ class ToolRegistry {
     void removeTool(String toolName) {
         tools.remove(toolName);
         registeredTools.remove(toolName);
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Get the generation of this registry, which changes whenever a tool is registered or removed.
+     *
+     * @return The current generation
+     */
+    long getGeneration() {
+        return generation.get();
     }
 
     /**
@@ -17,7 +17,10 @@ package io.agentscope.core.tool;
 
 import io.agentscope.core.model.ToolSchema;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -45,6 +48,7 @@ class ToolSchemaProvider {
 
     private final ToolRegistry toolRegistry;
     private final ToolGroupManager groupManager;
+    private volatile Snapshot snapshot;
 
     /**
      * Creates a ToolSchemaProvider with the given registry and group manager.
@@ -61,10 +65,33 @@ class ToolSchemaProvider {
      * Get tool schemas as ToolSchema objects for model consumption.
      * Updated to respect active tool groups.
      *
+     * <p>The result is an immutable snapshot. While no tool is registered or removed, no group
+     * changes, and every tool reports the same description and parameters, the same list
+     * instance is returned, so that callers can cache anything derived from it by identity.
+     * Schemas of unchanged tools are reused when the snapshot is rebuilt.
+     *
      * @return List of ToolSchema objects
      */
     List<ToolSchema> getToolSchemas() {
-        List<ToolSchema> schemas = new ArrayList<>();
+        // Read generations before the state they guard, so a concurrent change forces a rebuild
+        long registryGeneration = toolRegistry.getGeneration();
+        long groupGeneration = groupManager.getGeneration();
+        Snapshot current = snapshot;
+        if (current != null
+                && current.registryGeneration() == registryGeneration
+                && current.groupGeneration() == groupGeneration
+                && current.isUpToDate()) {
+            return current.schemas();
+        }
+
+        Map<RegisteredToolFunction, Entry> previous = new IdentityHashMap<>();
+        if (current != null) {
+            for (Entry entry : current.entries()) {
+                previous.put(entry.registered(), entry);
+            }
+        }
+
+        List<Entry> entries = new ArrayList<>();
         List<RegisteredToolFunction> registeredTools =
                 new ArrayList<>(toolRegistry.getAllRegisteredTools().values());
         Set<String> activeTools = groupManager.getActiveToolNames();
@@ -78,15 +105,71 @@ class ToolSchemaProvider {
                 continue; // Skip inactive grouped tools
             }
 
-            ToolSchema schema =
-                    ToolSchema.builder()
-                            .name(toolName)
-                            .description(tool.getDescription())
-                            .parameters(registered.getExtendedParameters())
-                            .build();
-            schemas.add(schema);
+            String description = tool.getDescription();
+            Map<String, Object> parameters = tool.getParameters();
+            Entry entry = previous.get(registered);
+            if (entry == null || !entry.matches(description, parameters)) {
+                ToolSchema schema =
+                        ToolSchema.builder()
+                                .name(toolName)
+                                .description(description)
+                                .parameters(registered.getExtendedParameters())
+                                .build();
+                entry = new Entry(registered, description, parameters, schema);
+            }
+            entries.add(entry);
         }
 
+        List<ToolSchema> schemas = entries.stream().map(Entry::schema).toList();
+        snapshot = new Snapshot(registryGeneration, groupGeneration, entries, schemas);
         return schemas;
     }
+
+    /**
+     * Immutable tool schemas for a registry and group generation.
+     *
+     * @param registryGeneration The tool registry generation the snapshot was built from
+     * @param groupGeneration The group manager generation the snapshot was built from
+     * @param entries The included tools
+     * @param schemas The schemas of the included tools
+     */
+    private record Snapshot(
+            long registryGeneration,
+            long groupGeneration,
+            List<Entry> entries,
+            List<ToolSchema> schemas) {
+
+        /** Checks that no tool has changed its description or parameters since the snapshot. */
+        boolean isUpToDate() {
+            for (Entry entry : entries) {
+                AgentTool tool = entry.registered().getTool();
+                if (!entry.matches(tool.getDescription(), tool.getParameters())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A tool schema together with the tool state it was built from.
+     *
+     * @param registered The registered tool
+     * @param description The tool description the schema was built from
+     * @param parameters The tool parameters the schema was built from
+     * @param schema The tool schema
+     */
+    private record Entry(
+            RegisteredToolFunction registered,
+            String description,
+            Map<String, Object> parameters,
+            ToolSchema schema) {
+
+        boolean matches(String description, Map<String, Object> parameters) {
+            // Most tools return the same parameter map every time, so try identity first
+            return Objects.equals(this.description, description)
+                    && (this.parameters == parameters
+                            || Objects.equals(this.parameters, parameters));
+        }
+    }
 }
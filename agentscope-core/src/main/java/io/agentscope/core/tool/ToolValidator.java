@@ -73,15 +73,25 @@ public final class ToolValidator {
             return null; // No schema, validation passes
         }
 
+        Schema jsonSchema;
         try {
-            // Convert schema to JSON string
-            String schemaJson = JsonUtils.getJsonCodec().toJson(schema);
-
-            // Create Schema from the schema string
-            Schema jsonSchema = SCHEMA_REGISTRY.getSchema(schemaJson);
+            jsonSchema = compileSchema(schema);
+        } catch (Exception e) {
+            return "Schema validation error: " + e.getMessage();
+        }
+        return validateCompiled(input, jsonSchema);
+    }
 
-            // Validate
-            List<Error> errors = jsonSchema.validate(input, InputFormat.JSON);
+    /**
+     * Validate tool input parameters against a compiled JSON Schema.
+     *
+     * @param input The input parameters to validate
+     * @param schema The compiled schema (see {@link #compileSchema(Map)})
+     * @return null if validation passes, or an error message describing the validation failures
+     */
+    static String validateCompiled(String input, Schema schema) {
+        try {
+            List<Error> errors = schema.validate(input, InputFormat.JSON);
 
             if (errors.isEmpty()) {
                 return null; // Validation passed
@@ -95,6 +105,21 @@ public final class ToolValidator {
         }
     }
 
+    /**
+     * Compile a JSON Schema for validating tool input.
+     *
+     * <p>Compiling is far more expensive than validating, so callers that validate repeatedly
+     * against the same schema should keep the result. Compiled schemas are immutable and
+     * thread-safe.
+     *
+     * @param schema The JSON Schema (from tool.getParameters())
+     * @return The compiled schema
+     * @throws RuntimeException if the schema cannot be compiled
+     */
+    static Schema compileSchema(Map<String, Object> schema) {
+        return SCHEMA_REGISTRY.getSchema(JsonUtils.getJsonCodec().toJson(schema));
+    }
+
     // ==================== HITL Validation ====================
 
     /**
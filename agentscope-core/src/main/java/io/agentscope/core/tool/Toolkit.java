@@ -354,8 +354,14 @@ public class Toolkit {
         // Parse custom converter from annotation
         ToolResultConverter customConverter = parseConverterFromAnnotation(toolAnnotation);
 
+        // Resolve the method handle and parameter bindings once, not on every call
+        ToolMethodInvoker.MethodPlan plan = methodInvoker.prepare(toolObject, method);
+
         AgentTool tool =
                 new AgentTool() {
+                    // Derived from the method signature only, so generated once
+                    private volatile Map<String, Object> parameters;
+
                     @Override
                     public String getName() {
                         return toolName;
@@ -368,19 +374,23 @@ public class Toolkit {
 
                     @Override
                     public Map<String, Object> getParameters() {
-                        // Exclude preset parameters from the schema
-                        Set<String> excludeParams =
-                                presetParameters != null
-                                        ? presetParameters.keySet()
-                                        : Collections.emptySet();
-                        return schemaGenerator.generateParameterSchema(method, excludeParams);
+                        Map<String, Object> result = parameters;
+                        if (result == null) {
+                            // Exclude preset parameters from the schema
+                            Set<String> excludeParams =
+                                    presetParameters != null
+                                            ? presetParameters.keySet()
+                                            : Collections.emptySet();
+                            result = schemaGenerator.generateParameterSchema(method, excludeParams);
+                            parameters = result;
+                        }
+                        return result;
                     }
 
                     @Override
                     public Mono<ToolResultBlock> callAsync(ToolCallParam param) {
                         // Pass custom converter to method invoker
-                        return methodInvoker.invokeAsync(
-                                toolObject, method, param, customConverter);
+                        return methodInvoker.invokeAsync(plan, param, customConverter);
                     }
                 };
 
@@ -92,6 +92,16 @@ public class JacksonJsonCodec implements JsonCodec {
         }
     }
 
+    @Override
+    public byte[] toJsonBytes(Object obj) {
+        try {
+            return objectMapper.writeValueAsBytes(obj);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize object to JSON: {}", e.getMessage(), e);
+            throw new JsonException("Failed to serialize object to JSON", e);
+        }
+    }
+
     @Override
     public String toPrettyJson(Object obj) {
         try {
@@ -17,6 +17,7 @@
 package io.agentscope.core.util;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Interface for JSON serialization and deserialization operations.
@@ -54,6 +55,20 @@ public interface JsonCodec {
      */
     String toJson(Object obj);
 
+    /**
+     * Serialize an object to UTF-8 encoded JSON bytes.
+     *
+     * <p>Use this method for bodies that are sent as bytes, such as HTTP request bodies, to avoid
+     * building an intermediate string. The default implementation encodes {@link #toJson(Object)}.
+     *
+     * @param obj the object to serialize
+     * @return UTF-8 encoded JSON
+     * @throws JsonException if serialization fails
+     */
+    default byte[] toJsonBytes(Object obj) {
+        return toJson(obj).getBytes(StandardCharsets.UTF_8);
+    }
+
     /**
      * Serialize an object to pretty-printed JSON string.
      *
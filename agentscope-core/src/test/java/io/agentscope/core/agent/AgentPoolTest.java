@@ -0,0 +1,214 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.agent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.agentscope.core.ReActAgent;
+import io.agentscope.core.agent.test.MockModel;
+import io.agentscope.core.memory.InMemoryMemory;
+import io.agentscope.core.message.Msg;
+import io.agentscope.core.message.MsgRole;
+import io.agentscope.core.message.TextBlock;
+import io.agentscope.core.session.InMemorySession;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+/** Tests for AgentPool. */
+@DisplayName("AgentPool Tests")
+class AgentPoolTest {
+
+    private MockModel model;
+    private AtomicInteger built;
+    private InMemorySession session;
+
+    @BeforeEach
+    void setUp() {
+        model = new MockModel("Hello");
+        built = new AtomicInteger();
+        session = new InMemorySession();
+    }
+
+    private AgentPool<ReActAgent> pool(int maxSize) {
+        return AgentPool.builder(
+                        () -> {
+                            built.incrementAndGet();
+                            return ReActAgent.builder()
+                                    .name("Assistant")
+                                    .model(model)
+                                    .memory(new InMemoryMemory())
+                                    .build();
+                        })
+                .maxSize(maxSize)
+                .session(session)
+                .build();
+    }
+
+    private static Msg userMsg(String text) {
+        return Msg.builder()
+                .name("user")
+                .role(MsgRole.USER)
+                .content(TextBlock.builder().text(text).build())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should reuse the agent that last served the same session")
+    void testSessionAffinity() {
+        AgentPool<ReActAgent> pool = pool(2);
+
+        ReActAgent first =
+                pool.withAgent("s1", agent -> agent.call(userMsg("hi")).thenReturn(agent)).block();
+        ReActAgent second =
+                pool.withAgent("s1", agent -> agent.call(userMsg("again")).thenReturn(agent))
+                        .block();
+
+        assertSame(first, second);
+        assertEquals(1, built.get());
+        assertEquals(4, second.getMemory().getMessages().size());
+    }
+
+    @Test
+    @DisplayName("Should reset an agent and load the session it is handed to")
+    void testRebindToOtherSession() {
+        AgentPool<ReActAgent> pool = pool(1);
+
+        pool.withAgent("s1", agent -> agent.call(userMsg("one"))).block();
+        ReActAgent agent = pool.withAgent("s2", a -> Mono.just(a)).block();
+        assertTrue(agent.getMemory().getMessages().isEmpty());
+
+        ReActAgent back = pool.withAgent("s1", a -> Mono.just(a)).block();
+        assertSame(agent, back);
+        assertEquals(2, back.getMemory().getMessages().size());
+        assertEquals(1, built.get());
+    }
+
+    @Test
+    @DisplayName("Should make callers wait when all agents are busy")
+    void testBoundedSize() {
+        AgentPool<ReActAgent> pool = pool(1);
+        AgentPool.Lease<ReActAgent> lease = pool.acquire("s1").block();
+
+        AtomicReference<AgentPool.Lease<ReActAgent>> waiting = new AtomicReference<>();
+        Disposable subscription = pool.acquire("s2").subscribe(waiting::set);
+        assertNull(waiting.get());
+
+        lease.release();
+
+        assertSame(lease.getAgent(), waiting.get().getAgent());
+        assertEquals("s2", waiting.get().getSessionId());
+        assertEquals(1, pool.getSize());
+        subscription.dispose();
+    }
+
+    @Test
+    @DisplayName("Should hand the turn of a cancelled waiter to the next one")
+    void testCancelledWaiter() {
+        AgentPool<ReActAgent> pool = pool(1);
+        AgentPool.Lease<ReActAgent> lease = pool.acquire("s1").block();
+
+        Disposable cancelled = pool.acquire("s2").subscribe();
+        AtomicReference<AgentPool.Lease<ReActAgent>> waiting = new AtomicReference<>();
+        pool.acquire("s3").subscribe(waiting::set);
+        cancelled.dispose();
+
+        lease.release();
+
+        assertEquals("s3", waiting.get().getSessionId());
+    }
+
+    @Test
+    @DisplayName("Should serve waiting callers in arrival order")
+    void testWaitersServedInOrder() {
+        AgentPool<ReActAgent> pool = pool(1);
+        AgentPool.Lease<ReActAgent> lease = pool.acquire("s1").block();
+
+        AtomicReference<AgentPool.Lease<ReActAgent>> first = new AtomicReference<>();
+        AtomicReference<AgentPool.Lease<ReActAgent>> second = new AtomicReference<>();
+        pool.acquire("s2").subscribe(first::set);
+        pool.acquire("s3").subscribe(second::set);
+
+        lease.release();
+
+        // The released agent goes straight to the first waiter and never becomes idle
+        assertEquals("s2", first.get().getSessionId());
+        assertNull(second.get());
+        assertEquals(0, pool.getIdleCount());
+
+        first.get().release();
+
+        assertEquals("s3", second.get().getSessionId());
+        assertEquals(1, pool.getSize());
+    }
+
+    @Test
+    @DisplayName("Should build another agent after the factory fails")
+    void testFactoryFailure() {
+        AtomicInteger calls = new AtomicInteger();
+        AgentPool<ReActAgent> pool =
+                AgentPool.builder(
+                                () -> {
+                                    if (calls.getAndIncrement() == 0) {
+                                        throw new IllegalStateException("boom");
+                                    }
+                                    return ReActAgent.builder()
+                                            .name("Assistant")
+                                            .model(model)
+                                            .build();
+                                })
+                        .maxSize(1)
+                        .build();
+
+        assertThrows(IllegalStateException.class, () -> pool.acquire("s1").block());
+        AgentPool.Lease<ReActAgent> lease = pool.acquire("s1").block();
+
+        assertEquals(1, pool.getSize());
+        lease.release();
+        lease.release();
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    @Test
+    @DisplayName("Should keep separate agents for concurrent sessions")
+    void testConcurrentSessions() {
+        AgentPool<ReActAgent> pool = pool(2);
+        AgentPool.Lease<ReActAgent> a = pool.acquire("s1").block();
+        AgentPool.Lease<ReActAgent> b = pool.acquire("s2").block();
+
+        assertNotSame(a.getAgent(), b.getAgent());
+        assertEquals(2, pool.getSize());
+        assertEquals(0, pool.getIdleCount());
+    }
+
+    @Test
+    @DisplayName("Should validate arguments")
+    void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> AgentPool.builder(null));
+        assertThrows(
+                IllegalArgumentException.class, () -> AgentPool.builder(() -> null).maxSize(0));
+        assertThrows(IllegalArgumentException.class, () -> pool(1).acquire(" "));
+    }
+}
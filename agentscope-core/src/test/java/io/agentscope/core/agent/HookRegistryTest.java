@@ -0,0 +1,197 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.agent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.agentscope.core.hook.ErrorEvent;
+import io.agentscope.core.hook.Hook;
+import io.agentscope.core.hook.HookEvent;
+import io.agentscope.core.hook.HookEventType;
+import io.agentscope.core.hook.PostCallEvent;
+import io.agentscope.core.interruption.InterruptContext;
+import io.agentscope.core.message.Msg;
+import io.agentscope.core.message.MsgRole;
+import io.agentscope.core.message.TextBlock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests for HookRegistry.
+ */
+@DisplayName("HookRegistry Tests")
+class HookRegistryTest {
+
+    private AgentBase agent;
+    private List<String> calls;
+
+    @BeforeEach
+    void setUp() {
+        agent =
+                new AgentBase("TestAgent") {
+                    @Override
+                    protected Mono<Msg> doCall(List<Msg> msgs) {
+                        return Mono.just(msgs.get(0));
+                    }
+
+                    @Override
+                    protected Mono<Void> doObserve(Msg msg) {
+                        return Mono.empty();
+                    }
+
+                    @Override
+                    protected Mono<Msg> handleInterrupt(
+                            InterruptContext context, Msg... originalArgs) {
+                        return Mono.empty();
+                    }
+                };
+        calls = new ArrayList<>();
+    }
+
+    private static Msg msg(String text) {
+        return Msg.builder()
+                .name("Assistant")
+                .role(MsgRole.ASSISTANT)
+                .content(TextBlock.builder().text(text).build())
+                .build();
+    }
+
+    /** Records its calls and appends its name to PostCallEvent messages, optionally later. */
+    private Hook hook(String name, int priority, boolean async, HookEventType... types) {
+        return new Hook() {
+            @Override
+            public <T extends HookEvent> Mono<T> onEvent(T event) {
+                calls.add(name);
+                if (event instanceof PostCallEvent e) {
+                    e.setFinalMessage(msg(e.getFinalMessage().getTextContent() + name));
+                }
+                return async
+                        ? Mono.delay(Duration.ofMillis(10)).thenReturn(event)
+                        : Mono.just(event);
+            }
+
+            @Override
+            public int priority() {
+                return priority;
+            }
+
+            @Override
+            public Set<HookEventType> eventTypes() {
+                return types.length == 0 ? Hook.super.eventTypes() : EnumSet.of(types[0], types);
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Should sort hooks once by priority, keeping registration order for ties")
+    void testSortedHooks() {
+        Hook low = hook("low", 500, false);
+        Hook first = hook("first", 100, false);
+        Hook high = hook("high", 10, false);
+        Hook second = hook("second", 100, false);
+        agent.getHooks().addAll(List.of(low, first, high, second));
+
+        List<Hook> sorted = agent.getSortedHooks();
+
+        assertEquals(List.of(high, first, second, low), sorted);
+        assertSame(sorted, agent.getSortedHooks());
+        assertThrows(UnsupportedOperationException.class, () -> sorted.add(low));
+    }
+
+    @Test
+    @DisplayName("Should recompile the table when the hook list changes")
+    void testTableFollowsChanges() {
+        Hook chunkHook = hook("chunk", 100, false, HookEventType.REASONING_CHUNK);
+        assertFalse(agent.hasHooks(HookEventType.REASONING_CHUNK));
+
+        agent.addHook(chunkHook);
+        assertTrue(agent.hasHooks(HookEventType.REASONING_CHUNK));
+        assertFalse(agent.hasHooks(HookEventType.PRE_CALL));
+
+        agent.getHooks().removeIf(h -> h == chunkHook);
+        assertFalse(agent.hasHooks(HookEventType.REASONING_CHUNK));
+        assertTrue(agent.getSortedHooks().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should chain modifiable events through interested hooks in priority order")
+    void testApplyHooks() {
+        agent.getHooks()
+                .addAll(
+                        List.of(
+                                hook("C", 300, false),
+                                hook("B", 200, true),
+                                hook("A", 100, false),
+                                hook("X", 50, false, HookEventType.ERROR)));
+
+        Mono<PostCallEvent> result = agent.applyHooks(new PostCallEvent(agent, msg(">")));
+        assertTrue(calls.isEmpty(), "hooks run on subscription");
+
+        StepVerifier.create(result.map(e -> e.getFinalMessage().getTextContent()))
+                .expectNext(">ABC")
+                .verifyComplete();
+        assertEquals(List.of("A", "B", "C"), calls);
+    }
+
+    @Test
+    @DisplayName("Should notify hooks at once and wait only for asynchronous ones")
+    void testFireHooks() {
+        agent.getHooks()
+                .addAll(
+                        List.of(
+                                hook("sync", 100, false),
+                                hook("async", 200, true),
+                                hook("other", 300, false, HookEventType.PRE_CALL)));
+
+        Mono<Void> result = agent.fireHooks(new ErrorEvent(agent, new RuntimeException("boom")));
+
+        assertEquals(List.of("sync", "async"), calls);
+        StepVerifier.create(result).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should stop notifying hooks after one fails")
+    void testFireHooksStopsOnError() {
+        agent.getHooks()
+                .addAll(
+                        List.of(
+                                new Hook() {
+                                    @Override
+                                    public <T extends HookEvent> Mono<T> onEvent(T event) {
+                                        calls.add("failing");
+                                        return Mono.error(new IllegalStateException("hook failed"));
+                                    }
+                                },
+                                hook("later", 200, false)));
+
+        StepVerifier.create(agent.fireHooks(new ErrorEvent(agent, new RuntimeException("boom"))))
+                .expectError(IllegalStateException.class)
+                .verify();
+        assertEquals(List.of("failing"), calls);
+    }
+}
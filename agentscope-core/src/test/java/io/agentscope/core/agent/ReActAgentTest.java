@@ -927,6 +927,21 @@ class ReActAgentTest {
                 "Second tool should be calculator");
     }
 
+    @Test
+    @DisplayName("Should not share configured hooks between agents built by one builder")
+    void testBuilderReuseDoesNotAccumulateHooks() {
+        ReActAgent.Builder builder =
+                ReActAgent.builder()
+                        .name(TestConstants.TEST_REACT_AGENT_NAME)
+                        .model(mockModel)
+                        .enablePlan();
+
+        ReActAgent first = builder.build();
+        ReActAgent second = builder.build();
+
+        assertEquals(first.getHooks().size(), second.getHooks().size());
+    }
+
     // Helper method to create tool call response
     private static ChatResponse createToolCallResponseHelper(
             String toolName, String toolCallId, Map<String, Object> arguments) {
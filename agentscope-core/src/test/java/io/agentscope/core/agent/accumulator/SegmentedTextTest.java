@@ -0,0 +1,80 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.agent.accumulator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for SegmentedText.
+ */
+@DisplayName("SegmentedText Tests")
+class SegmentedTextTest {
+
+    @Test
+    @DisplayName("Should join appended chunks, ignoring null and empty ones")
+    void testAppend() {
+        SegmentedText text = new SegmentedText();
+        assertTrue(text.isEmpty());
+
+        for (int i = 0; i < 100; i++) {
+            text.append(Integer.toString(i % 10));
+        }
+        text.append(null);
+        text.append("");
+
+        assertFalse(text.isEmpty());
+        assertEquals(100, text.length());
+        assertEquals("0123456789".repeat(10), text.toString());
+    }
+
+    @Test
+    @DisplayName("Should keep snapshots stable after appends and reset")
+    void testSnapshotIsStable() {
+        SegmentedText text = new SegmentedText();
+        text.append("Hello");
+        SegmentedText.Snapshot hello = text.snapshot();
+        text.append(", world");
+        SegmentedText.Snapshot helloWorld = text.snapshot();
+        assertEquals("Hello, world", text.toString());
+        text.append("!");
+        text.reset();
+        text.append("Bye");
+
+        assertEquals(5, hello.length());
+        assertEquals("Hello", hello.toString());
+        assertEquals("Hello, world", helloWorld.toString());
+        assertEquals('w', helloWorld.charAt(7));
+        assertEquals("Bye", text.toString());
+    }
+
+    @Test
+    @DisplayName("Should materialize a snapshot only once")
+    void testSnapshotMaterializedOnce() {
+        SegmentedText text = new SegmentedText();
+        text.append("a");
+        text.append("b");
+        SegmentedText.Snapshot snapshot = text.snapshot();
+
+        assertSame(snapshot.toString(), snapshot.toString());
+        assertEquals("", new SegmentedText().snapshot().toString());
+    }
+}
@@ -19,12 +19,14 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.agentscope.core.message.ToolUseBlock;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -323,4 +325,25 @@ class ToolCallsAccumulatorTest {
         List<ToolUseBlock> allCalls = accumulator.getAllAccumulatedToolCalls();
         assertEquals(2, allCalls.size());
     }
+
+    @Test
+    @DisplayName("Should keep tool call snapshots stable as chunks arrive")
+    void testToolCallSnapshot() {
+        accumulator.add(
+                ToolUseBlock.builder()
+                        .id("call_1")
+                        .name("get_weather")
+                        .content("{\"city\":")
+                        .build());
+        Supplier<ToolUseBlock> partial = accumulator.getAccumulatedToolCallSnapshot("call_1");
+        accumulator.add(ToolUseBlock.builder().id("call_1").content("\"Tokyo\"}").build());
+        Supplier<ToolUseBlock> complete = accumulator.getAccumulatedToolCallSnapshot("call_1");
+
+        assertEquals("{\"city\":", partial.get().getContent());
+        assertTrue(partial.get().getInput().isEmpty());
+        assertEquals("{\"city\":\"Tokyo\"}", complete.get().getContent());
+        assertEquals("Tokyo", complete.get().getInput().get("city"));
+        assertSame(complete.get(), complete.get());
+        assertNull(new ToolCallsAccumulator().getAccumulatedToolCallSnapshot("call_1"));
+    }
 }
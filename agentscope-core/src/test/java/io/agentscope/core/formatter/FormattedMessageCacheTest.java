@@ -0,0 +1,162 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.formatter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.agentscope.core.formatter.openai.OpenAIChatFormatter;
+import io.agentscope.core.formatter.openai.dto.OpenAIMessage;
+import io.agentscope.core.formatter.openai.dto.OpenAIRequest;
+import io.agentscope.core.message.Msg;
+import io.agentscope.core.message.MsgRole;
+import io.agentscope.core.message.TextBlock;
+import io.agentscope.core.util.JsonUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for FormattedMessageCache.
+ */
+@Tag("unit")
+@DisplayName("FormattedMessageCache Unit Tests")
+class FormattedMessageCacheTest {
+
+    @Test
+    @DisplayName("Should convert the same message instance only once")
+    void testReusesConversion() {
+        FormattedMessageCache<OpenAIMessage> cache = new FormattedMessageCache<>(16);
+        AtomicInteger conversions = new AtomicInteger();
+        Msg msg = msg("m1", "hello");
+
+        List<OpenAIMessage> first = cache.getOrConvert(msg, m -> convert(m, conversions));
+        List<OpenAIMessage> second = cache.getOrConvert(msg, m -> convert(m, conversions));
+
+        assertSame(first.get(0), second.get(0));
+        assertEquals(1, conversions.get());
+        assertNotNull(first.get(0).getCachedJson());
+    }
+
+    @Test
+    @DisplayName("Should convert again for a different instance with the same ID")
+    void testDifferentInstanceSameId() {
+        FormattedMessageCache<OpenAIMessage> cache = new FormattedMessageCache<>(16);
+        AtomicInteger conversions = new AtomicInteger();
+
+        List<OpenAIMessage> first =
+                cache.getOrConvert(msg("m1", "hello"), m -> convert(m, conversions));
+        List<OpenAIMessage> second =
+                cache.getOrConvert(msg("m1", "changed"), m -> convert(m, conversions));
+
+        assertEquals(2, conversions.get());
+        assertNotSame(first.get(0), second.get(0));
+        assertEquals("changed", second.get(0).getContentAsString());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used message when full")
+    void testEviction() {
+        FormattedMessageCache<OpenAIMessage> cache = new FormattedMessageCache<>(2);
+        AtomicInteger conversions = new AtomicInteger();
+        Msg a = msg("a", "a");
+        Msg b = msg("b", "b");
+        Msg c = msg("c", "c");
+
+        cache.getOrConvert(a, m -> convert(m, conversions));
+        cache.getOrConvert(b, m -> convert(m, conversions));
+        cache.getOrConvert(a, m -> convert(m, conversions));
+        cache.getOrConvert(c, m -> convert(m, conversions)); // evicts b
+        cache.getOrConvert(b, m -> convert(m, conversions));
+
+        assertEquals(4, conversions.get());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should detach cached JSON when a message is modified")
+    void testSetterClearsCachedJson() {
+        FormattedMessageCache<OpenAIMessage> cache = new FormattedMessageCache<>(16);
+        OpenAIMessage message =
+                cache.getOrConvert(msg("m1", "hello"), m -> convert(m, new AtomicInteger())).get(0);
+
+        message.setContent("modified");
+
+        assertNull(message.getCachedJson());
+    }
+
+    @Test
+    @DisplayName("Should serialize requests exactly as without the cache")
+    void testRequestJsonUnchanged() {
+        OpenAIChatFormatter formatter = new OpenAIChatFormatter();
+        List<Msg> history = new ArrayList<>();
+        history.add(msg("m1", "What is \"2 + 2\"?"));
+        history.add(
+                Msg.builder()
+                        .id("m2")
+                        .role(MsgRole.ASSISTANT)
+                        .content(TextBlock.builder().text("4").build())
+                        .build());
+
+        formatter.format(history);
+        List<OpenAIMessage> cached = formatter.format(history);
+        List<OpenAIMessage> fresh = new OpenAIChatFormatter().format(copies(history));
+        fresh.forEach(m -> m.setCachedJson(null));
+
+        assertNotNull(cached.get(0).getCachedJson());
+        assertEquals(toJson(fresh), toJson(cached));
+    }
+
+    private static String toJson(List<OpenAIMessage> messages) {
+        OpenAIRequest request = new OpenAIRequest();
+        request.setModel("gpt-4o");
+        request.setMessages(messages);
+        return JsonUtils.getJsonCodec().toJson(request);
+    }
+
+    private static List<Msg> copies(List<Msg> msgs) {
+        List<Msg> result = new ArrayList<>();
+        for (Msg msg : msgs) {
+            result.add(
+                    Msg.builder()
+                            .id(msg.getId())
+                            .role(msg.getRole())
+                            .content(msg.getContent())
+                            .build());
+        }
+        return result;
+    }
+
+    private static List<OpenAIMessage> convert(Msg msg, AtomicInteger conversions) {
+        conversions.incrementAndGet();
+        return List.of(OpenAIMessage.builder().role("user").content(msg.getTextContent()).build());
+    }
+
+    private static Msg msg(String id, String text) {
+        return Msg.builder()
+                .id(id)
+                .role(MsgRole.USER)
+                .content(TextBlock.builder().text(text).build())
+                .build();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.formatter.anthropic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.anthropic.core.JsonValue;
+import com.anthropic.models.messages.ContentBlockParam;
+import com.anthropic.models.messages.MessageCreateParams;
+import com.anthropic.models.messages.MessageParam;
+import com.anthropic.models.messages.TextBlockParam;
+import com.anthropic.models.messages.Tool;
+import com.anthropic.models.messages.ToolResultBlockParam;
+import com.anthropic.models.messages.ToolUnion;
+import io.agentscope.core.model.GenerateOptions;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for AnthropicCacheHelper. */
+class AnthropicCacheHelperTest {
+
+    private static Tool tool(String name) {
+        return Tool.builder()
+                .name(name)
+                .inputSchema(
+                        Tool.InputSchema.builder().properties(JsonValue.from(Map.of())).build())
+                .build();
+    }
+
+    private static MessageCreateParams params() {
+        return MessageCreateParams.builder()
+                .model("claude-sonnet-4-5-20250929")
+                .maxTokens(1024)
+                .system("You are a helpful assistant")
+                .addTool(tool("search"))
+                .addTool(tool("fetch"))
+                .addMessage(
+                        MessageParam.builder().role(MessageParam.Role.USER).content("Hi").build())
+                .addMessage(
+                        MessageParam.builder()
+                                .role(MessageParam.Role.USER)
+                                .contentOfBlockParams(
+                                        List.of(
+                                                ContentBlockParam.ofToolResult(
+                                                        ToolResultBlockParam.builder()
+                                                                .toolUseId("call_1")
+                                                                .content("result")
+                                                                .build())))
+                                .build())
+                .build();
+    }
+
+    @Test
+    void testApplyCacheControl() {
+        MessageCreateParams params = AnthropicCacheHelper.applyCacheControl(params());
+
+        List<TextBlockParam> system = params.system().get().asTextBlockParams();
+        assertEquals("You are a helpful assistant", system.get(0).text());
+        assertTrue(system.get(0).cacheControl().isPresent());
+
+        List<ToolUnion> tools = params.tools().get();
+        assertFalse(tools.get(0).asTool().cacheControl().isPresent());
+        assertTrue(tools.get(1).asTool().cacheControl().isPresent());
+
+        List<MessageParam> messages = params.messages();
+        assertTrue(messages.get(0).content().isString());
+        ContentBlockParam last = messages.get(1).content().asBlockParams().get(0);
+        assertEquals("call_1", last.asToolResult().toolUseId());
+        assertTrue(last.asToolResult().cacheControl().isPresent());
+    }
+
+    @Test
+    void testApplyPromptCachingOnlyWhenEnabled() {
+        AnthropicChatFormatter formatter = new AnthropicChatFormatter();
+        MessageCreateParams params = params();
+
+        assertSame(params, formatter.applyPromptCaching(params, null, null));
+        assertSame(
+                params,
+                formatter.applyPromptCaching(
+                        params, GenerateOptions.builder().promptCaching(false).build(), null));
+
+        MessageCreateParams cached =
+                formatter.applyPromptCaching(
+                        params, null, GenerateOptions.builder().promptCaching(true).build());
+        assertTrue(cached.system().get().isTextBlockParams());
+    }
+}
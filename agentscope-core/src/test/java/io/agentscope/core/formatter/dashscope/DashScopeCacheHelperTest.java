@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.formatter.dashscope;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.agentscope.core.formatter.dashscope.dto.DashScopeContentPart;
+import io.agentscope.core.formatter.dashscope.dto.DashScopeInput;
+import io.agentscope.core.formatter.dashscope.dto.DashScopeMessage;
+import io.agentscope.core.formatter.dashscope.dto.DashScopeRequest;
+import io.agentscope.core.util.JsonUtils;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for DashScopeCacheHelper. */
+class DashScopeCacheHelperTest {
+
+    @Test
+    void testApplyCacheControlMarksSystemAndLastMessage() {
+        DashScopeMessage system =
+                DashScopeMessage.builder().role("system").content("You are helpful").build();
+        DashScopeMessage user = DashScopeMessage.builder().role("user").content("Hi").build();
+        DashScopeMessage last =
+                DashScopeMessage.builder()
+                        .role("user")
+                        .content(
+                                List.of(
+                                        DashScopeContentPart.builder().text("Describe").build(),
+                                        DashScopeContentPart.builder()
+                                                .image("https://example.com/a.png")
+                                                .build()))
+                        .build();
+        DashScopeRequest request =
+                DashScopeRequest.builder()
+                        .model("qwen-plus")
+                        .input(
+                                DashScopeInput.builder()
+                                        .messages(List.of(system, user, last))
+                                        .build())
+                        .build();
+
+        DashScopeCacheHelper.applyCacheControl(request);
+
+        List<DashScopeMessage> messages = request.getInput().getMessages();
+        assertEquals(
+                "{\"role\":\"system\",\"content\":[{\"text\":\"You are helpful\","
+                        + "\"cache_control\":{\"type\":\"ephemeral\"}}]}",
+                JsonUtils.getJsonCodec().toJson(messages.get(0)));
+        assertSame(user, messages.get(1));
+        List<DashScopeContentPart> parts = messages.get(2).getContentAsList();
+        assertNull(parts.get(0).getCacheControl());
+        assertEquals("https://example.com/a.png", parts.get(1).getImage());
+        assertEquals(Map.of("type", "ephemeral"), parts.get(1).getCacheControl());
+
+        // Formatted messages may be cached by the formatter and are left untouched
+        assertEquals("You are helpful", system.getContent());
+        assertNull(last.getContentAsList().get(1).getCacheControl());
+    }
+}
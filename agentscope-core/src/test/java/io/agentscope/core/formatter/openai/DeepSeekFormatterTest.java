@@ -28,6 +28,7 @@ import io.agentscope.core.formatter.openai.dto.OpenAIToolCall;
 import io.agentscope.core.message.Msg;
 import io.agentscope.core.message.MsgRole;
 import io.agentscope.core.message.TextBlock;
+import io.agentscope.core.model.GenerateOptions;
 import io.agentscope.core.model.ToolSchema;
 import java.util.ArrayList;
 import java.util.List;
@@ -131,6 +132,32 @@ class DeepSeekFormatterTest {
         }
     }
 
+    @Nested
+    @DisplayName("Prompt Cache Key Tests")
+    class PromptCacheKeyTests {
+
+        @Test
+        @DisplayName("applyOptions should not set prompt_cache_key")
+        void testApplyOptionsWithoutPromptCacheKey() {
+            OpenAIRequest request =
+                    OpenAIRequest.builder()
+                            .model("deepseek-chat")
+                            .messages(
+                                    List.of(
+                                            OpenAIMessage.builder()
+                                                    .role("system")
+                                                    .content("You are helpful")
+                                                    .build()))
+                            .build();
+
+            formatter.applyOptions(
+                    request, GenerateOptions.builder().promptCaching(true).build(), null);
+
+            assertFalse(formatter.supportsPromptCacheKey());
+            assertNull(request.getPromptCacheKey());
+        }
+    }
+
     @Nested
     @DisplayName("supportsStrict Tests")
     class SupportsStrictTests {
@@ -17,8 +17,10 @@ package io.agentscope.core.formatter.openai;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -158,6 +160,87 @@ class OpenAIChatFormatterTest {
         assertEquals(42, request.getSeed());
     }
 
+    @Test
+    @DisplayName("Should derive prompt cache key from system messages and tools")
+    void testApplyOptionsWithPromptCaching() {
+        GenerateOptions options = GenerateOptions.builder().promptCaching(true).build();
+        OpenAIMessage system =
+                OpenAIMessage.builder().role("system").content("You are helpful").build();
+
+        OpenAIRequest first =
+                OpenAIRequest.builder()
+                        .model("gpt-4")
+                        .messages(
+                                List.of(
+                                        system,
+                                        OpenAIMessage.builder()
+                                                .role("user")
+                                                .content("Hello")
+                                                .build()))
+                        .build();
+        OpenAIRequest second =
+                OpenAIRequest.builder()
+                        .model("gpt-4")
+                        .messages(
+                                List.of(
+                                        system,
+                                        OpenAIMessage.builder()
+                                                .role("user")
+                                                .content("Bye")
+                                                .build()))
+                        .build();
+        OpenAIRequest otherSystem =
+                OpenAIRequest.builder()
+                        .model("gpt-4")
+                        .messages(
+                                List.of(
+                                        OpenAIMessage.builder()
+                                                .role("system")
+                                                .content("You are terse")
+                                                .build()))
+                        .build();
+        OpenAIRequest disabled =
+                OpenAIRequest.builder().model("gpt-4").messages(List.of(system)).build();
+
+        formatter.applyOptions(first, options, null);
+        formatter.applyOptions(second, options, null);
+        formatter.applyOptions(otherSystem, options, null);
+        formatter.applyOptions(disabled, null, GenerateOptions.builder().build());
+
+        assertEquals(32, first.getPromptCacheKey().length());
+        assertEquals(first.getPromptCacheKey(), second.getPromptCacheKey());
+        assertNotEquals(first.getPromptCacheKey(), otherSystem.getPromptCacheKey());
+        assertNull(disabled.getPromptCacheKey());
+    }
+
+    @Test
+    @DisplayName("Should cover tools in the prompt cache key when built through buildRequest")
+    void testBuildRequestPromptCacheKeyCoversTools() {
+        GenerateOptions options = GenerateOptions.builder().promptCaching(true).build();
+        List<OpenAIMessage> messages =
+                List.of(OpenAIMessage.builder().role("system").content("You are helpful").build());
+        List<ToolSchema> tools =
+                List.of(
+                        ToolSchema.builder()
+                                .name("get_weather")
+                                .description("Get weather information")
+                                .build());
+
+        // buildRequest applies the options before the tools
+        OpenAIRequest built =
+                formatter.buildRequest("gpt-4", messages, false, options, null, tools, null);
+        OpenAIRequest withoutTools =
+                formatter.buildRequest("gpt-4", messages, false, options, null, null, null);
+        OpenAIRequest toolsFirst =
+                OpenAIRequest.builder().model("gpt-4").messages(messages).build();
+        formatter.applyTools(toolsFirst, tools);
+        formatter.applyOptions(toolsFirst, options, null);
+
+        assertNotNull(built.getPromptCacheKey());
+        assertNotEquals(withoutTools.getPromptCacheKey(), built.getPromptCacheKey());
+        assertEquals(toolsFirst.getPromptCacheKey(), built.getPromptCacheKey());
+    }
+
     @Test
     @DisplayName("Should use default options when options is null")
     void testApplyOptionsWithNull() {
@@ -725,6 +808,23 @@ class OpenAIChatFormatterTest {
 
             assertNull(request.getTools());
         }
+
+        @Test
+        @DisplayName("Should reuse converted tools for the same schemas")
+        void testApplyToolsReusesConversion() {
+            List<ToolSchema> tools =
+                    List.of(ToolSchema.builder().name("search").description("Search").build());
+            OpenAIRequest first =
+                    OpenAIRequest.builder().model("gpt-4").messages(List.of()).build();
+            OpenAIRequest second =
+                    OpenAIRequest.builder().model("gpt-4").messages(List.of()).build();
+
+            formatter.applyTools(first, tools);
+            formatter.applyTools(second, List.copyOf(tools));
+
+            assertSame(first.getTools(), second.getTools());
+            assertNotNull(first.getTools().get(0).getCachedJson());
+        }
     }
 
     @Nested
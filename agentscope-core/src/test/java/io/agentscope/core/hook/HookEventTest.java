@@ -18,6 +18,7 @@ package io.agentscope.core.hook;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import io.agentscope.core.agent.Agent;
@@ -32,6 +33,7 @@ import io.agentscope.core.model.GenerateOptions;
 import io.agentscope.core.tool.Toolkit;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -252,6 +254,39 @@ class HookEventTest {
             assertEquals(incrementalChunk, event.getIncrementalChunk());
             assertEquals(accumulatedChunk, event.getAccumulated());
         }
+
+        @Test
+        @DisplayName("Should build a lazy accumulated message once, on first use")
+        void testLazyAccumulated() {
+            Msg incrementalChunk =
+                    Msg.builder()
+                            .name("Assistant")
+                            .role(MsgRole.ASSISTANT)
+                            .content(TextBlock.builder().text("chunk").build())
+                            .build();
+            AtomicInteger builds = new AtomicInteger();
+
+            ReasoningChunkEvent event =
+                    ReasoningChunkEvent.lazy(
+                            testAgent,
+                            "gpt-4",
+                            generateOptions,
+                            incrementalChunk,
+                            () -> {
+                                builds.incrementAndGet();
+                                return Msg.builder()
+                                        .name("Assistant")
+                                        .role(MsgRole.ASSISTANT)
+                                        .content(TextBlock.builder().text("accumulated").build())
+                                        .build();
+                            });
+
+            assertEquals(incrementalChunk, event.getIncrementalChunk());
+            assertEquals(0, builds.get());
+            assertEquals("accumulated", event.getAccumulated().getTextContent());
+            assertSame(event.getAccumulated(), event.getAccumulated());
+            assertEquals(1, builds.get());
+        }
     }
 
     @Nested
@@ -1300,6 +1300,49 @@ class DashScopeHttpClientTest {
         assertTrue(properties.containsKey("age"));
     }
 
+    @Test
+    void testEncryptedRequestWithAdditionalBodyParams() throws Exception {
+        java.security.KeyPair keyPair = generateRsaKeyPair();
+        String publicKeyBase64 =
+                Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded());
+
+        DashScopeHttpClient encryptedClient =
+                DashScopeHttpClient.builder()
+                        .apiKey("test-api-key")
+                        .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                        .publicKeyId("test-key-id")
+                        .publicKey(publicKeyBase64)
+                        .build();
+
+        mockServer.enqueue(
+                new MockResponse()
+                        .setResponseCode(200)
+                        .setBody("{\"request_id\":\"test\",\"output\":{\"choices\":[]}}")
+                        .setHeader("Content-Type", "application/json"));
+
+        DashScopeRequest request = createTestRequest("qwen-plus", "Merge and encrypt");
+        encryptedClient.call(request, null, Map.of("enable_search", true), null);
+
+        RecordedRequest recorded = mockServer.takeRequest();
+        Map<String, Object> body =
+                JsonUtils.getJsonCodec()
+                        .fromJson(recorded.getBody().readUtf8(), new TypeReference<>() {});
+        assertEquals(List.of("model", "input", "parameters"), List.copyOf(body.keySet()));
+
+        // Input is encrypted exactly as it would have been serialized in the plain body
+        String decryptedInput =
+                DashScopeEncryptionUtils.decryptWithAes(
+                        extractAesKeyFromRequest(recorded, keyPair.getPrivate()),
+                        extractIvFromRequest(recorded),
+                        (String) body.get("input"));
+        assertEquals(JsonUtils.getJsonCodec().toJson(request.getInput()), decryptedInput);
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> parameters = (Map<String, Object>) body.get("parameters");
+        assertEquals(true, parameters.get("enable_search"));
+        assertEquals("message", parameters.get("result_format"));
+    }
+
     @Test
     void testEncryptionHeaderAbsentWhenNoInput() throws Exception {
         java.security.KeyPair keyPair = generateRsaKeyPair();
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.agentscope.core.message.TextBlock;
+import io.agentscope.core.model.concurrency.AdaptiveConcurrencyLimiter;
+import io.agentscope.core.model.concurrency.LimiterStats;
+import io.agentscope.core.model.transport.HttpTransportException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+class ModelUtilsTest {
+
+    private static ChatResponse response(String text) {
+        return new ChatResponse(
+                "id", List.of(TextBlock.builder().text(text).build()), null, null, null);
+    }
+
+    private static String text(ChatResponse response) {
+        return ((TextBlock) response.getContent().get(0)).getText();
+    }
+
+    private static Flux<ChatResponse> apply(Flux<ChatResponse> attempt, ExecutionConfig config) {
+        GenerateOptions options = GenerateOptions.builder().executionConfig(config).build();
+        return ModelUtils.applyTimeoutAndRetry(attempt, options, null, "test-model", "test");
+    }
+
+    @Test
+    void testResponseCacheOnlyAppliesAtTemperatureZero() {
+        ResponseCache cache = ResponseCache.builder().build();
+        AtomicInteger calls = new AtomicInteger();
+        Flux<ChatResponse> call =
+                Flux.defer(
+                        () -> {
+                            calls.incrementAndGet();
+                            return Flux.just(response("ok"));
+                        });
+        GenerateOptions deterministic =
+                GenerateOptions.builder().temperature(0.0).responseCache(cache).build();
+        GenerateOptions sampled =
+                GenerateOptions.builder().temperature(0.7).responseCache(cache).build();
+
+        for (int i = 0; i < 3; i++) {
+            ModelUtils.applyResponseCache(call, () -> "request", null, deterministic, "m")
+                    .blockLast();
+            ModelUtils.applyResponseCache(call, () -> "request", sampled, deterministic, "m")
+                    .blockLast();
+        }
+
+        assertEquals(4, calls.get());
+        assertEquals(2, cache.getHitCount());
+    }
+
+    @Test
+    void testResponseCacheHitDoesNotWaitForLimiter() {
+        AdaptiveConcurrencyLimiter limiter =
+                AdaptiveConcurrencyLimiter.builder().initialLimit(1).maxLimit(1).build();
+        ExecutionConfig config = ExecutionConfig.builder().limiter(limiter).maxAttempts(1).build();
+        GenerateOptions options =
+                GenerateOptions.builder()
+                        .temperature(0.0)
+                        .responseCache(ResponseCache.builder().build())
+                        .build();
+        Flux<ChatResponse> call = apply(Flux.just(response("ok")), config);
+        ModelUtils.applyResponseCache(call, () -> "request", options, null, "m").blockLast();
+
+        // Hold the only permit, so that a call reaching the limiter would have to wait
+        Disposable busy = apply(Flux.never(), config).subscribe();
+        try {
+            StepVerifier.create(
+                            ModelUtils.applyResponseCache(
+                                    call, () -> "request", options, null, "m"))
+                    .expectNextMatches(response -> "ok".equals(text(response)))
+                    .expectComplete()
+                    .verify(Duration.ofSeconds(1));
+            assertEquals(1, limiter.getStats().inFlight());
+        } finally {
+            busy.dispose();
+        }
+    }
+
+    @Test
+    void testLimiterBoundsConcurrentCalls() {
+        AdaptiveConcurrencyLimiter limiter =
+                AdaptiveConcurrencyLimiter.builder().initialLimit(3).maxLimit(3).build();
+        ExecutionConfig config = ExecutionConfig.builder().limiter(limiter).maxAttempts(1).build();
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        Flux<ChatResponse> attempt =
+                Flux.defer(
+                        () -> {
+                            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                            return Flux.just(response("ok"))
+                                    .delayElements(Duration.ofMillis(20))
+                                    .doOnComplete(active::decrementAndGet);
+                        });
+
+        StepVerifier.create(Flux.range(0, 12).flatMap(i -> apply(attempt, config), 12).count())
+                .expectNext(12L)
+                .verifyComplete();
+
+        assertEquals(3, maxActive.get());
+        assertEquals(new LimiterStats(3, 0, 0, 0, 0), limiter.getStats());
+    }
+
+    @Test
+    void testOverloadErrorsDecreaseLimit() {
+        AdaptiveConcurrencyLimiter limiter =
+                AdaptiveConcurrencyLimiter.builder().initialLimit(10).backoffRatio(0.5).build();
+        ExecutionConfig config = ExecutionConfig.builder().limiter(limiter).maxAttempts(1).build();
+
+        StepVerifier.create(
+                        apply(
+                                Flux.error(new HttpTransportException("overloaded", 503, "")),
+                                config))
+                .expectError(HttpTransportException.class)
+                .verify();
+        StepVerifier.create(apply(Flux.error(new IllegalStateException("bug")), config))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        assertEquals(new LimiterStats(5, 0, 0, 0, 1), limiter.getStats());
+    }
+
+    @Test
+    void testHedgedCallUsesFirstResponse() {
+        AtomicInteger attempts = new AtomicInteger();
+        Flux<ChatResponse> attempt =
+                Flux.defer(
+                        () ->
+                                attempts.incrementAndGet() == 1
+                                        ? Flux.just(response("slow"))
+                                                .delayElements(Duration.ofSeconds(5))
+                                        : Flux.just(response("fast")));
+        ExecutionConfig config =
+                ExecutionConfig.builder().hedgeDelay(Duration.ofMillis(50)).maxAttempts(1).build();
+
+        StepVerifier.create(apply(attempt, config).map(ModelUtilsTest::text))
+                .expectNext("fast")
+                .expectComplete()
+                .verify(Duration.ofSeconds(2));
+
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void testHedgedCallReportsErrorWhenBothAttemptsFail() {
+        ExecutionConfig config =
+                ExecutionConfig.builder().hedgeDelay(Duration.ofMillis(10)).maxAttempts(1).build();
+
+        StepVerifier.create(apply(Flux.error(new IllegalStateException("failed")), config))
+                .expectErrorMatches(
+                        e -> e instanceof IllegalStateException && "failed".equals(e.getMessage()))
+                .verify();
+    }
+
+    @Test
+    void testRetryWaitsForRetryAfter() {
+        AtomicInteger attempts = new AtomicInteger();
+        Flux<ChatResponse> attempt =
+                Flux.defer(
+                        () ->
+                                attempts.incrementAndGet() == 1
+                                        ? Flux.error(
+                                                new ModelException(
+                                                        "rate limited",
+                                                        new HttpTransportException(
+                                                                "rate limited",
+                                                                429,
+                                                                "",
+                                                                Duration.ofMillis(300))))
+                                        : Flux.just(response("ok")));
+        ExecutionConfig config =
+                ExecutionConfig.builder()
+                        .maxAttempts(2)
+                        .initialBackoff(Duration.ofMillis(1))
+                        .maxBackoff(Duration.ofSeconds(1))
+                        .build();
+
+        long start = System.nanoTime();
+        StepVerifier.create(apply(attempt, config)).expectNextCount(1).verifyComplete();
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 300);
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void testNoRetryWhenRetryAfterExceedsMaxBackoff() {
+        AtomicInteger attempts = new AtomicInteger();
+        Flux<ChatResponse> attempt =
+                Flux.defer(
+                        () -> {
+                            attempts.incrementAndGet();
+                            return Flux.error(
+                                    new HttpTransportException(
+                                            "rate limited", 429, "", Duration.ofMinutes(5)));
+                        });
+        ExecutionConfig config =
+                ExecutionConfig.builder()
+                        .maxAttempts(3)
+                        .initialBackoff(Duration.ofMillis(1))
+                        .maxBackoff(Duration.ofSeconds(1))
+                        .build();
+
+        StepVerifier.create(apply(attempt, config))
+                .expectError(HttpTransportException.class)
+                .verify();
+
+        assertEquals(1, attempts.get());
+    }
+}
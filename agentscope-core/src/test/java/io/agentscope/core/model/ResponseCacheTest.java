@@ -0,0 +1,178 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.anthropic.core.ObjectMappers;
+import com.anthropic.models.messages.MessageCreateParams;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.agentscope.core.formatter.openai.dto.OpenAIMessage;
+import io.agentscope.core.formatter.openai.dto.OpenAIRequest;
+import io.agentscope.core.message.TextBlock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+class ResponseCacheTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private Flux<ChatResponse> call(String... texts) {
+        return Flux.defer(
+                () -> {
+                    calls.incrementAndGet();
+                    return Flux.fromArray(texts)
+                            .map(
+                                    text ->
+                                            new ChatResponse(
+                                                    "id",
+                                                    List.of(TextBlock.builder().text(text).build()),
+                                                    null,
+                                                    null,
+                                                    null));
+                });
+    }
+
+    private static List<String> texts(Flux<ChatResponse> responses) {
+        return responses
+                .map(response -> ((TextBlock) response.getContent().get(0)).getText())
+                .collectList()
+                .block();
+    }
+
+    @Test
+    void testRepeatedRequestIsAnsweredFromCache() {
+        ResponseCache cache = ResponseCache.builder().build();
+        Map<String, Object> request = Map.of("messages", List.of("hello"));
+
+        assertEquals(List.of("a", "b"), texts(cache.cached("m", request, call("a", "b"))));
+        assertEquals(List.of("a", "b"), texts(cache.cached("m", request, call("x"))));
+
+        assertEquals(1, calls.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testFailedCallsAreNotCached() {
+        ResponseCache cache = ResponseCache.builder().build();
+
+        StepVerifier.create(
+                        cache.cached(
+                                "m",
+                                "request",
+                                call("partial").concatWith(Flux.error(new RuntimeException()))))
+                .expectNextCount(1)
+                .expectError()
+                .verify();
+
+        assertEquals(0, cache.size());
+        assertEquals(List.of("ok"), texts(cache.cached("m", "request", call("ok"))));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testEntriesExpireAfterTtl() throws InterruptedException {
+        ResponseCache cache = ResponseCache.builder().ttl(Duration.ofMillis(50)).build();
+
+        texts(cache.cached("m", "request", call("first")));
+        Thread.sleep(100);
+
+        assertEquals(List.of("second"), texts(cache.cached("m", "request", call("second"))));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntriesAreEvicted() {
+        ResponseCache cache = ResponseCache.builder().maxEntries(2).build();
+
+        texts(cache.cached("m", "a", call("a")));
+        texts(cache.cached("m", "b", call("b")));
+        texts(cache.cached("m", "a", call("a")));
+        texts(cache.cached("m", "c", call("c")));
+
+        assertEquals(2, cache.size());
+        texts(cache.cached("m", "a", call("a")));
+        texts(cache.cached("m", "b", call("b")));
+
+        // a, b and c each missed once, and b again after its eviction
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    void testKeyIsCanonical() {
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("model", "m");
+        first.put("temperature", 0.0);
+        Map<String, Object> second = new LinkedHashMap<>();
+        second.put("temperature", 0.0);
+        second.put("model", "m");
+
+        assertEquals(ResponseCache.key("m", first), ResponseCache.key("m", second));
+        assertNotEquals(ResponseCache.key("m", first), ResponseCache.key("other", first));
+        assertNotEquals(
+                ResponseCache.key("m", first), ResponseCache.key("m", Map.of("model", "m")));
+    }
+
+    @Test
+    void testKeyUsesCachedMessageJson() throws Exception {
+        OpenAIMessage bye = OpenAIMessage.builder().role("user").content("bye").build();
+        OpenAIMessage hi = OpenAIMessage.builder().role("user").content("hi").build();
+        // The attached JSON is hashed verbatim, without serializing the message again
+        hi.setCachedJson(new ObjectMapper().writeValueAsString(bye));
+
+        assertEquals(
+                ResponseCache.key("m", OpenAIRequest.builder().messages(List.of(bye)).build()),
+                ResponseCache.key("m", OpenAIRequest.builder().messages(List.of(hi)).build()));
+    }
+
+    @Test
+    void testKeyOfAnthropicRequest() throws Exception {
+        MessageCreateParams.Builder builder =
+                MessageCreateParams.builder()
+                        .model("claude-sonnet-4-5-20250929")
+                        .maxTokens(1024)
+                        .addUserMessage("Hello");
+
+        // AnthropicChatModel keys on the body as serialized by the SDK
+        String key = ResponseCache.key("claude", json(builder.build()));
+
+        assertEquals(key, ResponseCache.key("claude", json(builder.build())));
+        assertNotEquals(key, ResponseCache.key("claude", json(builder.maxTokens(512).build())));
+        assertNotEquals(
+                key, ResponseCache.key("claude", json(builder.addUserMessage("Again").build())));
+    }
+
+    private static String json(MessageCreateParams params) throws Exception {
+        return ObjectMappers.jsonMapper().writeValueAsString(params._body());
+    }
+
+    @Test
+    void testBuilderValidation() {
+        assertThrows(
+                IllegalArgumentException.class, () -> ResponseCache.builder().ttl(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> ResponseCache.builder().maxEntries(0));
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.model.concurrency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.agentscope.core.model.concurrency.ConcurrencyLimiter.Permit;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static Permit acquireNow(ConcurrencyLimiter limiter) {
+        return limiter.acquire(0).block(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void testLimitsInFlightAndHandsPermitsOverOnRelease() {
+        AdaptiveConcurrencyLimiter limiter =
+                AdaptiveConcurrencyLimiter.builder().initialLimit(2).build();
+        Permit first = acquireNow(limiter);
+        acquireNow(limiter);
+
+        AtomicReference<Permit> third = new AtomicReference<>();
+        limiter.acquire(0).subscribe(third::set);
+        assertEquals(new LimiterStats(2, 2, 1, 0, 0), limiter.getStats());
+
+        first.ignored();
+        first.ignored(); // released only once
+
+        assertNotNull(third.get());
+        assertEquals(new LimiterStats(2, 2, 0, 0, 0), limiter.getStats());
+    }
+
+    @Test
+    void testWaitersAreServedByPriority() {
+        AdaptiveConcurrencyLimiter limiter =
+                AdaptiveConcurrencyLimiter.builder().initialLimit(1).build();
+        Permit permit = acquireNow(limiter);
+
+        List<String> order = new ArrayList<>();
+        List<Permit> granted = new ArrayList<>();
+        limiter.acquire(0).doOnNext(p -> order.add("low")).subscribe(granted::add);
+        limiter.acquire(5).doOnNext(p -> order.add("high")).subscribe(granted::add);
+
+        permit.ignored();
+        granted.get(0).ignored();
+
+        assertEquals(List.of("high", "low"), order);
+    }
+
+    @Test
+    void testRejectsWhenQueueIsFull() {
+        AdaptiveConcurrencyLimiter limiter =
+                AdaptiveConcurrencyLimiter.builder().initialLimit(1).maxQueueSize(1).build();
+        acquireNow(limiter);
+        limiter.acquire(0).subscribe();
+
+        Exception e = assertThrows(ConcurrencyLimitException.class, () -> acquireNow(limiter));
+
+        assertTrue(e.getMessage().contains("queue is full"));
+        assertEquals(1, limiter.getStats().rejected());
+    }
+
+    @Test
+    void testRejectsAfterMaxWait() {
+        AdaptiveConcurrencyLimiter limiter =
+                AdaptiveConcurrencyLimiter.builder()
+                        .initialLimit(1)
+                        .maxWait(Duration.ofMillis(50))
+                        .build();
+        acquireNow(limiter);
+
+        assertThrows(ConcurrencyLimitException.class, () -> acquireNow(limiter));
+
+        assertEquals(new LimiterStats(1, 1, 0, 1, 0), limiter.getStats());
+    }
+
+    @Test
+    void testCancelledWaiterLeavesQueue() {
+        AdaptiveConcurrencyLimiter limiter =
+                AdaptiveConcurrencyLimiter.builder().initialLimit(1).build();
+        Permit permit = acquireNow(limiter);
+        Disposable waiting = limiter.acquire(0).subscribe();
+
+        waiting.dispose();
+        permit.ignored();
+
+        assertEquals(new LimiterStats(1, 0, 0, 0, 0), limiter.getStats());
+    }
+
+    @Test
+    void testDropDecreasesLimit() {
+        AdaptiveConcurrencyLimiter limiter =
+                AdaptiveConcurrencyLimiter.builder()
+                        .initialLimit(10)
+                        .minLimit(5)
+                        .backoffRatio(0.5)
+                        .build();
+
+        acquireNow(limiter).dropped();
+        assertEquals(5, limiter.getStats().limit());
+        acquireNow(limiter).dropped();
+
+        assertEquals(new LimiterStats(5, 0, 0, 0, 2), limiter.getStats());
+    }
+
+    @Test
+    void testSlowResponsesDecreaseAndFastResponsesIncreaseLimit() {
+        AdaptiveConcurrencyLimiter limiter =
+                AdaptiveConcurrencyLimiter.builder()
+                        .initialLimit(2)
+                        .backoffRatio(0.5)
+                        .latencyTolerance(2.0)
+                        .build();
+
+        // Fast responses while the limit is in use grow the limit by 1/limit each
+        for (int i = 0; i < 10; i++) {
+            Permit a = acquireNow(limiter);
+            Permit b = acquireNow(limiter);
+            a.success(1_000_000);
+            b.success(1_000_000);
+        }
+        assertTrue(limiter.getStats().limit() >= 4);
+
+        int limit = limiter.getStats().limit();
+        acquireNow(limiter).success(10_000_000);
+
+        assertTrue(limiter.getStats().limit() < limit);
+    }
+
+    @Test
+    void testBuilderValidation() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> AdaptiveConcurrencyLimiter.builder().initialLimit(0));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> AdaptiveConcurrencyLimiter.builder().backoffRatio(1.0));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> AdaptiveConcurrencyLimiter.builder().minLimit(10).maxLimit(5).build());
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.model.transport;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.InflaterInputStream;
+import org.junit.jupiter.api.Test;
+
+class HttpCompressionTest {
+
+    private static final String URL = "http://localhost/v1/chat";
+    private static final String BODY = "{\"input\": \"" + "hello ".repeat(500) + "\"}";
+
+    private static HttpRequest request(String url, String body) {
+        return HttpRequest.builder().url(url).method("POST").body(body).build();
+    }
+
+    @Test
+    void testWithoutConfigPassesThrough() throws Exception {
+        HttpCompression compression = new HttpCompression(null);
+        byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+
+        assertNull(compression.compressBody(request(URL, BODY)));
+        assertNull(compression.acceptEncoding(request(URL, BODY)));
+        assertSame(body, compression.decompress(null, body));
+    }
+
+    @Test
+    void testDeflateRoundTrip() throws Exception {
+        HttpCompression compression =
+                new HttpCompression(
+                        CompressionConfig.builder()
+                                .codec(CompressionCodec.DEFLATE)
+                                .endpoint("http://localhost/v1/")
+                                .build());
+
+        byte[] compressed = compression.compressBody(request(URL, BODY));
+
+        assertEquals("deflate", compression.getContentEncoding());
+        try (InflaterInputStream in =
+                new InflaterInputStream(new ByteArrayInputStream(compressed))) {
+            assertEquals(BODY, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertArrayEquals(
+                BODY.getBytes(StandardCharsets.UTF_8),
+                compression.decompress("Deflate", compressed));
+        assertEquals(1, compression.getMetrics().getCompressedRequests());
+        assertEquals(1, compression.getMetrics().getDecompressedResponses());
+    }
+
+    @Test
+    void testExplicitHeadersAreRespected() {
+        HttpCompression compression =
+                new HttpCompression(CompressionConfig.builder().endpoint("http://").build());
+        HttpRequest encoded =
+                HttpRequest.builder()
+                        .url(URL)
+                        .method("POST")
+                        .header("content-encoding", "br")
+                        .header("accept-encoding", "identity")
+                        .body(BODY)
+                        .build();
+
+        assertNull(compression.compressBody(encoded));
+        assertNull(compression.acceptEncoding(encoded));
+    }
+
+    @Test
+    void testConfigValidation() {
+        assertThrows(IllegalArgumentException.class, () -> CompressionConfig.builder().minSize(-1));
+        assertThrows(IllegalArgumentException.class, () -> CompressionConfig.builder().codec(null));
+        assertThrows(
+                IllegalArgumentException.class, () -> CompressionConfig.builder().endpoint(""));
+    }
+}
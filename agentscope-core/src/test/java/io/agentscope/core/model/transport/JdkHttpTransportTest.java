@@ -18,10 +18,12 @@ package io.agentscope.core.model.transport;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
@@ -29,10 +31,13 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
 import okhttp3.mockwebserver.SocketPolicy;
+import okio.Buffer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -97,6 +102,104 @@ class JdkHttpTransportTest {
         assertEquals("{\"input\": \"test\"}", recorded.getBody().readUtf8());
     }
 
+    @Test
+    void testExecuteWithByteAndWriterBodies() throws Exception {
+        String json = "{\"input\": \"caf\u00e9\"}";
+        mockServer.enqueue(new MockResponse().setResponseCode(200).setBody("{}"));
+        mockServer.enqueue(new MockResponse().setResponseCode(200).setBody("{}"));
+
+        HttpRequest bytesRequest =
+                HttpRequest.builder()
+                        .url(mockServer.url("/bytes").toString())
+                        .method("POST")
+                        .body(json.getBytes(StandardCharsets.UTF_8))
+                        .build();
+        HttpRequest writerRequest =
+                HttpRequest.builder()
+                        .url(mockServer.url("/writer").toString())
+                        .method("POST")
+                        .body(out -> out.write(json.getBytes(StandardCharsets.UTF_8)))
+                        .build();
+
+        assertTrue(transport.execute(bytesRequest).isSuccessful());
+        assertTrue(transport.execute(writerRequest).isSuccessful());
+
+        assertEquals(json, mockServer.takeRequest().getBody().readUtf8());
+        assertEquals(json, mockServer.takeRequest().getBody().readUtf8());
+        assertEquals(json, writerRequest.getBody());
+    }
+
+    @Test
+    void testRequestCompressionAndResponseDecompression() throws Exception {
+        String largeBody = "{\"input\": \"" + "hello ".repeat(1000) + "\"}";
+        String responseBody = "{\"output\": \"" + "world ".repeat(1000) + "\"}";
+        Buffer gzippedResponse = new Buffer();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(gzippedResponse.outputStream())) {
+            gzip.write(responseBody.getBytes(StandardCharsets.UTF_8));
+        }
+        long gzippedResponseSize = gzippedResponse.size();
+        mockServer.enqueue(
+                new MockResponse()
+                        .setResponseCode(200)
+                        .setHeader("Content-Encoding", "gzip")
+                        .setBody(gzippedResponse));
+        mockServer.enqueue(new MockResponse().setResponseCode(200).setBody("{}"));
+        mockServer.enqueue(new MockResponse().setResponseCode(200).setBody("{}"));
+
+        String endpoint = mockServer.url("/v1/").toString();
+        JdkHttpTransport compressing =
+                new JdkHttpTransport(
+                        HttpTransportConfig.builder()
+                                .compression(
+                                        CompressionConfig.builder()
+                                                .codec(CompressionCodec.GZIP)
+                                                .minSize(1024)
+                                                .endpoint(endpoint)
+                                                .build())
+                                .build());
+        try {
+            HttpResponse response =
+                    compressing.execute(
+                            HttpRequest.builder()
+                                    .url(endpoint + "chat")
+                                    .method("POST")
+                                    .body(largeBody)
+                                    .build());
+            // Below the size threshold, and outside the opted-in endpoint
+            compressing.execute(
+                    HttpRequest.builder().url(endpoint + "chat").method("POST").body("{}").build());
+            compressing.execute(
+                    HttpRequest.builder()
+                            .url(mockServer.url("/other").toString())
+                            .method("POST")
+                            .body(largeBody)
+                            .build());
+
+            assertEquals(responseBody, response.getBody());
+            assertFalse(response.getHeaders().containsKey("Content-Encoding"));
+
+            RecordedRequest compressed = mockServer.takeRequest();
+            assertEquals("gzip", compressed.getHeader("Content-Encoding"));
+            assertTrue(compressed.getHeader("Accept-Encoding").contains("gzip"));
+            try (GZIPInputStream gunzip = new GZIPInputStream(compressed.getBody().inputStream())) {
+                assertEquals(largeBody, new String(gunzip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+            assertNull(mockServer.takeRequest().getHeader("Content-Encoding"));
+            assertNull(mockServer.takeRequest().getHeader("Content-Encoding"));
+
+            CompressionMetrics metrics = compressing.getCompressionMetrics();
+            assertEquals(1, metrics.getCompressedRequests());
+            assertEquals(largeBody.length(), metrics.getRequestBytes());
+            assertEquals(compressed.getBodySize(), metrics.getCompressedRequestBytes());
+            assertTrue(metrics.getRequestBytesSaved() > 0);
+            assertEquals(1, metrics.getDecompressedResponses());
+            assertEquals(gzippedResponseSize, metrics.getCompressedResponseBytes());
+            assertEquals(responseBody.length(), metrics.getResponseBytes());
+        } finally {
+            compressing.close();
+        }
+    }
+
     @Test
     void testExecuteGetRequest() throws Exception {
         mockServer.enqueue(
@@ -253,7 +253,7 @@ class OkHttpTransportConstructorTest {
     @Test
     @DisplayName("Should handle streaming with non-JSON response")
     void testStreamingWithTextResponse() {
-        String textResponse = "data: line1\ndata: line2\ndata: [DONE]\n";
+        String textResponse = "data: line1\n\ndata: line2\n\ndata: [DONE]\n";
 
         mockServer.enqueue(
                 new MockResponse()
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.model.transport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Protocol;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+/**
+ * Load tests of OkHttpTransport streaming against a local HTTP/2 stub serving slow SSE streams.
+ */
+class OkHttpTransportLoadTest {
+
+    private static final int EVENTS = 5;
+
+    private MockWebServer stub;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = new MockWebServer();
+        stub.setProtocols(List.of(Protocol.H2_PRIOR_KNOWLEDGE));
+        stub.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        stub.shutdown();
+    }
+
+    private void enqueueSlowStreams(int count) {
+        StringBuilder sse = new StringBuilder();
+        for (int i = 0; i < EVENTS; i++) {
+            sse.append("data: {\"chunk\":").append(i).append("}\n\n");
+        }
+        sse.append("data: [DONE]\n\n");
+        for (int i = 0; i < count; i++) {
+            // About 50 ms per event
+            stub.enqueue(
+                    new MockResponse()
+                            .setHeader("Content-Type", "text/event-stream")
+                            .setBody(sse.toString())
+                            .throttleBody(15, 50, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private static OkHttpTransport transport(int maxRequestsPerHost) {
+        return new OkHttpTransport(
+                HttpTransportConfig.builder()
+                        .httpVersion(HttpVersion.HTTP_2_PRIOR_KNOWLEDGE)
+                        .maxRequestsPerHost(maxRequestsPerHost)
+                        .readTimeout(Duration.ofSeconds(30))
+                        .build());
+    }
+
+    private Flux<String> stream(OkHttpTransport transport) {
+        return transport.stream(
+                HttpRequest.builder()
+                        .url(stub.url("/v1/chat").toString())
+                        .method("POST")
+                        .body("{}")
+                        .build());
+    }
+
+    @Test
+    void testConcurrentStreamsShareOneHttp2Connection() {
+        int streams = 50;
+        enqueueSlowStreams(streams);
+        OkHttpTransport transport = transport(streams);
+        try {
+            long start = System.nanoTime();
+            List<List<String>> results =
+                    Flux.range(0, streams)
+                            .flatMap(i -> stream(transport).collectList(), streams)
+                            .collectList()
+                            .block(Duration.ofSeconds(30));
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertEquals(streams, results.size());
+            results.forEach(events -> assertEquals(EVENTS, events.size()));
+            // Streams run in parallel: far less than the sum of the stream durations
+            assertTrue(elapsedMillis < 10_000, "took " + elapsedMillis + " ms");
+            assertEquals(1, transport.getConnectionPoolStats().connections());
+        } finally {
+            transport.close();
+        }
+    }
+
+    @Test
+    void testPerHostLimitQueuesStreams() throws Exception {
+        int streams = 6;
+        enqueueSlowStreams(streams);
+        OkHttpTransport transport = transport(2);
+        try {
+            var done =
+                    Flux.range(0, streams)
+                            .flatMap(i -> stream(transport).collectList(), streams)
+                            .collectList()
+                            .toFuture();
+
+            ConnectionPoolStats stats = transport.getConnectionPoolStats();
+            for (int i = 0;
+                    i < 100 && stats.activeRequests() + stats.queuedRequests() < streams;
+                    i++) {
+                Thread.sleep(10);
+                stats = transport.getConnectionPoolStats();
+            }
+            assertEquals(2, stats.activeRequests());
+            assertEquals(4, stats.queuedRequests());
+
+            List<List<String>> results = done.get(30, TimeUnit.SECONDS);
+            results.forEach(events -> assertEquals(EVENTS, events.size()));
+        } finally {
+            transport.close();
+        }
+    }
+}
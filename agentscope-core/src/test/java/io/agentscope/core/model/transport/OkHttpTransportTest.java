@@ -18,16 +18,21 @@ package io.agentscope.core.model.transport;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -90,6 +95,126 @@ class OkHttpTransportTest {
         assertEquals("{\"input\": \"test\"}", recorded.getBody().readUtf8());
     }
 
+    @Test
+    void testExecuteWithByteAndWriterBodies() throws Exception {
+        String json = "{\"input\": \"caf\u00e9\"}";
+        mockServer.enqueue(new MockResponse().setResponseCode(200).setBody("{}"));
+        mockServer.enqueue(new MockResponse().setResponseCode(200).setBody("{}"));
+
+        HttpRequest bytesRequest =
+                HttpRequest.builder()
+                        .url(mockServer.url("/bytes").toString())
+                        .method("POST")
+                        .body(json.getBytes(StandardCharsets.UTF_8))
+                        .build();
+        HttpRequest writerRequest =
+                HttpRequest.builder()
+                        .url(mockServer.url("/writer").toString())
+                        .method("POST")
+                        .body(out -> out.write(json.getBytes(StandardCharsets.UTF_8)))
+                        .build();
+
+        assertTrue(transport.execute(bytesRequest).isSuccessful());
+        assertTrue(transport.execute(writerRequest).isSuccessful());
+
+        assertEquals(json, mockServer.takeRequest().getBody().readUtf8());
+        assertEquals(json, mockServer.takeRequest().getBody().readUtf8());
+        assertEquals(json, writerRequest.getBody());
+    }
+
+    @Test
+    void testResponseDecodedWithContentTypeCharset() throws Exception {
+        String text = "{\"message\": \"café\"}";
+        mockServer.enqueue(
+                new MockResponse()
+                        .setResponseCode(200)
+                        .setHeader("Content-Type", "application/json; charset=ISO-8859-1")
+                        .setBody(new Buffer().writeString(text, StandardCharsets.ISO_8859_1)));
+        mockServer.enqueue(
+                new MockResponse()
+                        .setResponseCode(200)
+                        .setHeader("Content-Type", "application/json")
+                        .setBody(new Buffer().writeString(text, StandardCharsets.UTF_8)));
+
+        HttpRequest request =
+                HttpRequest.builder().url(mockServer.url("/charset").toString()).build();
+
+        assertEquals(text, transport.execute(request).getBody());
+        // Without a charset parameter the body is decoded as UTF-8
+        assertEquals(text, transport.execute(request).getBody());
+    }
+
+    @Test
+    void testRequestCompressionAndResponseDecompression() throws Exception {
+        String largeBody = "{\"input\": \"" + "hello ".repeat(1000) + "\"}";
+        String responseBody = "{\"output\": \"" + "world ".repeat(1000) + "\"}";
+        Buffer gzippedResponse = new Buffer();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(gzippedResponse.outputStream())) {
+            gzip.write(responseBody.getBytes(StandardCharsets.UTF_8));
+        }
+        long gzippedResponseSize = gzippedResponse.size();
+        mockServer.enqueue(
+                new MockResponse()
+                        .setResponseCode(200)
+                        .setHeader("Content-Encoding", "gzip")
+                        .setBody(gzippedResponse));
+        mockServer.enqueue(new MockResponse().setResponseCode(200).setBody("{}"));
+        mockServer.enqueue(new MockResponse().setResponseCode(200).setBody("{}"));
+
+        String endpoint = mockServer.url("/v1/").toString();
+        OkHttpTransport compressing =
+                new OkHttpTransport(
+                        HttpTransportConfig.builder()
+                                .compression(
+                                        CompressionConfig.builder()
+                                                .codec(CompressionCodec.GZIP)
+                                                .minSize(1024)
+                                                .endpoint(endpoint)
+                                                .build())
+                                .build());
+        try {
+            HttpResponse response =
+                    compressing.execute(
+                            HttpRequest.builder()
+                                    .url(endpoint + "chat")
+                                    .method("POST")
+                                    .body(largeBody)
+                                    .build());
+            // Below the size threshold, and outside the opted-in endpoint
+            compressing.execute(
+                    HttpRequest.builder().url(endpoint + "chat").method("POST").body("{}").build());
+            compressing.execute(
+                    HttpRequest.builder()
+                            .url(mockServer.url("/other").toString())
+                            .method("POST")
+                            .body(largeBody)
+                            .build());
+
+            assertEquals(responseBody, response.getBody());
+            assertFalse(response.getHeaders().containsKey("Content-Encoding"));
+
+            RecordedRequest compressed = mockServer.takeRequest();
+            assertEquals("gzip", compressed.getHeader("Content-Encoding"));
+            assertTrue(compressed.getHeader("Accept-Encoding").contains("gzip"));
+            try (GZIPInputStream gunzip = new GZIPInputStream(compressed.getBody().inputStream())) {
+                assertEquals(largeBody, new String(gunzip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+            assertNull(mockServer.takeRequest().getHeader("Content-Encoding"));
+            assertNull(mockServer.takeRequest().getHeader("Content-Encoding"));
+
+            CompressionMetrics metrics = compressing.getCompressionMetrics();
+            assertEquals(1, metrics.getCompressedRequests());
+            assertEquals(largeBody.length(), metrics.getRequestBytes());
+            assertEquals(compressed.getBodySize(), metrics.getCompressedRequestBytes());
+            assertTrue(metrics.getRequestBytesSaved() > 0);
+            assertEquals(1, metrics.getDecompressedResponses());
+            assertEquals(gzippedResponseSize, metrics.getCompressedResponseBytes());
+            assertEquals(responseBody.length(), metrics.getResponseBytes());
+        } finally {
+            compressing.close();
+        }
+    }
+
     @Test
     void testExecuteErrorResponse() {
         mockServer.enqueue(
@@ -185,6 +310,29 @@ class OkHttpTransportTest {
                 .verify();
     }
 
+    @Test
+    void testStreamErrorResponseCarriesRetryAfter() {
+        mockServer.enqueue(
+                new MockResponse()
+                        .setResponseCode(429)
+                        .setHeader("Retry-After", "3")
+                        .setBody("{\"error\": \"rate limited\"}"));
+
+        HttpRequest request =
+                HttpRequest.builder()
+                        .url(mockServer.url("/stream-limited").toString())
+                        .method("POST")
+                        .body("{}")
+                        .build();
+
+        StepVerifier.create(transport.stream(request))
+                .expectErrorMatches(
+                        e ->
+                                e instanceof HttpTransportException hte
+                                        && Duration.ofSeconds(3).equals(hte.getRetryAfter()))
+                .verify();
+    }
+
     @Test
     void testRequestHeaders() throws Exception {
         mockServer.enqueue(new MockResponse().setResponseCode(200).setBody("ok"));
@@ -265,6 +413,17 @@ class OkHttpTransportTest {
         assertTrue(exception.isRetryable());
     }
 
+    @Test
+    void testParseRetryAfter() {
+        assertEquals(Duration.ofSeconds(120), HttpTransportException.parseRetryAfter(" 120 "));
+        assertEquals(Duration.ZERO, HttpTransportException.parseRetryAfter("-1"));
+        assertEquals(
+                Duration.ZERO,
+                HttpTransportException.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT"));
+        assertNull(HttpTransportException.parseRetryAfter("soon"));
+        assertNull(HttpTransportException.parseRetryAfter(null));
+    }
+
     @Test
     void testConnectionRefused() throws Exception {
         // Shutdown the mock server to ensure connection failure
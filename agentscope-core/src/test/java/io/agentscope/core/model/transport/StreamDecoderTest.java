@@ -0,0 +1,98 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.model.transport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class StreamDecoderTest {
+
+    private static List<String> decode(StreamDecoder decoder, String body, int chunkSize) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        List<String> payloads = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i += chunkSize) {
+            int length = Math.min(chunkSize, bytes.length - i);
+            decoder.decode(ByteBuffer.wrap(bytes, i, length), payloads::add);
+        }
+        decoder.finish(payloads::add);
+        return payloads;
+    }
+
+    @Test
+    void testSseEvents() {
+        String body = "data: {\"id\":1}\n\ndata:{\"id\":2}\n\n";
+
+        assertEquals(List.of("{\"id\":1}", "{\"id\":2}"), decode(StreamDecoder.sse(), body, 1024));
+    }
+
+    @Test
+    void testSseMultiLineDataAndOtherFields() {
+        String body =
+                ": keep-alive\n"
+                        + "id: 7\n"
+                        + "event: result\n"
+                        + "retry: 1000\n"
+                        + "data: {\"text\":\n"
+                        + "data: \"hi\"}\n"
+                        + "\n";
+
+        assertEquals(List.of("{\"text\":\n\"hi\"}"), decode(StreamDecoder.sse(), body, 1024));
+    }
+
+    @Test
+    void testSseLineEndingsAndChunkBoundaries() {
+        String body = "data: café\r\n\r\ndata: 你好\r\rdata: end\n\n";
+
+        // Every split point, including inside \r\n and multi-byte characters
+        for (int chunkSize = 1; chunkSize <= 4; chunkSize++) {
+            assertEquals(
+                    List.of("café", "你好", "end"), decode(StreamDecoder.sse(), body, chunkSize));
+        }
+    }
+
+    @Test
+    void testSseDoneMarkerEndsStream() {
+        StreamDecoder decoder = StreamDecoder.sse();
+
+        List<String> payloads =
+                decode(decoder, "data: a\n\ndata: [DONE]\n\ndata: ignored\n\n", 1024);
+
+        assertEquals(List.of("a", "[DONE]"), payloads);
+        assertTrue(decoder.isDone());
+    }
+
+    @Test
+    void testSseSkipsEmptyDataAndFlushesUnterminatedEvent() {
+        String body = "data: \n\ndata:   \n\ndata: last";
+
+        assertEquals(List.of("last"), decode(StreamDecoder.sse(), body, 3));
+    }
+
+    @Test
+    void testNdjsonLines() {
+        String body = "{\"a\":1}\n\n{\"b\":2}\r\n{\"c\":3}";
+
+        assertEquals(
+                List.of("{\"a\":1}", "{\"b\":2}", "{\"c\":3}"),
+                decode(StreamDecoder.ndjson(), body, 5));
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.agentscope.core.session;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -26,8 +27,12 @@ import io.agentscope.core.state.AgentMetaState;
 import io.agentscope.core.state.SessionKey;
 import io.agentscope.core.state.SimpleSessionKey;
 import io.agentscope.core.state.ToolkitState;
+import io.agentscope.core.util.JsonUtils;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -217,6 +222,129 @@ class JsonSessionNewApiTest {
         }
     }
 
+    @Nested
+    @DisplayName("Append-only list log")
+    class AppendLogTests {
+
+        @Test
+        @DisplayName("Should append new items without rewriting stored ones")
+        void testAppendKeepsExistingBytes() throws Exception {
+            List<Msg> messages = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                messages.add(createUserMsg("Message " + i));
+            }
+            session.save(sessionKey, "memory_messages", messages);
+
+            Path file = sessionDir().resolve("memory_messages.jsonl");
+            byte[] before = Files.readAllBytes(file);
+
+            messages.add(createAssistantMsg("Reply"));
+            session.save(sessionKey, "memory_messages", messages);
+
+            byte[] after = Files.readAllBytes(file);
+            assertTrue(after.length > before.length);
+            assertArrayEquals(before, Arrays.copyOf(after, before.length));
+            assertEquals(
+                    21L * JsonListIndex.ENTRY_SIZE,
+                    Files.size(sessionDir().resolve("memory_messages.idx")));
+            assertFalse(Files.exists(sessionDir().resolve("memory_messages.hash")));
+
+            List<Msg> loaded = session.getList(sessionKey, "memory_messages", Msg.class);
+            assertEquals(21, loaded.size());
+            assertEquals("Reply", getTextContent(loaded.get(20)));
+        }
+
+        @Test
+        @DisplayName("Should truncate the log at the first modified item")
+        void testTruncateAtModification() {
+            List<Msg> messages = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                messages.add(createUserMsg("Message " + i));
+            }
+            session.save(sessionKey, "memory_messages", messages);
+
+            messages.set(0, createUserMsg("Summary"));
+            messages.subList(1, 15).clear();
+            session.save(sessionKey, "memory_messages", messages);
+
+            List<Msg> loaded = session.getList(sessionKey, "memory_messages", Msg.class);
+            assertEquals(6, loaded.size());
+            assertEquals("Summary", getTextContent(loaded.get(0)));
+            assertEquals("Message 15", getTextContent(loaded.get(1)));
+            assertEquals("Message 19", getTextContent(loaded.get(5)));
+        }
+
+        @Test
+        @DisplayName("Should persist an item replaced in place at any position")
+        void testReplaceInPlace() {
+            List<Msg> messages = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                messages.add(createUserMsg("Message " + i));
+            }
+            session.save(sessionKey, "memory_messages", messages);
+
+            // Same size, one item changed between the positions a sampled check would look at
+            messages.set(3, createUserMsg("Summary"));
+            session.save(sessionKey, "memory_messages", messages);
+
+            List<Msg> loaded = session.getList(sessionKey, "memory_messages", Msg.class);
+            assertEquals(20, loaded.size());
+            assertEquals("Summary", getTextContent(loaded.get(3)));
+            assertEquals("Message 4", getTextContent(loaded.get(4)));
+        }
+
+        @Test
+        @DisplayName("Should ignore bytes past the committed length")
+        void testIgnoreUncommittedTail() throws Exception {
+            List<Msg> messages = new ArrayList<>();
+            messages.add(createUserMsg("Message 1"));
+            session.save(sessionKey, "memory_messages", messages);
+
+            Path file = sessionDir().resolve("memory_messages.jsonl");
+            Files.writeString(file, "{\"partial", StandardOpenOption.APPEND);
+            assertEquals(1, session.getList(sessionKey, "memory_messages", Msg.class).size());
+
+            messages.add(createUserMsg("Message 2"));
+            session.save(sessionKey, "memory_messages", messages);
+
+            List<Msg> loaded = session.getList(sessionKey, "memory_messages", Msg.class);
+            assertEquals(2, loaded.size());
+            assertEquals("Message 2", getTextContent(loaded.get(1)));
+        }
+
+        @Test
+        @DisplayName("Should index list files written without an index")
+        void testMigrateLegacyListFile() throws Exception {
+            Path dir = sessionDir();
+            Files.createDirectories(dir);
+            String legacy =
+                    JsonUtils.getJsonCodec().toJson(createUserMsg("Old 1"))
+                            + "\n\n"
+                            + JsonUtils.getJsonCodec().toJson(createUserMsg("Old 2"))
+                            + "\n";
+            Files.writeString(dir.resolve("memory_messages.jsonl"), legacy);
+            Files.writeString(dir.resolve("memory_messages.hash"), "abc");
+
+            List<Msg> messages =
+                    new ArrayList<>(session.getList(sessionKey, "memory_messages", Msg.class));
+            assertEquals(2, messages.size());
+
+            messages.add(createUserMsg("New"));
+            session.save(sessionKey, "memory_messages", messages);
+
+            List<Msg> loaded = session.getList(sessionKey, "memory_messages", Msg.class);
+            assertEquals(3, loaded.size());
+            assertEquals("Old 1", getTextContent(loaded.get(0)));
+            assertEquals("Old 2", getTextContent(loaded.get(1)));
+            assertEquals("New", getTextContent(loaded.get(2)));
+            assertFalse(Files.exists(dir.resolve("memory_messages.hash")));
+        }
+
+        private Path sessionDir() {
+            return tempDir.resolve(sessionKey.toIdentifier());
+        }
+    }
+
     @Nested
     @DisplayName("exists() and delete()")
     class ExistsAndDeleteTests {
@@ -131,6 +131,25 @@ class ListHashUtilTest {
         assertFalse(ListHashUtil.needsFullRewrite("abc123", "abc123", 5, 5));
     }
 
+    @Test
+    void testComputeContentHashCoversEveryItem() {
+        List<String> items = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            items.add("{\"i\":" + i + "}");
+        }
+        String before = ListHashUtil.computeContentHash(items);
+        assertEquals(before, ListHashUtil.computeContentHash(new ArrayList<>(items)));
+
+        // Position 3 is not one of the positions computeHash samples for 20 items
+        items.set(3, "{\"i\":\"summary\"}");
+        assertNotEquals(before, ListHashUtil.computeContentHash(items));
+
+        // Item boundaries are part of the hash
+        assertNotEquals(
+                ListHashUtil.computeContentHash(List.of("ab", "c")),
+                ListHashUtil.computeContentHash(List.of("a", "bc")));
+    }
+
     @Test
     void testNeedsFullRewriteFirstSave() {
         // No stored hash (first save) - no full rewrite needed
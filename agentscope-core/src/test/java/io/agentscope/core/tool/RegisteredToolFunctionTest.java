@@ -16,11 +16,13 @@
 package io.agentscope.core.tool;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.agentscope.core.message.ToolResultBlock;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -340,4 +342,46 @@ class RegisteredToolFunctionTest {
         assertEquals(false, merged.get("additionalProperties"));
         assertEquals("Base Schema", merged.get("title"));
     }
+
+    @Test
+    void testValidateInputFollowsSchemaChanges() {
+        // Arrange: a schema that changes at runtime, like an enum of registered skills
+        List<String> allowed = new ArrayList<>(List.of("a"));
+        AgentTool dynamicTool =
+                new AgentTool() {
+                    @Override
+                    public String getName() {
+                        return "dynamicTool";
+                    }
+
+                    @Override
+                    public String getDescription() {
+                        return "Dynamic schema";
+                    }
+
+                    @Override
+                    public Map<String, Object> getParameters() {
+                        return Map.of(
+                                "type",
+                                "object",
+                                "properties",
+                                Map.of(
+                                        "id",
+                                        Map.of("type", "string", "enum", List.copyOf(allowed))));
+                    }
+
+                    @Override
+                    public Mono<ToolResultBlock> callAsync(ToolCallParam param) {
+                        return Mono.just(ToolResultBlock.text("result"));
+                    }
+                };
+        RegisteredToolFunction registered = new RegisteredToolFunction(dynamicTool, null, null);
+
+        // Act & Assert
+        assertNull(registered.validateInput("{\"id\": \"a\"}"));
+        assertNotNull(registered.validateInput("{\"id\": \"b\"}"));
+
+        allowed.add("b");
+        assertNull(registered.validateInput("{\"id\": \"b\"}"));
+    }
 }
@@ -538,4 +538,41 @@ class ToolMethodInvokerTest {
         Assertions.assertFalse(ToolTestUtils.isErrorResponse(response2));
         Assertions.assertEquals("0.0", ToolTestUtils.extractContent(response2));
     }
+
+    @Test
+    void testPreparedPlan_ReusedAcrossCalls() throws Exception {
+        TestTools tools = new TestTools();
+        Method method =
+                TestTools.class.getMethod(
+                        "multiParamMethod", String.class, int.class, boolean.class);
+        ToolMethodInvoker.MethodPlan plan = invoker.prepare(tools, method);
+
+        for (int i = 0; i < 3; i++) {
+            Map<String, Object> input = new HashMap<>();
+            input.put("str", "call");
+            input.put("num", String.valueOf(i));
+            input.put("flag", true);
+            ToolUseBlock toolUseBlock = new ToolUseBlock("test-id", method.getName(), input);
+            ToolCallParam param =
+                    ToolCallParam.builder().toolUseBlock(toolUseBlock).input(input).build();
+
+            ToolResultBlock response = invoker.invokeAsync(plan, param, null).block();
+
+            Assertions.assertFalse(ToolTestUtils.isErrorResponse(response));
+            Assertions.assertEquals(
+                    "\"call" + i + "true\"", ToolTestUtils.extractContent(response));
+        }
+    }
+
+    @Test
+    void testInvoke_MissingPrimitiveValue() throws Exception {
+        TestTools tools = new TestTools();
+        Method method = TestTools.class.getMethod("intMethod", int.class);
+
+        ToolResultBlock response = invokeWithParam(tools, method, new HashMap<>());
+
+        String content = ToolTestUtils.extractContent(response);
+        Assertions.assertTrue(content.contains("Tool execution failed"));
+        Assertions.assertTrue(content.contains("value"));
+    }
 }
@@ -18,6 +18,7 @@ package io.agentscope.core.tool;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.agentscope.core.message.ToolResultBlock;
@@ -224,4 +225,84 @@ class ToolSchemaProviderTest {
         assertTrue(toolNames.contains("tool2"));
         assertTrue(toolNames.contains("tool3"));
     }
+
+    @Test
+    void testGetToolSchemasReturnsSameSnapshotWhenUnchanged() {
+        // Arrange
+        AgentTool tool = createMockTool("tool1", "Tool 1");
+        registry.registerTool("tool1", tool, new RegisteredToolFunction(tool, null, null));
+
+        // Act
+        List<ToolSchema> first = schemaProvider.getToolSchemas();
+        List<ToolSchema> second = schemaProvider.getToolSchemas();
+
+        // Assert
+        assertSame(first, second);
+    }
+
+    @Test
+    void testGetToolSchemasRebuildsAfterChanges() {
+        // Arrange
+        groupManager.createToolGroup("admin", "Admin tools", true);
+        AgentTool tool1 = createMockTool("tool1", "Tool 1");
+        registry.registerTool("tool1", tool1, new RegisteredToolFunction(tool1, null, null));
+        AgentTool tool2 = createMockTool("tool2", "Tool 2");
+        registry.registerTool("tool2", tool2, new RegisteredToolFunction(tool2, null, null));
+        groupManager.addToolToGroup("admin", "tool2");
+        List<ToolSchema> first = schemaProvider.getToolSchemas();
+        assertEquals(2, first.size());
+
+        // Act: deactivate through the group itself, bypassing the manager
+        groupManager.getToolGroup("admin").setActive(false);
+        List<ToolSchema> second = schemaProvider.getToolSchemas();
+
+        // Assert: unchanged schemas are reused
+        assertEquals(1, second.size());
+        assertSame(
+                first.stream().filter(s -> s.getName().equals("tool1")).findFirst().get(),
+                second.get(0));
+
+        // Act: register a new tool
+        AgentTool tool3 = createMockTool("tool3", "Tool 3");
+        registry.registerTool("tool3", tool3, new RegisteredToolFunction(tool3, null, null));
+
+        // Assert
+        assertEquals(2, schemaProvider.getToolSchemas().size());
+    }
+
+    @Test
+    void testGetToolSchemasFollowsDescriptionChanges() {
+        // Arrange
+        String[] description = {"Before"};
+        AgentTool tool =
+                new AgentTool() {
+                    @Override
+                    public String getName() {
+                        return "dynamic";
+                    }
+
+                    @Override
+                    public String getDescription() {
+                        return description[0];
+                    }
+
+                    @Override
+                    public Map<String, Object> getParameters() {
+                        return Map.of("type", "object");
+                    }
+
+                    @Override
+                    public Mono<ToolResultBlock> callAsync(ToolCallParam param) {
+                        return Mono.just(ToolResultBlock.text("result"));
+                    }
+                };
+        registry.registerTool("dynamic", tool, new RegisteredToolFunction(tool, null, null));
+        assertEquals("Before", schemaProvider.getToolSchemas().get(0).getDescription());
+
+        // Act
+        description[0] = "After";
+
+        // Assert
+        assertEquals("After", schemaProvider.getToolSchemas().get(0).getDescription());
+    }
 }
@@ -23,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -97,6 +98,15 @@ class JacksonJsonCodecTest {
         assertTrue(json.contains("\"age\":30"));
     }
 
+    @Test
+    void testToJsonBytes() {
+        SimpleModel model = new SimpleModel("Zoë", 30);
+
+        byte[] json = codec.toJsonBytes(model);
+
+        assertEquals(codec.toJson(model), new String(json, StandardCharsets.UTF_8));
+    }
+
     @Test
     void testToJsonNested() {
         SimpleModel author = new SimpleModel("Bob", 25);
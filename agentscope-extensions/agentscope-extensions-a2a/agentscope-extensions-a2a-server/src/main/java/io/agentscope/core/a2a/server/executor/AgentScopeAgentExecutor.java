@@ -127,6 +127,7 @@ public class AgentScopeAgentExecutor implements AgentExecutor {
         Message message = context.getParams().message();
         AgentRequestOptions requestOptions = new AgentRequestOptions();
         requestOptions.setTaskId(context.getTaskId());
+        requestOptions.setContextId(context.getContextId());
         requestOptions.setUserId(getUserId(message));
         requestOptions.setSessionId(getSessionId(message));
         return requestOptions;
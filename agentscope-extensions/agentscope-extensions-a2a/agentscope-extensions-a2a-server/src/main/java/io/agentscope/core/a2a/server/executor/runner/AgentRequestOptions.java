@@ -17,7 +17,7 @@
 package io.agentscope.core.a2a.server.executor.runner;
 
 /**
- * The options for each agent requests, such as `taskId`, `sessionId` or `userId` of requests.
+ * The options for each agent requests, such as `taskId`, `contextId`, `sessionId` or `userId` of requests.
  */
 public class AgentRequestOptions {
 
@@ -26,6 +26,11 @@ public class AgentRequestOptions {
      */
     private String taskId;
 
+    /**
+     * Context id of the task, shared by tasks of the same A2A conversation. Null or empty string if unknown.
+     */
+    private String contextId;
+
     /**
      * Session id, if null or empty string means not found session id from request.
      */
@@ -44,6 +49,14 @@ public class AgentRequestOptions {
         this.taskId = taskId;
     }
 
+    public String getContextId() {
+        return contextId;
+    }
+
+    public void setContextId(String contextId) {
+        this.contextId = contextId;
+    }
+
     public String getSessionId() {
         return sessionId;
     }
@@ -19,45 +19,94 @@ package io.agentscope.core.a2a.server.executor.runner;
 import io.agentscope.core.ReActAgent;
 import io.agentscope.core.agent.Event;
 import io.agentscope.core.message.Msg;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.SignalType;
 
 /**
  * Abstract Implementation for {@link AgentRunner} by {@link ReActAgent}.
  *
  * <p>Use {@link ReActAgent} directly to handler request from A2A client. In this implementation, {@link ReActAgent}
  * should be created for each request and be cached to intercept when the request is stopped.
+ *
+ * <p>The agent name and description are read from a prototype agent that is built once, on first use. The prototype
+ * is then handed to the first request instead of being discarded, so resolving the metadata for the agent card costs
+ * no extra agent.
+ *
+ * <p>With a positive {@code warmPoolSize}, agents that complete a task are kept in a pool keyed by the user id,
+ * session id and A2A context id of the task, and the next task of the same user and session in that context continues
+ * with the same agent and its memory. The context id is chosen by the client and is never used alone, since another
+ * user sending the same context id would otherwise continue with the agent's memory. The pool holds at most
+ * {@code warmPoolSize} idle agents and drops the least recently used one when full. Agents of tasks that fail or are
+ * stopped are not pooled.
  */
 public abstract class BaseReActAgentRunner implements AgentRunner {
 
     private final Map<String, ReActAgent> agentCache;
 
+    private final int warmPoolSize;
+
+    /**
+     * Idle agents by user, session and context, in access order. Guarded by itself.
+     */
+    private final LinkedHashMap<PoolKey, ReActAgent> warmPool;
+
+    private final AtomicReference<ReActAgent> unusedPrototype;
+
+    private volatile AgentMetadata metadata;
+
     protected BaseReActAgentRunner() {
+        this(0);
+    }
+
+    /**
+     * Create runner keeping up to {@code warmPoolSize} idle agents for reuse by later tasks in the same context.
+     *
+     * @param warmPoolSize max number of idle agents to keep, 0 to build a new agent for each task
+     */
+    protected BaseReActAgentRunner(int warmPoolSize) {
+        if (warmPoolSize < 0) {
+            throw new IllegalArgumentException("warmPoolSize cannot be negative");
+        }
         this.agentCache = new ConcurrentHashMap<>();
+        this.warmPoolSize = warmPoolSize;
+        this.warmPool = new LinkedHashMap<>(16, 0.75f, true);
+        this.unusedPrototype = new AtomicReference<>();
     }
 
     @Override
     public String getAgentName() {
-        return buildReActAgent().getName();
+        return getMetadata().name();
     }
 
     @Override
     public String getAgentDescription() {
-        return buildReActAgent().getDescription();
+        return getMetadata().description();
     }
 
     @Override
     public Flux<Event> stream(List<Msg> requestMessages, AgentRequestOptions options) {
-        if (agentCache.containsKey(options.getTaskId())) {
-            throw new IllegalStateException(
-                    "Agent already exists for taskId: " + options.getTaskId());
+        String taskId = options.getTaskId();
+        if (agentCache.containsKey(taskId)) {
+            throw new IllegalStateException("Agent already exists for taskId: " + taskId);
         }
-        ReActAgent agent = buildReActAgent();
-        agentCache.put(options.getTaskId(), agent);
+        PoolKey poolKey = poolKey(options);
+        ReActAgent agent = acquireAgent(poolKey);
+        agentCache.put(taskId, agent);
         return agent.stream(requestMessages)
-                .doFinally(signal -> agentCache.remove(options.getTaskId()));
+                .doFinally(
+                        signal -> {
+                            // Agents stopped by stop(taskId) are no longer in the cache
+                            if (agentCache.remove(taskId, agent)
+                                    && signal == SignalType.ON_COMPLETE) {
+                                releaseAgent(poolKey, agent);
+                            }
+                        });
     }
 
     @Override
@@ -68,10 +117,83 @@ public abstract class BaseReActAgentRunner implements AgentRunner {
         }
     }
 
+    /**
+     * Get the number of idle agents kept for reuse.
+     *
+     * @return number of pooled agents
+     */
+    public int getWarmPoolCount() {
+        synchronized (warmPool) {
+            return warmPool.size();
+        }
+    }
+
     /**
      * Build {@link ReActAgent} to run new request.
      *
      * @return {@link ReActAgent} instance
      */
     protected abstract ReActAgent buildReActAgent();
+
+    private AgentMetadata getMetadata() {
+        AgentMetadata current = metadata;
+        if (current == null) {
+            synchronized (this) {
+                current = metadata;
+                if (current == null) {
+                    ReActAgent prototype = buildReActAgent();
+                    current = new AgentMetadata(prototype.getName(), prototype.getDescription());
+                    unusedPrototype.set(prototype);
+                    metadata = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private ReActAgent acquireAgent(PoolKey poolKey) {
+        if (warmPoolSize > 0 && poolKey != null) {
+            ReActAgent pooled;
+            synchronized (warmPool) {
+                pooled = warmPool.remove(poolKey);
+            }
+            if (pooled != null) {
+                return pooled;
+            }
+        }
+        ReActAgent prototype = unusedPrototype.getAndSet(null);
+        return prototype != null ? prototype : buildReActAgent();
+    }
+
+    private void releaseAgent(PoolKey poolKey, ReActAgent agent) {
+        if (warmPoolSize <= 0 || poolKey == null) {
+            return;
+        }
+        synchronized (warmPool) {
+            warmPool.put(poolKey, agent);
+            Iterator<ReActAgent> eldest = warmPool.values().iterator();
+            while (warmPool.size() > warmPoolSize) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+    }
+
+    private static PoolKey poolKey(AgentRequestOptions options) {
+        if (!hasText(options.getContextId())) {
+            return null;
+        }
+        return new PoolKey(options.getUserId(), options.getSessionId(), options.getContextId());
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isEmpty();
+    }
+
+    private record AgentMetadata(String name, String description) {}
+
+    /**
+     * Identity of a pooled agent. User and session id are null when the request does not carry them.
+     */
+    private record PoolKey(String userId, String sessionId, String contextId) {}
 }
@@ -30,8 +30,8 @@ public class ReActAgentWithBuilderRunner extends BaseReActAgentRunner implements
 
     private final ReActAgent.Builder agentBuilder;
 
-    private ReActAgentWithBuilderRunner(ReActAgent.Builder agentBuilder) {
-        super();
+    private ReActAgentWithBuilderRunner(ReActAgent.Builder agentBuilder, int warmPoolSize) {
+        super(warmPoolSize);
         this.agentBuilder = agentBuilder;
     }
 
@@ -47,6 +47,20 @@ public class ReActAgentWithBuilderRunner extends BaseReActAgentRunner implements
      * @return new {@link ReActAgentWithBuilderRunner} instance
      */
     public static ReActAgentWithBuilderRunner newInstance(ReActAgent.Builder agentBuilder) {
-        return new ReActAgentWithBuilderRunner(agentBuilder);
+        return new ReActAgentWithBuilderRunner(agentBuilder, 0);
+    }
+
+    /**
+     * Build new {@link ReActAgentWithBuilderRunner} instance from {@link ReActAgent.Builder}, which keeps agents of
+     * completed tasks for reuse by later tasks of the same user and session in the same A2A context.
+     *
+     * @param agentBuilder builder of {@link ReActAgent}
+     * @param warmPoolSize max number of idle agents to keep, 0 to build a new agent for each task
+     * @return new {@link ReActAgentWithBuilderRunner} instance
+     * @see BaseReActAgentRunner
+     */
+    public static ReActAgentWithBuilderRunner newInstance(
+            ReActAgent.Builder agentBuilder, int warmPoolSize) {
+        return new ReActAgentWithBuilderRunner(agentBuilder, warmPoolSize);
     }
 }
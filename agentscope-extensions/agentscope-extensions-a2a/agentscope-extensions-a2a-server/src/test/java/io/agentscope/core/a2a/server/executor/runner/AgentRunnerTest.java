@@ -36,6 +36,7 @@ import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 
 @DisplayName("Agent Runner Tests")
@@ -247,4 +248,108 @@ class AgentRunnerTest {
     void testStopNonExistentTaskId() {
         assertDoesNotThrow(() -> runner.stop("non-existent-task-id"));
     }
+
+    @Test
+    @DisplayName("Should build prototype once for metadata and reuse it for the first task")
+    void testMetadataPrototypeReusedForFirstTask() {
+        when(mockAgent.getName()).thenReturn("Test Agent");
+        when(mockAgent.getDescription()).thenReturn("Test Agent Description");
+        when(mockAgent.stream(any(List.class))).thenReturn(Flux.empty());
+
+        assertEquals("Test Agent", runner.getAgentName());
+        assertEquals("Test Agent Description", runner.getAgentDescription());
+        assertEquals("Test Agent", runner.getAgentName());
+        verify(mockBuilder, times(1)).build();
+
+        requestOptions.setTaskId("task-1");
+        runner.stream(List.of(), requestOptions).blockLast();
+        verify(mockBuilder, times(1)).build();
+
+        requestOptions.setTaskId("task-2");
+        runner.stream(List.of(), requestOptions).blockLast();
+        verify(mockBuilder, times(2)).build();
+    }
+
+    @Test
+    @DisplayName("Should reuse pooled agent for tasks in the same context")
+    void testWarmPoolReusesAgentByContext() {
+        ReActAgent first = mock(ReActAgent.class);
+        ReActAgent second = mock(ReActAgent.class);
+        ReActAgent third = mock(ReActAgent.class);
+        when(mockBuilder.build()).thenReturn(first, second, third);
+        for (ReActAgent agent : List.of(first, second, third)) {
+            when(agent.stream(any(List.class))).thenReturn(Flux.empty());
+        }
+        ReActAgentWithBuilderRunner pooledRunner =
+                ReActAgentWithBuilderRunner.newInstance(mockBuilder, 1);
+
+        pooledRunner.stream(List.of(), options("task-1", "ctx-1")).blockLast();
+        assertEquals(1, pooledRunner.getWarmPoolCount());
+        pooledRunner.stream(List.of(), options("task-2", "ctx-1")).blockLast();
+        verify(first, times(2)).stream(any(List.class));
+
+        // A new context evicts the least recently used agent from the full pool
+        pooledRunner.stream(List.of(), options("task-3", "ctx-2")).blockLast();
+        assertEquals(1, pooledRunner.getWarmPoolCount());
+        pooledRunner.stream(List.of(), options("task-4", "ctx-1")).blockLast();
+        verify(first, times(2)).stream(any(List.class));
+        verify(third, times(1)).stream(any(List.class));
+
+        // Agents of stopped tasks are not pooled
+        when(third.stream(any(List.class))).thenReturn(Flux.never());
+        Disposable running = pooledRunner.stream(List.of(), options("task-5", "ctx-1")).subscribe();
+        assertEquals(0, pooledRunner.getWarmPoolCount());
+        pooledRunner.stop("task-5");
+        verify(third, times(1)).interrupt();
+        running.dispose();
+        assertEquals(0, pooledRunner.getWarmPoolCount());
+    }
+
+    @Test
+    @DisplayName("Should not reuse pooled agent for another user or session in the same context")
+    void testWarmPoolIsolatesUsersAndSessions() {
+        ReActAgent first = mock(ReActAgent.class);
+        ReActAgent second = mock(ReActAgent.class);
+        ReActAgent third = mock(ReActAgent.class);
+        when(mockBuilder.build()).thenReturn(first, second, third);
+        for (ReActAgent agent : List.of(first, second, third)) {
+            when(agent.stream(any(List.class))).thenReturn(Flux.empty());
+        }
+        ReActAgentWithBuilderRunner pooledRunner =
+                ReActAgentWithBuilderRunner.newInstance(mockBuilder, 3);
+
+        pooledRunner.stream(List.of(), options("task-1", "ctx-1", "alice", "s-1")).blockLast();
+        pooledRunner.stream(List.of(), options("task-2", "ctx-1", "bob", "s-1")).blockLast();
+        pooledRunner.stream(List.of(), options("task-3", "ctx-1", "alice", "s-2")).blockLast();
+        verify(first, times(1)).stream(any(List.class));
+        verify(second, times(1)).stream(any(List.class));
+        verify(third, times(1)).stream(any(List.class));
+        assertEquals(3, pooledRunner.getWarmPoolCount());
+
+        pooledRunner.stream(List.of(), options("task-4", "ctx-1", "alice", "s-1")).blockLast();
+        verify(first, times(2)).stream(any(List.class));
+    }
+
+    @Test
+    @DisplayName("Should reject negative warm pool size")
+    void testRejectNegativeWarmPoolSize() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> ReActAgentWithBuilderRunner.newInstance(mockBuilder, -1));
+    }
+
+    private static AgentRequestOptions options(String taskId, String contextId) {
+        AgentRequestOptions options = new AgentRequestOptions();
+        options.setTaskId(taskId);
+        options.setContextId(contextId);
+        return options;
+    }
+
+    private static AgentRequestOptions options(
+            String taskId, String contextId, String userId, String sessionId) {
+        AgentRequestOptions options = options(taskId, contextId);
+        options.setUserId(userId);
+        options.setSessionId(sessionId);
+        return options;
+    }
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.agui.encoder;
+
+import io.agentscope.core.agui.event.AguiEvent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import reactor.core.publisher.Flux;
+
+/**
+ * Micro-batching stage for AG-UI event streams.
+ *
+ * <p>Streaming agents emit one {@code TEXT_MESSAGE_CONTENT} event per model token. Writing and
+ * flushing each of them on its own costs a syscall, and often a network packet, per token. This
+ * batcher collects the events emitted within a short window (or until {@code maxEvents} are
+ * collected) and merges consecutive text deltas of the same message, so the transport writes each
+ * batch with a single flush:
+ * <pre>{@code
+ * AguiEventBatcher batcher = AguiEventBatcher.builder()
+ *     .window(Duration.ofMillis(20))
+ *     .maxEvents(64)
+ *     .build();
+ *
+ * Flux<byte[]> frames = batcher.batch(events).map(encoder::encodeToBytes);
+ * }</pre>
+ *
+ * <p>Events keep their order; only adjacent deltas are merged. The window adds at most its own
+ * duration of latency to an event.
+ *
+ * <p>The batcher is stateless and can be shared across multiple requests.
+ */
+public class AguiEventBatcher {
+
+    private final Duration window;
+    private final int maxEvents;
+
+    private AguiEventBatcher(Builder builder) {
+        this.window = builder.window;
+        this.maxEvents = builder.maxEvents;
+    }
+
+    /**
+     * Creates a new builder for AguiEventBatcher.
+     *
+     * @return A new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Groups an event stream into batches, merging the text deltas within each batch.
+     *
+     * @param events The events to batch
+     * @return The batches, each holding at least one event
+     */
+    public Flux<List<AguiEvent>> batch(Flux<AguiEvent> events) {
+        return events.bufferTimeout(maxEvents, window).map(AguiEventBatcher::coalesce);
+    }
+
+    /**
+     * Merges consecutive {@code TEXT_MESSAGE_CONTENT} events of the same message into one event.
+     *
+     * @param events The events to merge
+     * @return The events with consecutive deltas of a message merged, in the original order
+     */
+    public static List<AguiEvent> coalesce(List<AguiEvent> events) {
+        List<AguiEvent> result = new ArrayList<>(events.size());
+        AguiEvent.TextMessageContent first = null;
+        StringBuilder delta = null;
+        for (AguiEvent event : events) {
+            if (event instanceof AguiEvent.TextMessageContent content) {
+                if (first != null && sameMessage(first, content)) {
+                    if (delta == null) {
+                        delta = new StringBuilder(first.delta());
+                    }
+                    delta.append(content.delta());
+                    continue;
+                }
+                flush(result, first, delta);
+                first = content;
+                delta = null;
+            } else {
+                flush(result, first, delta);
+                first = null;
+                delta = null;
+                result.add(event);
+            }
+        }
+        flush(result, first, delta);
+        return result;
+    }
+
+    private static boolean sameMessage(
+            AguiEvent.TextMessageContent a, AguiEvent.TextMessageContent b) {
+        return a.messageId().equals(b.messageId())
+                && a.threadId().equals(b.threadId())
+                && a.runId().equals(b.runId());
+    }
+
+    private static void flush(
+            List<AguiEvent> result, AguiEvent.TextMessageContent first, StringBuilder delta) {
+        if (first == null) {
+            return;
+        }
+        result.add(
+                delta == null
+                        ? first
+                        : new AguiEvent.TextMessageContent(
+                                first.threadId(),
+                                first.runId(),
+                                first.messageId(),
+                                delta.toString()));
+    }
+
+    /**
+     * Builder for AguiEventBatcher.
+     */
+    public static class Builder {
+
+        private Duration window = Duration.ofMillis(20);
+        private int maxEvents = 64;
+
+        /**
+         * Set how long events are collected before a batch is emitted.
+         *
+         * @param window The batch window (default 20ms)
+         * @return This builder
+         * @throws IllegalArgumentException if the window is null, zero or negative
+         */
+        public Builder window(Duration window) {
+            if (window == null || window.isZero() || window.isNegative()) {
+                throw new IllegalArgumentException("window must be positive");
+            }
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * Set the number of events after which a batch is emitted before its window ends.
+         *
+         * @param maxEvents The maximum events per batch (default 64)
+         * @return This builder
+         * @throws IllegalArgumentException if maxEvents is not positive
+         */
+        public Builder maxEvents(int maxEvents) {
+            if (maxEvents <= 0) {
+                throw new IllegalArgumentException("maxEvents must be positive");
+            }
+            this.maxEvents = maxEvents;
+            return this;
+        }
+
+        /**
+         * Build the AguiEventBatcher.
+         *
+         * @return The configured batcher
+         */
+        public AguiEventBatcher build() {
+            return new AguiEventBatcher(this);
+        }
+    }
+}
@@ -15,10 +15,18 @@
  */
 package io.agentscope.core.agui.encoder;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.agentscope.core.agui.AguiException;
 import io.agentscope.core.agui.event.AguiEvent;
+import io.agentscope.core.util.JacksonJsonCodec;
+import io.agentscope.core.util.JsonCodec;
 import io.agentscope.core.util.JsonException;
 import io.agentscope.core.util.JsonUtils;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 /**
  * Encoder for AG-UI events to Server-Sent Events (SSE) format.
@@ -28,10 +36,16 @@ import io.agentscope.core.util.JsonUtils;
  * data: {"type":"EVENT_TYPE",...}\n\n
  * </pre>
  *
+ * <p>{@link #encodeToBytes(List)} writes the frames of several events straight into one UTF-8
+ * buffer, so a batch of events can be written to the response and flushed at once.
+ *
  * <p>The encoder is thread-safe and can be shared across multiple requests.
  */
 public class AguiEventEncoder {
 
+    private static final byte[] DATA_PREFIX = "data: ".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] EVENT_END = "\n\n".getBytes(StandardCharsets.UTF_8);
+
     /**
      * Creates a new AguiEventEncoder.
      */
@@ -79,6 +93,63 @@ public class AguiEventEncoder {
         }
     }
 
+    /**
+     * Encode an AG-UI event to SSE format as UTF-8 bytes.
+     *
+     * <p>The bytes are the same as those of {@link #encode(AguiEvent)}, without building an
+     * intermediate string.
+     *
+     * @param event The event to encode
+     * @return The UTF-8 encoded SSE frame
+     * @throws AguiException.EncodingException if the event cannot be serialized
+     */
+    public byte[] encodeToBytes(AguiEvent event) {
+        return encodeToBytes(List.of(event));
+    }
+
+    /**
+     * Encode a batch of AG-UI events to SSE format as UTF-8 bytes.
+     *
+     * <p>The result holds one frame per event, in order. With the default Jackson codec all
+     * frames are serialized by a single generator whose buffers are recycled by Jackson.
+     *
+     * @param events The events to encode
+     * @return The UTF-8 encoded SSE frames
+     * @throws AguiException.EncodingException if an event cannot be serialized
+     */
+    public byte[] encodeToBytes(List<? extends AguiEvent> events) {
+        JsonCodec codec = JsonUtils.getJsonCodec();
+        try (ByteArrayBuilder out = new ByteArrayBuilder()) {
+            if (codec instanceof JacksonJsonCodec jackson) {
+                writeFrames(jackson.getObjectMapper(), events, out);
+            } else {
+                for (AguiEvent event : events) {
+                    out.write(DATA_PREFIX);
+                    out.write(codec.toJsonBytes(event));
+                    out.write(EVENT_END);
+                }
+            }
+            return out.toByteArray();
+        } catch (IOException | JsonException e) {
+            throw new AguiException.EncodingException("Failed to encode AG-UI events", e);
+        }
+    }
+
+    private static void writeFrames(
+            ObjectMapper mapper, List<? extends AguiEvent> events, ByteArrayBuilder out)
+            throws IOException {
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(out)) {
+            // The frames are separated by EVENT_END, not by the default root value separator
+            generator.setRootValueSeparator(null);
+            for (AguiEvent event : events) {
+                out.write(DATA_PREFIX);
+                mapper.writeValue(generator, event);
+                generator.flush();
+                out.write(EVENT_END);
+            }
+        }
+    }
+
     /**
      * Encode a comment in SSE format.
      *
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.agui.encoder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.agentscope.core.agui.event.AguiEvent;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests for AguiEventBatcher.
+ */
+class AguiEventBatcherTest {
+
+    private static AguiEvent.TextMessageContent content(String messageId, String delta) {
+        return new AguiEvent.TextMessageContent("thread-1", "run-1", messageId, delta);
+    }
+
+    @Test
+    void testCoalesceMergesAdjacentDeltasOfSameMessage() {
+        AguiEvent start = new AguiEvent.TextMessageStart("thread-1", "run-1", "msg-1", "assistant");
+        AguiEvent end = new AguiEvent.TextMessageEnd("thread-1", "run-1", "msg-1");
+
+        List<AguiEvent> result =
+                AguiEventBatcher.coalesce(
+                        List.of(
+                                start,
+                                content("msg-1", "Hel"),
+                                content("msg-1", "lo"),
+                                content("msg-2", "!"),
+                                content("msg-1", " world"),
+                                end));
+
+        assertEquals(
+                List.of(
+                        start,
+                        content("msg-1", "Hello"),
+                        content("msg-2", "!"),
+                        content("msg-1", " world"),
+                        end),
+                result);
+    }
+
+    @Test
+    void testBatchEmitsWhenFullAndWhenWindowEnds() {
+        AguiEventBatcher batcher =
+                AguiEventBatcher.builder().window(Duration.ofMillis(50)).maxEvents(2).build();
+
+        StepVerifier.create(
+                        batcher.batch(
+                                Flux.just(
+                                        content("msg-1", "a"),
+                                        content("msg-1", "b"),
+                                        content("msg-1", "c"))))
+                .expectNext(List.of(content("msg-1", "ab")))
+                .expectNext(List.of(content("msg-1", "c")))
+                .verifyComplete();
+
+        StepVerifier.withVirtualTime(
+                        () ->
+                                batcher.batch(
+                                        Flux.concat(
+                                                Flux.just(content("msg-1", "a")),
+                                                Flux.just(content("msg-1", "b"))
+                                                        .delaySubscription(
+                                                                Duration.ofMillis(100)))))
+                .thenAwait(Duration.ofMillis(50))
+                .expectNext(List.of(content("msg-1", "a")))
+                .thenAwait(Duration.ofMillis(100))
+                .expectNext(List.of(content("msg-1", "b")))
+                .verifyComplete();
+    }
+
+    @Test
+    void testBuilderRejectsInvalidSettings() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> AguiEventBatcher.builder().window(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> AguiEventBatcher.builder().maxEvents(0));
+    }
+}
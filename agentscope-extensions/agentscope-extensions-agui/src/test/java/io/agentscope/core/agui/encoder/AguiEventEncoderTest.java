@@ -23,6 +23,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import io.agentscope.core.agui.event.AguiEvent;
 import io.agentscope.core.agui.event.AguiEventType;
 import io.agentscope.core.util.JsonUtils;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
@@ -235,4 +236,19 @@ class AguiEventEncoderTest {
         assertNotNull(decoded);
         assertEquals(AguiEventType.STATE_SNAPSHOT, decoded.getType());
     }
+
+    @Test
+    void testEncodeToBytesMatchesEncode() {
+        AguiEvent first = new AguiEvent.RunStarted("thread-1", "run-1");
+        AguiEvent second =
+                new AguiEvent.TextMessageContent("thread-1", "run-1", "msg-1", "caf\u00e9 \"x\"");
+
+        String single = new String(encoder.encodeToBytes(second), StandardCharsets.UTF_8);
+        String batch =
+                new String(encoder.encodeToBytes(List.of(first, second)), StandardCharsets.UTF_8);
+
+        assertEquals(encoder.encode(second), single);
+        assertEquals(encoder.encode(first) + encoder.encode(second), batch);
+        assertEquals(0, encoder.encodeToBytes(List.of()).length);
+    }
 }
@@ -0,0 +1,418 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.embedding;
+
+import io.agentscope.core.message.ContentBlock;
+import io.agentscope.core.message.TextBlock;
+import io.agentscope.core.util.JsonUtils;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+/**
+ * Embedding model decorator that caches embeddings by content.
+ *
+ * <p>Entries are keyed by the SHA-256 digest of the delegate's model name, its dimensions and the
+ * content block (the text of a {@link TextBlock}, or the JSON form of any other block), so the same
+ * content is embedded only once per model configuration. Two tiers are used:
+ * <ul>
+ *   <li>an in-heap LRU tier holding up to {@code maxEntries} embeddings at full precision
+ *   <li>an optional on-disk tier of memory-mapped segment files, which survives restarts and
+ *       stores vectors as 32-bit floats
+ * </ul>
+ *
+ * <p>A disk hit is promoted to the heap tier. {@link #embedBatch(List)} looks up every block
+ * first and sends only the misses to the delegate, in a single batch call. Failed embeddings are
+ * never cached. Returned arrays are copies, so callers may modify them freely.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * CachingEmbeddingModel model = CachingEmbeddingModel.builder()
+ *     .delegate(embeddingModel)
+ *     .maxEntries(50_000)
+ *     .cacheDirectory(Path.of("/var/cache/agentscope/embeddings"))
+ *     .build();
+ *
+ * model.embed(block).block();
+ * CachingEmbeddingModel.Stats stats = model.getStats();
+ * }</pre>
+ */
+public class CachingEmbeddingModel implements EmbeddingModel, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CachingEmbeddingModel.class);
+
+    private final EmbeddingModel delegate;
+    private final Map<Key, double[]> memory;
+    private final EmbeddingDiskCache disk;
+    private final byte[] modelPrefix;
+
+    private final LongAdder memoryHits = new LongAdder();
+    private final LongAdder diskHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private CachingEmbeddingModel(Builder builder, EmbeddingDiskCache disk) {
+        this.delegate = builder.delegate;
+        this.disk = disk;
+        int maxEntries = builder.maxEntries;
+        this.memory =
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<Key, double[]> eldest) {
+                        return size() > maxEntries;
+                    }
+                };
+        // Length-prefixed so that no model name/content pair can collide with another
+        byte[] name = String.valueOf(delegate.getModelName()).getBytes(StandardCharsets.UTF_8);
+        this.modelPrefix =
+                ByteBuffer.allocate(2 * Integer.BYTES + name.length)
+                        .putInt(name.length)
+                        .put(name)
+                        .putInt(delegate.getDimensions())
+                        .array();
+    }
+
+    @Override
+    public Mono<double[]> embed(ContentBlock block) {
+        if (block == null) {
+            return delegate.embed(null);
+        }
+        return Mono.defer(
+                () -> {
+                    Key key = key(block);
+                    double[] cached = lookup(key);
+                    if (cached != null) {
+                        return Mono.just(cached.clone());
+                    }
+                    misses.increment();
+                    return delegate.embed(block)
+                            .doOnNext(embedding -> store(key, embedding))
+                            .map(double[]::clone);
+                });
+    }
+
+    @Override
+    public Mono<List<double[]>> embedBatch(List<ContentBlock> blocks) {
+        // Let the delegate report invalid input (List.contains(null) may throw for immutable lists)
+        if (blocks == null || blocks.stream().anyMatch(Objects::isNull)) {
+            return delegate.embedBatch(blocks);
+        }
+        return Mono.defer(() -> embedBatchCached(blocks));
+    }
+
+    private Mono<List<double[]>> embedBatchCached(List<ContentBlock> blocks) {
+        double[][] results = new double[blocks.size()][];
+        Key[] keys = new Key[blocks.size()];
+        // Distinct missing keys, each mapped to the first block that produced it
+        Map<Key, Integer> missing = new LinkedHashMap<>();
+        for (int i = 0; i < blocks.size(); i++) {
+            keys[i] = key(blocks.get(i));
+            double[] cached = lookup(keys[i]);
+            if (cached != null) {
+                results[i] = cached.clone();
+            } else if (missing.putIfAbsent(keys[i], i) == null) {
+                misses.increment();
+            }
+        }
+        if (missing.isEmpty()) {
+            return Mono.just(Arrays.asList(results));
+        }
+
+        List<ContentBlock> toEmbed = new ArrayList<>(missing.size());
+        for (int i : missing.values()) {
+            toEmbed.add(blocks.get(i));
+        }
+        return delegate.embedBatch(toEmbed)
+                .<List<double[]>>handle(
+                        (embeddings, sink) -> {
+                            if (embeddings.size() != missing.size()) {
+                                sink.error(
+                                        new EmbeddingException(
+                                                "Expected "
+                                                        + missing.size()
+                                                        + " embeddings, got "
+                                                        + embeddings.size(),
+                                                getModelName(),
+                                                null));
+                                return;
+                            }
+                            Map<Key, double[]> fresh = new HashMap<>();
+                            int j = 0;
+                            for (Key key : missing.keySet()) {
+                                double[] embedding = embeddings.get(j++);
+                                store(key, embedding);
+                                fresh.put(key, embedding);
+                            }
+                            for (int i = 0; i < results.length; i++) {
+                                if (results[i] == null) {
+                                    results[i] = fresh.get(keys[i]).clone();
+                                }
+                            }
+                            sink.next(Arrays.asList(results));
+                        });
+    }
+
+    @Override
+    public String getModelName() {
+        return delegate.getModelName();
+    }
+
+    @Override
+    public int getDimensions() {
+        return delegate.getDimensions();
+    }
+
+    /**
+     * Gets a snapshot of the cache hit and miss counters.
+     *
+     * @return the current statistics
+     */
+    public Stats getStats() {
+        int memorySize;
+        synchronized (memory) {
+            memorySize = memory.size();
+        }
+        return new Stats(
+                memoryHits.sum(),
+                diskHits.sum(),
+                misses.sum(),
+                memorySize,
+                disk != null ? disk.size() : 0);
+    }
+
+    /** Removes all entries from the in-heap tier. The disk tier is kept. */
+    public void clearMemory() {
+        synchronized (memory) {
+            memory.clear();
+        }
+    }
+
+    /** Flushes the disk tier, if any. */
+    @Override
+    public void close() {
+        if (disk != null) {
+            disk.close();
+        }
+    }
+
+    private double[] lookup(Key key) {
+        synchronized (memory) {
+            double[] cached = memory.get(key);
+            if (cached != null) {
+                memoryHits.increment();
+                return cached;
+            }
+        }
+        if (disk == null) {
+            return null;
+        }
+        double[] cached = disk.get(key.digest());
+        if (cached != null) {
+            diskHits.increment();
+            synchronized (memory) {
+                memory.put(key, cached);
+            }
+        }
+        return cached;
+    }
+
+    private void store(Key key, double[] embedding) {
+        double[] copy = embedding.clone();
+        synchronized (memory) {
+            memory.put(key, copy);
+        }
+        if (disk != null) {
+            try {
+                disk.put(key.digest(), copy);
+            } catch (IOException e) {
+                log.warn("Failed to write embedding to disk cache: {}", e.getMessage());
+            }
+        }
+    }
+
+    private Key key(ContentBlock block) {
+        String content =
+                block instanceof TextBlock textBlock
+                        ? textBlock.getText()
+                        : JsonUtils.getJsonCodec().toJson(block);
+        MessageDigest digest = sha256();
+        digest.update(modelPrefix);
+        // Distinguish text content from the JSON form of other blocks
+        digest.update((byte) (block instanceof TextBlock ? 'T' : 'J'));
+        digest.update(String.valueOf(content).getBytes(StandardCharsets.UTF_8));
+        return new Key(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Creates a new builder for CachingEmbeddingModel.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Cache statistics.
+     *
+     * @param memoryHits lookups answered by the in-heap tier
+     * @param diskHits lookups answered by the disk tier
+     * @param misses lookups that required calling the delegate model
+     * @param memoryEntries entries currently in the in-heap tier
+     * @param diskEntries entries currently in the disk tier
+     */
+    public record Stats(
+            long memoryHits, long diskHits, long misses, int memoryEntries, int diskEntries) {
+
+        /**
+         * Gets the fraction of lookups served from either tier.
+         *
+         * @return the hit rate between 0 and 1, or 0 if there were no lookups
+         */
+        public double hitRate() {
+            long total = memoryHits + diskHits + misses;
+            return total == 0 ? 0.0 : (double) (memoryHits + diskHits) / total;
+        }
+    }
+
+    /**
+     * Builder for CachingEmbeddingModel.
+     */
+    public static class Builder {
+        private EmbeddingModel delegate;
+        private int maxEntries = 10_000;
+        private Path cacheDirectory;
+        private int segmentSize = 64 * 1024 * 1024;
+
+        private Builder() {}
+
+        /**
+         * Sets the embedding model whose results are cached.
+         *
+         * @param delegate the underlying embedding model
+         * @return this builder instance
+         */
+        public Builder delegate(EmbeddingModel delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of embeddings kept in the in-heap tier.
+         *
+         * @param maxEntries the capacity (must be positive, default 10000)
+         * @return this builder instance
+         */
+        public Builder maxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Enables the on-disk tier in the given directory.
+         *
+         * <p>The directory may be shared by several models; entries are keyed by model name and
+         * dimensions. It must not be used by more than one cache instance at a time.
+         *
+         * @param cacheDirectory the directory for segment files, or null to disable the disk tier
+         * @return this builder instance
+         */
+        public Builder cacheDirectory(Path cacheDirectory) {
+            this.cacheDirectory = cacheDirectory;
+            return this;
+        }
+
+        /**
+         * Sets the size of each on-disk segment file.
+         *
+         * @param segmentSize the segment size in bytes (must be positive, default 64 MiB)
+         * @return this builder instance
+         */
+        public Builder segmentSize(int segmentSize) {
+            this.segmentSize = segmentSize;
+            return this;
+        }
+
+        /**
+         * Builds the CachingEmbeddingModel instance.
+         *
+         * @return configured CachingEmbeddingModel instance
+         * @throws IllegalStateException if required parameters are missing or invalid
+         * @throws EmbeddingException if the disk tier cannot be opened
+         */
+        public CachingEmbeddingModel build() {
+            if (delegate == null) {
+                throw new IllegalStateException("delegate is required");
+            }
+            if (maxEntries <= 0) {
+                throw new IllegalStateException("maxEntries must be positive, got: " + maxEntries);
+            }
+            if (segmentSize <= 0) {
+                throw new IllegalStateException(
+                        "segmentSize must be positive, got: " + segmentSize);
+            }
+            EmbeddingDiskCache disk = null;
+            if (cacheDirectory != null) {
+                try {
+                    disk = new EmbeddingDiskCache(cacheDirectory, segmentSize);
+                } catch (IOException e) {
+                    throw new EmbeddingException(
+                            "Failed to open embedding cache in " + cacheDirectory, e);
+                }
+            }
+            return new CachingEmbeddingModel(this, disk);
+        }
+    }
+
+    /**
+     * SHA-256 cache key with value semantics.
+     *
+     * @param digest the digest bytes
+     */
+    private record Key(byte[] digest) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other && Arrays.equals(digest, other.digest);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(digest);
+        }
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.embedding;
+
+import io.agentscope.core.message.ContentBlock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+/**
+ * Embedding model decorator that coalesces concurrent single embeddings into batch requests.
+ *
+ * <p>Calls to {@link #embed(ContentBlock)} are queued and grouped into one {@link
+ * EmbeddingModel#embedBatch(List)} call on the delegate when either {@code maxBatchSize} blocks
+ * are waiting or {@code maxWait} has elapsed since the first one arrived. At most {@code
+ * maxConcurrency} batch requests are in flight; further batches wait in the queue, which holds at
+ * most {@code maxPending} blocks. Requests arriving while the queue is full fail immediately with
+ * an {@link EmbeddingException} instead of growing memory without bound.
+ *
+ * <p>If a batch fails, its blocks are retried individually so that one invalid input does not fail
+ * unrelated requests that happened to share its batch.
+ *
+ * <p>{@link #embedBatch(List)} is passed straight through to the delegate, since the caller has
+ * already batched.
+ *
+ * <p>The model owns a background batching subscription. {@link #dispose()} stops accepting
+ * requests and lets queued ones finish; {@link #close()} also cancels the subscription and fails
+ * every request that has not completed yet.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * EmbeddingModel model = CoalescingEmbeddingModel.builder()
+ *     .delegate(DashScopeTextEmbedding.builder().apiKey(apiKey).modelName("text-embedding-v3").build())
+ *     .maxBatchSize(32)
+ *     .maxWait(Duration.ofMillis(5))
+ *     .build();
+ * }</pre>
+ */
+public class CoalescingEmbeddingModel implements EmbeddingModel, Disposable, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CoalescingEmbeddingModel.class);
+
+    /** How long a caller retries while another thread is emitting to the request queue. */
+    private static final Duration EMIT_CONTENTION_TIMEOUT = Duration.ofMillis(100);
+
+    private final EmbeddingModel delegate;
+    private final Sinks.Many<Request> requests;
+    private final Disposable subscription;
+
+    private CoalescingEmbeddingModel(Builder builder) {
+        this.delegate = builder.delegate;
+        this.requests =
+                Sinks.many()
+                        .unicast()
+                        .onBackpressureBuffer(Queues.<Request>get(builder.maxPending).get());
+        this.subscription =
+                requests.asFlux()
+                        .bufferTimeout(builder.maxBatchSize, builder.maxWait, true)
+                        .flatMap(this::dispatch, builder.maxConcurrency)
+                        // Requests dropped by close() while queued or batched fail instead of
+                        // hanging
+                        .doOnDiscard(Request.class, request -> request.sink().error(closed()))
+                        .subscribe();
+    }
+
+    @Override
+    public Mono<double[]> embed(ContentBlock block) {
+        if (block == null) {
+            return delegate.embed(null);
+        }
+        return Mono.create(
+                sink -> {
+                    try {
+                        // Concurrent callers race for the sink; retry for a bounded time while
+                        // another caller is emitting
+                        requests.emitNext(
+                                new Request(block, sink),
+                                Sinks.EmitFailureHandler.busyLooping(EMIT_CONTENTION_TIMEOUT));
+                    } catch (Sinks.EmissionException e) {
+                        sink.error(
+                                new EmbeddingException(
+                                        "Embedding request queue is full or closed: "
+                                                + e.getReason(),
+                                        getModelName(),
+                                        null));
+                    }
+                });
+    }
+
+    @Override
+    public Mono<List<double[]>> embedBatch(List<ContentBlock> blocks) {
+        return delegate.embedBatch(blocks);
+    }
+
+    @Override
+    public String getModelName() {
+        return delegate.getModelName();
+    }
+
+    @Override
+    public int getDimensions() {
+        return delegate.getDimensions();
+    }
+
+    /**
+     * Stops accepting requests. Requests already queued are still processed.
+     */
+    @Override
+    public void dispose() {
+        requests.tryEmitComplete();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return subscription.isDisposed();
+    }
+
+    /**
+     * Stops accepting requests and cancels the batching subscription. Requests that have not
+     * completed yet fail with an {@link EmbeddingException}.
+     */
+    @Override
+    public void close() {
+        dispose();
+        subscription.dispose();
+    }
+
+    private EmbeddingException closed() {
+        return new EmbeddingException("Embedding model is closed", getModelName(), null);
+    }
+
+    private Mono<Void> dispatch(List<Request> batch) {
+        if (batch.size() == 1) {
+            Request request = batch.get(0);
+            return delegate.embed(request.block())
+                    .doOnSuccess(request.sink()::success)
+                    .doOnError(request.sink()::error)
+                    .doOnCancel(() -> request.sink().error(closed()))
+                    .onErrorResume(e -> Mono.empty())
+                    .then();
+        }
+
+        List<ContentBlock> blocks = new ArrayList<>(batch.size());
+        for (Request request : batch) {
+            blocks.add(request.block());
+        }
+        return delegate.embedBatch(blocks)
+                .flatMap(
+                        embeddings -> {
+                            if (embeddings.size() != batch.size()) {
+                                return Mono.error(
+                                        new EmbeddingException(
+                                                "Expected "
+                                                        + batch.size()
+                                                        + " embeddings, got "
+                                                        + embeddings.size(),
+                                                getModelName(),
+                                                null));
+                            }
+                            for (int i = 0; i < batch.size(); i++) {
+                                batch.get(i).sink().success(embeddings.get(i));
+                            }
+                            return Mono.<Void>empty();
+                        })
+                .doOnCancel(() -> batch.forEach(request -> request.sink().error(closed())))
+                .onErrorResume(
+                        e -> {
+                            log.debug(
+                                    "Batch of {} embeddings failed, retrying individually: {}",
+                                    batch.size(),
+                                    e.getMessage());
+                            return Flux.fromIterable(batch)
+                                    .flatMap(request -> dispatch(List.of(request)))
+                                    .then();
+                        });
+    }
+
+    /**
+     * Creates a new builder for CoalescingEmbeddingModel.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for CoalescingEmbeddingModel.
+     */
+    public static class Builder {
+        private EmbeddingModel delegate;
+        private int maxBatchSize = 32;
+        private Duration maxWait = Duration.ofMillis(5);
+        private int maxConcurrency = 4;
+        private int maxPending = 4096;
+
+        private Builder() {}
+
+        /**
+         * Sets the embedding model that performs the batched requests.
+         *
+         * @param delegate the underlying embedding model
+         * @return this builder instance
+         */
+        public Builder delegate(EmbeddingModel delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of blocks per batch request.
+         *
+         * @param maxBatchSize the maximum batch size (must be positive, default 32)
+         * @return this builder instance
+         */
+        public Builder maxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Sets how long a block may wait for other blocks to join its batch.
+         *
+         * @param maxWait the batching window (must be positive, default 5 ms)
+         * @return this builder instance
+         */
+        public Builder maxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of batch requests in flight at the same time.
+         *
+         * @param maxConcurrency the maximum concurrency (must be positive, default 4)
+         * @return this builder instance
+         */
+        public Builder maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of queued blocks waiting to be batched.
+         *
+         * @param maxPending the queue capacity (must be positive, default 4096)
+         * @return this builder instance
+         */
+        public Builder maxPending(int maxPending) {
+            this.maxPending = maxPending;
+            return this;
+        }
+
+        /**
+         * Builds the CoalescingEmbeddingModel instance.
+         *
+         * @return configured CoalescingEmbeddingModel instance
+         * @throws IllegalStateException if required parameters are missing or invalid
+         */
+        public CoalescingEmbeddingModel build() {
+            if (delegate == null) {
+                throw new IllegalStateException("delegate is required");
+            }
+            if (maxBatchSize <= 0) {
+                throw new IllegalStateException(
+                        "maxBatchSize must be positive, got: " + maxBatchSize);
+            }
+            if (maxWait == null || maxWait.isNegative() || maxWait.isZero()) {
+                throw new IllegalStateException("maxWait must be positive, got: " + maxWait);
+            }
+            if (maxConcurrency <= 0) {
+                throw new IllegalStateException(
+                        "maxConcurrency must be positive, got: " + maxConcurrency);
+            }
+            if (maxPending <= 0) {
+                throw new IllegalStateException("maxPending must be positive, got: " + maxPending);
+            }
+            return new CoalescingEmbeddingModel(this);
+        }
+    }
+
+    /**
+     * A queued embedding request.
+     *
+     * @param block the block to embed
+     * @param sink the caller's sink that receives the embedding
+     */
+    private record Request(ContentBlock block, MonoSink<double[]> sink) {}
+}
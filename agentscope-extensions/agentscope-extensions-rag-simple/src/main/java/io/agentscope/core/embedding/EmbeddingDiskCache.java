@@ -0,0 +1,299 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.embedding;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * On-disk tier of {@link CachingEmbeddingModel}.
+ *
+ * <p>Embeddings are appended to fixed-size, memory-mapped segment files named {@code
+ * embeddings-NNNNN.seg}. Each segment starts with a 16-byte header followed by records:
+ *
+ * <pre>
+ * header: magic (4) | version (4) | committed length (8)
+ * record: key (32) | dimensions (4) | dimensions x float32
+ * </pre>
+ *
+ * <p>A record becomes visible only after the committed length in the header has been advanced past
+ * it, so a record torn by a crash is ignored and overwritten on the next write. Vectors are stored
+ * as 32-bit floats, which halves the file size; values read back are therefore rounded to float
+ * precision.
+ *
+ * <p>The location of every record is indexed in memory when the cache is opened. Files whose header
+ * does not match are left untouched, and indexing of a segment stops at the first record that does
+ * not fit within its committed length. The directory is locked while the cache is open, so a second
+ * cache on the same directory fails to open instead of overwriting records. This class is
+ * thread-safe.
+ */
+final class EmbeddingDiskCache implements AutoCloseable {
+
+    /** Length of a cache key (a SHA-256 digest) in bytes. */
+    static final int KEY_SIZE = 32;
+
+    private static final int MAGIC = 0x454D4243; // "EMBC"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int COMMITTED_OFFSET = 8;
+    private static final String LOCK_FILE = "embeddings.lock";
+    private static final Pattern SEGMENT_NAME = Pattern.compile("embeddings-(\\d{1,9})\\.seg");
+
+    private final Path directory;
+    private final int segmentSize;
+    private final FileChannel lockChannel;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final Map<Key, Long> index = new HashMap<>();
+    private int nextSegmentNumber;
+
+    /**
+     * Opens the cache in a directory, creating it if necessary, and indexes existing segments.
+     *
+     * @param directory the directory holding the segment files
+     * @param segmentSize the size of each segment file in bytes
+     * @throws IOException if the directory or a segment cannot be read, or the directory is in use
+     *     by another cache
+     */
+    EmbeddingDiskCache(Path directory, int segmentSize) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        Files.createDirectories(directory);
+
+        lockChannel =
+                FileChannel.open(
+                        directory.resolve(LOCK_FILE),
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE);
+        try {
+            if (tryLock(lockChannel) == null) {
+                throw new IOException("Embedding cache in " + directory + " is already in use");
+            }
+            load();
+        } catch (IOException | RuntimeException e) {
+            lockChannel.close();
+            throw e;
+        }
+    }
+
+    private void load() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream =
+                Files.newDirectoryStream(directory, "embeddings-*.seg")) {
+            stream.forEach(files::add);
+        }
+        files.sort(null);
+        // Number new segments after the highest existing one, so that a gap in the numbering or
+        // a skipped file never makes a new segment overwrite an existing file
+        for (Path file : files) {
+            Matcher matcher = SEGMENT_NAME.matcher(file.getFileName().toString());
+            if (matcher.matches()) {
+                nextSegmentNumber =
+                        Math.max(nextSegmentNumber, Integer.parseInt(matcher.group(1)) + 1);
+            }
+        }
+        for (Path file : files) {
+            ByteBuffer header = readHeader(file);
+            if (header == null || header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                // Not a segment we understand; leave it alone and start a new one after it
+                continue;
+            }
+            // Map the file at its current length; a segment written with another size is not extended
+            MappedByteBuffer segment = map(file, (int) Files.size(file));
+            int id = segments.size();
+            segments.add(segment);
+            long stored = header.getLong(COMMITTED_OFFSET);
+            long committed = Math.max(HEADER_SIZE, Math.min(stored, segment.capacity()));
+            int position = HEADER_SIZE;
+            while (position + KEY_SIZE + Integer.BYTES <= committed) {
+                int dimensions = segment.getInt(position + KEY_SIZE);
+                if (dimensions < 0 || position + recordSize(dimensions) > committed) {
+                    break;
+                }
+                byte[] key = new byte[KEY_SIZE];
+                segment.get(position, key);
+                index.put(new Key(key), location(id, position));
+                position += (int) recordSize(dimensions);
+            }
+            if (position != stored) {
+                // Drop the damaged tail so that the next write overwrites it
+                segment.putLong(COMMITTED_OFFSET, position);
+            }
+        }
+    }
+
+    /**
+     * Looks up an embedding.
+     *
+     * @param key the cache key
+     * @return the embedding, or null if it is not cached
+     */
+    synchronized double[] get(byte[] key) {
+        Long location = index.get(new Key(key));
+        if (location == null) {
+            return null;
+        }
+        MappedByteBuffer segment = segments.get((int) (location >>> 32));
+        int position = (int) (long) location + KEY_SIZE;
+        int dimensions = segment.getInt(position);
+        position += Integer.BYTES;
+        double[] embedding = new double[dimensions];
+        for (int i = 0; i < dimensions; i++) {
+            embedding[i] = segment.getFloat(position + i * Float.BYTES);
+        }
+        return embedding;
+    }
+
+    /**
+     * Stores an embedding. Keys that are already present are left unchanged.
+     *
+     * @param key the cache key
+     * @param embedding the embedding
+     * @throws IOException if a new segment cannot be created
+     */
+    synchronized void put(byte[] key, double[] embedding) throws IOException {
+        Key k = new Key(key);
+        if (index.containsKey(k)) {
+            return;
+        }
+        long size = recordSize(embedding.length);
+        if (HEADER_SIZE + size > segmentSize) {
+            throw new IOException(
+                    "Embedding of " + embedding.length + " dimensions exceeds segment size");
+        }
+
+        MappedByteBuffer segment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        if (segment == null || segment.getLong(COMMITTED_OFFSET) + size > segment.capacity()) {
+            segment = newSegment();
+        }
+        int position = (int) segment.getLong(COMMITTED_OFFSET);
+        ByteBuffer record = segment.duplicate().position(position);
+        record.put(key).putInt(embedding.length);
+        for (double v : embedding) {
+            record.putFloat((float) v);
+        }
+        // Publish the record only after its bytes are in place
+        segment.putLong(COMMITTED_OFFSET, position + size);
+        index.put(k, location(segments.size() - 1, position));
+    }
+
+    /**
+     * Gets the number of cached embeddings.
+     *
+     * @return the number of cached embeddings
+     */
+    synchronized int size() {
+        return index.size();
+    }
+
+    /** Flushes all segments to disk and releases the directory lock. */
+    @Override
+    public synchronized void close() {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+        try {
+            lockChannel.close();
+        } catch (IOException e) {
+            // The lock is released with the channel even if closing reports an error
+        }
+    }
+
+    private MappedByteBuffer newSegment() throws IOException {
+        Path file = directory.resolve(String.format("embeddings-%05d.seg", nextSegmentNumber++));
+        MappedByteBuffer segment = map(file, segmentSize);
+        segment.putInt(0, MAGIC).putInt(4, VERSION).putLong(COMMITTED_OFFSET, HEADER_SIZE);
+        segments.add(segment);
+        return segment;
+    }
+
+    private static MappedByteBuffer map(Path file, int size) throws IOException {
+        try (FileChannel channel =
+                FileChannel.open(
+                        file,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.READ,
+                        StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    /**
+     * Reads the header of a file through a read-only channel.
+     *
+     * @return the header, or null if the file is too short or too long to be a segment
+     */
+    private static ByteBuffer readHeader(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE || channel.size() > Integer.MAX_VALUE) {
+                return null;
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    return null;
+                }
+            }
+            return header;
+        }
+    }
+
+    private static FileLock tryLock(FileChannel channel) throws IOException {
+        try {
+            return channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // Held by another cache in this process
+            return null;
+        }
+    }
+
+    private static long recordSize(int dimensions) {
+        return KEY_SIZE + Integer.BYTES + (long) dimensions * Float.BYTES;
+    }
+
+    private static long location(int segment, int position) {
+        return ((long) segment << 32) | position;
+    }
+
+    /** Byte-array key with value semantics. */
+    private record Key(byte[] bytes) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other && Arrays.equals(bytes, other.bytes);
+        }
+
+        @Override
+        public int hashCode() {
+            // Keys are uniformly distributed digests, so any four bytes make a good hash
+            return ByteBuffer.wrap(bytes).getInt();
+        }
+    }
+}
@@ -16,6 +16,8 @@
 package io.agentscope.core.embedding;
 
 import io.agentscope.core.message.ContentBlock;
+import java.util.List;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -48,6 +50,27 @@ public interface EmbeddingModel {
      */
     Mono<double[]> embed(ContentBlock block);
 
+    /**
+     * Generate embedding vectors for multiple content blocks.
+     *
+     * <p>Providers whose API accepts several inputs per request should override this method to
+     * embed the blocks with as few calls as possible, splitting the list according to the
+     * provider's per-request input limit. The default implementation calls {@link
+     * #embed(ContentBlock)} once per block.
+     *
+     * @param blocks the content blocks to embed
+     * @return Mono that emits one embedding vector per block, in the same order as {@code blocks}
+     * @throws EmbeddingException if embedding generation fails for any block
+     */
+    default Mono<List<double[]>> embedBatch(List<ContentBlock> blocks) {
+        if (blocks == null) {
+            return Mono.error(
+                    new EmbeddingException(
+                            "ContentBlock list cannot be null", getModelName(), null));
+        }
+        return Flux.fromIterable(blocks).flatMapSequential(this::embed).collectList();
+    }
+
     /**
      * Get the model name for logging and identification.
      *
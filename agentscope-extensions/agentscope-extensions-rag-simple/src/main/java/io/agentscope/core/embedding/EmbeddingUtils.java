@@ -17,6 +17,7 @@ package io.agentscope.core.embedding;
 
 import io.agentscope.core.model.ExecutionConfig;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
 import org.slf4j.Logger;
@@ -263,4 +264,24 @@ public final class EmbeddingUtils {
         }
         return array;
     }
+
+    /**
+     * Concatenates the results of consecutive batch embedding calls.
+     *
+     * <p>Used by embedding models that split a large batch into several API requests to restore a
+     * single result list in input order.
+     *
+     * @param batches the per-request results, in request order
+     * @return all embeddings in order
+     */
+    public static List<double[]> flatten(List<List<double[]>> batches) {
+        if (batches.size() == 1) {
+            return batches.get(0);
+        }
+        List<double[]> embeddings = new ArrayList<>();
+        for (List<double[]> batch : batches) {
+            embeddings.addAll(batch);
+        }
+        return embeddings;
+    }
 }
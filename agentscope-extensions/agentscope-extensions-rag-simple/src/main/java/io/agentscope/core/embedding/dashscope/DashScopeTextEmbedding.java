@@ -25,9 +25,13 @@ import io.agentscope.core.embedding.EmbeddingUtils;
 import io.agentscope.core.message.ContentBlock;
 import io.agentscope.core.message.TextBlock;
 import io.agentscope.core.model.ExecutionConfig;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -45,6 +49,9 @@ public class DashScopeTextEmbedding implements EmbeddingModel {
 
     private static final Logger log = LoggerFactory.getLogger(DashScopeTextEmbedding.class);
 
+    /** The maximum number of texts per DashScope text embedding request. */
+    private static final int MAX_BATCH_SIZE = 10;
+
     private final String apiKey;
     private final String modelName;
     private final int dimensions;
@@ -86,28 +93,70 @@ public class DashScopeTextEmbedding implements EmbeddingModel {
 
     @Override
     public Mono<double[]> embed(ContentBlock block) {
-        if (block == null) {
-            return Mono.error(
-                    new EmbeddingException("ContentBlock cannot be null", modelName, "dashscope"));
-        }
+        return embedBatch(Collections.singletonList(block)).map(embeddings -> embeddings.get(0));
+    }
 
-        if (!(block instanceof TextBlock textBlock)) {
+    /**
+     * Generate embeddings for multiple text blocks.
+     *
+     * <p>Texts are sent together, up to {@value #MAX_BATCH_SIZE} per request (the input limit of
+     * the text-embedding-v3/v4 models), instead of one request per text.
+     *
+     * @param blocks the text blocks to embed
+     * @return Mono that emits one embedding vector per block, in input order
+     */
+    @Override
+    public Mono<List<double[]>> embedBatch(List<ContentBlock> blocks) {
+        if (blocks == null) {
             return Mono.error(
                     new EmbeddingException(
-                            "DashScopeTextEmbedding only supports TextBlock, but got: "
-                                    + block.getClass().getSimpleName(),
-                            modelName,
-                            "dashscope"));
+                            "ContentBlock list cannot be null", modelName, "dashscope"));
+        }
+        if (blocks.isEmpty()) {
+            return Mono.just(List.of());
         }
 
-        String text = textBlock.getText();
-        if (text == null || text.trim().isEmpty()) {
-            return Mono.error(
-                    new EmbeddingException(
-                            "TextBlock text cannot be null or empty", modelName, "dashscope"));
+        List<String> texts = new ArrayList<>(blocks.size());
+        for (ContentBlock block : blocks) {
+            if (block == null) {
+                return Mono.error(
+                        new EmbeddingException(
+                                "ContentBlock cannot be null", modelName, "dashscope"));
+            }
+
+            if (!(block instanceof TextBlock textBlock)) {
+                return Mono.error(
+                        new EmbeddingException(
+                                "DashScopeTextEmbedding only supports TextBlock, but got: "
+                                        + block.getClass().getSimpleName(),
+                                modelName,
+                                "dashscope"));
+            }
+
+            String text = textBlock.getText();
+            if (text == null || text.trim().isEmpty()) {
+                return Mono.error(
+                        new EmbeddingException(
+                                "TextBlock text cannot be null or empty", modelName, "dashscope"));
+            }
+            texts.add(text);
         }
 
-        Mono<double[]> embeddingMono =
+        return Flux.fromIterable(texts)
+                .buffer(MAX_BATCH_SIZE)
+                .concatMap(this::embedTexts)
+                .collectList()
+                .map(EmbeddingUtils::flatten);
+    }
+
+    /**
+     * Embeds up to {@value #MAX_BATCH_SIZE} texts with a single API call.
+     *
+     * @param texts the texts to embed
+     * @return Mono that emits one embedding vector per text, in input order
+     */
+    private Mono<List<double[]>> embedTexts(List<String> texts) {
+        Mono<List<double[]>> embeddingMono =
                 Mono.fromCallable(
                                 () -> {
                                     try {
@@ -120,14 +169,13 @@ public class DashScopeTextEmbedding implements EmbeddingModel {
                                                         .apiKey(apiKey)
                                                         .model(modelName)
                                                         .dimension(dimensions)
-                                                        .texts(List.of(text))
+                                                        .texts(texts)
                                                         .build();
 
                                         log.debug(
-                                                "DashScope embedding call: model={},"
-                                                        + " text_length={}",
+                                                "DashScope embedding call: model={}, texts={}",
                                                 modelName,
-                                                text.length());
+                                                texts.size());
 
                                         TextEmbeddingResult result = embedding.call(param);
 
@@ -141,38 +189,60 @@ public class DashScopeTextEmbedding implements EmbeddingModel {
                                         List<TextEmbeddingResultItem> embeddings =
                                                 result.getOutput().getEmbeddings();
                                         if (embeddings == null
-                                                || embeddings.isEmpty()
-                                                || embeddings.get(0) == null) {
+                                                || embeddings.size() < texts.size()) {
                                             throw new EmbeddingException(
                                                     "No embedding data in response",
                                                     modelName,
                                                     "dashscope");
                                         }
 
-                                        List<Double> embeddingValues =
-                                                embeddings.get(0).getEmbedding();
-                                        if (embeddingValues == null || embeddingValues.isEmpty()) {
-                                            throw new EmbeddingException(
-                                                    "Empty embedding vector in response",
-                                                    modelName,
-                                                    "dashscope");
-                                        }
+                                        double[][] embeddingArrays = new double[texts.size()][];
+                                        for (int i = 0; i < texts.size(); i++) {
+                                            TextEmbeddingResultItem item = embeddings.get(i);
+                                            if (item == null) {
+                                                throw new EmbeddingException(
+                                                        "No embedding data in response",
+                                                        modelName,
+                                                        "dashscope");
+                                            }
+
+                                            List<Double> embeddingValues = item.getEmbedding();
+                                            if (embeddingValues == null
+                                                    || embeddingValues.isEmpty()) {
+                                                throw new EmbeddingException(
+                                                        "Empty embedding vector in response",
+                                                        modelName,
+                                                        "dashscope");
+                                            }
+
+                                            // Results carry the index of their input; fall back
+                                            // to response order if it is missing
+                                            Integer index = item.getTextIndex();
+                                            int position =
+                                                    index != null
+                                                                    && index >= 0
+                                                                    && index < texts.size()
+                                                                    && embeddingArrays[index]
+                                                                            == null
+                                                            ? index
+                                                            : i;
+
+                                            // Convert List<Double> to double[]
+                                            embeddingArrays[position] =
+                                                    EmbeddingUtils.convertDoubleListToArray(
+                                                            embeddingValues);
 
-                                        // Convert List<Double> to double[]
-                                        double[] embeddingArray =
-                                                EmbeddingUtils.convertDoubleListToArray(
-                                                        embeddingValues);
-
-                                        // Validate dimension
-                                        if (embeddingArray.length != dimensions) {
-                                            log.warn(
-                                                    "Embedding dimension mismatch: expected={},"
-                                                            + " actual={}",
-                                                    dimensions,
-                                                    embeddingArray.length);
+                                            // Validate dimension
+                                            if (embeddingArrays[position].length != dimensions) {
+                                                log.warn(
+                                                        "Embedding dimension mismatch: expected={},"
+                                                                + " actual={}",
+                                                        dimensions,
+                                                        embeddingArrays[position].length);
+                                            }
                                         }
 
-                                        return embeddingArray;
+                                        return Arrays.asList(embeddingArrays);
                                     } catch (EmbeddingException e) {
                                         throw e;
                                     } catch (Exception e) {
@@ -197,7 +267,7 @@ public class DashScopeTextEmbedding implements EmbeddingModel {
                                 });
 
         // Apply timeout and retry
-        return EmbeddingUtils.applyTimeoutAndRetry(
+        return EmbeddingUtils.applyTimeoutAndRetryBatch(
                 embeddingMono, defaultExecutionConfig, modelName, "dashscope", log);
     }
 
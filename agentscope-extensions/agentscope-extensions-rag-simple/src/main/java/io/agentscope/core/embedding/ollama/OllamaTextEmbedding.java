@@ -25,9 +25,12 @@ import io.agentscope.core.message.TextBlock;
 import io.agentscope.core.model.ExecutionConfig;
 import io.agentscope.core.model.OllamaHttpClient;
 import io.agentscope.core.model.transport.HttpTransportFactory;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -46,6 +49,9 @@ public class OllamaTextEmbedding implements EmbeddingModel {
 
     private static final Logger log = LoggerFactory.getLogger(OllamaTextEmbedding.class);
 
+    /** The number of texts sent per Ollama embedding request. */
+    private static final int MAX_BATCH_SIZE = 512;
+
     private final String baseUrl;
     private final String modelName;
     private final int dimensions;
@@ -82,36 +88,77 @@ public class OllamaTextEmbedding implements EmbeddingModel {
 
     @Override
     public Mono<double[]> embed(ContentBlock block) {
-        if (block == null) {
-            return Mono.error(
-                    new EmbeddingException("ContentBlock cannot be null", modelName, "ollama"));
-        }
+        return embedBatch(Collections.singletonList(block)).map(embeddings -> embeddings.get(0));
+    }
 
-        if (!(block instanceof TextBlock textBlock)) {
+    /**
+     * Generate embeddings for multiple text blocks.
+     *
+     * <p>Texts are sent as the array input of the {@code /api/embed} endpoint, up to {@value
+     * #MAX_BATCH_SIZE} per request, so the model is invoked once per batch instead of once per
+     * text.
+     *
+     * @param blocks the text blocks to embed
+     * @return Mono that emits one embedding vector per block, in input order
+     */
+    @Override
+    public Mono<List<double[]>> embedBatch(List<ContentBlock> blocks) {
+        if (blocks == null) {
             return Mono.error(
                     new EmbeddingException(
-                            "OllamaTextEmbedding only supports TextBlock, but got: "
-                                    + block.getClass().getSimpleName(),
-                            modelName,
-                            "ollama"));
+                            "ContentBlock list cannot be null", modelName, "ollama"));
+        }
+        if (blocks.isEmpty()) {
+            return Mono.just(List.of());
         }
 
-        String text = textBlock.getText();
-        if (text == null || text.trim().isEmpty()) {
-            return Mono.error(
-                    new EmbeddingException(
-                            "TextBlock text cannot be null or empty", modelName, "ollama"));
+        List<String> texts = new ArrayList<>(blocks.size());
+        for (ContentBlock block : blocks) {
+            if (block == null) {
+                return Mono.error(
+                        new EmbeddingException("ContentBlock cannot be null", modelName, "ollama"));
+            }
+
+            if (!(block instanceof TextBlock textBlock)) {
+                return Mono.error(
+                        new EmbeddingException(
+                                "OllamaTextEmbedding only supports TextBlock, but got: "
+                                        + block.getClass().getSimpleName(),
+                                modelName,
+                                "ollama"));
+            }
+
+            String text = textBlock.getText();
+            if (text == null || text.trim().isEmpty()) {
+                return Mono.error(
+                        new EmbeddingException(
+                                "TextBlock text cannot be null or empty", modelName, "ollama"));
+            }
+            texts.add(text);
         }
 
-        Mono<double[]> embeddingMono =
+        return Flux.fromIterable(texts)
+                .buffer(MAX_BATCH_SIZE)
+                .concatMap(this::embedTexts)
+                .collectList()
+                .map(EmbeddingUtils::flatten);
+    }
+
+    /**
+     * Embeds up to {@value #MAX_BATCH_SIZE} texts with a single API call.
+     *
+     * @param texts the texts to embed
+     * @return Mono that emits one embedding vector per text, in input order
+     */
+    private Mono<List<double[]>> embedTexts(List<String> texts) {
+        Mono<List<double[]>> embeddingMono =
                 Mono.fromCallable(
                                 () -> {
                                     try {
                                         log.debug(
-                                                "Ollama embedding call: model={},"
-                                                        + " text_length={}",
+                                                "Ollama embedding call: model={}, texts={}",
                                                 modelName,
-                                                text.length());
+                                                texts.size());
 
                                         // Create Ollama HTTP client
                                         OllamaHttpClient client =
@@ -120,8 +167,7 @@ public class OllamaTextEmbedding implements EmbeddingModel {
 
                                         // Create embedding request
                                         OllamaEmbeddingRequest request =
-                                                new OllamaEmbeddingRequest(
-                                                        modelName, List.of(text));
+                                                new OllamaEmbeddingRequest(modelName, texts);
 
                                         // Set additional parameters from options
                                         request.setKeepAlive(null); // Use default keep alive
@@ -137,30 +183,44 @@ public class OllamaTextEmbedding implements EmbeddingModel {
                                                     "ollama");
                                         }
 
+                                        // Embeddings are returned in input order
                                         List<float[]> embeddings = response.getEmbeddings();
-                                        if (embeddings.isEmpty() || embeddings.get(0) == null) {
+                                        if (embeddings.size() < texts.size()) {
                                             throw new EmbeddingException(
                                                     "No embedding data in response",
                                                     modelName,
                                                     "ollama");
                                         }
 
-                                        // Convert float[] to double[]
-                                        float[] embeddingValues = embeddings.get(0);
-                                        double[] embeddingArray =
-                                                EmbeddingUtils.convertFloatArrayToDoubleArray(
-                                                        embeddingValues);
-
-                                        // Validate dimension if specified
-                                        if (dimensions > 0 && embeddingArray.length != dimensions) {
-                                            log.warn(
-                                                    "Embedding dimension mismatch: expected={},"
-                                                            + " actual={}",
-                                                    dimensions,
-                                                    embeddingArray.length);
+                                        List<double[]> embeddingArrays =
+                                                new ArrayList<>(texts.size());
+                                        for (int i = 0; i < texts.size(); i++) {
+                                            float[] embeddingValues = embeddings.get(i);
+                                            if (embeddingValues == null) {
+                                                throw new EmbeddingException(
+                                                        "No embedding data in response",
+                                                        modelName,
+                                                        "ollama");
+                                            }
+
+                                            // Convert float[] to double[]
+                                            double[] embeddingArray =
+                                                    EmbeddingUtils.convertFloatArrayToDoubleArray(
+                                                            embeddingValues);
+
+                                            // Validate dimension if specified
+                                            if (dimensions > 0
+                                                    && embeddingArray.length != dimensions) {
+                                                log.warn(
+                                                        "Embedding dimension mismatch: expected={},"
+                                                                + " actual={}",
+                                                        dimensions,
+                                                        embeddingArray.length);
+                                            }
+                                            embeddingArrays.add(embeddingArray);
                                         }
 
-                                        return embeddingArray;
+                                        return embeddingArrays;
                                     } catch (EmbeddingException e) {
                                         throw e;
                                     } catch (Exception e) {
@@ -194,7 +254,7 @@ public class OllamaTextEmbedding implements EmbeddingModel {
                                 });
 
         // Apply timeout and retry
-        return EmbeddingUtils.applyTimeoutAndRetry(
+        return EmbeddingUtils.applyTimeoutAndRetryBatch(
                 embeddingMono, defaultExecutionConfig, modelName, "ollama", log);
     }
 
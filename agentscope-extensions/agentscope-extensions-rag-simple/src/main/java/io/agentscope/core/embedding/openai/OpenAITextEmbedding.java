@@ -27,9 +27,13 @@ import io.agentscope.core.embedding.EmbeddingUtils;
 import io.agentscope.core.message.ContentBlock;
 import io.agentscope.core.message.TextBlock;
 import io.agentscope.core.model.ExecutionConfig;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -47,6 +51,9 @@ public class OpenAITextEmbedding implements EmbeddingModel {
 
     private static final Logger log = LoggerFactory.getLogger(OpenAITextEmbedding.class);
 
+    /** The maximum number of inputs per OpenAI embedding request. */
+    private static final int MAX_BATCH_SIZE = 2048;
+
     private final String apiKey;
     private final String modelName;
     private final int dimensions;
@@ -88,28 +95,69 @@ public class OpenAITextEmbedding implements EmbeddingModel {
 
     @Override
     public Mono<double[]> embed(ContentBlock block) {
-        if (block == null) {
-            return Mono.error(
-                    new EmbeddingException("ContentBlock cannot be null", modelName, "openai"));
-        }
+        return embedBatch(Collections.singletonList(block)).map(embeddings -> embeddings.get(0));
+    }
 
-        if (!(block instanceof TextBlock textBlock)) {
+    /**
+     * Generate embeddings for multiple text blocks.
+     *
+     * <p>Texts are sent as an array input, up to {@value #MAX_BATCH_SIZE} per request, so a batch
+     * usually costs a single API call.
+     *
+     * @param blocks the text blocks to embed
+     * @return Mono that emits one embedding vector per block, in input order
+     */
+    @Override
+    public Mono<List<double[]>> embedBatch(List<ContentBlock> blocks) {
+        if (blocks == null) {
             return Mono.error(
                     new EmbeddingException(
-                            "OpenAITextEmbedding only supports TextBlock, but got: "
-                                    + block.getClass().getSimpleName(),
-                            modelName,
-                            "openai"));
+                            "ContentBlock list cannot be null", modelName, "openai"));
+        }
+        if (blocks.isEmpty()) {
+            return Mono.just(List.of());
         }
 
-        String text = textBlock.getText();
-        if (text == null || text.trim().isEmpty()) {
-            return Mono.error(
-                    new EmbeddingException(
-                            "TextBlock text cannot be null or empty", modelName, "openai"));
+        List<String> texts = new ArrayList<>(blocks.size());
+        for (ContentBlock block : blocks) {
+            if (block == null) {
+                return Mono.error(
+                        new EmbeddingException("ContentBlock cannot be null", modelName, "openai"));
+            }
+
+            if (!(block instanceof TextBlock textBlock)) {
+                return Mono.error(
+                        new EmbeddingException(
+                                "OpenAITextEmbedding only supports TextBlock, but got: "
+                                        + block.getClass().getSimpleName(),
+                                modelName,
+                                "openai"));
+            }
+
+            String text = textBlock.getText();
+            if (text == null || text.trim().isEmpty()) {
+                return Mono.error(
+                        new EmbeddingException(
+                                "TextBlock text cannot be null or empty", modelName, "openai"));
+            }
+            texts.add(text);
         }
 
-        Mono<double[]> embeddingMono =
+        return Flux.fromIterable(texts)
+                .buffer(MAX_BATCH_SIZE)
+                .concatMap(this::embedTexts)
+                .collectList()
+                .map(EmbeddingUtils::flatten);
+    }
+
+    /**
+     * Embeds up to {@value #MAX_BATCH_SIZE} texts with a single API call.
+     *
+     * @param texts the texts to embed
+     * @return Mono that emits one embedding vector per text, in input order
+     */
+    private Mono<List<double[]>> embedTexts(List<String> texts) {
+        Mono<List<double[]>> embeddingMono =
                 Mono.fromCallable(
                                 () -> {
                                     try {
@@ -139,14 +187,13 @@ public class OpenAITextEmbedding implements EmbeddingModel {
                                                         .encodingFormat(
                                                                 EmbeddingCreateParams.EncodingFormat
                                                                         .FLOAT)
-                                                        .inputOfArrayOfStrings(List.of(text))
+                                                        .inputOfArrayOfStrings(texts)
                                                         .build();
 
                                         log.debug(
-                                                "OpenAI embedding call: model={},"
-                                                        + " text_length={}",
+                                                "OpenAI embedding call: model={}, texts={}",
                                                 modelName,
-                                                text.length());
+                                                texts.size());
 
                                         CreateEmbeddingResponse result =
                                                 client.embeddings().create(createParams);
@@ -159,38 +206,65 @@ public class OpenAITextEmbedding implements EmbeddingModel {
                                         }
 
                                         List<Embedding> embeddings = result.data();
-                                        if (embeddings == null
-                                                || embeddings.isEmpty()
-                                                || embeddings.get(0) == null) {
+                                        if (embeddings.size() < texts.size()) {
                                             throw new EmbeddingException(
                                                     "No embedding data in response",
                                                     modelName,
                                                     "openai");
                                         }
 
-                                        List<Float> embeddingValues = embeddings.get(0).embedding();
-                                        if (embeddingValues == null || embeddingValues.isEmpty()) {
-                                            throw new EmbeddingException(
-                                                    "Empty embedding vector in response",
-                                                    modelName,
-                                                    "openai");
-                                        }
-
-                                        // Convert List<Float> to double[]
-                                        double[] embeddingArray =
-                                                EmbeddingUtils.convertFloatListToDoubleArray(
-                                                        embeddingValues);
-
-                                        // Validate dimension
-                                        if (embeddingArray.length != dimensions) {
-                                            log.warn(
-                                                    "Embedding dimension mismatch: expected={},"
-                                                            + " actual={}",
-                                                    dimensions,
-                                                    embeddingArray.length);
+                                        double[][] embeddingArrays = new double[texts.size()][];
+                                        for (int i = 0; i < texts.size(); i++) {
+                                            Embedding embedding = embeddings.get(i);
+                                            if (embedding == null) {
+                                                throw new EmbeddingException(
+                                                        "No embedding data in response",
+                                                        modelName,
+                                                        "openai");
+                                            }
+
+                                            List<Float> embeddingValues = embedding.embedding();
+                                            if (embeddingValues == null
+                                                    || embeddingValues.isEmpty()) {
+                                                throw new EmbeddingException(
+                                                        "Empty embedding vector in response",
+                                                        modelName,
+                                                        "openai");
+                                            }
+
+                                            // Results carry the index of their input; each
+                                            // input must be answered exactly once
+                                            long index = embedding.index();
+                                            if (index < 0
+                                                    || index >= texts.size()
+                                                    || embeddingArrays[(int) index] != null) {
+                                                throw new EmbeddingException(
+                                                        "Invalid or duplicate embedding index "
+                                                                + index
+                                                                + " in response for "
+                                                                + texts.size()
+                                                                + " inputs",
+                                                        modelName,
+                                                        "openai");
+                                            }
+                                            int position = (int) index;
+
+                                            // Convert List<Float> to double[]
+                                            embeddingArrays[position] =
+                                                    EmbeddingUtils.convertFloatListToDoubleArray(
+                                                            embeddingValues);
+
+                                            // Validate dimension
+                                            if (embeddingArrays[position].length != dimensions) {
+                                                log.warn(
+                                                        "Embedding dimension mismatch: expected={},"
+                                                                + " actual={}",
+                                                        dimensions,
+                                                        embeddingArrays[position].length);
+                                            }
                                         }
 
-                                        return embeddingArray;
+                                        return Arrays.asList(embeddingArrays);
                                     } catch (EmbeddingException e) {
                                         throw e;
                                     } catch (Exception e) {
@@ -214,7 +288,7 @@ public class OpenAITextEmbedding implements EmbeddingModel {
                                 });
 
         // Apply timeout and retry
-        return EmbeddingUtils.applyTimeoutAndRetry(
+        return EmbeddingUtils.applyTimeoutAndRetryBatch(
                 embeddingMono, defaultExecutionConfig, modelName, "openai", log);
     }
 
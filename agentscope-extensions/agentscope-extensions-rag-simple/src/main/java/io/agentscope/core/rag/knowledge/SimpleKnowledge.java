@@ -15,6 +15,9 @@
  */
 package io.agentscope.core.rag.knowledge;
 
+import io.agentscope.core.embedding.CachingEmbeddingModel;
+import io.agentscope.core.embedding.CoalescingEmbeddingModel;
+import io.agentscope.core.embedding.EmbeddingException;
 import io.agentscope.core.embedding.EmbeddingModel;
 import io.agentscope.core.message.ContentBlock;
 import io.agentscope.core.message.TextBlock;
@@ -24,6 +27,8 @@ import io.agentscope.core.rag.model.DocumentMetadata;
 import io.agentscope.core.rag.model.RetrieveConfig;
 import io.agentscope.core.rag.store.VDBStoreBase;
 import io.agentscope.core.rag.store.dto.SearchDocumentDto;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -41,7 +46,8 @@ import reactor.core.publisher.Mono;
  *
  * <p>Workflow:
  * <ul>
- *   <li><b>addDocuments:</b> Embed documents → Store documents (with metadata/payload) in vector store
+ *   <li><b>addDocuments:</b> Embed documents in batches → Store documents (with metadata/payload) in vector store
+ *   <li><b>addDocumentStream:</b> Embed and store documents batch by batch as a reader emits them
  *   <li><b>retrieve:</b> Embed query → Search documents → Filter by threshold → Return documents
  * </ul>
  *
@@ -63,34 +69,87 @@ import reactor.core.publisher.Mono;
  * List<Document> documents = reader.read(input).block();
  * knowledge.addDocuments(documents).block();
  *
+ * // Or stream large files through the pipeline in bounded memory
+ * knowledge.addDocumentStream(reader.stream(input)).block();
+ *
  * // Retrieve documents
  * RetrieveConfig config = RetrieveConfig.builder().limit(5).scoreThreshold(0.5).build();
  * List<Document> results = knowledge.retrieve("query text", config).block();
+ *
+ * // Release the embedding pipeline once the knowledge base is no longer used
+ * knowledge.close();
  * }</pre>
+ *
+ * <p>A knowledge base built with a {@link Builder#queryBatchWindow query batching window} owns a
+ * background batching pipeline, and one built with an {@link Builder#embeddingCacheDirectory
+ * embedding cache directory} owns memory-mapped cache files. Callers must {@link #close()} the
+ * knowledge base when they are done with it, or these resources are never released.
  */
-public class SimpleKnowledge implements Knowledge {
+public class SimpleKnowledge implements Knowledge, AutoCloseable {
 
     private static final Logger log = LoggerFactory.getLogger(SimpleKnowledge.class);
 
     private final EmbeddingModel embeddingModel;
     private final VDBStoreBase embeddingStore;
 
+    /** Embeds documents, through the embedding cache when enabled. */
+    private final EmbeddingModel documentEmbedder;
+
+    private final int embeddingBatchSize;
+    private final int embeddingConcurrency;
+
+    /** Embeds queries, coalescing concurrent retrievals into batch requests when enabled. */
+    private final EmbeddingModel queryEmbedder;
+
     /**
      * Creates a new SimpleKnowledge instance.
      *
-     * @param embeddingModel the embedding model to use for generating vectors
-     * @param embeddingStore the vector store to use for storage and search
-     * @throws IllegalArgumentException if any parameter is null
+     * @param builder the builder holding the embedding model, vector store and batching settings
+     * @throws IllegalArgumentException if any parameter is null or out of range
      */
-    private SimpleKnowledge(EmbeddingModel embeddingModel, VDBStoreBase embeddingStore) {
-        if (embeddingModel == null) {
+    private SimpleKnowledge(Builder builder) {
+        if (builder.embeddingModel == null) {
             throw new IllegalArgumentException("Embedding model cannot be null");
         }
-        if (embeddingStore == null) {
+        if (builder.embeddingStore == null) {
             throw new IllegalArgumentException("Embedding store cannot be null");
         }
-        this.embeddingModel = embeddingModel;
-        this.embeddingStore = embeddingStore;
+        if (builder.embeddingBatchSize <= 0) {
+            throw new IllegalArgumentException("Embedding batch size must be positive");
+        }
+        if (builder.embeddingConcurrency <= 0) {
+            throw new IllegalArgumentException("Embedding concurrency must be positive");
+        }
+        if (builder.embeddingCacheSize < 0) {
+            throw new IllegalArgumentException("Embedding cache size cannot be negative");
+        }
+        this.embeddingModel = builder.embeddingModel;
+        this.embeddingStore = builder.embeddingStore;
+        this.embeddingBatchSize = builder.embeddingBatchSize;
+        this.embeddingConcurrency = builder.embeddingConcurrency;
+        boolean caching =
+                builder.embeddingCacheSize > 0 || builder.embeddingCacheDirectory != null;
+        if (caching && !(embeddingModel instanceof CachingEmbeddingModel)) {
+            CachingEmbeddingModel.Builder cache =
+                    CachingEmbeddingModel.builder()
+                            .delegate(embeddingModel)
+                            .cacheDirectory(builder.embeddingCacheDirectory);
+            if (builder.embeddingCacheSize > 0) {
+                cache.maxEntries(builder.embeddingCacheSize);
+            }
+            this.documentEmbedder = cache.build();
+        } else {
+            this.documentEmbedder = embeddingModel;
+        }
+        this.queryEmbedder =
+                builder.queryBatchWindow == null || builder.queryBatchWindow.isZero()
+                        ? documentEmbedder
+                        : CoalescingEmbeddingModel.builder()
+                                .delegate(documentEmbedder)
+                                .maxBatchSize(embeddingBatchSize)
+                                .maxWait(builder.queryBatchWindow)
+                                .maxConcurrency(embeddingConcurrency)
+                                .build();
     }
 
     @Override
@@ -102,27 +161,27 @@ public class SimpleKnowledge implements Knowledge {
             return Mono.empty();
         }
 
-        return Flux.fromIterable(documents)
-                .flatMap(
-                        doc -> {
-                            // Extract ContentBlock from document metadata
-                            ContentBlock contentBlock = extractContentBlock(doc.getMetadata());
-                            if (contentBlock == null) {
-                                log.warn(
-                                        "Cannot extract ContentBlock from document: {}",
-                                        doc.getId());
-                                return Mono.empty();
-                            }
-                            // Generate embedding for document content
-                            return embeddingModel
-                                    .embed(contentBlock)
-                                    .doOnNext(embedding -> doc.setEmbedding(embedding))
-                                    .thenReturn(doc);
-                        })
+        // Documents whose content cannot be extracted are skipped
+        List<Document> embeddable = new ArrayList<>(documents.size());
+        for (Document doc : documents) {
+            if (extractContentBlock(doc.getMetadata()) == null) {
+                log.warn("Cannot extract ContentBlock from document: {}", doc.getId());
+            } else {
+                embeddable.add(doc);
+            }
+        }
+
+        // Embed in batches (one provider call per batch), with a bounded number of batches in
+        // flight; documents are pulled from the list only as batches complete
+        return Flux.fromIterable(embeddable)
+                .buffer(embeddingBatchSize)
+                .flatMapSequential(this::embedDocuments, embeddingConcurrency)
                 .collectList()
                 .flatMap(
-                        docsWithEmbeddings -> {
+                        batches -> {
                             // Batch store documents in vector store (includes metadata/payload)
+                            List<Document> docsWithEmbeddings = new ArrayList<>();
+                            batches.forEach(docsWithEmbeddings::addAll);
                             if (docsWithEmbeddings.isEmpty()) {
                                 return Mono.empty();
                             }
@@ -131,6 +190,73 @@ public class SimpleKnowledge implements Knowledge {
                 .doOnError(error -> log.error("Failed to add documents to knowledge base", error));
     }
 
+    /**
+     * Adds a stream of documents to the knowledge base in bounded memory.
+     *
+     * <p>Documents are requested from the stream only as fast as they can be embedded and stored:
+     * they are grouped into batches of {@code embeddingBatchSize}, at most {@code
+     * embeddingConcurrency} batches are embedded at the same time, and each embedded batch is
+     * written to the vector store before further documents are requested. Combined with {@link
+     * io.agentscope.core.rag.reader.Reader#stream}, this keeps memory use constant regardless of
+     * the size of the source. Documents whose content cannot be extracted are skipped.
+     *
+     * <p>If the Mono fails, batches stored before the failure remain in the vector store.
+     *
+     * @param documents the documents to add
+     * @return a Mono that completes when all documents have been added
+     */
+    public Mono<Void> addDocumentStream(Flux<Document> documents) {
+        if (documents == null) {
+            return Mono.error(new IllegalArgumentException("Documents stream cannot be null"));
+        }
+        return documents
+                .filter(
+                        doc -> {
+                            if (extractContentBlock(doc.getMetadata()) == null) {
+                                log.warn(
+                                        "Cannot extract ContentBlock from document: {}",
+                                        doc.getId());
+                                return false;
+                            }
+                            return true;
+                        })
+                .buffer(embeddingBatchSize)
+                .flatMapSequential(this::embedDocuments, embeddingConcurrency)
+                .concatMap(embeddingStore::add, 1)
+                .then()
+                .doOnError(error -> log.error("Failed to add documents to knowledge base", error));
+    }
+
+    /**
+     * Embeds a batch of documents with a single batch embedding call.
+     *
+     * @param batch the documents to embed
+     * @return Mono that emits the same documents with their embeddings set, or an {@link
+     *     EmbeddingException} if the model does not return one embedding per document
+     */
+    private Mono<List<Document>> embedDocuments(List<Document> batch) {
+        List<ContentBlock> blocks = new ArrayList<>(batch.size());
+        for (Document doc : batch) {
+            blocks.add(extractContentBlock(doc.getMetadata()));
+        }
+        return documentEmbedder
+                .embedBatch(blocks)
+                .map(
+                        embeddings -> {
+                            if (embeddings.size() != batch.size()) {
+                                throw new EmbeddingException(
+                                        "Expected "
+                                                + batch.size()
+                                                + " embeddings but the model returned "
+                                                + embeddings.size());
+                            }
+                            for (int i = 0; i < batch.size(); i++) {
+                                batch.get(i).setEmbedding(embeddings.get(i));
+                            }
+                            return batch;
+                        });
+    }
+
     @Override
     public Mono<List<Document>> retrieve(String query, RetrieveConfig config) {
         if (query == null) {
@@ -145,7 +271,7 @@ public class SimpleKnowledge implements Knowledge {
 
         // Convert query string to TextBlock
         TextBlock queryBlock = TextBlock.builder().text(query).build();
-        return embeddingModel
+        return queryEmbedder
                 .embed(queryBlock)
                 .flatMap(
                         queryEmbedding ->
@@ -182,6 +308,15 @@ public class SimpleKnowledge implements Knowledge {
         return embeddingModel;
     }
 
+    /**
+     * Gets the hit and miss statistics of the embedding cache.
+     *
+     * @return the cache statistics, or null if embedding caching is disabled
+     */
+    public CachingEmbeddingModel.Stats getEmbeddingCacheStats() {
+        return documentEmbedder instanceof CachingEmbeddingModel cache ? cache.getStats() : null;
+    }
+
     /**
      * Gets the vector store used by this knowledge base.
      *
@@ -191,6 +326,25 @@ public class SimpleKnowledge implements Knowledge {
         return embeddingStore;
     }
 
+    /**
+     * Releases the embedding pipeline and embedding cache created by this knowledge base.
+     *
+     * <p>Pending query embeddings fail and the on-disk embedding cache is flushed. The embedding
+     * model and vector store passed to the builder are not closed, since the caller owns them.
+     */
+    @Override
+    public void close() {
+        // The embedders only differ from the model passed in if they were built here
+        if (queryEmbedder != documentEmbedder
+                && queryEmbedder instanceof CoalescingEmbeddingModel coalescer) {
+            coalescer.close();
+        }
+        if (documentEmbedder != embeddingModel
+                && documentEmbedder instanceof CachingEmbeddingModel cache) {
+            cache.close();
+        }
+    }
+
     /**
      * Extracts a ContentBlock from DocumentMetadata.
      *
@@ -221,6 +375,11 @@ public class SimpleKnowledge implements Knowledge {
     public static class Builder {
         private EmbeddingModel embeddingModel;
         private VDBStoreBase embeddingStore;
+        private int embeddingBatchSize = 32;
+        private int embeddingConcurrency = 4;
+        private Duration queryBatchWindow;
+        private int embeddingCacheSize;
+        private Path embeddingCacheDirectory;
 
         private Builder() {}
 
@@ -246,6 +405,83 @@ public class SimpleKnowledge implements Knowledge {
             return this;
         }
 
+        /**
+         * Sets the number of documents embedded per batch request.
+         *
+         * <p>Providers with a lower per-request input limit split each batch further. Defaults to
+         * 32.
+         *
+         * @param embeddingBatchSize the batch size (must be positive)
+         * @return this builder for method chaining
+         */
+        public Builder embeddingBatchSize(int embeddingBatchSize) {
+            this.embeddingBatchSize = embeddingBatchSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of embedding batch requests in flight at the same time.
+         *
+         * <p>Defaults to 4.
+         *
+         * @param embeddingConcurrency the maximum concurrency (must be positive)
+         * @return this builder for method chaining
+         */
+        public Builder embeddingConcurrency(int embeddingConcurrency) {
+            this.embeddingConcurrency = embeddingConcurrency;
+            return this;
+        }
+
+        /**
+         * Sets how long a query embedding may wait for concurrent queries to join its batch.
+         *
+         * <p>Concurrent {@link SimpleKnowledge#retrieve} calls arriving within this window share
+         * one batch embedding request (see {@link CoalescingEmbeddingModel}). A null or zero window
+         * disables coalescing and embeds every query immediately. Coalescing adds up to the window
+         * to the latency of every query, so only enable it for many concurrent retrievals.
+         * Disabled by default.
+         *
+         * @param queryBatchWindow the batching window, or null to disable coalescing
+         * @return this builder for method chaining
+         */
+        public Builder queryBatchWindow(Duration queryBatchWindow) {
+            this.queryBatchWindow = queryBatchWindow;
+            return this;
+        }
+
+        /**
+         * Sets the number of embeddings kept in the in-heap embedding cache.
+         *
+         * <p>Documents and queries whose content was embedded before are served from the cache
+         * instead of calling the embedding model again (see {@link CachingEmbeddingModel}). Each
+         * entry holds a full embedding, about 8 KB at 1024 dimensions, so size the cache to the
+         * memory you can spare. Ignored if the embedding model is already a {@link
+         * CachingEmbeddingModel}. Disabled (0) by default.
+         *
+         * @param embeddingCacheSize the cache capacity, or 0 to disable the in-heap cache
+         * @return this builder for method chaining
+         */
+        public Builder embeddingCacheSize(int embeddingCacheSize) {
+            this.embeddingCacheSize = embeddingCacheSize;
+            return this;
+        }
+
+        /**
+         * Enables the persistent on-disk embedding cache in the given directory.
+         *
+         * <p>Cached embeddings survive restarts, so re-indexing unchanged documents does not call
+         * the embedding model at all. Setting a directory enables caching even if no {@link
+         * #embeddingCacheSize} is set; the in-heap tier then uses the {@link
+         * CachingEmbeddingModel} default capacity. Close the knowledge base to flush the cache.
+         *
+         * @param embeddingCacheDirectory the cache directory, or null for an in-heap cache only
+         * @return this builder for method chaining
+         */
+        public Builder embeddingCacheDirectory(Path embeddingCacheDirectory) {
+            this.embeddingCacheDirectory = embeddingCacheDirectory;
+            return this;
+        }
+
         /**
          * Builds a new SimpleKnowledge instance.
          *
@@ -259,7 +495,7 @@ public class SimpleKnowledge implements Knowledge {
             if (embeddingStore == null) {
                 throw new IllegalArgumentException("Embedding store is required");
             }
-            return new SimpleKnowledge(embeddingModel, embeddingStore);
+            return new SimpleKnowledge(this);
         }
     }
 }
@@ -15,6 +15,16 @@
  */
 package io.agentscope.core.rag.reader;
 
+import io.agentscope.core.message.TextBlock;
+import io.agentscope.core.rag.exception.ReaderException;
+import io.agentscope.core.rag.model.Document;
+import io.agentscope.core.rag.model.DocumentMetadata;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
 /**
  * Abstract base class for readers that support text chunking.
  *
@@ -70,6 +80,59 @@ public abstract class AbstractChunkingReader implements Reader {
         }
     }
 
+    /**
+     * Chunks a character stream incrementally into Document objects.
+     *
+     * <p>The source is opened on subscription and closed when the Flux terminates or is
+     * cancelled. Text is read only as fast as documents are requested downstream, and chunks are
+     * split according to this reader's chunking settings. Opening and reading the source block, so
+     * both run on {@link Schedulers#boundedElastic()} rather than on the subscribing thread.
+     *
+     * @param source opens the text to chunk
+     * @param docId the document ID shared by all emitted chunks
+     * @param errorMessage the message of the {@link ReaderException} wrapping any failure
+     * @return a Flux that emits one Document per chunk, with chunk IDs counting from 0
+     */
+    protected Flux<Document> streamDocuments(
+            Callable<BufferedReader> source, String docId, String errorMessage) {
+        return Flux.using(
+                        () ->
+                                new StreamingTextChunker(
+                                        source.call(), chunkSize, splitStrategy, overlapSize),
+                        chunker ->
+                                Flux.<String>generate(
+                                        sink -> {
+                                            try {
+                                                String chunk = chunker.next();
+                                                if (chunk == null) {
+                                                    sink.complete();
+                                                } else {
+                                                    sink.next(chunk);
+                                                }
+                                            } catch (IOException e) {
+                                                sink.error(e);
+                                            }
+                                        }),
+                        chunker -> {
+                            try {
+                                chunker.close();
+                            } catch (IOException e) {
+                                // Nothing left to read; a failing close is not actionable
+                            }
+                        })
+                .index(
+                        (index, chunk) ->
+                                new Document(
+                                        new DocumentMetadata(
+                                                TextBlock.builder().text(chunk).build(),
+                                                docId,
+                                                String.valueOf(index))))
+                .onErrorMap(
+                        e -> !(e instanceof ReaderException),
+                        e -> new ReaderException(errorMessage, e))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
     /**
      * Gets the chunk size.
      *
@@ -19,6 +19,7 @@ import io.agentscope.core.message.TextBlock;
 import io.agentscope.core.rag.exception.ReaderException;
 import io.agentscope.core.rag.model.Document;
 import io.agentscope.core.rag.model.DocumentMetadata;
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -29,6 +30,7 @@ import java.util.List;
 import org.apache.pdfbox.Loader;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.text.PDFTextStripper;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -49,6 +51,9 @@ import reactor.core.publisher.Mono;
  * ReaderInput input = ReaderInput.fromString("path/to/document.pdf");
  * List<Document> documents = reader.read(input).block();
  * }</pre>
+ *
+ * <p>For large files, {@link #stream(ReaderInput)} extracts the text page by page as chunks are
+ * requested instead of holding the text of the whole document in memory.
  */
 public class PDFReader extends AbstractChunkingReader {
 
@@ -113,6 +118,33 @@ public class PDFReader extends AbstractChunkingReader {
                 .onErrorMap(ReaderException.class, e -> e);
     }
 
+    /**
+     * Streams the PDF in chunks, extracting text one page at a time as chunks are requested.
+     *
+     * <p>The chunks are the same as those of {@link #read(ReaderInput)}, except that a PDF
+     * without text produces no documents.
+     *
+     * @param input the input holding the PDF file path
+     * @return a Flux that emits Document objects in chunk order
+     */
+    @Override
+    public Flux<Document> stream(ReaderInput input) {
+        if (input == null) {
+            return Flux.error(new ReaderException("Input cannot be null"));
+        }
+        String pdfPath = input.asString();
+        return streamDocuments(
+                () -> {
+                    if (!Files.exists(Paths.get(pdfPath))) {
+                        throw new ReaderException("PDF file does not exist: " + pdfPath);
+                    }
+                    return new BufferedReader(
+                            new PageTextReader(Loader.loadPDF(new File(pdfPath))));
+                },
+                ReaderUtils.generateDocIdSHA256(pdfPath),
+                "Failed to read PDF from: " + input);
+    }
+
     @Override
     public List<String> getSupportedFormats() {
         return List.of("pdf");
@@ -187,4 +219,51 @@ public class PDFReader extends AbstractChunkingReader {
     public boolean isExtractImages() {
         return extractImages;
     }
+
+    /**
+     * Character stream over the text of a PDF, extracting one page at a time.
+     *
+     * <p>Pages are separated by double newlines, as in {@link #extractTextFromPDF(String)}.
+     * Closing the stream closes the document.
+     */
+    private static class PageTextReader extends java.io.Reader {
+        private final PDDocument document;
+        private final PDFTextStripper stripper = new PDFTextStripper();
+        private final int totalPages;
+        private int nextPage = 1;
+        private String pageText = "";
+        private int position;
+
+        PageTextReader(PDDocument document) {
+            this.document = document;
+            this.totalPages = document.getNumberOfPages();
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            while (position == pageText.length()) {
+                if (nextPage > totalPages) {
+                    return -1;
+                }
+                stripper.setStartPage(nextPage);
+                stripper.setEndPage(nextPage);
+                String text = stripper.getText(document);
+                pageText = nextPage < totalPages ? text + "\n\n" : text;
+                position = 0;
+                nextPage++;
+            }
+            int count = Math.min(length, pageText.length() - position);
+            pageText.getChars(position, position + count, buffer, offset);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            document.close();
+        }
+    }
 }
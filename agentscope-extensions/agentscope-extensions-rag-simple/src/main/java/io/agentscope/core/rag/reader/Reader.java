@@ -17,6 +17,7 @@ package io.agentscope.core.rag.reader;
 
 import io.agentscope.core.rag.model.Document;
 import java.util.List;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -38,6 +39,24 @@ public interface Reader {
      */
     Mono<List<Document>> read(ReaderInput input);
 
+    /**
+     * Reads a document and emits its chunked Document objects one by one.
+     *
+     * <p>Readers that can extract and chunk their input incrementally override this method so
+     * that only the chunks requested downstream are held in memory, which keeps memory use
+     * constant for arbitrarily large inputs. Combined with a backpressure-aware consumer such as
+     * {@code SimpleKnowledge.addDocumentStream}, the whole ingestion pipeline then runs in
+     * bounded memory. The default implementation emits the result of {@link #read(ReaderInput)}.
+     *
+     * <p>Errors during reading are propagated through the Flux via {@code Flux.error()}.
+     *
+     * @param input the input to read (text, file path, URL, etc.)
+     * @return a Flux that emits Document objects in chunk order, or an error signal on failure
+     */
+    default Flux<Document> stream(ReaderInput input) {
+        return read(input).flatMapIterable(documents -> documents);
+    }
+
     /**
      * Gets the list of file formats supported by this reader.
      *
@@ -15,8 +15,11 @@
  */
 package io.agentscope.core.rag.reader;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
@@ -25,15 +28,26 @@ import java.nio.file.Path;
  *
  * <p>This class provides a unified interface for different types of input sources
  * (text strings, file paths, URLs, etc.) that can be read by document readers.
+ *
+ * <p>Inputs created with {@code fromFile} do not hold the file content in memory; it is read
+ * each time {@link #asString()} is called, or streamed through {@link #openReader()}.
  */
 public class ReaderInput {
 
     private final String content;
     private final InputType type;
 
+    /** The file whose content this input represents, or null if the content is held in memory. */
+    private final Path file;
+
     private ReaderInput(String content, InputType type) {
+        this(content, type, null);
+    }
+
+    private ReaderInput(String content, InputType type, Path file) {
         this.content = content;
         this.type = type;
+        this.file = file;
     }
 
     /**
@@ -77,8 +91,10 @@ public class ReaderInput {
         if (!Files.exists(filePath)) {
             throw new IOException("File does not exist: " + filePath);
         }
-        String content = Files.readString(filePath);
-        return new ReaderInput(content, InputType.FILE);
+        if (!Files.isReadable(filePath)) {
+            throw new IOException("File is not readable: " + filePath);
+        }
+        return new ReaderInput(null, InputType.FILE, filePath);
     }
 
     /**
@@ -131,10 +147,37 @@ public class ReaderInput {
     /**
      * Gets the input content as a string.
      *
+     * <p>For inputs created with {@code fromFile}, the whole file is read on every call. Prefer
+     * {@link #openReader()} for large files.
+     *
      * @return the content string
+     * @throws UncheckedIOException if the file cannot be read
      */
     public String asString() {
-        return content;
+        if (file == null) {
+            return content;
+        }
+        try {
+            return Files.readString(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read file: " + file, e);
+        }
+    }
+
+    /**
+     * Opens the input content as a character stream.
+     *
+     * <p>For inputs created with {@code fromFile}, the file is streamed from disk instead of being
+     * loaded into memory. The caller is responsible for closing the returned reader.
+     *
+     * @return a reader over the same content as {@link #asString()}
+     * @throws IOException if the file cannot be opened
+     */
+    public BufferedReader openReader() throws IOException {
+        if (file == null) {
+            return new BufferedReader(new StringReader(content));
+        }
+        return Files.newBufferedReader(file);
     }
 
     /**
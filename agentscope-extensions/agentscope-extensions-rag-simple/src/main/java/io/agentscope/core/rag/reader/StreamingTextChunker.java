@@ -0,0 +1,187 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.rag.reader;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Incremental counterpart of {@link TextChunker} that chunks a character stream.
+ *
+ * <p>Text is pulled from the underlying reader only as chunks are requested, so memory use is
+ * bounded by the chunk size (plus the longest line for the paragraph-based strategies) instead of
+ * the size of the input. For non-blank input the chunks are the same as those produced by {@link
+ * TextChunker#chunkText} on the whole text, except that line terminators are normalized to
+ * {@code \n}. Blank input produces no chunks.
+ *
+ * <p>This class is not thread-safe.
+ */
+final class StreamingTextChunker implements Closeable {
+
+    private final BufferedReader reader;
+    private final int chunkSize;
+    private final int overlapSize;
+    private final boolean byParagraph;
+
+    /** Chunks that are complete but not yet returned. */
+    private final Deque<String> ready = new ArrayDeque<>();
+
+    private boolean eof;
+
+    // Character strategies: text read but not yet fully chunked
+    private final StringBuilder window = new StringBuilder();
+
+    // Paragraph strategies: the chunk being built, the paragraph being read, and the last chunk
+    private StringBuilder currentChunk = new StringBuilder();
+    private final StringBuilder paragraph = new StringBuilder();
+    private boolean paragraphStarted;
+    private String lastChunk;
+
+    /**
+     * Creates a new StreamingTextChunker.
+     *
+     * @param reader the text to chunk; closed when this chunker is closed
+     * @param chunkSize the target size for each chunk (interpreted based on strategy)
+     * @param strategy the splitting strategy
+     * @param overlapSize the number of characters/tokens to overlap between chunks
+     */
+    StreamingTextChunker(
+            BufferedReader reader, int chunkSize, SplitStrategy strategy, int overlapSize) {
+        this.reader = reader;
+        this.byParagraph =
+                strategy == SplitStrategy.PARAGRAPH || strategy == SplitStrategy.SEMANTIC;
+        int scale = strategy == SplitStrategy.TOKEN ? TextChunker.CHARS_PER_TOKEN : 1;
+        this.chunkSize = chunkSize * scale;
+        this.overlapSize = overlapSize * scale;
+    }
+
+    /**
+     * Gets the next chunk, reading more text as needed.
+     *
+     * @return the next chunk, or null if the input is exhausted
+     * @throws IOException if the underlying reader fails
+     */
+    String next() throws IOException {
+        while (ready.isEmpty() && !eof) {
+            if (byParagraph) {
+                readLine();
+            } else {
+                readWindow();
+            }
+        }
+        return ready.poll();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readWindow() throws IOException {
+        char[] buffer = new char[Math.min(chunkSize, 8192)];
+        // Read one character past the window to tell whether it is the last one
+        while (window.length() <= chunkSize) {
+            int read = reader.read(buffer, 0, buffer.length);
+            if (read < 0) {
+                eof = true;
+                break;
+            }
+            window.append(buffer, 0, read);
+        }
+        // Same windows as TextChunker.chunkByCharacter over the whole text
+        while (window.length() > chunkSize || (eof && window.length() > 0)) {
+            int end = Math.min(chunkSize, window.length());
+            ready.add(window.substring(0, end));
+            if (eof && end == window.length()) {
+                window.setLength(0);
+            } else {
+                window.delete(0, end - overlapSize);
+            }
+        }
+    }
+
+    private void readLine() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            eof = true;
+            endParagraph();
+            if (currentChunk.length() > 0) {
+                emit(currentChunk.toString().trim());
+            }
+            return;
+        }
+        if (line.isBlank()) {
+            endParagraph();
+            return;
+        }
+        if (paragraph.length() > 0) {
+            if (paragraph.length() > chunkSize) {
+                // Hand long paragraphs over in pieces; the trailing line is kept for trimming
+                appendParagraph(paragraph.toString());
+                paragraph.setLength(0);
+            }
+            paragraph.append('\n');
+        }
+        paragraph.append(line);
+    }
+
+    private void endParagraph() {
+        if (paragraph.length() > 0) {
+            appendParagraph(paragraph.toString().stripTrailing());
+            paragraph.setLength(0);
+        }
+        paragraphStarted = false;
+    }
+
+    /** Mirrors the per-paragraph step of {@code TextChunker.chunkByParagraph}. */
+    private void appendParagraph(String text) {
+        if (!paragraphStarted) {
+            paragraphStarted = true;
+            text = text.stripLeading();
+            if (currentChunk.length() > 0
+                    && currentChunk.length() + text.length() + 2 > chunkSize) {
+                emit(currentChunk.toString().trim());
+                currentChunk = new StringBuilder();
+                if (overlapSize > 0) {
+                    int overlapStart = Math.max(0, lastChunk.length() - overlapSize);
+                    currentChunk.append(lastChunk.substring(overlapStart));
+                }
+            }
+            if (currentChunk.length() > 0) {
+                currentChunk.append("\n\n");
+            }
+        }
+        currentChunk.append(text);
+
+        if (currentChunk.length() > chunkSize) {
+            List<String> subChunks =
+                    TextChunker.chunkByCharacter(currentChunk.toString(), chunkSize, overlapSize);
+            for (String subChunk : subChunks.subList(0, subChunks.size() - 1)) {
+                emit(subChunk);
+            }
+            currentChunk = new StringBuilder(subChunks.get(subChunks.size() - 1));
+        }
+    }
+
+    private void emit(String chunk) {
+        ready.add(chunk);
+        lastChunk = chunk;
+    }
+}
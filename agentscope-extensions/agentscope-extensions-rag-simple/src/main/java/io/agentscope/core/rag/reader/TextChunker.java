@@ -27,7 +27,7 @@ import java.util.regex.Pattern;
  */
 public final class TextChunker {
 
-    private static final int CHARS_PER_TOKEN = 4; // Approximate: 1 token ≈ 4 characters
+    static final int CHARS_PER_TOKEN = 4; // Approximate: 1 token ≈ 4 characters
     private static final Pattern PARAGRAPH_SEPARATOR = Pattern.compile("\\n\\s*\\n");
 
     private TextChunker() {
@@ -78,7 +78,7 @@ public final class TextChunker {
      * @param overlapSize the number of characters to overlap
      * @return a list of text chunks
      */
-    private static List<String> chunkByCharacter(String text, int chunkSize, int overlapSize) {
+    static List<String> chunkByCharacter(String text, int chunkSize, int overlapSize) {
         List<String> chunks = new ArrayList<>();
         int start = 0;
 
@@ -22,6 +22,7 @@ import io.agentscope.core.rag.model.DocumentMetadata;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -37,6 +38,9 @@ import reactor.core.publisher.Mono;
  * ReaderInput input = ReaderInput.fromString("Long text content...");
  * List<Document> documents = reader.read(input).block();
  * }</pre>
+ *
+ * <p>For large files, {@link #stream(ReaderInput)} reads an input created with {@code
+ * ReaderInput.fromFile} incrementally, one paragraph window at a time.
  */
 public class TextReader extends AbstractChunkingReader {
 
@@ -82,6 +86,24 @@ public class TextReader extends AbstractChunkingReader {
                 .onErrorMap(ReaderException.class, e -> e); // Re-throw ReaderException as-is
     }
 
+    /**
+     * Streams the input in chunks, reading only as much text as the requested chunks need.
+     *
+     * <p>The chunks are the same as those of {@link #read(ReaderInput)}, except that blank input
+     * produces no documents and line terminators are normalized to {@code \n}.
+     *
+     * @param input the input to read
+     * @return a Flux that emits Document objects in chunk order
+     */
+    @Override
+    public Flux<Document> stream(ReaderInput input) {
+        if (input == null) {
+            return Flux.error(new ReaderException("Input cannot be null"));
+        }
+        return streamDocuments(
+                input::openReader, UUID.randomUUID().toString(), "Failed to read text input");
+    }
+
     @Override
     public List<String> getSupportedFormats() {
         return List.of("txt", "md", "rst");
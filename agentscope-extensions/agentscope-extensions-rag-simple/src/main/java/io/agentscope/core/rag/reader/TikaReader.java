@@ -20,14 +20,21 @@ import io.agentscope.core.message.TextBlock;
 import io.agentscope.core.rag.exception.ReaderException;
 import io.agentscope.core.rag.model.Document;
 import io.agentscope.core.rag.model.DocumentMetadata;
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.apache.tika.exception.TikaException;
 import org.apache.tika.metadata.Metadata;
@@ -42,7 +49,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xml.sax.ContentHandler;
 import org.xml.sax.SAXException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * TikaReader is a document reader that uses Apache Tika to extract text from various document formats.
@@ -55,11 +65,20 @@ import reactor.core.publisher.Mono;
  * ReaderInput input = ReaderInput.fromPath("/path/to/file");
  * List<Document> documents = reader.read(input).block();
  * }</pre>
+ *
+ * <p>For large files, {@link #stream(ReaderInput)} chunks the text while Tika is still parsing,
+ * so spreadsheets are indexed sheet by sheet and row by row without materializing their text.
  */
 public class TikaReader extends AbstractChunkingReader {
 
     private static final Logger log = LoggerFactory.getLogger(TikaReader.class);
 
+    /** Characters buffered between the parser and the chunker when streaming. */
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
+    /** Characters per block handed from the parser to the chunker when streaming. */
+    private static final int STREAM_BLOCK_SIZE = 8 * 1024;
+
     /**
      * Handler to manage content extraction.
      */
@@ -115,6 +134,31 @@ public class TikaReader extends AbstractChunkingReader {
                 .onErrorMap(ReaderException.class, e -> e);
     }
 
+    /**
+     * Streams the document in chunks while it is being parsed.
+     *
+     * <p>Tika parses the document on a {@link Schedulers#boundedElastic()} thread and hands the
+     * body text over in blocks through a bounded queue from which chunks are cut as they are
+     * requested; the parser blocks while the queue is full, so memory use does not grow with the
+     * document size. Cancelling the Flux interrupts and stops the parser. The configured content
+     * handler is not used: the body text is always extracted, as with the default {@link
+     * BodyContentHandler}.
+     *
+     * @param input the input holding the document path
+     * @return a Flux that emits Document objects in chunk order
+     */
+    @Override
+    public Flux<Document> stream(ReaderInput input) {
+        if (input == null) {
+            return Flux.error(new ReaderException("Input cannot be null"));
+        }
+        String path = input.asString();
+        return streamDocuments(
+                () -> parseInBackground(path),
+                ReaderUtils.generateDocIdSHA256(path),
+                "Failed to read document from: " + input);
+    }
+
     @Override
     public List<String> getSupportedFormats() {
         Set<String> extensions = new HashSet<>();
@@ -150,6 +194,40 @@ public class TikaReader extends AbstractChunkingReader {
         }
     }
 
+    private BufferedReader parseInBackground(String path) throws IOException {
+        InputStream is = Files.newInputStream(Path.of(path));
+        BlockTransfer transfer = new BlockTransfer(path);
+        transfer.task =
+                Schedulers.boundedElastic()
+                        .schedule(
+                                () -> {
+                                    try (BlockWriter writer = new BlockWriter(transfer)) {
+                                        new AutoDetectParser()
+                                                .parse(
+                                                        is,
+                                                        new BodyContentHandler(writer),
+                                                        new Metadata(),
+                                                        new ParseContext());
+                                    } catch (Exception e) {
+                                        // Also reached when the consumer cancels and closes the
+                                        // reader
+                                        transfer.failure = e;
+                                    } finally {
+                                        transfer.finish();
+                                        closeQuietly(is);
+                                    }
+                                });
+        return new BufferedReader(new BlockReader(transfer));
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            log.debug("Failed to close stream: {}", e.getMessage());
+        }
+    }
+
     /**
      * Creates Document objects from text chunks with deterministic doc_id.
      *
@@ -170,4 +248,151 @@ public class TikaReader extends AbstractChunkingReader {
 
         return documents;
     }
+
+    /**
+     * Bounded hand-off of text blocks from the parser thread to the reading thread.
+     *
+     * <p>Unlike a piped stream, neither side is tied to the thread that first used it, so the
+     * transfer keeps working however Reactor schedules the parser and the consumer.
+     */
+    private static final class BlockTransfer {
+
+        /** Marks the end of the text; compared by identity. */
+        private static final String END = new String();
+
+        private final String path;
+        private final BlockingQueue<String> blocks =
+                new ArrayBlockingQueue<>(STREAM_BUFFER_SIZE / STREAM_BLOCK_SIZE);
+        private volatile Disposable task;
+        private volatile Throwable failure;
+        private volatile boolean closed;
+
+        BlockTransfer(String path) {
+            this.path = path;
+        }
+
+        /** Queues a block, waiting while the queue is full. */
+        void put(String block) throws IOException {
+            try {
+                // Re-check periodically so a parser never outlives a closed reader
+                while (!blocks.offer(block, 100, TimeUnit.MILLISECONDS)) {
+                    if (closed) {
+                        throw new IOException("Reader closed");
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while parsing " + path);
+            }
+        }
+
+        /** Queues the end marker once the parser has stopped. */
+        void finish() {
+            try {
+                // Wait for the consumer to drain the queue or close the reader
+                while (!closed) {
+                    if (blocks.offer(END, 100, TimeUnit.MILLISECONDS)) {
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /** Stops the parser and drops any queued text. */
+        void close() {
+            closed = true;
+            Disposable parser = task;
+            if (parser != null) {
+                parser.dispose();
+            }
+            blocks.clear();
+        }
+    }
+
+    /** Writer used by the parser; groups the text into blocks of up to STREAM_BLOCK_SIZE. */
+    private static final class BlockWriter extends Writer {
+
+        private final BlockTransfer transfer;
+        private final StringBuilder block = new StringBuilder(STREAM_BLOCK_SIZE);
+
+        BlockWriter(BlockTransfer transfer) {
+            this.transfer = transfer;
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) throws IOException {
+            while (length > 0) {
+                int count = Math.min(length, STREAM_BLOCK_SIZE - block.length());
+                block.append(buffer, offset, count);
+                offset += count;
+                length -= count;
+                if (block.length() == STREAM_BLOCK_SIZE) {
+                    flush();
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (!block.isEmpty()) {
+                transfer.put(block.toString());
+                block.setLength(0);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
+    /** Reader over the blocks queued by the parser; rethrows a parse failure at the end. */
+    private static final class BlockReader extends Reader {
+
+        private final BlockTransfer transfer;
+        private String block = "";
+        private int position;
+        private boolean ended;
+
+        BlockReader(BlockTransfer transfer) {
+            this.transfer = transfer;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            while (position == block.length()) {
+                if (ended) {
+                    return -1;
+                }
+                try {
+                    block = transfer.blocks.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while reading " + transfer.path);
+                }
+                position = 0;
+                if (block == BlockTransfer.END) {
+                    block = "";
+                    ended = true;
+                    if (transfer.failure != null) {
+                        throw new IOException("Failed to parse " + transfer.path, transfer.failure);
+                    }
+                }
+            }
+            int count = Math.min(length, block.length() - position);
+            block.getChars(position, position + count, buffer, offset);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+            transfer.close();
+        }
+    }
 }
@@ -0,0 +1,1021 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.rag.store;
+
+import io.agentscope.core.message.ContentBlock;
+import io.agentscope.core.rag.exception.VectorStoreException;
+import io.agentscope.core.rag.model.Document;
+import io.agentscope.core.rag.model.DocumentMetadata;
+import io.agentscope.core.rag.store.dto.SearchDocumentDto;
+import io.agentscope.core.util.JsonUtils;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import reactor.core.publisher.Mono;
+
+/**
+ * In-memory approximate nearest neighbour store based on a Hierarchical Navigable Small World
+ * (HNSW) graph.
+ *
+ * <p>Unlike {@link InMemoryStore}, which compares the query against every stored vector, this store
+ * walks a layered proximity graph and only scores a small neighbourhood of the query, so search
+ * cost grows roughly logarithmically with the number of documents. Results are approximate: the
+ * trade-off between recall and latency is controlled by:
+ * <ul>
+ *   <li>{@code m} - number of graph links per node and layer (layer 0 keeps {@code 2 * m})
+ *   <li>{@code efConstruction} - candidate list size used while inserting
+ *   <li>{@code efSearch} - candidate list size used while searching (at least {@code limit})
+ * </ul>
+ *
+ * <p>Similarity is cosine similarity, computed on pre-normalized vectors as in {@link
+ * InMemoryStore}. Deleting a document only marks its node as deleted (a tombstone) so the graph
+ * stays connected; tombstoned nodes are still traversed but never returned. Re-adding a document
+ * with an existing ID tombstones the previous node and inserts a new one. Call {@link #compact()}
+ * to rebuild the graph from the live documents once {@link #needsCompaction()} reports that
+ * tombstones outnumber them, so deletes and updates do not grow the index without bound.
+ *
+ * <p>Searches run concurrently under a read lock; inserts and deletes take a write lock. Compaction
+ * builds the new graph without holding the lock and only takes the write lock to swap it in.
+ *
+ * <p>The whole index can be written to and restored from a binary snapshot file with {@link
+ * #saveSnapshot(Path)} and {@link #loadSnapshot(Path)}, which avoids re-embedding and rebuilding
+ * the graph on startup. Snapshots are streamed, so their size is not limited by the 2 GB limit of
+ * a single memory mapping, and vectors are written in the store's precision.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * HnswStore store = HnswStore.builder()
+ *     .dimensions(1024)
+ *     .m(16)
+ *     .efConstruction(200)
+ *     .efSearch(64)
+ *     .build();
+ *
+ * store.add(documents).block();
+ * List<Document> results = store.search(
+ *         SearchDocumentDto.builder().queryEmbedding(queryEmbedding).limit(5).build())
+ *     .block();
+ *
+ * store.saveSnapshot(Path.of("index.hnsw"));
+ * HnswStore restored = HnswStore.loadSnapshot(Path.of("index.hnsw"));
+ * }</pre>
+ *
+ * <p><b>Exception Handling:</b>
+ * <ul>
+ *   <li>{@link IllegalArgumentException} - for invalid input parameters (null documents, null embeddings, invalid limit)
+ *   <li>{@link VectorStoreException} - for vector-specific errors (dimension mismatch) and snapshot I/O errors
+ * </ul>
+ */
+public class HnswStore implements VDBStoreBase {
+
+    private static final int SNAPSHOT_MAGIC = 0x484E5357; // "HNSW"
+    private static final int SNAPSHOT_VERSION = 1;
+
+    /** Snapshot buffer size; the snapshot is streamed through a buffer of this size. */
+    private static final int SNAPSHOT_BUFFER_SIZE = 1 << 16;
+
+    /** Tombstone count below which {@link #needsCompaction()} never reports true. */
+    private static final int MIN_COMPACTION_TOMBSTONES = 64;
+
+    /** Number of times a compaction is retried when writes land while the graph is rebuilt. */
+    private static final int MAX_COMPACTION_ATTEMPTS = 3;
+
+    private static final Comparator<Candidate> BY_SCORE_DESC =
+            Comparator.comparingDouble(Candidate::score).reversed();
+
+    private final int dimensions;
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private final int efSearch;
+    private final boolean float32;
+    private final double levelMultiplier;
+    private final Random random;
+
+    /** Vectors of all nodes, including tombstoned ones; the node ID is the arena row. */
+    private VectorArena arena;
+
+    private List<Node> nodes;
+
+    /** Node ID of each live document, by document ID. */
+    private Map<String, Integer> nodesById;
+
+    private final ReadWriteLock lock;
+
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+    private int tombstones;
+
+    /** Incremented by every write, so that compaction can detect writes made while it ran. */
+    private long modifications;
+
+    private HnswStore(Builder builder) {
+        if (builder.dimensions <= 0) {
+            throw new IllegalArgumentException("Dimensions must be positive");
+        }
+        if (builder.m < 2) {
+            throw new IllegalArgumentException("M must be at least 2");
+        }
+        if (builder.efConstruction <= 0) {
+            throw new IllegalArgumentException("efConstruction must be positive");
+        }
+        if (builder.efSearch <= 0) {
+            throw new IllegalArgumentException("efSearch must be positive");
+        }
+        this.dimensions = builder.dimensions;
+        this.m = builder.m;
+        this.maxM0 = builder.m * 2;
+        this.efConstruction = Math.max(builder.efConstruction, builder.m);
+        this.efSearch = builder.efSearch;
+        this.float32 = builder.float32;
+        this.levelMultiplier = 1.0 / Math.log(builder.m);
+        this.random = new Random(builder.seed);
+        this.arena = new VectorArena(dimensions, float32);
+        this.nodes = new ArrayList<>();
+        this.nodesById = new HashMap<>();
+        this.lock = new ReentrantReadWriteLock();
+    }
+
+    @Override
+    public Mono<Void> add(final List<Document> documentList) {
+        if (documentList == null) {
+            return Mono.error(new IllegalArgumentException("Document list cannot be null"));
+        }
+        if (documentList.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return Mono.fromCallable(
+                () -> {
+                    for (Document document : documentList) {
+                        if (document == null) {
+                            throw new IllegalArgumentException("Document cannot be null");
+                        }
+                        if (document.getEmbedding() == null) {
+                            throw new IllegalArgumentException("Document must have embedding set");
+                        }
+
+                        validateDimensions(document.getEmbedding(), "Embedding");
+                    }
+
+                    lock.writeLock().lock();
+                    try {
+                        for (Document document : documentList) {
+                            Integer existing = nodesById.get(document.getId());
+                            if (existing != null) {
+                                markDeleted(existing);
+                            }
+                            StoredDocument stored =
+                                    new StoredDocument(
+                                            document.getId(),
+                                            document.getMetadata(),
+                                            document.getVectorName());
+                            nodesById.put(
+                                    document.getId(),
+                                    insert(document.getEmbedding(), stored, randomLevel()));
+                        }
+                        modifications++;
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * Searches for similar documents by approximate cosine similarity.
+     *
+     * <p>The graph is descended greedily from the top layer to layer 0, where a best-first search
+     * with a candidate list of {@code max(efSearch, limit)} nodes is performed. If tombstones or a
+     * vector name filter leave fewer than {@code limit} results, the search is repeated with a
+     * larger candidate list.
+     *
+     * @param searchDocumentDto the search document DTO
+     * @return a Mono that emits the matching documents sorted by similarity (descending)
+     */
+    @Override
+    public Mono<List<Document>> search(SearchDocumentDto searchDocumentDto) {
+        String vectorName = searchDocumentDto.getVectorName();
+        double[] queryEmbedding = searchDocumentDto.getQueryEmbedding();
+        int limit = searchDocumentDto.getLimit();
+        Double scoreThreshold = searchDocumentDto.getScoreThreshold();
+
+        try {
+            validateDimensions(queryEmbedding, "Query embedding");
+        } catch (Exception e) {
+            return Mono.error(e);
+        }
+
+        if (limit <= 0) {
+            return Mono.error(new IllegalArgumentException("Limit must be positive"));
+        }
+
+        double threshold = scoreThreshold != null ? scoreThreshold : Double.NEGATIVE_INFINITY;
+        return Mono.fromCallable(
+                () -> {
+                    lock.readLock().lock();
+                    try {
+                        if (nodesById.isEmpty()) {
+                            return new ArrayList<>();
+                        }
+
+                        VectorArena.Query query = arena.prepare(queryEmbedding);
+                        int ep = entryPoint;
+                        for (int layer = maxLevel; layer > 0; layer--) {
+                            ep = greedyClosest(query, ep, layer);
+                        }
+
+                        int ef = Math.max(efSearch, limit);
+                        List<Candidate> matches = new ArrayList<>(limit);
+                        while (true) {
+                            List<Candidate> candidates = searchLayer(query, ep, ef, 0);
+                            matches.clear();
+                            for (Candidate candidate : candidates) {
+                                if (matches.size() == limit || candidate.score() < threshold) {
+                                    break;
+                                }
+                                Node node = nodes.get(candidate.node());
+                                if (!node.deleted
+                                        && (vectorName == null
+                                                || vectorName.equals(node.document.vectorName()))) {
+                                    matches.add(candidate);
+                                }
+                            }
+                            // Widen the search only if filtered-out nodes crowded out results
+                            // that could still pass the threshold
+                            boolean exhausted =
+                                    candidates.size() < ef
+                                            || candidates.get(candidates.size() - 1).score()
+                                                    < threshold;
+                            if (matches.size() == limit || exhausted || ef >= nodes.size()) {
+                                break;
+                            }
+                            ef = Math.min(ef * 2, nodes.size());
+                        }
+
+                        List<Document> results = new ArrayList<>(matches.size());
+                        for (Candidate match : matches) {
+                            StoredDocument stored = nodes.get(match.node()).document;
+                            Document docWithScore = new Document(stored.metadata());
+                            docWithScore.setEmbedding(arena.vector(match.node()));
+                            docWithScore.setVectorName(stored.vectorName());
+                            docWithScore.setScore(match.score());
+                            results.add(docWithScore);
+                        }
+                        return results;
+                    } finally {
+                        lock.readLock().unlock();
+                    }
+                });
+    }
+
+    /**
+     * Deletes a document by marking its graph node as deleted.
+     *
+     * <p>The node keeps its links so that searches can still route through it, but it is never
+     * returned as a result. Call {@link #compact()} to drop tombstoned nodes from the graph.
+     *
+     * @param id the document ID
+     * @return a Mono that emits true if the document existed, false otherwise
+     */
+    @Override
+    public Mono<Boolean> delete(final String id) {
+        if (id == null) {
+            return Mono.error(new IllegalArgumentException("Document ID cannot be null"));
+        }
+        return Mono.fromCallable(
+                () -> {
+                    lock.writeLock().lock();
+                    try {
+                        Integer node = nodesById.remove(id);
+                        if (node == null) {
+                            return false;
+                        }
+                        markDeleted(node);
+                        modifications++;
+                        return true;
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                });
+    }
+
+    /**
+     * Checks whether the graph holds enough tombstoned nodes to be worth compacting.
+     *
+     * @return true if tombstones outnumber live documents (and there are at least 64 of them)
+     */
+    public boolean needsCompaction() {
+        lock.readLock().lock();
+        try {
+            return tombstones >= MIN_COMPACTION_TOMBSTONES && tombstones > nodesById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the graph from the live documents, dropping all tombstoned nodes.
+     *
+     * <p>Every live vector is re-inserted on its original layer, in insertion order, into a new
+     * graph. The live documents are copied under the read lock and the new graph is built without
+     * holding any lock, so searches and writes continue meanwhile; the write lock is only taken to
+     * swap the new graph in. If the store is modified while the graph is rebuilt, the rebuild is
+     * discarded and retried a few times before giving up until the next call.
+     *
+     * <p>Call this periodically (for example when {@link #needsCompaction()} returns true) or
+     * before {@link #saveSnapshot(Path)} to reclaim space.
+     *
+     * @return true if the graph was compacted or had no tombstones, false if concurrent writes
+     *     kept invalidating the rebuild
+     */
+    public boolean compact() {
+        for (int attempt = 0; attempt < MAX_COMPACTION_ATTEMPTS; attempt++) {
+            List<Node> liveNodes = new ArrayList<>();
+            List<double[]> liveVectors = new ArrayList<>();
+            long version;
+            lock.readLock().lock();
+            try {
+                if (tombstones == 0) {
+                    return true;
+                }
+                version = modifications;
+                for (int id = 0; id < nodes.size(); id++) {
+                    Node node = nodes.get(id);
+                    if (!node.deleted) {
+                        liveNodes.add(node);
+                        liveVectors.add(arena.vector(id));
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            HnswStore rebuilt = rebuild(liveNodes, liveVectors);
+
+            lock.writeLock().lock();
+            try {
+                if (modifications == version) {
+                    arena = rebuilt.arena;
+                    nodes = rebuilt.nodes;
+                    nodesById = rebuilt.nodesById;
+                    entryPoint = rebuilt.entryPoint;
+                    maxLevel = rebuilt.maxLevel;
+                    tombstones = 0;
+                    return true;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Writes the index, including the graph, vectors, documents and tombstones, to a snapshot file.
+     *
+     * <p>The snapshot is streamed through a buffer to a temporary file that replaces {@code path}
+     * once complete, so an interrupted save never leaves a partial snapshot behind. Vectors are
+     * written exactly as stored, as 32-bit floats for a {@code float32} store. Searches may
+     * continue while the snapshot is written; writes are blocked.
+     *
+     * @param path the snapshot file
+     * @throws VectorStoreException if the snapshot cannot be written
+     */
+    public void saveSnapshot(Path path) throws VectorStoreException {
+        lock.readLock().lock();
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+            try {
+                try (FileChannel channel =
+                        FileChannel.open(
+                                temp,
+                                StandardOpenOption.WRITE,
+                                StandardOpenOption.TRUNCATE_EXISTING)) {
+                    DataOutputStream out =
+                            new DataOutputStream(
+                                    new BufferedOutputStream(
+                                            Channels.newOutputStream(channel),
+                                            SNAPSHOT_BUFFER_SIZE));
+                    writeSnapshot(out);
+                    out.flush();
+                    channel.force(true);
+                }
+                Files.move(
+                        temp,
+                        path,
+                        StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new VectorStoreException("Failed to write HNSW snapshot to " + path, e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void writeSnapshot(DataOutputStream out) throws IOException {
+        out.writeInt(SNAPSHOT_MAGIC);
+        out.writeInt(SNAPSHOT_VERSION);
+        out.writeInt(dimensions);
+        out.writeInt(m);
+        out.writeInt(efConstruction);
+        out.writeInt(efSearch);
+        out.writeInt(float32 ? 1 : 0);
+        out.writeInt(nodes.size());
+        out.writeInt(entryPoint);
+        out.writeInt(maxLevel);
+        for (int id = 0; id < nodes.size(); id++) {
+            Node node = nodes.get(id);
+            out.writeInt(node.level);
+            out.writeInt(node.deleted ? 1 : 0);
+            arena.writeRow(out, id);
+            for (int layer = 0; layer <= node.level; layer++) {
+                out.writeInt(node.linkCounts[layer]);
+                for (int i = 0; i < node.linkCounts[layer]; i++) {
+                    out.writeInt(node.links[layer][i]);
+                }
+            }
+            for (byte[] value : encode(node.document)) {
+                putBytes(out, value);
+            }
+        }
+    }
+
+    /**
+     * Restores a store from a snapshot written by {@link #saveSnapshot(Path)}.
+     *
+     * <p>The snapshot is streamed and decoded directly into the in-memory graph; no vectors are
+     * re-inserted, so loading is linear in the snapshot size. The restored store uses the graph
+     * parameters recorded in the snapshot.
+     *
+     * @param path the snapshot file
+     * @return the restored store
+     * @throws VectorStoreException if the file cannot be read or is not a valid snapshot
+     */
+    public static HnswStore loadSnapshot(Path path) throws VectorStoreException {
+        try (DataInputStream in =
+                new DataInputStream(
+                        new BufferedInputStream(
+                                Files.newInputStream(path), SNAPSHOT_BUFFER_SIZE))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                throw new VectorStoreException("Not an HNSW snapshot: " + path);
+            }
+            int version = in.readInt();
+            if (version != SNAPSHOT_VERSION) {
+                throw new VectorStoreException("Unsupported HNSW snapshot version: " + version);
+            }
+            HnswStore store =
+                    builder()
+                            .dimensions(in.readInt())
+                            .m(in.readInt())
+                            .efConstruction(in.readInt())
+                            .efSearch(in.readInt())
+                            .float32(in.readInt() == 1)
+                            .build();
+            int count = in.readInt();
+            store.entryPoint = in.readInt();
+            store.maxLevel = in.readInt();
+
+            for (int id = 0; id < count; id++) {
+                int level = in.readInt();
+                boolean deleted = in.readInt() == 1;
+                store.arena.readRow(in);
+                Node node = new Node(level, store.m, store.maxM0, null);
+                for (int layer = 0; layer <= level; layer++) {
+                    int linkCount = in.readInt();
+                    for (int i = 0; i < linkCount; i++) {
+                        node.links[layer][i] = in.readInt();
+                    }
+                    node.linkCounts[layer] = linkCount;
+                }
+                node.document = decode(in);
+                node.deleted = deleted;
+                store.nodes.add(node);
+                if (deleted) {
+                    store.tombstones++;
+                } else {
+                    store.nodesById.put(node.document.id(), id);
+                }
+            }
+            return store;
+        } catch (IOException | RuntimeException e) {
+            throw new VectorStoreException("Failed to read HNSW snapshot from " + path, e);
+        }
+    }
+
+    private void markDeleted(int node) {
+        nodes.get(node).deleted = true;
+        tombstones++;
+    }
+
+    /**
+     * Inserts the given nodes into a new, private store with the same parameters. Needs no lock,
+     * since the new store is not shared until it is swapped in.
+     */
+    private HnswStore rebuild(List<Node> liveNodes, List<double[]> liveVectors) {
+        HnswStore rebuilt =
+                builder()
+                        .dimensions(dimensions)
+                        .m(m)
+                        .efConstruction(efConstruction)
+                        .efSearch(efSearch)
+                        .float32(float32)
+                        .build();
+        for (int i = 0; i < liveNodes.size(); i++) {
+            Node node = liveNodes.get(i);
+            rebuilt.nodesById.put(
+                    node.document.id(),
+                    rebuilt.insert(liveVectors.get(i), node.document, node.level));
+            liveVectors.set(i, null);
+        }
+        return rebuilt;
+    }
+
+    /**
+     * Inserts a vector as a new graph node.
+     *
+     * @param vector the vector
+     * @param document the document data of the node
+     * @param level the top layer of the node
+     * @return the node ID
+     */
+    private int insert(double[] vector, StoredDocument document, int level) {
+        int id = arena.add(vector);
+        nodes.add(new Node(level, m, maxM0, document));
+        if (entryPoint < 0) {
+            entryPoint = id;
+            maxLevel = level;
+            return id;
+        }
+
+        VectorArena.Query query = arena.prepare(vector);
+        int ep = entryPoint;
+        for (int layer = maxLevel; layer > level; layer--) {
+            ep = greedyClosest(query, ep, layer);
+        }
+        for (int layer = Math.min(level, maxLevel); layer >= 0; layer--) {
+            List<Candidate> candidates = searchLayer(query, ep, efConstruction, layer);
+            for (Candidate neighbor : selectNeighbors(candidates, m)) {
+                addLink(id, neighbor.node(), layer);
+                addLink(neighbor.node(), id, layer);
+            }
+            ep = candidates.get(0).node();
+        }
+
+        if (level > maxLevel) {
+            entryPoint = id;
+            maxLevel = level;
+        }
+        return id;
+    }
+
+    private int greedyClosest(VectorArena.Query query, int ep, int layer) {
+        int current = ep;
+        double best = arena.score(query, current);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            Node node = nodes.get(current);
+            for (int i = 0; i < node.linkCounts[layer]; i++) {
+                int neighbor = node.links[layer][i];
+                double score = arena.score(query, neighbor);
+                if (score > best) {
+                    best = score;
+                    current = neighbor;
+                    improved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Best-first search of one layer.
+     *
+     * @param query the prepared query
+     * @param ep the node to start from
+     * @param ef the maximum number of candidates to keep
+     * @param layer the layer to search
+     * @return up to {@code ef} nodes closest to the query, sorted by descending similarity
+     */
+    private List<Candidate> searchLayer(VectorArena.Query query, int ep, int ef, int layer) {
+        BitSet visited = new BitSet(nodes.size());
+        PriorityQueue<Candidate> frontier = new PriorityQueue<>(BY_SCORE_DESC);
+        PriorityQueue<Candidate> best =
+                new PriorityQueue<>(Comparator.comparingDouble(Candidate::score));
+
+        Candidate start = new Candidate(ep, arena.score(query, ep));
+        visited.set(ep);
+        frontier.add(start);
+        best.add(start);
+
+        while (!frontier.isEmpty()) {
+            Candidate current = frontier.poll();
+            if (best.size() >= ef && current.score() < best.peek().score()) {
+                break;
+            }
+            Node node = nodes.get(current.node());
+            for (int i = 0; i < node.linkCounts[layer]; i++) {
+                int neighbor = node.links[layer][i];
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                double score = arena.score(query, neighbor);
+                if (best.size() < ef || score > best.peek().score()) {
+                    Candidate candidate = new Candidate(neighbor, score);
+                    frontier.add(candidate);
+                    best.add(candidate);
+                    if (best.size() > ef) {
+                        best.poll();
+                    }
+                }
+            }
+        }
+
+        List<Candidate> result = new ArrayList<>(best);
+        result.sort(BY_SCORE_DESC);
+        return result;
+    }
+
+    /**
+     * Selects up to {@code max} neighbours with the HNSW heuristic.
+     *
+     * <p>A candidate is preferred only if it is closer to the base node than to every neighbour
+     * already selected, which keeps links spread across directions instead of clustering. Remaining
+     * slots are then filled with the closest pruned candidates.
+     *
+     * @param candidates candidates sorted by descending similarity to the base node
+     * @param max the maximum number of neighbours
+     * @return the selected neighbours
+     */
+    private List<Candidate> selectNeighbors(List<Candidate> candidates, int max) {
+        if (candidates.size() <= max) {
+            return candidates;
+        }
+        List<Candidate> selected = new ArrayList<>(max);
+        List<Candidate> pruned = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            if (selected.size() == max) {
+                break;
+            }
+            boolean diverse = true;
+            for (Candidate chosen : selected) {
+                if (arena.similarity(candidate.node(), chosen.node()) > candidate.score()) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected.add(candidate);
+            } else {
+                pruned.add(candidate);
+            }
+        }
+        for (int i = 0; i < pruned.size() && selected.size() < max; i++) {
+            selected.add(pruned.get(i));
+        }
+        return selected;
+    }
+
+    private void addLink(int from, int to, int layer) {
+        Node node = nodes.get(from);
+        int maxLinks = layer == 0 ? maxM0 : m;
+        int count = node.linkCounts[layer];
+        if (count < maxLinks) {
+            node.links[layer][count] = to;
+            node.linkCounts[layer]++;
+            return;
+        }
+
+        // Full: keep the best maxLinks of the existing links plus the new one
+        List<Candidate> candidates = new ArrayList<>(count + 1);
+        for (int i = 0; i < count; i++) {
+            int neighbor = node.links[layer][i];
+            candidates.add(new Candidate(neighbor, arena.similarity(from, neighbor)));
+        }
+        candidates.add(new Candidate(to, arena.similarity(from, to)));
+        candidates.sort(BY_SCORE_DESC);
+        List<Candidate> kept = selectNeighbors(candidates, maxLinks);
+        for (int i = 0; i < kept.size(); i++) {
+            node.links[layer][i] = kept.get(i).node();
+        }
+        node.linkCounts[layer] = kept.size();
+    }
+
+    private int randomLevel() {
+        return (int) (-Math.log(1.0 - random.nextDouble()) * levelMultiplier);
+    }
+
+    /**
+     * Validates that an embedding has the correct dimensions.
+     *
+     * @param embedding the embedding to validate
+     * @param paramName the parameter name for error messages
+     * @throws IllegalArgumentException if embedding is null
+     * @throws VectorStoreException if embedding dimension does not match expected dimensions
+     */
+    private void validateDimensions(final double[] embedding, final String paramName)
+            throws VectorStoreException {
+        if (embedding == null) {
+            throw new IllegalArgumentException(paramName + " cannot be null");
+        }
+        if (embedding.length != dimensions) {
+            throw new VectorStoreException(
+                    String.format(
+                            "%s dimension mismatch: expected %d, got %d",
+                            paramName, dimensions, embedding.length));
+        }
+    }
+
+    private static byte[][] encode(StoredDocument document) {
+        DocumentMetadata metadata = document.metadata();
+        return new byte[][] {
+            utf8(document.id()),
+            utf8(JsonUtils.getJsonCodec().toJson(metadata.getContent())),
+            utf8(metadata.getDocId()),
+            utf8(metadata.getChunkId()),
+            utf8(JsonUtils.getJsonCodec().toJson(metadata.getPayload())),
+            utf8(document.vectorName())
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static StoredDocument decode(DataInputStream in) throws IOException {
+        String id = getString(in);
+        ContentBlock content = JsonUtils.getJsonCodec().fromJson(getString(in), ContentBlock.class);
+        String docId = getString(in);
+        String chunkId = getString(in);
+        Map<String, Object> payload = JsonUtils.getJsonCodec().fromJson(getString(in), Map.class);
+        String vectorName = getString(in);
+        return new StoredDocument(
+                id, new DocumentMetadata(content, docId, chunkId, payload), vectorName);
+    }
+
+    private static byte[] utf8(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static void putBytes(DataOutputStream out, byte[] value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+        } else {
+            out.writeInt(value.length);
+            out.write(value);
+        }
+    }
+
+    private static String getString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets the number of live (non-deleted) documents.
+     *
+     * <p>This method is thread-safe.
+     *
+     * @return the number of stored documents (always non-negative)
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodesById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Checks if the store is empty.
+     *
+     * <p>Equivalent to {@code size() == 0}. This method is thread-safe.
+     *
+     * @return true if the store contains no documents, false otherwise
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Clears all documents, tombstones and graph links from the store.
+     *
+     * <p>This operation is thread-safe.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            arena.clear();
+            nodes.clear();
+            nodesById.clear();
+            entryPoint = -1;
+            maxLevel = -1;
+            tombstones = 0;
+            modifications++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the dimension of vectors stored in this store.
+     *
+     * @return the vector dimension
+     */
+    public int getDimensions() {
+        return dimensions;
+    }
+
+    /**
+     * Creates a new builder for HnswStore.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for HnswStore.
+     */
+    public static class Builder {
+        private int dimensions = 1024; // Default dimensions
+        private int m = 16;
+        private int efConstruction = 200;
+        private int efSearch = 64;
+        private boolean float32 = false;
+        private long seed = 42L;
+
+        private Builder() {}
+
+        /**
+         * Sets the vector dimensions.
+         *
+         * @param dimensions the dimension of vectors to be stored (must be positive)
+         * @return this builder for method chaining
+         */
+        public Builder dimensions(int dimensions) {
+            this.dimensions = dimensions;
+            return this;
+        }
+
+        /**
+         * Sets the number of links per node on each layer above 0 (layer 0 keeps twice as many).
+         *
+         * <p>Higher values improve recall on high-dimensional data at the cost of memory and insert
+         * time. Typical values are 8 to 48. Defaults to 16.
+         *
+         * @param m the number of links (at least 2)
+         * @return this builder for method chaining
+         */
+        public Builder m(int m) {
+            this.m = m;
+            return this;
+        }
+
+        /**
+         * Sets the candidate list size used when inserting.
+         *
+         * <p>Higher values build a better graph but slow down inserts. Defaults to 200.
+         *
+         * @param efConstruction the candidate list size (must be positive)
+         * @return this builder for method chaining
+         */
+        public Builder efConstruction(int efConstruction) {
+            this.efConstruction = efConstruction;
+            return this;
+        }
+
+        /**
+         * Sets the candidate list size used when searching.
+         *
+         * <p>Higher values improve recall but slow down searches. The effective value is never
+         * smaller than the requested result limit. Defaults to 64.
+         *
+         * @param efSearch the candidate list size (must be positive)
+         * @return this builder for method chaining
+         */
+        public Builder efSearch(int efSearch) {
+            this.efSearch = efSearch;
+            return this;
+        }
+
+        /**
+         * Sets whether vectors are stored as 32-bit floats.
+         *
+         * <p>See {@link InMemoryStore.Builder#float32(boolean)}. Defaults to false.
+         *
+         * @param float32 true to store vectors as 32-bit floats
+         * @return this builder for method chaining
+         */
+        public Builder float32(boolean float32) {
+            this.float32 = float32;
+            return this;
+        }
+
+        /**
+         * Sets the seed of the random generator that assigns node layers.
+         *
+         * <p>A fixed seed makes graph construction reproducible for the same insertion order.
+         *
+         * @param seed the random seed
+         * @return this builder for method chaining
+         */
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Builds a new HnswStore instance.
+         *
+         * @return a new HnswStore instance
+         * @throws IllegalArgumentException if any parameter is out of range
+         */
+        public HnswStore build() {
+            return new HnswStore(this);
+        }
+    }
+
+    /**
+     * A graph node: its links per layer and the document it holds.
+     */
+    private static final class Node {
+        final int level;
+        final int[][] links;
+        final int[] linkCounts;
+        StoredDocument document;
+        boolean deleted;
+
+        Node(int level, int m, int maxM0, StoredDocument document) {
+            this.level = level;
+            this.links = new int[level + 1][];
+            for (int layer = 0; layer <= level; layer++) {
+                links[layer] = new int[layer == 0 ? maxM0 : m];
+            }
+            this.linkCounts = new int[level + 1];
+            this.document = document;
+        }
+    }
+
+    /**
+     * A node with its similarity to the current query.
+     *
+     * @param node the node ID
+     * @param score the cosine similarity
+     */
+    private record Candidate(int node, double score) {}
+
+    /**
+     * Document data kept alongside each graph node.
+     *
+     * @param id the document ID
+     * @param metadata the document metadata
+     * @param vectorName the vector name, or null
+     */
+    private record StoredDocument(String id, DocumentMetadata metadata, String vectorName) {}
+}
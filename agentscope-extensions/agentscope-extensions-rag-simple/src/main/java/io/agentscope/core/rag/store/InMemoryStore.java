@@ -17,21 +17,24 @@ package io.agentscope.core.rag.store;
 
 import io.agentscope.core.rag.exception.VectorStoreException;
 import io.agentscope.core.rag.model.Document;
+import io.agentscope.core.rag.model.DocumentMetadata;
 import io.agentscope.core.rag.store.dto.SearchDocumentDto;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import reactor.core.publisher.Mono;
 
 /**
  * In-memory implementation of vector database storage.
  *
- * <p>This implementation stores vectors in memory using a ConcurrentHashMap for thread safety.
- * It uses cosine similarity for vector search, which is the most common metric for embedding
- * vectors.
+ * <p>This implementation stores vectors in memory in a single contiguous, pre-normalized arena
+ * (optionally as 32-bit floats) guarded by a read-write lock. It uses cosine similarity for vector
+ * search, which is the most common metric for embedding vectors; because rows are normalized on
+ * insertion, each comparison is a single dot product and only the top results are materialized
+ * as {@link Document}s.
  *
  * <p>This implementation is suitable for:
  * <ul>
@@ -47,6 +50,7 @@ import reactor.core.publisher.Mono;
  * <pre>{@code
  * InMemoryStore store = InMemoryStore.builder()
  *     .dimensions(1024)
+ *     .float32(true) // optional: halve vector memory for large stores
  *     .build();
  *
  * // Add documents
@@ -64,21 +68,33 @@ import reactor.core.publisher.Mono;
  */
 public class InMemoryStore implements VDBStoreBase {
 
-    private final Map<String, Document> documents;
     private final int dimensions;
+    private final VectorArena arena;
+
+    /** Per-row document data, aligned with the rows of {@link #arena}. */
+    private final List<StoredDocument> rows;
+
+    /** Row index of each stored document, by document ID. */
+    private final Map<String, Integer> rowsById;
+
+    private final ReadWriteLock lock;
 
     /**
      * Creates a new InMemoryStore with the specified vector dimensions.
      *
      * @param dimensions the dimension of vectors that will be stored
+     * @param float32 whether vectors are stored as 32-bit floats
      * @throws IllegalArgumentException if dimensions is not positive
      */
-    private InMemoryStore(final int dimensions) {
+    private InMemoryStore(final int dimensions, final boolean float32) {
         if (dimensions <= 0) {
             throw new IllegalArgumentException("Dimensions must be positive");
         }
         this.dimensions = dimensions;
-        this.documents = new ConcurrentHashMap<>();
+        this.arena = new VectorArena(dimensions, float32);
+        this.rows = new ArrayList<>();
+        this.rowsById = new HashMap<>();
+        this.lock = new ReentrantReadWriteLock();
     }
 
     @Override
@@ -101,20 +117,44 @@ public class InMemoryStore implements VDBStoreBase {
                         }
 
                         validateDimensions(document.getEmbedding(), "Embedding");
+                    }
 
-                        // Create a defensive copy of the embedding
-                        double[] embeddingCopy =
-                                Arrays.copyOf(
-                                        document.getEmbedding(), document.getEmbedding().length);
-                        Document docCopy = new Document(document.getMetadata());
-                        docCopy.setEmbedding(embeddingCopy);
-                        docCopy.setVectorName(document.getVectorName());
-                        documents.put(document.getId(), docCopy);
+                    lock.writeLock().lock();
+                    try {
+                        for (Document document : documentList) {
+                            // The arena copies the embedding, so later changes to the
+                            // caller's array do not affect the store
+                            StoredDocument stored =
+                                    new StoredDocument(
+                                            document.getId(),
+                                            document.getMetadata(),
+                                            document.getVectorName());
+                            Integer row = rowsById.get(document.getId());
+                            if (row != null) {
+                                arena.set(row, document.getEmbedding());
+                                rows.set(row, stored);
+                            } else {
+                                rowsById.put(document.getId(), arena.add(document.getEmbedding()));
+                                rows.add(stored);
+                            }
+                        }
+                    } finally {
+                        lock.writeLock().unlock();
                     }
                     return null;
                 });
     }
 
+    /**
+     * Searches for similar documents by cosine similarity.
+     *
+     * <p>The query is normalized once and compared against the pre-normalized rows with a dot
+     * product. Only the best {@code limit} rows are tracked (bounded min-heap), and {@link
+     * Document} results are created for those rows only.
+     *
+     * @param searchDocumentDto the search document DTO
+     * @return a Mono that emits the matching documents sorted by similarity (descending)
+     */
     @Override
     public Mono<List<Document>> search(SearchDocumentDto searchDocumentDto) {
         String vectorName = searchDocumentDto.getVectorName();
@@ -134,41 +174,37 @@ public class InMemoryStore implements VDBStoreBase {
 
         return Mono.fromCallable(
                 () -> {
-                    if (documents.isEmpty()) {
-                        return new ArrayList<>();
-                    }
-
-                    List<Document> results = new ArrayList<>();
-
-                    // Calculate similarity for all documents
-                    for (Document doc : documents.values()) {
-                        if (vectorName != null && !vectorName.equals(doc.getVectorName())) {
-                            continue;
+                    lock.readLock().lock();
+                    try {
+                        if (arena.size() == 0) {
+                            return new ArrayList<>();
                         }
 
-                        double similarity =
-                                DistanceCalculator.cosineSimilarity(
-                                        queryEmbedding, doc.getEmbedding());
+                        VectorArena.TopK topK =
+                                arena.search(
+                                        queryEmbedding,
+                                        limit,
+                                        scoreThreshold,
+                                        row ->
+                                                vectorName == null
+                                                        || vectorName.equals(
+                                                                rows.get(row).vectorName()));
 
-                        // Apply score threshold if specified
-                        if (scoreThreshold != null && similarity < scoreThreshold) {
-                            continue;
+                        // Materialize documents for the winners only
+                        List<Document> results = new ArrayList<>(topK.size());
+                        for (int i = 0; i < topK.size(); i++) {
+                            int row = topK.row(i);
+                            StoredDocument stored = rows.get(row);
+                            Document docWithScore = new Document(stored.metadata());
+                            docWithScore.setEmbedding(arena.vector(row));
+                            docWithScore.setVectorName(stored.vectorName());
+                            docWithScore.setScore(topK.score(i));
+                            results.add(docWithScore);
                         }
-
-                        Document docWithScore = new Document(doc.getMetadata());
-                        docWithScore.setEmbedding(doc.getEmbedding());
-                        docWithScore.setScore(similarity);
-                        results.add(docWithScore);
+                        return results;
+                    } finally {
+                        lock.readLock().unlock();
                     }
-
-                    // Sort by similarity (descending) and take top results
-                    return results.stream()
-                            .sorted(
-                                    Comparator.comparing(
-                                            Document::getScore,
-                                            Comparator.nullsLast(Comparator.reverseOrder())))
-                            .limit(limit)
-                            .toList();
                 });
     }
 
@@ -179,8 +215,23 @@ public class InMemoryStore implements VDBStoreBase {
         }
         return Mono.fromCallable(
                 () -> {
-                    Document removed = documents.remove(id);
-                    return removed != null;
+                    lock.writeLock().lock();
+                    try {
+                        Integer row = rowsById.remove(id);
+                        if (row == null) {
+                            return false;
+                        }
+                        // Move the last row into the freed slot to keep rows contiguous
+                        int moved = arena.removeBySwap(row);
+                        StoredDocument last = rows.remove(moved);
+                        if (moved != row) {
+                            rows.set(row, last);
+                            rowsById.put(last.id(), row);
+                        }
+                        return true;
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
                 });
     }
 
@@ -213,7 +264,12 @@ public class InMemoryStore implements VDBStoreBase {
      * @return the number of stored documents (always non-negative)
      */
     public int size() {
-        return documents.size();
+        lock.readLock().lock();
+        try {
+            return arena.size();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     /**
@@ -224,7 +280,7 @@ public class InMemoryStore implements VDBStoreBase {
      * @return true if the store contains no documents, false otherwise
      */
     public boolean isEmpty() {
-        return documents.isEmpty();
+        return size() == 0;
     }
 
     /**
@@ -234,7 +290,14 @@ public class InMemoryStore implements VDBStoreBase {
      * This operation is thread-safe.
      */
     public void clear() {
-        documents.clear();
+        lock.writeLock().lock();
+        try {
+            arena.clear();
+            rows.clear();
+            rowsById.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     /**
@@ -260,6 +323,7 @@ public class InMemoryStore implements VDBStoreBase {
      */
     public static class Builder {
         private int dimensions = 1024; // Default dimensions
+        private boolean float32 = false;
 
         private Builder() {}
 
@@ -274,6 +338,21 @@ public class InMemoryStore implements VDBStoreBase {
             return this;
         }
 
+        /**
+         * Sets whether vectors are stored as 32-bit floats.
+         *
+         * <p>Float storage halves the memory used by vectors and speeds up search on large
+         * stores, at the cost of similarity scores being accurate to about 1e-6 instead of
+         * double precision. Defaults to false.
+         *
+         * @param float32 true to store vectors as 32-bit floats
+         * @return this builder for method chaining
+         */
+        public Builder float32(boolean float32) {
+            this.float32 = float32;
+            return this;
+        }
+
         /**
          * Builds a new InMemoryStore instance.
          *
@@ -281,7 +360,16 @@ public class InMemoryStore implements VDBStoreBase {
          * @throws IllegalArgumentException if dimensions is not positive
          */
         public InMemoryStore build() {
-            return new InMemoryStore(dimensions);
+            return new InMemoryStore(dimensions, float32);
         }
     }
+
+    /**
+     * Document data kept alongside each vector row.
+     *
+     * @param id the document ID
+     * @param metadata the document metadata
+     * @param vectorName the vector name, or null
+     */
+    private record StoredDocument(String id, DocumentMetadata metadata, String vectorName) {}
 }
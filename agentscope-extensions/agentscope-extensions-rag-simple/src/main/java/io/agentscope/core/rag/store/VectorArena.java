@@ -0,0 +1,441 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.rag.store;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Contiguous, row-major storage of L2-normalized vectors.
+ *
+ * <p>All rows live in a single primitive array (either {@code float[]} or {@code double[]}), so a
+ * search is a linear scan over one block of memory with no per-vector object headers or pointer
+ * chasing. Rows are normalized on insertion and the original norm is kept separately, which turns
+ * cosine similarity into a plain dot product and allows the original vector to be reconstructed
+ * for search results.
+ *
+ * <p>This class is not thread-safe; callers must provide their own synchronization.
+ */
+final class VectorArena {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int dimensions;
+    private final boolean float32;
+
+    private float[] floatRows;
+    private double[] doubleRows;
+    private double[] norms;
+    private int size;
+
+    /**
+     * Creates an empty arena.
+     *
+     * @param dimensions the dimension of every row
+     * @param float32 whether rows are stored as 32-bit floats instead of 64-bit doubles
+     */
+    VectorArena(int dimensions, boolean float32) {
+        this.dimensions = dimensions;
+        this.float32 = float32;
+        if (float32) {
+            this.floatRows = new float[INITIAL_CAPACITY * dimensions];
+        } else {
+            this.doubleRows = new double[INITIAL_CAPACITY * dimensions];
+        }
+        this.norms = new double[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return the number of rows
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Appends a vector as a new row.
+     *
+     * @param vector the vector to append (not modified)
+     * @return the row index
+     */
+    int add(double[] vector) {
+        ensureCapacity(size + 1);
+        set(size, vector);
+        return size++;
+    }
+
+    /**
+     * Overwrites the row at the given index.
+     *
+     * @param row the row index
+     * @param vector the new vector (not modified)
+     */
+    void set(int row, double[] vector) {
+        double norm = norm(vector);
+        double scale = norm == 0.0 ? 0.0 : 1.0 / norm;
+        int offset = row * dimensions;
+        if (float32) {
+            for (int i = 0; i < dimensions; i++) {
+                floatRows[offset + i] = (float) (vector[i] * scale);
+            }
+        } else {
+            for (int i = 0; i < dimensions; i++) {
+                doubleRows[offset + i] = vector[i] * scale;
+            }
+        }
+        norms[row] = norm;
+    }
+
+    /**
+     * Removes the last row after moving it into the given slot.
+     *
+     * @param row the row index to overwrite with the last row
+     * @return the former index of the moved row (equal to {@code row} if it was the last one)
+     */
+    int removeBySwap(int row) {
+        int last = size - 1;
+        if (row != last) {
+            if (float32) {
+                System.arraycopy(
+                        floatRows, last * dimensions, floatRows, row * dimensions, dimensions);
+            } else {
+                System.arraycopy(
+                        doubleRows, last * dimensions, doubleRows, row * dimensions, dimensions);
+            }
+            norms[row] = norms[last];
+        }
+        size--;
+        return last;
+    }
+
+    /**
+     * Writes a row exactly as stored: its norm, then its normalized components in the arena's
+     * precision.
+     *
+     * @param out the output to write to
+     * @param row the row index
+     * @throws IOException if writing fails
+     */
+    void writeRow(DataOutput out, int row) throws IOException {
+        out.writeDouble(norms[row]);
+        int offset = row * dimensions;
+        for (int i = 0; i < dimensions; i++) {
+            if (float32) {
+                out.writeFloat(floatRows[offset + i]);
+            } else {
+                out.writeDouble(doubleRows[offset + i]);
+            }
+        }
+    }
+
+    /**
+     * Appends a row written by {@link #writeRow(DataOutput, int)} of an arena with the same
+     * dimensions and precision.
+     *
+     * @param in the input to read from
+     * @return the row index
+     * @throws IOException if reading fails
+     */
+    int readRow(DataInput in) throws IOException {
+        ensureCapacity(size + 1);
+        norms[size] = in.readDouble();
+        int offset = size * dimensions;
+        for (int i = 0; i < dimensions; i++) {
+            if (float32) {
+                floatRows[offset + i] = in.readFloat();
+            } else {
+                doubleRows[offset + i] = in.readDouble();
+            }
+        }
+        return size++;
+    }
+
+    /** Removes all rows. */
+    void clear() {
+        size = 0;
+    }
+
+    /**
+     * Reconstructs the original (un-normalized) vector of a row.
+     *
+     * @param row the row index
+     * @return a new array holding the vector
+     */
+    double[] vector(int row) {
+        double[] vector = new double[dimensions];
+        double norm = norms[row];
+        int offset = row * dimensions;
+        for (int i = 0; i < dimensions; i++) {
+            vector[i] = (float32 ? floatRows[offset + i] : doubleRows[offset + i]) * norm;
+        }
+        return vector;
+    }
+
+    /**
+     * Finds the rows most similar to a query by cosine similarity.
+     *
+     * <p>Uses a bounded min-heap so only {@code limit} candidates are kept at any time, regardless
+     * of the number of rows.
+     *
+     * @param query the query vector (need not be normalized)
+     * @param limit maximum number of results
+     * @param scoreThreshold minimum similarity, or null for no threshold
+     * @param filter predicate on row indices; rows failing it are skipped
+     * @return the best matches sorted by descending similarity
+     */
+    TopK search(double[] query, int limit, Double scoreThreshold, IntPredicate filter) {
+        Query q = prepare(query);
+        double threshold = scoreThreshold != null ? scoreThreshold : Double.NEGATIVE_INFINITY;
+
+        TopK topK = new TopK(Math.min(limit, size));
+        for (int row = 0; row < size; row++) {
+            if (!filter.test(row)) {
+                continue;
+            }
+            double score = score(q, row);
+            if (score >= threshold) {
+                topK.offer(score, row);
+            }
+        }
+        topK.sortDescending();
+        return topK;
+    }
+
+    /**
+     * Normalizes a query vector once so it can be scored against many rows.
+     *
+     * @param query the query vector (need not be normalized, not modified)
+     * @return the prepared query
+     */
+    Query prepare(double[] query) {
+        double queryNorm = norm(query);
+        double scale = queryNorm == 0.0 ? 0.0 : 1.0 / queryNorm;
+        if (float32) {
+            float[] q = new float[dimensions];
+            for (int i = 0; i < dimensions; i++) {
+                q[i] = (float) (query[i] * scale);
+            }
+            return new Query(q, null);
+        }
+        double[] q = new double[dimensions];
+        for (int i = 0; i < dimensions; i++) {
+            q[i] = query[i] * scale;
+        }
+        return new Query(null, q);
+    }
+
+    /**
+     * Computes the cosine similarity between a prepared query and a row.
+     *
+     * @param query the prepared query
+     * @param row the row index
+     * @return the cosine similarity
+     */
+    double score(Query query, int row) {
+        return float32
+                ? dot(query.floats, floatRows, row * dimensions)
+                : dot(query.doubles, doubleRows, row * dimensions);
+    }
+
+    /**
+     * Computes the cosine similarity between two rows.
+     *
+     * @param a the first row index
+     * @param b the second row index
+     * @return the cosine similarity
+     */
+    double similarity(int a, int b) {
+        int offsetA = a * dimensions;
+        int offsetB = b * dimensions;
+        double sum = 0.0;
+        if (float32) {
+            for (int i = 0; i < dimensions; i++) {
+                sum += floatRows[offsetA + i] * floatRows[offsetB + i];
+            }
+        } else {
+            for (int i = 0; i < dimensions; i++) {
+                sum += doubleRows[offsetA + i] * doubleRows[offsetB + i];
+            }
+        }
+        return sum;
+    }
+
+    private double dot(float[] query, float[] rows, int offset) {
+        // Four independent accumulators let the JIT pipeline (and often vectorize) the loop
+        float s0 = 0f, s1 = 0f, s2 = 0f, s3 = 0f;
+        int i = 0;
+        for (int bound = dimensions & ~3; i < bound; i += 4) {
+            s0 += query[i] * rows[offset + i];
+            s1 += query[i + 1] * rows[offset + i + 1];
+            s2 += query[i + 2] * rows[offset + i + 2];
+            s3 += query[i + 3] * rows[offset + i + 3];
+        }
+        for (; i < dimensions; i++) {
+            s0 += query[i] * rows[offset + i];
+        }
+        return (double) s0 + s1 + s2 + s3;
+    }
+
+    private double dot(double[] query, double[] rows, int offset) {
+        double s0 = 0.0, s1 = 0.0, s2 = 0.0, s3 = 0.0;
+        int i = 0;
+        for (int bound = dimensions & ~3; i < bound; i += 4) {
+            s0 += query[i] * rows[offset + i];
+            s1 += query[i + 1] * rows[offset + i + 1];
+            s2 += query[i + 2] * rows[offset + i + 2];
+            s3 += query[i + 3] * rows[offset + i + 3];
+        }
+        for (; i < dimensions; i++) {
+            s0 += query[i] * rows[offset + i];
+        }
+        return s0 + s1 + s2 + s3;
+    }
+
+    private static double norm(double[] vector) {
+        double sum = 0.0;
+        for (double v : vector) {
+            sum += v * v;
+        }
+        return Math.sqrt(sum);
+    }
+
+    private void ensureCapacity(int rows) {
+        if (rows <= norms.length) {
+            return;
+        }
+        int capacity = Math.max(rows, norms.length + (norms.length >> 1));
+        if (float32) {
+            floatRows = Arrays.copyOf(floatRows, Math.multiplyExact(capacity, dimensions));
+        } else {
+            doubleRows = Arrays.copyOf(doubleRows, Math.multiplyExact(capacity, dimensions));
+        }
+        norms = Arrays.copyOf(norms, capacity);
+    }
+
+    /**
+     * A normalized query vector in the arena's storage precision.
+     *
+     * @param floats the normalized query for float32 arenas, otherwise null
+     * @param doubles the normalized query for double arenas, otherwise null
+     */
+    record Query(float[] floats, double[] doubles) {}
+
+    /** Bounded collection of the highest-scoring rows, backed by a primitive min-heap. */
+    static final class TopK {
+
+        private final double[] scores;
+        private final int[] rows;
+        private int size;
+
+        TopK(int capacity) {
+            this.scores = new double[capacity];
+            this.rows = new int[capacity];
+        }
+
+        /**
+         * Gets the number of collected rows.
+         *
+         * @return the number of collected rows
+         */
+        int size() {
+            return size;
+        }
+
+        /**
+         * Gets the score at a position.
+         *
+         * @param i the position
+         * @return the score
+         */
+        double score(int i) {
+            return scores[i];
+        }
+
+        /**
+         * Gets the row index at a position.
+         *
+         * @param i the position
+         * @return the row index
+         */
+        int row(int i) {
+            return rows[i];
+        }
+
+        void offer(double score, int row) {
+            if (size < scores.length) {
+                scores[size] = score;
+                rows[size] = row;
+                siftUp(size++);
+            } else if (scores.length > 0 && score > scores[0]) {
+                scores[0] = score;
+                rows[0] = row;
+                siftDown(0, size);
+            }
+        }
+
+        /** Sorts the collected rows by descending score (heap sort, in place). */
+        void sortDescending() {
+            for (int end = size - 1; end > 0; end--) {
+                swap(0, end);
+                siftDown(0, end);
+            }
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (scores[parent] <= scores[i]) {
+                    break;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i, int end) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= end) {
+                    break;
+                }
+                int smallest = left;
+                int right = left + 1;
+                if (right < end && scores[right] < scores[left]) {
+                    smallest = right;
+                }
+                if (scores[i] <= scores[smallest]) {
+                    break;
+                }
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            double score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+            int row = rows[a];
+            rows[a] = rows[b];
+            rows[b] = row;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.embedding;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.agentscope.core.message.ContentBlock;
+import io.agentscope.core.message.TextBlock;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests for CachingEmbeddingModel.
+ */
+@Tag("unit")
+@DisplayName("CachingEmbeddingModel Unit Tests")
+class CachingEmbeddingModelTest {
+
+    @Test
+    @DisplayName("Should embed identical content only once")
+    void testMemoryHit() {
+        CountingEmbeddingModel delegate = new CountingEmbeddingModel("model-a", 3);
+        CachingEmbeddingModel model = CachingEmbeddingModel.builder().delegate(delegate).build();
+
+        double[] first = model.embed(text("hello")).block();
+        double[] second = model.embed(text("hello")).block();
+
+        assertArrayEquals(first, second);
+        assertEquals(List.of("hello"), delegate.embedded);
+        CachingEmbeddingModel.Stats stats = model.getStats();
+        assertEquals(1, stats.memoryHits());
+        assertEquals(1, stats.misses());
+        assertEquals(0.5, stats.hitRate(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should return copies that do not affect cached values")
+    void testReturnsCopies() {
+        CachingEmbeddingModel model =
+                CachingEmbeddingModel.builder()
+                        .delegate(new CountingEmbeddingModel("model-a", 3))
+                        .build();
+
+        double[] first = model.embed(text("hello")).block();
+        first[0] = 42.0;
+
+        assertEquals(5.0, model.embed(text("hello")).block()[0]);
+    }
+
+    @Test
+    @DisplayName("Should send only missing and distinct blocks to the delegate")
+    void testBatchOnlyEmbedsMisses() {
+        CountingEmbeddingModel delegate = new CountingEmbeddingModel("model-a", 3);
+        CachingEmbeddingModel model = CachingEmbeddingModel.builder().delegate(delegate).build();
+        model.embed(text("a")).block();
+
+        List<double[]> results =
+                model.embedBatch(List.of(text("a"), text("bb"), text("bb"), text("ccc"))).block();
+
+        assertEquals(4, results.size());
+        assertEquals(1.0, results.get(0)[0]);
+        assertEquals(2.0, results.get(1)[0]);
+        assertEquals(2.0, results.get(2)[0]);
+        assertEquals(3.0, results.get(3)[0]);
+        assertEquals(List.of("a", "bb", "ccc"), delegate.embedded);
+        assertEquals(List.of(2), delegate.batchSizes);
+    }
+
+    @Test
+    @DisplayName("Should key entries by model name and dimensions")
+    void testKeyIncludesModel(@TempDir Path dir) {
+        CountingEmbeddingModel modelA = new CountingEmbeddingModel("model-a", 3);
+        CountingEmbeddingModel modelB = new CountingEmbeddingModel("model-b", 3);
+        CachingEmbeddingModel cacheA =
+                CachingEmbeddingModel.builder().delegate(modelA).cacheDirectory(dir).build();
+        cacheA.embed(text("hello")).block();
+        cacheA.close();
+
+        CachingEmbeddingModel cacheB =
+                CachingEmbeddingModel.builder().delegate(modelB).cacheDirectory(dir).build();
+        cacheB.embed(text("hello")).block();
+
+        assertEquals(List.of("hello"), modelB.embedded);
+    }
+
+    @Test
+    @DisplayName("Should persist embeddings across instances in the disk tier")
+    void testDiskTierSurvivesRestart(@TempDir Path dir) {
+        CachingEmbeddingModel first =
+                CachingEmbeddingModel.builder()
+                        .delegate(new CountingEmbeddingModel("model-a", 3))
+                        .cacheDirectory(dir)
+                        .segmentSize(256)
+                        .build();
+        List<ContentBlock> blocks = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            blocks.add(text("x".repeat(i)));
+        }
+        first.embedBatch(blocks).block();
+        first.close();
+
+        CountingEmbeddingModel delegate = new CountingEmbeddingModel("model-a", 3);
+        CachingEmbeddingModel second =
+                CachingEmbeddingModel.builder()
+                        .delegate(delegate)
+                        .cacheDirectory(dir)
+                        .segmentSize(256)
+                        .build();
+        List<double[]> results = second.embedBatch(blocks).block();
+
+        assertEquals(List.of(), delegate.embedded);
+        for (int i = 0; i < 20; i++) {
+            assertArrayEquals(new double[] {i + 1, 0.5, -1.25}, results.get(i), 1e-6);
+        }
+        assertEquals(20, second.getStats().diskHits());
+        assertEquals(20, second.getStats().diskEntries());
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used entry when full")
+    void testLruEviction() {
+        CountingEmbeddingModel delegate = new CountingEmbeddingModel("model-a", 3);
+        CachingEmbeddingModel model =
+                CachingEmbeddingModel.builder().delegate(delegate).maxEntries(2).build();
+
+        model.embed(text("a")).block();
+        model.embed(text("b")).block();
+        model.embed(text("a")).block();
+        model.embed(text("c")).block(); // evicts "b"
+        model.embed(text("a")).block();
+        model.embed(text("b")).block();
+
+        assertEquals(List.of("a", "b", "c", "b"), delegate.embedded);
+        assertEquals(2, model.getStats().memoryEntries());
+    }
+
+    @Test
+    @DisplayName("Should not cache failed embeddings")
+    void testErrorsNotCached() {
+        CountingEmbeddingModel delegate = new CountingEmbeddingModel("model-a", 3);
+        CachingEmbeddingModel model = CachingEmbeddingModel.builder().delegate(delegate).build();
+
+        StepVerifier.create(model.embed(text("fail"))).expectError().verify();
+        StepVerifier.create(model.embed(text("fail"))).expectError().verify();
+
+        assertEquals(List.of("fail", "fail"), delegate.embedded);
+    }
+
+    @Test
+    @DisplayName("Should fail clearly when the delegate returns too few embeddings")
+    void testBatchSizeMismatch() {
+        CountingEmbeddingModel delegate =
+                new CountingEmbeddingModel("model-a", 3) {
+                    @Override
+                    public Mono<List<double[]>> embedBatch(List<ContentBlock> blocks) {
+                        return super.embedBatch(blocks.subList(0, blocks.size() - 1));
+                    }
+                };
+        CachingEmbeddingModel model = CachingEmbeddingModel.builder().delegate(delegate).build();
+
+        StepVerifier.create(model.embedBatch(List.of(text("a"), text("b"))))
+                .expectErrorSatisfies(
+                        e -> {
+                            assertEquals(EmbeddingException.class, e.getClass());
+                            assertEquals("Expected 2 embeddings, got 1", e.getMessage());
+                        })
+                .verify();
+        assertEquals(0, model.getStats().memoryEntries());
+    }
+
+    @Test
+    @DisplayName("Should validate builder parameters")
+    void testBuilderValidation() {
+        assertThrows(IllegalStateException.class, () -> CachingEmbeddingModel.builder().build());
+        assertThrows(
+                IllegalStateException.class,
+                () ->
+                        CachingEmbeddingModel.builder()
+                                .delegate(new CountingEmbeddingModel("model-a", 3))
+                                .maxEntries(0)
+                                .build());
+    }
+
+    private static TextBlock text(String text) {
+        return TextBlock.builder().text(text).build();
+    }
+
+    /** Embeds a text as {length, 0.5, -1.25} and records every text sent to it. */
+    private static class CountingEmbeddingModel implements EmbeddingModel {
+        private final String name;
+        private final int dimensions;
+        private final List<String> embedded = new ArrayList<>();
+        private final List<Integer> batchSizes = new ArrayList<>();
+
+        CountingEmbeddingModel(String name, int dimensions) {
+            this.name = name;
+            this.dimensions = dimensions;
+        }
+
+        @Override
+        public Mono<double[]> embed(ContentBlock block) {
+            String text = ((TextBlock) block).getText();
+            embedded.add(text);
+            if ("fail".equals(text)) {
+                return Mono.error(new EmbeddingException("failed"));
+            }
+            return Mono.just(new double[] {text.length(), 0.5, -1.25});
+        }
+
+        @Override
+        public Mono<List<double[]>> embedBatch(List<ContentBlock> blocks) {
+            batchSizes.add(blocks.size());
+            return Flux.fromIterable(blocks).concatMap(this::embed).collectList();
+        }
+
+        @Override
+        public String getModelName() {
+            return name;
+        }
+
+        @Override
+        public int getDimensions() {
+            return dimensions;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.embedding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.agentscope.core.message.ContentBlock;
+import io.agentscope.core.message.TextBlock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests for CoalescingEmbeddingModel.
+ */
+@Tag("unit")
+@DisplayName("CoalescingEmbeddingModel Unit Tests")
+class CoalescingEmbeddingModelTest {
+
+    @Test
+    @DisplayName("Should group concurrent embeds into batches of at most maxBatchSize")
+    void testCoalescesConcurrentEmbeds() {
+        LengthEmbeddingModel delegate = new LengthEmbeddingModel();
+        CoalescingEmbeddingModel model =
+                CoalescingEmbeddingModel.builder()
+                        .delegate(delegate)
+                        .maxBatchSize(4)
+                        .maxWait(Duration.ofMillis(200))
+                        .build();
+
+        List<double[]> results =
+                Flux.range(1, 10)
+                        .flatMapSequential(i -> model.embed(text("x".repeat(i))))
+                        .collectList()
+                        .block();
+
+        assertEquals(10, results.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i + 1, results.get(i)[0]);
+        }
+        assertEquals(List.of(4, 4, 2), delegate.batchSizes);
+        model.dispose();
+    }
+
+    @Test
+    @DisplayName("Should retry a failed batch item by item")
+    void testFailedBatchFallsBackToSingleEmbeds() {
+        LengthEmbeddingModel delegate = new LengthEmbeddingModel();
+        CoalescingEmbeddingModel model =
+                CoalescingEmbeddingModel.builder()
+                        .delegate(delegate)
+                        .maxBatchSize(3)
+                        .maxWait(Duration.ofMillis(200))
+                        .build();
+
+        List<Mono<double[]>> calls =
+                List.of(
+                        model.embed(text("a")),
+                        model.embed(text("invalid")),
+                        model.embed(text("abc")));
+
+        StepVerifier.create(
+                        Flux.fromIterable(calls)
+                                .flatMapSequential(call -> call.map(v -> v[0]).onErrorReturn(-1.0)))
+                .expectNext(1.0, -1.0, 3.0)
+                .verifyComplete();
+        model.dispose();
+    }
+
+    @Test
+    @DisplayName("Should pass batch calls straight through")
+    void testEmbedBatchPassThrough() {
+        LengthEmbeddingModel delegate = new LengthEmbeddingModel();
+        CoalescingEmbeddingModel model =
+                CoalescingEmbeddingModel.builder().delegate(delegate).maxBatchSize(2).build();
+
+        StepVerifier.create(model.embedBatch(List.of(text("a"), text("bb"), text("ccc"))))
+                .assertNext(embeddings -> assertEquals(3, embeddings.size()))
+                .verifyComplete();
+        assertEquals(List.of(3), delegate.batchSizes);
+        model.dispose();
+    }
+
+    @Test
+    @DisplayName("Should reject requests after being disposed")
+    void testDisposed() {
+        CoalescingEmbeddingModel model =
+                CoalescingEmbeddingModel.builder().delegate(new LengthEmbeddingModel()).build();
+        model.dispose();
+
+        StepVerifier.create(model.embed(text("a")))
+                .expectErrorSatisfies(
+                        e -> {
+                            assertTrue(e instanceof EmbeddingException);
+                            assertTrue(e.getMessage().contains("full or closed"));
+                        })
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should validate builder parameters")
+    void testBuilderValidation() {
+        assertThrows(IllegalStateException.class, () -> CoalescingEmbeddingModel.builder().build());
+        assertThrows(
+                IllegalStateException.class,
+                () ->
+                        CoalescingEmbeddingModel.builder()
+                                .delegate(new LengthEmbeddingModel())
+                                .maxBatchSize(0)
+                                .build());
+        assertThrows(
+                IllegalStateException.class,
+                () ->
+                        CoalescingEmbeddingModel.builder()
+                                .delegate(new LengthEmbeddingModel())
+                                .maxWait(Duration.ZERO)
+                                .build());
+    }
+
+    private static TextBlock text(String text) {
+        return TextBlock.builder().text(text).build();
+    }
+
+    /** Embeds a text as its length and records the size of every batch call. */
+    private static class LengthEmbeddingModel implements EmbeddingModel {
+        private final List<Integer> batchSizes = new ArrayList<>();
+
+        @Override
+        public Mono<double[]> embed(ContentBlock block) {
+            String text = ((TextBlock) block).getText();
+            if ("invalid".equals(text)) {
+                return Mono.error(new EmbeddingException("invalid input"));
+            }
+            return Mono.just(new double[] {text.length()});
+        }
+
+        @Override
+        public Mono<List<double[]>> embedBatch(List<ContentBlock> blocks) {
+            synchronized (batchSizes) {
+                batchSizes.add(blocks.size());
+            }
+            return Flux.fromIterable(blocks).concatMap(this::embed).collectList();
+        }
+
+        @Override
+        public String getModelName() {
+            return "length";
+        }
+
+        @Override
+        public int getDimensions() {
+            return 1;
+        }
+    }
+}
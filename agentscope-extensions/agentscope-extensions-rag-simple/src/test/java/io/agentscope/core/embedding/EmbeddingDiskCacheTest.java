@@ -0,0 +1,138 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.embedding;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for EmbeddingDiskCache.
+ */
+@Tag("unit")
+@DisplayName("EmbeddingDiskCache Unit Tests")
+class EmbeddingDiskCacheTest {
+
+    /** Header plus two records of three dimensions, so every segment holds two embeddings. */
+    private static final int SEGMENT_SIZE = 16 + 2 * (EmbeddingDiskCache.KEY_SIZE + 4 + 3 * 4);
+
+    @Test
+    @DisplayName("Should keep existing entries when segment numbering has a gap")
+    void testSegmentNumberingGap(@TempDir Path dir) throws Exception {
+        EmbeddingDiskCache cache = new EmbeddingDiskCache(dir, SEGMENT_SIZE);
+        for (int i = 0; i < 4; i++) {
+            cache.put(key(i), vector(i));
+        }
+        cache.close();
+        Files.move(dir.resolve("embeddings-00001.seg"), dir.resolve("embeddings-00002.seg"));
+
+        // Both segments are full, so this put rolls over to a new segment
+        EmbeddingDiskCache reopened = new EmbeddingDiskCache(dir, SEGMENT_SIZE);
+        reopened.put(key(4), vector(4));
+        reopened.close();
+
+        assertTrue(Files.exists(dir.resolve("embeddings-00003.seg")));
+        EmbeddingDiskCache restored = new EmbeddingDiskCache(dir, SEGMENT_SIZE);
+        assertEquals(5, restored.size());
+        for (int i = 0; i < 5; i++) {
+            assertArrayEquals(vector(i), restored.get(key(i)));
+        }
+        restored.close();
+    }
+
+    @Test
+    @DisplayName("Should leave foreign and short files untouched")
+    void testForeignFilesUntouched(@TempDir Path dir) throws Exception {
+        byte[] foreign = "not a segment".getBytes();
+        Files.write(dir.resolve("embeddings-00000.seg"), foreign);
+        Files.write(dir.resolve("embeddings-00001.seg"), new byte[SEGMENT_SIZE]);
+
+        EmbeddingDiskCache cache = new EmbeddingDiskCache(dir, SEGMENT_SIZE);
+        cache.put(key(0), vector(0));
+        cache.close();
+
+        assertArrayEquals(foreign, Files.readAllBytes(dir.resolve("embeddings-00000.seg")));
+        assertArrayEquals(
+                new byte[SEGMENT_SIZE], Files.readAllBytes(dir.resolve("embeddings-00001.seg")));
+        assertTrue(Files.exists(dir.resolve("embeddings-00002.seg")));
+    }
+
+    @Test
+    @DisplayName("Should stop indexing at a record that does not fit the committed length")
+    void testCorruptRecordIgnored(@TempDir Path dir) throws Exception {
+        EmbeddingDiskCache cache = new EmbeddingDiskCache(dir, SEGMENT_SIZE);
+        cache.put(key(0), vector(0));
+        cache.put(key(1), vector(1));
+        cache.close();
+
+        // Give the second record a negative dimension count
+        int secondRecord = 16 + EmbeddingDiskCache.KEY_SIZE + 4 + 3 * 4;
+        try (FileChannel channel =
+                FileChannel.open(dir.resolve("embeddings-00000.seg"), StandardOpenOption.WRITE)) {
+            channel.write(
+                    ByteBuffer.allocate(4).putInt(0, -1),
+                    secondRecord + EmbeddingDiskCache.KEY_SIZE);
+        }
+
+        EmbeddingDiskCache reopened = new EmbeddingDiskCache(dir, SEGMENT_SIZE);
+        assertEquals(1, reopened.size());
+        assertArrayEquals(vector(0), reopened.get(key(0)));
+        assertNull(reopened.get(key(1)));
+
+        // The damaged record is overwritten by the next write
+        reopened.put(key(2), vector(2));
+        reopened.close();
+        EmbeddingDiskCache restored = new EmbeddingDiskCache(dir, SEGMENT_SIZE);
+        assertEquals(2, restored.size());
+        assertArrayEquals(vector(2), restored.get(key(2)));
+        restored.close();
+    }
+
+    @Test
+    @DisplayName("Should refuse to open a directory that is already in use")
+    void testDirectoryLocked(@TempDir Path dir) throws Exception {
+        EmbeddingDiskCache cache = new EmbeddingDiskCache(dir, SEGMENT_SIZE);
+        assertThrows(IOException.class, () -> new EmbeddingDiskCache(dir, SEGMENT_SIZE));
+        cache.close();
+
+        EmbeddingDiskCache reopened = new EmbeddingDiskCache(dir, SEGMENT_SIZE);
+        reopened.close();
+    }
+
+    private static byte[] key(int i) {
+        byte[] key = new byte[EmbeddingDiskCache.KEY_SIZE];
+        key[0] = (byte) i;
+        key[EmbeddingDiskCache.KEY_SIZE - 1] = (byte) (i * 31);
+        return key;
+    }
+
+    private static double[] vector(int i) {
+        return new double[] {i, i + 0.5, -i};
+    }
+}
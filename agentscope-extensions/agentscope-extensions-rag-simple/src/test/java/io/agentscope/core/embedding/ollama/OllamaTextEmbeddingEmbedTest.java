@@ -273,4 +273,35 @@ class OllamaTextEmbeddingEmbedTest {
                     .verify();
         }
     }
+
+    @Test
+    @DisplayName("Should embed several texts with one request")
+    void testEmbedBatchSingleRequest() {
+        List<float[]> mockEmbeddings =
+                Arrays.asList(new float[] {0.1f, 0.2f}, new float[] {0.3f, 0.4f});
+
+        OllamaEmbeddingResponse mockResponse = mock(OllamaEmbeddingResponse.class);
+        when(mockResponse.getEmbeddings()).thenReturn(mockEmbeddings);
+
+        try (MockedConstruction<OllamaHttpClient> mockedConstruction =
+                Mockito.mockConstruction(
+                        OllamaHttpClient.class,
+                        (mock, context) -> when(mock.embed(any())).thenReturn(mockResponse))) {
+
+            StepVerifier.create(
+                            model.embedBatch(
+                                    List.of(
+                                            TextBlock.builder().text("first").build(),
+                                            TextBlock.builder().text("second").build())))
+                    .assertNext(
+                            embeddings -> {
+                                assertEquals(2, embeddings.size());
+                                assertEquals(0.1, embeddings.get(0)[0], 0.001);
+                                assertEquals(0.3, embeddings.get(1)[0], 0.001);
+                            })
+                    .verifyComplete();
+
+            assertEquals(1, mockedConstruction.constructed().size());
+        }
+    }
 }
@@ -20,6 +20,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.openai.models.embeddings.CreateEmbeddingResponse;
@@ -341,4 +343,109 @@ class OpenAITextEmbeddingEmbedTest {
                     .verify();
         }
     }
+
+    @Test
+    @DisplayName("Should embed several texts with one request and keep input order")
+    void testEmbedBatchSingleRequest() {
+        // Results are deliberately returned out of order; index identifies the input
+        Embedding second = mock(Embedding.class);
+        when(second.index()).thenReturn(1L);
+        when(second.embedding()).thenReturn(Arrays.asList(0.4f, 0.5f, 0.6f));
+        Embedding first = mock(Embedding.class);
+        when(first.index()).thenReturn(0L);
+        when(first.embedding()).thenReturn(Arrays.asList(0.1f, 0.2f, 0.3f));
+
+        CreateEmbeddingResponse mockResponse = mock(CreateEmbeddingResponse.class);
+        when(mockResponse.data()).thenReturn(Arrays.asList(second, first));
+
+        try (MockedStatic<com.openai.client.okhttp.OpenAIOkHttpClient> mockedClient =
+                Mockito.mockStatic(com.openai.client.okhttp.OpenAIOkHttpClient.class)) {
+
+            com.openai.client.okhttp.OpenAIOkHttpClient.Builder mockBuilder =
+                    mock(com.openai.client.okhttp.OpenAIOkHttpClient.Builder.class);
+            com.openai.client.OpenAIClient mockOpenAIClient =
+                    mock(com.openai.client.OpenAIClient.class);
+            com.openai.services.blocking.EmbeddingService mockEmbeddings =
+                    mock(com.openai.services.blocking.EmbeddingService.class);
+
+            when(mockBuilder.build()).thenReturn(mockOpenAIClient);
+            when(mockBuilder.apiKey(any())).thenReturn(mockBuilder);
+            when(mockBuilder.baseUrl(any(String.class))).thenReturn(mockBuilder);
+            when(mockBuilder.putHeader(any(), any())).thenReturn(mockBuilder);
+
+            mockedClient
+                    .when(com.openai.client.okhttp.OpenAIOkHttpClient::builder)
+                    .thenReturn(mockBuilder);
+
+            when(mockOpenAIClient.embeddings()).thenReturn(mockEmbeddings);
+            when(mockEmbeddings.create(any(EmbeddingCreateParams.class))).thenReturn(mockResponse);
+
+            StepVerifier.create(
+                            model.embedBatch(
+                                    List.of(
+                                            TextBlock.builder().text("first").build(),
+                                            TextBlock.builder().text("second").build())))
+                    .assertNext(
+                            embeddings -> {
+                                assertEquals(2, embeddings.size());
+                                assertEquals(0.1, embeddings.get(0)[0], 0.001);
+                                assertEquals(0.4, embeddings.get(1)[0], 0.001);
+                            })
+                    .verifyComplete();
+
+            verify(mockEmbeddings, times(1)).create(any(EmbeddingCreateParams.class));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a response whose indices do not cover every input")
+    void testEmbedBatchDuplicateIndex() {
+        Embedding first = mock(Embedding.class);
+        when(first.index()).thenReturn(0L);
+        when(first.embedding()).thenReturn(Arrays.asList(0.1f, 0.2f, 0.3f));
+        Embedding duplicate = mock(Embedding.class);
+        when(duplicate.index()).thenReturn(0L);
+        when(duplicate.embedding()).thenReturn(Arrays.asList(0.4f, 0.5f, 0.6f));
+
+        CreateEmbeddingResponse mockResponse = mock(CreateEmbeddingResponse.class);
+        when(mockResponse.data()).thenReturn(Arrays.asList(first, duplicate));
+
+        try (MockedStatic<com.openai.client.okhttp.OpenAIOkHttpClient> mockedClient =
+                Mockito.mockStatic(com.openai.client.okhttp.OpenAIOkHttpClient.class)) {
+
+            com.openai.client.okhttp.OpenAIOkHttpClient.Builder mockBuilder =
+                    mock(com.openai.client.okhttp.OpenAIOkHttpClient.Builder.class);
+            com.openai.client.OpenAIClient mockOpenAIClient =
+                    mock(com.openai.client.OpenAIClient.class);
+            com.openai.services.blocking.EmbeddingService mockEmbeddings =
+                    mock(com.openai.services.blocking.EmbeddingService.class);
+
+            when(mockBuilder.build()).thenReturn(mockOpenAIClient);
+            when(mockBuilder.apiKey(any())).thenReturn(mockBuilder);
+            when(mockBuilder.baseUrl(any(String.class))).thenReturn(mockBuilder);
+            when(mockBuilder.putHeader(any(), any())).thenReturn(mockBuilder);
+
+            mockedClient
+                    .when(com.openai.client.okhttp.OpenAIOkHttpClient::builder)
+                    .thenReturn(mockBuilder);
+
+            when(mockOpenAIClient.embeddings()).thenReturn(mockEmbeddings);
+            when(mockEmbeddings.create(any(EmbeddingCreateParams.class))).thenReturn(mockResponse);
+
+            StepVerifier.create(
+                            model.embedBatch(
+                                    List.of(
+                                            TextBlock.builder().text("first").build(),
+                                            TextBlock.builder().text("second").build())))
+                    .expectErrorSatisfies(
+                            throwable -> {
+                                assertTrue(throwable instanceof EmbeddingException);
+                                assertTrue(
+                                        throwable
+                                                .getMessage()
+                                                .contains("Invalid or duplicate embedding index"));
+                            })
+                    .verify();
+        }
+    }
 }
@@ -17,21 +17,31 @@ package io.agentscope.core.rag.knowledge;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.agentscope.core.embedding.EmbeddingException;
+import io.agentscope.core.embedding.EmbeddingException;
 import io.agentscope.core.embedding.EmbeddingModel;
 import io.agentscope.core.rag.model.Document;
 import io.agentscope.core.rag.model.DocumentMetadata;
 import io.agentscope.core.rag.model.RetrieveConfig;
+import io.agentscope.core.rag.reader.ReaderInput;
+import io.agentscope.core.rag.reader.SplitStrategy;
+import io.agentscope.core.rag.reader.TextReader;
 import io.agentscope.core.rag.store.InMemoryStore;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -271,6 +281,169 @@ class SimpleKnowledgeTest {
         assertEquals(0, vectorStore.size());
     }
 
+    @Test
+    @DisplayName("Should embed documents in batches of the configured size")
+    void testAddDocumentsInBatches() {
+        SimpleKnowledge kb =
+                SimpleKnowledge.builder()
+                        .embeddingModel(embeddingModel)
+                        .embeddingStore(vectorStore)
+                        .embeddingBatchSize(32)
+                        .build();
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < 70; i++) {
+            documents.add(createDocument("doc" + i, "Content " + i));
+        }
+
+        StepVerifier.create(kb.addDocuments(documents)).verifyComplete();
+
+        assertEquals(List.of(32, 32, 6), embeddingModel.getBatchSizes());
+        assertEquals(70, vectorStore.size());
+        for (Document doc : documents) {
+            assertNotNull(doc.getEmbedding());
+        }
+    }
+
+    @Test
+    @DisplayName("Should not re-embed unchanged documents")
+    void testReindexUsesEmbeddingCache() {
+        // Caching is opt-in
+        assertNull(knowledgeBase.getEmbeddingCacheStats());
+
+        SimpleKnowledge kb =
+                SimpleKnowledge.builder()
+                        .embeddingModel(embeddingModel)
+                        .embeddingStore(vectorStore)
+                        .embeddingCacheSize(100)
+                        .build();
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            documents.add(createDocument("doc" + i, "Content " + i));
+        }
+        kb.addDocuments(documents).block();
+        int batches = embeddingModel.getBatchSizes().size();
+
+        List<Document> reindexed = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            reindexed.add(createDocument("doc" + i, "Content " + i));
+        }
+        StepVerifier.create(kb.addDocuments(reindexed)).verifyComplete();
+
+        assertEquals(batches, embeddingModel.getBatchSizes().size());
+        assertEquals(10, kb.getEmbeddingCacheStats().memoryHits());
+        assertEquals(10, vectorStore.size());
+        kb.close();
+    }
+
+    @Test
+    @DisplayName("Should coalesce concurrent query embeddings into one batch")
+    void testConcurrentRetrievesCoalesced() {
+        SimpleKnowledge kb =
+                SimpleKnowledge.builder()
+                        .embeddingModel(embeddingModel)
+                        .embeddingStore(vectorStore)
+                        .queryBatchWindow(Duration.ofMillis(200))
+                        .build();
+        kb.addDocuments(List.of(createDocument("doc1", "Content"))).block();
+        int before = embeddingModel.getBatchSizes().size();
+
+        RetrieveConfig config = RetrieveConfig.builder().limit(1).scoreThreshold(0.0).build();
+        List<List<Document>> results =
+                Flux.range(0, 5)
+                        .flatMap(i -> kb.retrieve("query " + i, config))
+                        .collectList()
+                        .block();
+
+        assertEquals(5, results.size());
+        List<Integer> batchSizes = embeddingModel.getBatchSizes();
+        assertEquals(List.of(5), batchSizes.subList(before, batchSizes.size()));
+
+        // Closing releases the batching pipeline; later queries fail instead of hanging
+        kb.close();
+        StepVerifier.create(kb.retrieve("query", config))
+                .expectError(EmbeddingException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Should store a document stream batch by batch with bounded buffering")
+    void testAddDocumentStream() {
+        SimpleKnowledge kb =
+                SimpleKnowledge.builder()
+                        .embeddingModel(embeddingModel)
+                        .embeddingStore(vectorStore)
+                        .embeddingBatchSize(10)
+                        .embeddingConcurrency(2)
+                        .build();
+        AtomicInteger emitted = new AtomicInteger();
+        AtomicInteger maxBuffered = new AtomicInteger();
+        Flux<Document> documents =
+                Flux.range(0, 1000)
+                        .map(i -> createDocument("doc" + i, "Content " + i))
+                        .doOnNext(
+                                doc ->
+                                        maxBuffered.accumulateAndGet(
+                                                emitted.incrementAndGet() - vectorStore.size(),
+                                                Math::max));
+
+        StepVerifier.create(kb.addDocumentStream(documents)).verifyComplete();
+
+        assertEquals(1000, vectorStore.size());
+        assertTrue(maxBuffered.get() <= 50, "buffered " + maxBuffered.get() + " documents");
+        assertTrue(embeddingModel.getBatchSizes().stream().allMatch(size -> size <= 10));
+    }
+
+    @Test
+    @DisplayName("Should ingest a streaming reader end to end")
+    void testAddDocumentStreamFromReader() {
+        TextReader reader = new TextReader(50, SplitStrategy.PARAGRAPH, 0);
+        String text = "Paragraph number one.\n\nParagraph number two.\n\n".repeat(40);
+
+        StepVerifier.create(
+                        knowledgeBase.addDocumentStream(
+                                reader.stream(ReaderInput.fromString(text))))
+                .verifyComplete();
+
+        assertEquals(reader.read(ReaderInput.fromString(text)).block().size(), vectorStore.size());
+    }
+
+    @Test
+    @DisplayName("Should fail when the model returns fewer embeddings than documents")
+    void testAddDocumentsEmbeddingCountMismatch() {
+        MockEmbeddingModel shortModel =
+                new MockEmbeddingModel(DIMENSIONS) {
+                    @Override
+                    public Mono<List<double[]>> embedBatch(
+                            List<io.agentscope.core.message.ContentBlock> blocks) {
+                        return super.embedBatch(blocks)
+                                .map(embeddings -> embeddings.subList(1, embeddings.size()));
+                    }
+                };
+        SimpleKnowledge kb =
+                SimpleKnowledge.builder()
+                        .embeddingModel(shortModel)
+                        .embeddingStore(vectorStore)
+                        .build();
+
+        StepVerifier.create(
+                        kb.addDocuments(
+                                List.of(
+                                        createDocument("doc1", "First"),
+                                        createDocument("doc2", "Second"))))
+                .expectError(EmbeddingException.class)
+                .verify();
+        assertEquals(0, vectorStore.size());
+        kb.close();
+    }
+
+    @Test
+    @DisplayName("Should throw error for null document stream")
+    void testAddNullDocumentStream() {
+        StepVerifier.create(knowledgeBase.addDocumentStream(null))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
     /**
      * Creates a test document.
      */
@@ -287,6 +460,7 @@ class SimpleKnowledgeTest {
     private static class MockEmbeddingModel implements EmbeddingModel {
         private final int dimensions;
         private final Map<String, double[]> embeddings = new HashMap<>();
+        private final List<Integer> batchSizes = new ArrayList<>();
         private boolean shouldThrowError = false;
 
         MockEmbeddingModel(int dimensions) {
@@ -315,6 +489,21 @@ class SimpleKnowledgeTest {
             return Mono.error(new UnsupportedOperationException("Unsupported content block type"));
         }
 
+        @Override
+        public Mono<List<double[]>> embedBatch(
+                List<io.agentscope.core.message.ContentBlock> blocks) {
+            synchronized (batchSizes) {
+                batchSizes.add(blocks.size());
+            }
+            return Flux.fromIterable(blocks).concatMap(this::embed).collectList();
+        }
+
+        List<Integer> getBatchSizes() {
+            synchronized (batchSizes) {
+                return new ArrayList<>(batchSizes);
+            }
+        }
+
         @Override
         public String getModelName() {
             return "mock-embedding-model";
@@ -22,10 +22,13 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.agentscope.core.rag.exception.ReaderException;
 import io.agentscope.core.rag.model.Document;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import reactor.test.StepVerifier;
 
 /**
@@ -228,4 +231,80 @@ class TextReaderTest {
         // Original text should be contained in reconstruction (approximately)
         assertTrue(reconstructed.length() > 0);
     }
+
+    @Test
+    @DisplayName("Should stream the same chunks as read for every strategy")
+    void testStreamMatchesRead(@TempDir Path tempDir) throws Exception {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            text.append("Paragraph ").append(i).append(' ').append("word ".repeat(i % 37));
+            text.append(i % 11 == 0 ? "\n  \n\n" : i % 3 == 0 ? "\nnext line" : "\n\n");
+        }
+        text.append("x".repeat(700)).append("\ny").append("z".repeat(300)).append("  \n");
+        Path file = tempDir.resolve("large.txt");
+        Files.writeString(file, text);
+
+        for (SplitStrategy strategy : SplitStrategy.values()) {
+            TextReader reader = new TextReader(120, strategy, 20);
+            ReaderInput input = ReaderInput.fromFile(file);
+
+            List<String> expected = texts(reader.read(input).block());
+            List<String> streamed = texts(reader.stream(input).collectList().block());
+
+            assertEquals(expected, streamed, "strategy " + strategy);
+        }
+    }
+
+    @Test
+    @DisplayName("Should assign sequential chunk IDs and a shared doc ID when streaming")
+    void testStreamMetadata() {
+        TextReader reader = new TextReader(10, SplitStrategy.CHARACTER, 0);
+
+        List<Document> documents =
+                reader.stream(ReaderInput.fromString("a".repeat(35))).collectList().block();
+
+        assertEquals(4, documents.size());
+        for (int i = 0; i < documents.size(); i++) {
+            assertEquals(String.valueOf(i), documents.get(i).getMetadata().getChunkId());
+            assertEquals(
+                    documents.get(0).getMetadata().getDocId(),
+                    documents.get(i).getMetadata().getDocId());
+        }
+    }
+
+    @Test
+    @DisplayName("Should read the input only as far as requested when streaming")
+    void testStreamIsLazy() {
+        TextReader reader = new TextReader(10, SplitStrategy.CHARACTER, 0);
+
+        StepVerifier.create(reader.stream(ReaderInput.fromString("b".repeat(1000))), 2)
+                .expectNextCount(2)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should read the input off the subscribing thread when streaming")
+    void testStreamReadsOnBoundedElastic() {
+        TextReader reader = new TextReader(10, SplitStrategy.CHARACTER, 0);
+
+        String thread =
+                reader.stream(ReaderInput.fromString("c".repeat(100)))
+                        .map(document -> Thread.currentThread().getName())
+                        .blockFirst();
+
+        assertTrue(thread.startsWith("boundedElastic"), thread);
+    }
+
+    @Test
+    @DisplayName("Should return error when streaming null input")
+    void testStreamNullInput() {
+        StepVerifier.create(new TextReader().stream(null))
+                .expectError(ReaderException.class)
+                .verify();
+    }
+
+    private static List<String> texts(List<Document> documents) {
+        return documents.stream().map(doc -> doc.getMetadata().getContentText()).toList();
+    }
 }
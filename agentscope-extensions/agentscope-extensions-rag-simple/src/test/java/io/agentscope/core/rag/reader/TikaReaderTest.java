@@ -41,6 +41,7 @@ import org.apache.tika.mime.MimeTypeException;
 import org.apache.tika.mime.MimeTypes;
 import org.apache.tika.parser.AutoDetectParser;
 import org.apache.tika.parser.ParseContext;
+import org.apache.tika.sax.BodyContentHandler;
 import org.apache.tika.sax.ToXMLContentHandler;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -188,4 +189,31 @@ class TikaReaderTest {
 
         mockStatic.close();
     }
+
+    @Test
+    @DisplayName("Should stream the same chunks as read while parsing")
+    void testStreamMatchesRead() {
+        ReaderInput input = ReaderInput.fromPath("src/test/resources/rag-test.docx");
+
+        List<Document> expected = new TikaReader().read(input).block();
+        List<Document> streamed = new TikaReader().stream(input).collectList().block();
+
+        assertFalse(streamed.isEmpty());
+        assertEquals(expected.size(), streamed.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(
+                    expected.get(i).getMetadata().getContentText(),
+                    streamed.get(i).getMetadata().getContentText());
+        }
+    }
+
+    @Test
+    @DisplayName("Should stop parsing when the stream is cancelled")
+    void testStreamCancel() {
+        TikaReader reader =
+                new TikaReader(20, SplitStrategy.CHARACTER, 0, new BodyContentHandler());
+        ReaderInput input = ReaderInput.fromPath("src/test/resources/rag-test.docx");
+
+        StepVerifier.create(reader.stream(input), 1).expectNextCount(1).thenCancel().verify();
+    }
 }
@@ -0,0 +1,378 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.core.rag.store;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.agentscope.core.message.TextBlock;
+import io.agentscope.core.rag.exception.VectorStoreException;
+import io.agentscope.core.rag.model.Document;
+import io.agentscope.core.rag.model.DocumentMetadata;
+import io.agentscope.core.rag.store.dto.SearchDocumentDto;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests for HnswStore.
+ */
+@Tag("unit")
+@DisplayName("HnswStore Unit Tests")
+class HnswStoreTest {
+
+    private static final int DIMENSIONS = 32;
+
+    private HnswStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = HnswStore.builder().dimensions(DIMENSIONS).m(8).efConstruction(100).build();
+    }
+
+    @Test
+    @DisplayName("Should reject invalid graph parameters")
+    void testInvalidParameters() {
+        assertThrows(
+                IllegalArgumentException.class, () -> HnswStore.builder().dimensions(0).build());
+        assertThrows(IllegalArgumentException.class, () -> HnswStore.builder().m(1).build());
+        assertThrows(IllegalArgumentException.class, () -> HnswStore.builder().efSearch(0).build());
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> HnswStore.builder().efConstruction(0).build());
+    }
+
+    @Test
+    @DisplayName("Should reject embeddings with wrong dimensions")
+    void testDimensionMismatch() {
+        Document doc = createDocument("doc-1", new double[] {1.0, 2.0});
+        StepVerifier.create(store.add(List.of(doc)))
+                .expectError(VectorStoreException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should reach high recall compared to exact search")
+    void testRecallAgainstExactSearch() {
+        Random random = new Random(7);
+        List<Document> documents = randomDocuments(random, 2000);
+        InMemoryStore exact = InMemoryStore.builder().dimensions(DIMENSIONS).build();
+        exact.add(documents).block();
+        store.add(documents).block();
+
+        int limit = 10;
+        int hits = 0;
+        int queries = 50;
+        for (int q = 0; q < queries; q++) {
+            double[] query = randomVector(random);
+            Set<String> expected = ids(search(exact, query, limit, null));
+            List<Document> actual = search(store, query, limit, null);
+            assertEquals(limit, actual.size());
+            for (Document doc : actual) {
+                if (expected.contains(doc.getId())) {
+                    hits++;
+                }
+            }
+        }
+        double recall = (double) hits / (queries * limit);
+        assertTrue(recall >= 0.9, "recall@10 was " + recall);
+    }
+
+    @Test
+    @DisplayName("Should return results sorted by descending score")
+    void testResultsSorted() {
+        store.add(randomDocuments(new Random(1), 200)).block();
+        List<Document> results = search(store, randomVector(new Random(2)), 20, null);
+        for (int i = 1; i < results.size(); i++) {
+            assertTrue(results.get(i - 1).getScore() >= results.get(i).getScore());
+        }
+    }
+
+    @Test
+    @DisplayName("Should exclude deleted documents but keep routing through them")
+    void testDeleteTombstones() {
+        List<Document> documents = randomDocuments(new Random(3), 300);
+        store.add(documents).block();
+        Document target = documents.get(42);
+
+        List<Document> before = search(store, target.getEmbedding(), 1, null);
+        assertEquals(target.getId(), before.get(0).getId());
+
+        assertTrue(store.delete(target.getId()).block());
+        assertFalse(store.delete(target.getId()).block());
+        assertEquals(299, store.size());
+
+        List<Document> after = search(store, target.getEmbedding(), 5, null);
+        assertEquals(5, after.size());
+        assertFalse(ids(after).contains(target.getId()));
+    }
+
+    @Test
+    @DisplayName("Should replace a document added twice with the same ID")
+    void testUpsert() {
+        double[] first = new double[DIMENSIONS];
+        first[0] = 1.0;
+        double[] second = new double[DIMENSIONS];
+        second[1] = 1.0;
+        store.add(List.of(createDocument("doc-1", first))).block();
+        store.add(List.of(createDocument("doc-1", second))).block();
+
+        assertEquals(1, store.size());
+        List<Document> results = search(store, second, 5, null);
+        assertEquals(1, results.size());
+        assertArrayEquals(second, results.get(0).getEmbedding(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should apply score threshold and vector name filter")
+    void testFilters() {
+        List<Document> documents = randomDocuments(new Random(4), 100);
+        for (int i = 0; i < documents.size(); i++) {
+            documents.get(i).setVectorName(i % 2 == 0 ? "even" : "odd");
+        }
+        store.add(documents).block();
+
+        double[] query = documents.get(10).getEmbedding();
+        List<Document> named =
+                store.search(
+                                SearchDocumentDto.builder()
+                                        .queryEmbedding(query)
+                                        .limit(10)
+                                        .vectorName("odd")
+                                        .build())
+                        .block();
+        assertEquals(10, named.size());
+        assertTrue(named.stream().allMatch(doc -> "odd".equals(doc.getVectorName())));
+
+        List<Document> thresholded = search(store, query, 10, 0.99);
+        assertEquals(1, thresholded.size());
+        assertEquals(documents.get(10).getId(), thresholded.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("Should support concurrent inserts and searches")
+    void testConcurrentInserts() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                Random random = new Random(100 + t);
+                List<Document> batch = randomDocuments(random, 100, "t" + t + "-");
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    for (Document doc : batch) {
+                                        store.add(List.of(doc)).block();
+                                        search(store, doc.getEmbedding(), 3, null);
+                                    }
+                                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(400, store.size());
+    }
+
+    @Test
+    @DisplayName("Should restore identical search results from a snapshot")
+    void testSnapshotRoundTrip(@TempDir Path tempDir) throws Exception {
+        List<Document> documents = randomDocuments(new Random(5), 500);
+        documents.get(0).setVectorName("named");
+        store.add(documents).block();
+        store.delete(documents.get(1).getId()).block();
+
+        Path snapshot = tempDir.resolve("index.hnsw");
+        store.saveSnapshot(snapshot);
+        HnswStore restored = HnswStore.loadSnapshot(snapshot);
+
+        assertEquals(store.size(), restored.size());
+        assertEquals(DIMENSIONS, restored.getDimensions());
+        Random random = new Random(6);
+        for (int q = 0; q < 20; q++) {
+            double[] query = randomVector(random);
+            List<Document> expected = search(store, query, 10, null);
+            List<Document> actual = search(restored, query, 10, null);
+            assertEquals(ids(expected), ids(actual));
+            assertEquals(expected.get(0).getScore(), actual.get(0).getScore(), 1e-9);
+        }
+
+        Document first = search(restored, documents.get(0).getEmbedding(), 1, null).get(0);
+        assertEquals("named", first.getVectorName());
+        assertEquals("content-0", ((TextBlock) first.getMetadata().getContent()).getText());
+        assertEquals(0, ((Number) first.getMetadata().getPayload().get("index")).intValue());
+        assertFalse(
+                ids(search(restored, documents.get(1).getEmbedding(), 5, null))
+                        .contains(documents.get(1).getId()));
+    }
+
+    @Test
+    @DisplayName("Should write float32 vectors as floats and restore them exactly")
+    void testFloat32Snapshot(@TempDir Path tempDir) throws Exception {
+        List<Document> documents = randomDocuments(new Random(7), 200);
+        HnswStore floats =
+                HnswStore.builder()
+                        .dimensions(DIMENSIONS)
+                        .m(8)
+                        .efConstruction(100)
+                        .float32(true)
+                        .build();
+        floats.add(documents).block();
+        store.add(documents).block();
+
+        Path floatSnapshot = tempDir.resolve("float.hnsw");
+        Path doubleSnapshot = tempDir.resolve("double.hnsw");
+        floats.saveSnapshot(floatSnapshot);
+        store.saveSnapshot(doubleSnapshot);
+        HnswStore restored = HnswStore.loadSnapshot(floatSnapshot);
+
+        long vectorBytes = 200L * DIMENSIONS * (Double.BYTES - Float.BYTES);
+        assertTrue(Files.size(doubleSnapshot) - Files.size(floatSnapshot) >= vectorBytes);
+        double[] query = randomVector(new Random(8));
+        List<Document> expected = search(floats, query, 10, null);
+        List<Document> actual = search(restored, query, 10, null);
+        assertEquals(ids(expected), ids(actual));
+        assertEquals(expected.get(0).getScore(), actual.get(0).getScore(), 0.0);
+    }
+
+    @Test
+    @DisplayName("Should reclaim tombstoned nodes by compacting the graph")
+    void testCompaction(@TempDir Path tempDir) throws Exception {
+        List<Document> documents = randomDocuments(new Random(9), 100);
+        store.add(documents).block();
+        Path snapshot = tempDir.resolve("index.hnsw");
+        store.saveSnapshot(snapshot);
+        long initialSize = Files.size(snapshot);
+
+        // Re-adding every document tombstones the old nodes; compaction drops them instead of
+        // growing the graph by 100 nodes per round
+        List<Document> latest = documents;
+        for (int round = 0; round < 5; round++) {
+            latest = randomDocuments(new Random(10 + round), 100);
+            store.add(latest).block();
+        }
+        assertTrue(store.needsCompaction());
+        assertTrue(store.compact());
+        assertFalse(store.needsCompaction());
+        store.saveSnapshot(snapshot);
+        assertEquals(100, store.size());
+        assertTrue(Files.size(snapshot) < 3 * initialSize);
+        for (Document doc : latest.subList(0, 10)) {
+            assertEquals(doc.getId(), search(store, doc.getEmbedding(), 1, null).get(0).getId());
+        }
+
+        // Explicit compaction drops the remaining tombstones
+        for (Document doc : latest.subList(0, 50)) {
+            store.delete(doc.getId()).block();
+        }
+        assertFalse(store.needsCompaction());
+        assertTrue(store.compact());
+        store.saveSnapshot(snapshot);
+        assertEquals(50, store.size());
+        assertTrue(Files.size(snapshot) < initialSize * 3 / 4);
+        Document kept = latest.get(60);
+        assertEquals(kept.getId(), search(store, kept.getEmbedding(), 1, null).get(0).getId());
+        assertFalse(
+                ids(search(store, latest.get(0).getEmbedding(), 10, null))
+                        .contains(latest.get(0).getId()));
+    }
+
+    @Test
+    @DisplayName("Should reject files that are not snapshots")
+    void testLoadInvalidSnapshot(@TempDir Path tempDir) throws Exception {
+        Path file = tempDir.resolve("garbage.bin");
+        Files.write(file, new byte[64]);
+        assertThrows(VectorStoreException.class, () -> HnswStore.loadSnapshot(file));
+
+        // Right magic, unknown version
+        Path future = tempDir.resolve("future.bin");
+        Files.write(future, ByteBuffer.allocate(64).putInt(0x484E5357).putInt(99).array());
+        VectorStoreException e =
+                assertThrows(VectorStoreException.class, () -> HnswStore.loadSnapshot(future));
+        assertTrue(e.getMessage().contains("version"));
+    }
+
+    private static List<Document> search(
+            VDBStoreBase target, double[] query, int limit, Double threshold) {
+        return target.search(
+                        SearchDocumentDto.builder()
+                                .queryEmbedding(query)
+                                .limit(limit)
+                                .scoreThreshold(threshold)
+                                .build())
+                .block();
+    }
+
+    private static Set<String> ids(List<Document> documents) {
+        Set<String> ids = new HashSet<>();
+        for (Document doc : documents) {
+            ids.add(doc.getId());
+        }
+        return ids;
+    }
+
+    private static List<Document> randomDocuments(Random random, int count) {
+        return randomDocuments(random, count, "");
+    }
+
+    private static List<Document> randomDocuments(Random random, int count, String prefix) {
+        List<Document> documents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            TextBlock content = TextBlock.builder().text("content-" + i).build();
+            DocumentMetadata metadata =
+                    new DocumentMetadata(content, prefix + "doc-" + i, "0", Map.of("index", i));
+            Document doc = new Document(metadata);
+            doc.setEmbedding(randomVector(random));
+            documents.add(doc);
+        }
+        return documents;
+    }
+
+    private static double[] randomVector(Random random) {
+        double[] vector = new double[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            vector[i] = random.nextGaussian();
+        }
+        return vector;
+    }
+
+    private static Document createDocument(String docId, double[] embedding) {
+        TextBlock textBlock = TextBlock.builder().text("Test content").build();
+        Document doc = new Document(new DocumentMetadata(textBlock, docId, "0"));
+        doc.setEmbedding(embedding);
+        return doc;
+    }
+}
@@ -26,6 +26,7 @@ import io.agentscope.core.rag.exception.VectorStoreException;
 import io.agentscope.core.rag.model.Document;
 import io.agentscope.core.rag.model.DocumentMetadata;
 import io.agentscope.core.rag.store.dto.SearchDocumentDto;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -356,6 +357,89 @@ class InMemoryStoreTest {
         assertEquals(0, store.size());
     }
 
+    @Test
+    @DisplayName("Should keep remaining documents searchable after delete")
+    void testDeleteKeepsOtherDocumentsSearchable() {
+        Document doc1 = createDocument("doc-1", "Content 1", new double[] {1.0, 0.0, 0.0});
+        Document doc2 = createDocument("doc-2", "Content 2", new double[] {0.0, 1.0, 0.0});
+        Document doc3 = createDocument("doc-3", "Content 3", new double[] {0.0, 0.0, 1.0});
+        store.add(List.of(doc1, doc2, doc3)).block();
+
+        // Deleting the first row moves the last row into its slot
+        assertTrue(store.delete(doc1.getId()).block());
+        assertEquals(2, store.size());
+
+        List<Document> results =
+                store.search(
+                                SearchDocumentDto.builder()
+                                        .queryEmbedding(new double[] {0.0, 0.0, 1.0})
+                                        .limit(1)
+                                        .build())
+                        .block();
+        assertEquals(doc3.getId(), results.get(0).getId());
+        assertEquals(1.0, results.get(0).getScore(), 1e-9);
+
+        // The moved row can still be deleted by ID
+        assertTrue(store.delete(doc3.getId()).block());
+        assertFalse(store.delete(doc3.getId()).block());
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    @DisplayName("Should return top-k results and original embeddings")
+    void testTopKWithManyDocuments() {
+        InMemoryStore largeStore = InMemoryStore.builder().dimensions(DIMENSIONS).build();
+        List<Document> docs = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            docs.add(createDocument("doc-" + i, "Content " + i, new double[] {1.0, i, 0.0}));
+        }
+        largeStore.add(docs).block();
+
+        List<Document> results =
+                largeStore
+                        .search(
+                                SearchDocumentDto.builder()
+                                        .queryEmbedding(new double[] {0.0, 1.0, 0.0})
+                                        .limit(5)
+                                        .build())
+                        .block();
+
+        assertEquals(5, results.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(docs.get(99 - i).getId(), results.get(i).getId());
+            assertEquals(99.0 - i, results.get(i).getEmbedding()[1], 1e-9);
+        }
+    }
+
+    @Test
+    @DisplayName("Should search with float32 storage")
+    void testFloat32Storage() {
+        InMemoryStore floatStore =
+                InMemoryStore.builder().dimensions(DIMENSIONS).float32(true).build();
+        Document doc1 = createDocument("doc-1", "Content 1", new double[] {1.0, 2.0, 3.0});
+        Document doc2 = createDocument("doc-2", "Content 2", new double[] {3.0, 2.0, 1.0});
+        floatStore.add(List.of(doc1, doc2)).block();
+
+        List<Document> results =
+                floatStore
+                        .search(
+                                SearchDocumentDto.builder()
+                                        .queryEmbedding(new double[] {1.0, 2.0, 3.0})
+                                        .limit(2)
+                                        .build())
+                        .block();
+
+        assertEquals(2, results.size());
+        assertEquals(doc1.getId(), results.get(0).getId());
+        assertEquals(1.0, results.get(0).getScore(), 1e-6);
+        assertEquals(
+                DistanceCalculator.cosineSimilarity(
+                        new double[] {1.0, 2.0, 3.0}, new double[] {3.0, 2.0, 1.0}),
+                results.get(1).getScore(),
+                1e-6);
+        assertEquals(3.0, results.get(0).getEmbedding()[2], 1e-5);
+    }
+
     @Test
     @DisplayName("Should return false when deleting non-existent document")
     void testDeleteNonExistent() {
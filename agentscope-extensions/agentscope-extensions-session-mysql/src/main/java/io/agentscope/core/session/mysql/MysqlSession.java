@@ -26,12 +26,17 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Pattern;
 import javax.sql.DataSource;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * MySQL database-based session implementation.
@@ -62,6 +67,9 @@ import javax.sql.DataSource;
  *
  * <ul>
  *   <li>True incremental list storage (only INSERTs new items, no read-modify-write)
+ *   <li>Multi-row INSERTs in a single transaction per list save
+ *   <li>Optional in-process cache of list metadata for hot sessions
+ *   <li>Streaming list reads via {@link #streamList(SessionKey, String, Class)}
  *   <li>Type-safe state serialization using Jackson
  *   <li>Automatic table creation
  *   <li>SQL injection prevention through parameterized queries
@@ -89,10 +97,26 @@ public class MysqlSession implements Session {
 
     private static final int MAX_IDENTIFIER_LENGTH = 64; // MySQL identifier length limit
 
+    /** Maximum number of rows written by a single multi-row INSERT statement. */
+    private static final int INSERT_CHUNK_SIZE = 100;
+
+    /**
+     * Maximum number of state data characters written by a single multi-row INSERT statement. At
+     * most 3 bytes each in UTF-8, this keeps a statement under the 4 MB default {@code
+     * max_allowed_packet} of older MySQL servers; a larger item is written on its own.
+     */
+    private static final int INSERT_CHUNK_CHARS = 1 << 20;
+
+    /** JDBC fetch size used when reading list states. */
+    private static final int LIST_FETCH_SIZE = 100;
+
     private final DataSource dataSource;
     private final String databaseName;
     private final String tableName;
 
+    /** Cache of list item counts and hashes, or null if disabled. */
+    private final ListMetadataCache listMetadataCache;
+
     /**
      * Create a MysqlSession with default settings.
      *
@@ -144,11 +168,44 @@ public class MysqlSession implements Session {
             String databaseName,
             String tableName,
             boolean createIfNotExist) {
+        this(dataSource, databaseName, tableName, createIfNotExist, 0);
+    }
+
+    /**
+     * Create a MysqlSession with custom database name, table name, optional auto-creation and a
+     * list metadata cache.
+     *
+     * <p>When {@code listMetadataCacheSize} is positive, the item count and hash of saved list
+     * states are cached in-process for up to that many sessions (least recently used sessions are
+     * evicted). Saving to a hot session then skips the hash and {@code MAX(item_index)} queries.
+     * Only enable the cache when this instance is the sole writer of the sessions it saves;
+     * writes made by other processes are not observed.
+     *
+     * @param dataSource DataSource for database connections
+     * @param databaseName Custom database name (uses default if null or empty)
+     * @param tableName Custom table name (uses default if null or empty)
+     * @param createIfNotExist If true, auto-create database and table; if false, require existing
+     * @param listMetadataCacheSize Maximum number of sessions to cache list metadata for, or 0 to
+     *     disable the cache
+     * @throws IllegalArgumentException if dataSource is null or listMetadataCacheSize is negative
+     * @throws IllegalStateException if createIfNotExist is false and database/table does not exist
+     */
+    public MysqlSession(
+            DataSource dataSource,
+            String databaseName,
+            String tableName,
+            boolean createIfNotExist,
+            int listMetadataCacheSize) {
+        if (listMetadataCacheSize < 0) {
+            throw new IllegalArgumentException("List metadata cache size cannot be negative");
+        }
         if (dataSource == null) {
             throw new IllegalArgumentException("DataSource cannot be null");
         }
 
         this.dataSource = dataSource;
+        this.listMetadataCache =
+                listMetadataCacheSize > 0 ? new ListMetadataCache(listMetadataCacheSize) : null;
         this.databaseName =
                 (databaseName == null || databaseName.trim().isEmpty())
                         ? DEFAULT_DATABASE_NAME
@@ -318,15 +375,24 @@ public class MysqlSession implements Session {
     /**
      * Save a list of state values with hash-based change detection.
      *
-     * <p>This method uses hash-based change detection to handle both append-only and mutable lists:
+     * <p>This method uses hash-based change detection to handle both append-only and mutable lists.
+     * The stored hash is a hash of every item of the list as it was last saved (see {@link
+     * ListHashUtil#computeContentHash}), so it is compared against the hash of the same-length
+     * prefix of the current list, and an item replaced anywhere in the list is detected:
      *
      * <ul>
-     *   <li>If the hash changes (list was modified), all existing items are deleted and rewritten
+     *   <li>If the prefix hash changes (list was modified), all existing items are deleted and
+     *       rewritten
      *   <li>If the list shrinks, all existing items are deleted and rewritten
      *   <li>If the list only grows (append-only), only new items are inserted
      *   <li>If nothing changes, the operation is skipped
      * </ul>
      *
+     * <p>All statements run in a single transaction. Items are written with multi-row {@code
+     * INSERT} statements of up to {@value #INSERT_CHUNK_SIZE} rows and {@value #INSERT_CHUNK_CHARS}
+     * characters of state data each. If the list metadata cache is enabled and holds the list, the
+     * stored hash and item count are not queried.
+     *
      * @param sessionKey the session identifier
      * @param key the state key (e.g., "memory_messages")
      * @param values the list of state values to save
@@ -344,42 +410,59 @@ public class MysqlSession implements Session {
         String hashKey = key + HASH_KEY_SUFFIX;
 
         try (Connection conn = dataSource.getConnection()) {
-            // Compute current hash
-            String currentHash = ListHashUtil.computeHash(values);
-
-            // Get stored hash
-            String storedHash = getStoredHash(conn, sessionId, hashKey);
-
-            // Get existing count
-            int existingCount = getListCount(conn, sessionId, key);
-
-            // Determine if full rewrite is needed
-            boolean needsFullRewrite =
-                    ListHashUtil.needsFullRewrite(
-                            currentHash, storedHash, values.size(), existingCount);
+            conn.setAutoCommit(false);
+            try {
+                // Get stored hash and existing count, from the cache when possible
+                ListMetadata stored =
+                        listMetadataCache != null ? listMetadataCache.get(sessionId, key) : null;
+                if (stored == null) {
+                    String storedHash = getStoredHash(conn, sessionId, hashKey);
+                    stored = new ListMetadata(getListCount(conn, sessionId, key), storedHash);
+                }
+                int existingCount = stored.count();
 
-            if (needsFullRewrite) {
-                // Transaction: delete all + insert all
-                conn.setAutoCommit(false);
-                try {
+                // Compare the stored hash with the hash of the previously saved prefix
+                List<String> jsons = new ArrayList<>(values.size());
+                for (State item : values) {
+                    jsons.add(JsonUtils.getJsonCodec().toJson(item));
+                }
+                String prefixHash =
+                        ListHashUtil.computeContentHash(
+                                jsons.subList(0, Math.min(existingCount, values.size())));
+
+                // Determine if full rewrite is needed
+                boolean needsFullRewrite =
+                        ListHashUtil.needsFullRewrite(
+                                prefixHash, stored.hash(), values.size(), existingCount);
+
+                String currentHash = ListHashUtil.computeContentHash(jsons);
+                if (needsFullRewrite) {
+                    // Delete all + insert all
                     deleteListItems(conn, sessionId, key);
-                    insertAllItems(conn, sessionId, key, values);
+                    insertItems(conn, sessionId, key, jsons, 0);
+                    saveHash(conn, sessionId, hashKey, currentHash);
+                } else if (values.size() > existingCount) {
+                    // Incremental append
+                    List<String> newItems = jsons.subList(existingCount, jsons.size());
+                    insertItems(conn, sessionId, key, newItems, existingCount);
                     saveHash(conn, sessionId, hashKey, currentHash);
-                    conn.commit();
-                } catch (Exception e) {
-                    conn.rollback();
-                    throw e;
-                } finally {
-                    conn.setAutoCommit(true);
                 }
-            } else if (values.size() > existingCount) {
-                // Incremental append
-                List<? extends State> newItems = values.subList(existingCount, values.size());
-                insertItems(conn, sessionId, key, newItems, existingCount);
-                saveHash(conn, sessionId, hashKey, currentHash);
-            }
-            // else: no change, skip
+                // else: no change, skip
 
+                conn.commit();
+                if (listMetadataCache != null) {
+                    listMetadataCache.put(
+                            sessionId, key, new ListMetadata(values.size(), currentHash));
+                }
+            } catch (Exception e) {
+                conn.rollback();
+                if (listMetadataCache != null) {
+                    listMetadataCache.remove(sessionId, key);
+                }
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
         } catch (Exception e) {
             throw new RuntimeException("Failed to save list: " + key, e);
         }
@@ -459,54 +542,56 @@ public class MysqlSession implements Session {
         }
     }
 
-    /**
-     * Insert all items for a list state.
-     *
-     * @param conn database connection
-     * @param sessionId session identifier
-     * @param key the state key
-     * @param values the values to insert
-     */
-    private void insertAllItems(
-            Connection conn, String sessionId, String key, List<? extends State> values)
-            throws Exception {
-        insertItems(conn, sessionId, key, values, 0);
-    }
-
     /**
      * Insert items for a list state starting at a given index.
      *
+     * <p>Items are written with multi-row {@code INSERT ... VALUES (...), (...)} statements of up to
+     * {@value #INSERT_CHUNK_SIZE} rows, so the number of statements sent does not grow with each
+     * item. A statement also ends before its state data exceeds {@value #INSERT_CHUNK_CHARS}
+     * characters, so that large items do not exceed the server's maximum packet size.
+     *
      * @param conn database connection
      * @param sessionId session identifier
      * @param key the state key
-     * @param items the items to insert
+     * @param items the JSON of the items to insert
      * @param startIndex the starting index for item_index
      */
     private void insertItems(
-            Connection conn,
-            String sessionId,
-            String key,
-            List<? extends State> items,
-            int startIndex)
-            throws Exception {
-        String insertSql =
-                "INSERT INTO "
-                        + getFullTableName()
-                        + " (session_id, state_key, item_index, state_data)"
-                        + " VALUES (?, ?, ?, ?)";
+            Connection conn, String sessionId, String key, List<String> items, int startIndex)
+            throws SQLException {
+        int index = startIndex;
+        int from = 0;
+        while (from < items.size()) {
+            int to = from + 1;
+            long chars = items.get(from).length();
+            while (to < items.size()
+                    && to - from < INSERT_CHUNK_SIZE
+                    && chars + items.get(to).length() <= INSERT_CHUNK_CHARS) {
+                chars += items.get(to).length();
+                to++;
+            }
+            List<String> chunk = items.subList(from, to);
+            from = to;
+
+            StringBuilder insertSql =
+                    new StringBuilder("INSERT INTO ")
+                            .append(getFullTableName())
+                            .append(" (session_id, state_key, item_index, state_data) VALUES ");
+            for (int i = 0; i < chunk.size(); i++) {
+                insertSql.append(i == 0 ? "(?, ?, ?, ?)" : ", (?, ?, ?, ?)");
+            }
 
-        try (PreparedStatement stmt = conn.prepareStatement(insertSql)) {
-            int index = startIndex;
-            for (State item : items) {
-                String json = JsonUtils.getJsonCodec().toJson(item);
-                stmt.setString(1, sessionId);
-                stmt.setString(2, key);
-                stmt.setInt(3, index);
-                stmt.setString(4, json);
-                stmt.addBatch();
-                index++;
+            try (PreparedStatement stmt = conn.prepareStatement(insertSql.toString())) {
+                int param = 1;
+                for (String json : chunk) {
+                    stmt.setString(param++, sessionId);
+                    stmt.setString(param++, key);
+                    stmt.setInt(param++, index);
+                    stmt.setString(param++, json);
+                    index++;
+                }
+                stmt.executeUpdate();
             }
-            stmt.executeBatch();
         }
     }
 
@@ -584,6 +669,7 @@ public class MysqlSession implements Session {
 
             stmt.setString(1, sessionId);
             stmt.setString(2, key);
+            stmt.setFetchSize(LIST_FETCH_SIZE);
 
             try (ResultSet rs = stmt.executeQuery()) {
                 List<T> result = new ArrayList<>();
@@ -599,6 +685,59 @@ public class MysqlSession implements Session {
         }
     }
 
+    /**
+     * Stream a list of state values without materializing the whole list.
+     *
+     * <p>Rows are read with a fetch size of {@value #LIST_FETCH_SIZE} and deserialized one at a
+     * time as the subscriber requests them; the connection is held until the stream completes, fails
+     * or is cancelled. With MySQL Connector/J, the fetch size is only honored when the connection
+     * uses {@code useCursorFetch=true}; otherwise the driver buffers the result set.
+     *
+     * @param sessionKey the session identifier
+     * @param key the state key
+     * @param itemType the expected item type
+     * @param <T> the item type
+     * @return Flux emitting the list items in order
+     */
+    public <T extends State> Flux<T> streamList(
+            SessionKey sessionKey, String key, Class<T> itemType) {
+        String sessionId = sessionKey.toIdentifier();
+        validateSessionId(sessionId);
+        validateStateKey(key);
+
+        String selectSql =
+                "SELECT state_data FROM "
+                        + getFullTableName()
+                        + " WHERE session_id = ? AND state_key = ?"
+                        + " ORDER BY item_index";
+
+        return Flux.<T, ListCursor>using(
+                        () -> ListCursor.open(dataSource, selectSql, sessionId, key),
+                        cursor ->
+                                Flux.generate(
+                                        sink -> {
+                                            try {
+                                                if (cursor.resultSet().next()) {
+                                                    String json =
+                                                            cursor.resultSet()
+                                                                    .getString("state_data");
+                                                    sink.next(
+                                                            JsonUtils.getJsonCodec()
+                                                                    .fromJson(json, itemType));
+                                                } else {
+                                                    sink.complete();
+                                                }
+                                            } catch (Exception e) {
+                                                sink.error(
+                                                        new RuntimeException(
+                                                                "Failed to stream list: " + key,
+                                                                e));
+                                            }
+                                        }),
+                        ListCursor::close)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
     @Override
     public boolean exists(SessionKey sessionKey) {
         String sessionId = sessionKey.toIdentifier();
@@ -632,6 +771,10 @@ public class MysqlSession implements Session {
             stmt.setString(1, sessionId);
             stmt.executeUpdate();
 
+            if (listMetadataCache != null) {
+                listMetadataCache.removeSession(sessionId);
+            }
+
         } catch (SQLException e) {
             throw new RuntimeException("Failed to delete session: " + sessionId, e);
         }
@@ -706,7 +849,11 @@ public class MysqlSession implements Session {
         try (Connection conn = dataSource.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(clearSql)) {
 
-            return stmt.executeUpdate();
+            int deleted = stmt.executeUpdate();
+            if (listMetadataCache != null) {
+                listMetadataCache.clear();
+            }
+            return deleted;
 
         } catch (SQLException e) {
             throw new RuntimeException("Failed to clear sessions", e);
@@ -774,4 +921,92 @@ public class MysqlSession implements Session {
                             + identifier);
         }
     }
+
+    /**
+     * Item count and hash of a saved list state.
+     *
+     * @param count number of stored items
+     * @param hash stored list hash, or null if none
+     */
+    private record ListMetadata(int count, String hash) {}
+
+    /**
+     * Bounded, access-ordered cache of list metadata, grouped by session so that a session can be
+     * invalidated in O(1).
+     */
+    private static final class ListMetadataCache {
+
+        private final Map<String, Map<String, ListMetadata>> sessions;
+
+        ListMetadataCache(int maxSessions) {
+            this.sessions =
+                    new LinkedHashMap<>(16, 0.75f, true) {
+                        @Override
+                        protected boolean removeEldestEntry(
+                                Map.Entry<String, Map<String, ListMetadata>> eldest) {
+                            return size() > maxSessions;
+                        }
+                    };
+        }
+
+        synchronized ListMetadata get(String sessionId, String key) {
+            Map<String, ListMetadata> lists = sessions.get(sessionId);
+            return lists != null ? lists.get(key) : null;
+        }
+
+        synchronized void put(String sessionId, String key, ListMetadata metadata) {
+            sessions.computeIfAbsent(sessionId, id -> new HashMap<>()).put(key, metadata);
+        }
+
+        synchronized void remove(String sessionId, String key) {
+            Map<String, ListMetadata> lists = sessions.get(sessionId);
+            if (lists != null) {
+                lists.remove(key);
+            }
+        }
+
+        synchronized void removeSession(String sessionId) {
+            sessions.remove(sessionId);
+        }
+
+        synchronized void clear() {
+            sessions.clear();
+        }
+    }
+
+    /**
+     * Open JDBC resources backing a streamed list read.
+     *
+     * @param connection the connection
+     * @param statement the query statement
+     * @param resultSet the result set being iterated
+     */
+    private record ListCursor(
+            Connection connection, PreparedStatement statement, ResultSet resultSet) {
+
+        static ListCursor open(DataSource dataSource, String sql, String sessionId, String key)
+                throws SQLException {
+            Connection conn = dataSource.getConnection();
+            try {
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                stmt.setString(1, sessionId);
+                stmt.setString(2, key);
+                stmt.setFetchSize(LIST_FETCH_SIZE);
+                return new ListCursor(conn, stmt, stmt.executeQuery());
+            } catch (SQLException e) {
+                conn.close();
+                throw e;
+            }
+        }
+
+        void close() {
+            try (connection;
+                    statement;
+                    resultSet) {
+                // Resources are closed in reverse order by try-with-resources
+            } catch (SQLException e) {
+                // Ignore close failures, the stream has already terminated
+            }
+        }
+    }
 }
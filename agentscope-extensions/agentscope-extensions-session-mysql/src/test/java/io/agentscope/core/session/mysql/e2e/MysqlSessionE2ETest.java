@@ -27,6 +27,7 @@ import io.agentscope.core.state.State;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -39,6 +40,7 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
+import reactor.test.StepVerifier;
 
 /**
  * End-to-end tests for {@link MysqlSession} using an in-memory H2 database in MySQL compatibility
@@ -159,6 +161,117 @@ class MysqlSessionE2ETest {
         assertEquals("item3", allLoaded.get(2).value());
     }
 
+    @Test
+    @DisplayName("Large lists are written in chunks and can be streamed back")
+    void testSaveLargeListAndStream() {
+        System.out.println("\n=== Test: Large List Save and Stream ===");
+
+        dataSource = createH2DataSource();
+        String schemaName = generateSafeIdentifier("AGENTSCOPE_E2E").toUpperCase();
+        String tableName = generateSafeIdentifier("AGENTSCOPE_SESSIONS").toUpperCase();
+        createdSchemaName = schemaName;
+
+        initSchemaAndTable(dataSource, schemaName, tableName);
+        MysqlSession session = new MysqlSession(dataSource, schemaName, tableName, false);
+
+        SessionKey sessionKey = SimpleSessionKey.of("mysql_e2e_large_" + UUID.randomUUID());
+
+        List<TestState> states = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            states.add(new TestState("item" + i, i));
+        }
+        session.save(sessionKey, "stateList", states);
+
+        states.add(new TestState("item250", 250));
+        session.save(sessionKey, "stateList", states);
+
+        List<TestState> loaded = session.getList(sessionKey, "stateList", TestState.class);
+        assertEquals(251, loaded.size());
+        assertEquals("item0", loaded.get(0).value());
+        assertEquals("item250", loaded.get(250).value());
+
+        List<TestState> streamed =
+                session.streamList(sessionKey, "stateList", TestState.class).collectList().block();
+        assertEquals(loaded, streamed);
+
+        StepVerifier.create(session.streamList(sessionKey, "missing", TestState.class))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("List metadata cache keeps appends and rewrites consistent")
+    void testListMetadataCache() {
+        System.out.println("\n=== Test: List Metadata Cache ===");
+
+        dataSource = createH2DataSource();
+        String schemaName = generateSafeIdentifier("AGENTSCOPE_E2E").toUpperCase();
+        String tableName = generateSafeIdentifier("AGENTSCOPE_SESSIONS").toUpperCase();
+        createdSchemaName = schemaName;
+
+        initSchemaAndTable(dataSource, schemaName, tableName);
+        MysqlSession session = new MysqlSession(dataSource, schemaName, tableName, false, 16);
+
+        SessionKey sessionKey = SimpleSessionKey.of("mysql_e2e_cache_" + UUID.randomUUID());
+
+        List<TestState> states = new ArrayList<>();
+        states.add(new TestState("item1", 1));
+        session.save(sessionKey, "stateList", states);
+
+        // Append uses the cached count
+        states.add(new TestState("item2", 2));
+        session.save(sessionKey, "stateList", states);
+        assertEquals(2, session.getList(sessionKey, "stateList", TestState.class).size());
+
+        // Modification triggers a rewrite
+        states.set(0, new TestState("changed", 0));
+        session.save(sessionKey, "stateList", states);
+        List<TestState> loaded = session.getList(sessionKey, "stateList", TestState.class);
+        assertEquals(2, loaded.size());
+        assertEquals("changed", loaded.get(0).value());
+        assertEquals("item2", loaded.get(1).value());
+
+        // Deleting the session invalidates the cached metadata
+        session.delete(sessionKey);
+        session.save(sessionKey, "stateList", List.of(new TestState("fresh", 1)));
+        loaded = session.getList(sessionKey, "stateList", TestState.class);
+        assertEquals(1, loaded.size());
+        assertEquals("fresh", loaded.get(0).value());
+    }
+
+    @Test
+    @DisplayName("In-place edits and large items are written back")
+    void testInPlaceEditAndLargeItems() {
+        System.out.println("\n=== Test: In-Place Edit and Large Items ===");
+
+        dataSource = createH2DataSource();
+        String schemaName = generateSafeIdentifier("AGENTSCOPE_E2E").toUpperCase();
+        String tableName = generateSafeIdentifier("AGENTSCOPE_SESSIONS").toUpperCase();
+        createdSchemaName = schemaName;
+
+        initSchemaAndTable(dataSource, schemaName, tableName);
+        MysqlSession session = new MysqlSession(dataSource, schemaName, tableName, false);
+
+        SessionKey sessionKey = SimpleSessionKey.of("mysql_e2e_edit_" + UUID.randomUUID());
+
+        List<TestState> states = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            states.add(new TestState("item" + i, i));
+        }
+        session.save(sessionKey, "stateList", states);
+
+        // Replace an item that a sampled hash would not look at, and append large items that
+        // need more than one INSERT statement
+        states.set(3, new TestState("summary", 3));
+        String large = "x".repeat(400_000);
+        for (int i = 0; i < 4; i++) {
+            states.add(new TestState(large + i, 20 + i));
+        }
+        session.save(sessionKey, "stateList", states);
+
+        List<TestState> loaded = session.getList(sessionKey, "stateList", TestState.class);
+        assertEquals(states, loaded);
+    }
+
     @Test
     @DisplayName("Session does not exist should return false")
     void testSessionNotExists() {
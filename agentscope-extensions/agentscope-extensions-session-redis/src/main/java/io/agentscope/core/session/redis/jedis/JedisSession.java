@@ -22,14 +22,21 @@ import io.agentscope.core.state.SimpleSessionKey;
 import io.agentscope.core.state.State;
 import io.agentscope.core.util.JsonUtils;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.Transaction;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
 
 /**
  * Redis-based session implementation using Jedis.
@@ -46,6 +53,8 @@ import redis.clients.jedis.JedisPool;
  *
  * <ul>
  *   <li>Incremental list storage (only appends new items)
+ *   <li>Batched writes: one pipelined read and one {@code MULTI} transaction per list save
+ *   <li>Non-blocking key enumeration with {@code SCAN}
  *   <li>Type-safe state serialization using Jackson
  *   <li>Automatic session key tracking
  * </ul>
@@ -56,6 +65,7 @@ public class JedisSession implements Session {
     private static final String KEYS_SUFFIX = ":_keys";
     private static final String LIST_SUFFIX = ":list";
     private static final String HASH_SUFFIX = ":_hash";
+    private static final int SCAN_COUNT = 500;
 
     private final JedisPool jedisPool;
     private final String keyPrefix;
@@ -99,15 +109,22 @@ public class JedisSession implements Session {
     /**
      * Save a list of state values with hash-based change detection.
      *
-     * <p>This method uses hash-based change detection to handle both append-only and mutable lists:
+     * <p>This method uses hash-based change detection to handle both append-only and mutable lists.
+     * The stored hash is a hash of every item of the list as it was last saved (see {@link
+     * ListHashUtil#computeContentHash}), so it is compared against the hash of the same-length
+     * prefix of the current list, and an item replaced anywhere in the list is detected:
      *
      * <ul>
-     *   <li>If the hash changes (list was modified), the Redis list is deleted and recreated
+     *   <li>If the prefix hash changes (list was modified), the Redis list is deleted and recreated
      *   <li>If the list shrinks, the Redis list is deleted and recreated
      *   <li>If the list only grows (append-only), only new items are appended
-     *   <li>If nothing changes, the operation is skipped
+     *   <li>If nothing changes, no items are written
      * </ul>
      *
+     * <p>The stored hash and list length are read in one pipelined round trip, and all writes
+     * (including a variadic {@code RPUSH} of every new item) are sent in a single {@code MULTI}
+     * transaction, so a save costs two round trips regardless of how many items are written.
+     *
      * @param sessionKey the session identifier
      * @param key the state key (e.g., "memory_messages")
      * @param values the list of state values to save
@@ -120,47 +137,65 @@ public class JedisSession implements Session {
         String keysKey = getKeysKey(sessionId);
 
         try (Jedis jedis = jedisPool.getResource()) {
-            // Compute current hash
-            String currentHash = ListHashUtil.computeHash(values);
+            // Read stored hash and current list length in one round trip
+            Pipeline pipeline = jedis.pipelined();
+            Response<String> storedHashResponse = pipeline.get(hashKey);
+            Response<Long> existingCountResponse = pipeline.llen(listKey);
+            pipeline.sync();
 
-            // Get stored hash
-            String storedHash = jedis.get(hashKey);
+            String storedHash = storedHashResponse.get();
+            int existingCount = existingCountResponse.get().intValue();
 
-            // Get current list length
-            long existingCount = jedis.llen(listKey);
+            // Compare the stored hash with the hash of the previously saved prefix
+            List<String> jsons = Arrays.asList(toJsonArray(values));
+            String prefixHash =
+                    ListHashUtil.computeContentHash(
+                            jsons.subList(0, Math.min(existingCount, values.size())));
 
             // Determine if full rewrite is needed
             boolean needsFullRewrite =
                     ListHashUtil.needsFullRewrite(
-                            currentHash, storedHash, values.size(), (int) existingCount);
+                            prefixHash, storedHash, values.size(), existingCount);
+
+            int firstNewItem = needsFullRewrite ? 0 : existingCount;
 
+            Transaction transaction = jedis.multi();
             if (needsFullRewrite) {
                 // Delete and recreate the list
-                jedis.del(listKey);
-                for (State item : values) {
-                    String json = JsonUtils.getJsonCodec().toJson(item);
-                    jedis.rpush(listKey, json);
-                }
-            } else if (values.size() > existingCount) {
-                // Incremental append
-                List<? extends State> newItems = values.subList((int) existingCount, values.size());
-                for (State item : newItems) {
-                    String json = JsonUtils.getJsonCodec().toJson(item);
-                    jedis.rpush(listKey, json);
-                }
+                transaction.del(listKey);
+            }
+            if (values.size() > firstNewItem) {
+                // Push all new items with a single variadic RPUSH
+                transaction.rpush(
+                        listKey,
+                        jsons.subList(firstNewItem, values.size()).toArray(new String[0]));
             }
-            // else: no change, skip
 
             // Update hash
-            jedis.set(hashKey, currentHash);
+            transaction.set(hashKey, ListHashUtil.computeContentHash(jsons));
 
             // Track this key in the session's key set
-            jedis.sadd(keysKey, key + LIST_SUFFIX);
+            transaction.sadd(keysKey, key + LIST_SUFFIX);
+            transaction.exec();
         } catch (Exception e) {
             throw new RuntimeException("Failed to save list: " + key, e);
         }
     }
 
+    /**
+     * Serialize state values to JSON strings.
+     *
+     * @param items the state values
+     * @return array of JSON strings in list order
+     */
+    private static String[] toJsonArray(List<? extends State> items) {
+        String[] jsons = new String[items.size()];
+        for (int i = 0; i < jsons.length; i++) {
+            jsons[i] = JsonUtils.getJsonCodec().toJson(items.get(i));
+        }
+        return jsons;
+    }
+
     @Override
     public <T extends State> Optional<T> get(SessionKey sessionKey, String key, Class<T> type) {
         String sessionId = sessionKey.toIdentifier();
@@ -231,7 +266,9 @@ public class JedisSession implements Session {
                         // It's a list key
                         String baseKey =
                                 trackedKey.substring(0, trackedKey.length() - LIST_SUFFIX.length());
-                        keysToDelete.add(getListKey(sessionId, baseKey));
+                        String listKey = getListKey(sessionId, baseKey);
+                        keysToDelete.add(listKey);
+                        keysToDelete.add(listKey + HASH_SUFFIX);
                     } else {
                         // It's a single state key
                         keysToDelete.add(getStateKey(sessionId, trackedKey));
@@ -249,17 +286,21 @@ public class JedisSession implements Session {
     public Set<SessionKey> listSessionKeys() {
         try (Jedis jedis = jedisPool.getResource()) {
             // Find all session key sets
-            Set<String> keysKeys = jedis.keys(keyPrefix + "*" + KEYS_SUFFIX);
-
             Set<SessionKey> sessionKeys = new HashSet<>();
-            for (String keysKey : keysKeys) {
-                // Extract session ID from the keys key
-                // Pattern: {prefix}{sessionId}:_keys
-                String withoutPrefix = keysKey.substring(keyPrefix.length());
-                String sessionId =
-                        withoutPrefix.substring(0, withoutPrefix.length() - KEYS_SUFFIX.length());
-                sessionKeys.add(SimpleSessionKey.of(sessionId));
-            }
+            scan(
+                    jedis,
+                    keyPrefix + "*" + KEYS_SUFFIX,
+                    keysKeys -> {
+                        for (String keysKey : keysKeys) {
+                            // Extract session ID from the keys key
+                            // Pattern: {prefix}{sessionId}:_keys
+                            String withoutPrefix = keysKey.substring(keyPrefix.length());
+                            String sessionId =
+                                    withoutPrefix.substring(
+                                            0, withoutPrefix.length() - KEYS_SUFFIX.length());
+                            sessionKeys.add(SimpleSessionKey.of(sessionId));
+                        }
+                    });
             return sessionKeys;
         } catch (Exception e) {
             throw new RuntimeException("Failed to list sessions", e);
@@ -280,11 +321,17 @@ public class JedisSession implements Session {
         return Mono.fromSupplier(
                         () -> {
                             try (Jedis jedis = jedisPool.getResource()) {
-                                Set<String> keys = jedis.keys(keyPrefix + "*");
-                                if (!keys.isEmpty()) {
-                                    jedis.del(keys.toArray(new String[0]));
-                                }
-                                return keys.size();
+                                Set<String> deleted = new HashSet<>();
+                                scan(
+                                        jedis,
+                                        keyPrefix + "*",
+                                        keys -> {
+                                            if (!keys.isEmpty()) {
+                                                jedis.del(keys.toArray(new String[0]));
+                                                deleted.addAll(keys);
+                                            }
+                                        });
+                                return deleted.size();
                             } catch (Exception e) {
                                 throw new RuntimeException("Failed to clear sessions", e);
                             }
@@ -292,6 +339,26 @@ public class JedisSession implements Session {
                 .subscribeOn(Schedulers.boundedElastic());
     }
 
+    /**
+     * Iterate over all keys matching a pattern using incremental {@code SCAN}.
+     *
+     * <p>Unlike {@code KEYS}, {@code SCAN} does not block the server on large keyspaces. Keys may
+     * be reported more than once, so consumers should be idempotent.
+     *
+     * @param jedis the Jedis connection
+     * @param pattern the glob-style key pattern
+     * @param pageConsumer consumer invoked with each page of matching keys
+     */
+    private void scan(Jedis jedis, String pattern, Consumer<List<String>> pageConsumer) {
+        ScanParams params = new ScanParams().match(pattern).count(SCAN_COUNT);
+        String cursor = ScanParams.SCAN_POINTER_START;
+        do {
+            ScanResult<String> page = jedis.scan(cursor, params);
+            pageConsumer.accept(page.getResult());
+            cursor = page.getCursor();
+        } while (!ScanParams.SCAN_POINTER_START.equals(cursor));
+    }
+
     /**
      * Get the Redis key for a single state value.
      *
@@ -25,10 +25,13 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import org.redisson.api.RBatch;
 import org.redisson.api.RBucket;
 import org.redisson.api.RKeys;
 import org.redisson.api.RList;
+import org.redisson.api.RListAsync;
 import org.redisson.api.RSet;
+import org.redisson.api.RSetAsync;
 import org.redisson.api.RedissonClient;
 import org.redisson.client.codec.StringCodec;
 import reactor.core.publisher.Mono;
@@ -49,6 +52,8 @@ import reactor.core.scheduler.Schedulers;
  *
  * <ul>
  *   <li>Incremental list storage (only appends new items)
+ *   <li>Batched writes: new list items and key tracking are sent in a single batch
+ *   <li>Non-blocking key enumeration ({@link RKeys#getKeysByPattern} iterates with {@code SCAN})
  *   <li>Type-safe state serialization using Jackson
  *   <li>Automatic session key tracking
  * </ul>
@@ -102,6 +107,18 @@ public class RedissonSession implements Session {
         }
     }
 
+    /**
+     * Save a list of state values, appending only new items.
+     *
+     * <p>The current list length is read first; the new items and the session key tracking update
+     * are then sent together in a single {@link RBatch}, with all new items pushed by one variadic
+     * {@code RPUSH}. A save therefore costs two round trips regardless of how many items are
+     * appended.
+     *
+     * @param sessionKey the session identifier
+     * @param key the state key (e.g., "memory_messages")
+     * @param values the list of state values to save
+     */
     @Override
     public void save(SessionKey sessionKey, String key, List<? extends State> values) {
         String sessionId = sessionKey.toIdentifier();
@@ -114,19 +131,23 @@ public class RedissonSession implements Session {
             // Get current list length to support incremental append
             int existingCount = rList.size();
 
+            RBatch batch = redissonClient.createBatch();
+
             // Only append new items
             if (values.size() > existingCount) {
-                List<? extends State> newItems = values.subList(existingCount, values.size());
-
-                for (State item : newItems) {
-                    String json = JsonUtils.getJsonCodec().toJson(item);
-                    rList.add(json);
+                List<String> newItems = new ArrayList<>(values.size() - existingCount);
+                for (State item : values.subList(existingCount, values.size())) {
+                    newItems.add(JsonUtils.getJsonCodec().toJson(item));
                 }
+                RListAsync<String> batchList = batch.getList(redisKey, StringCodec.INSTANCE);
+                batchList.addAllAsync(newItems);
             }
 
             // Track this key in the session's key set
-            RSet<String> keysSet = redissonClient.getSet(keysKey, StringCodec.INSTANCE);
-            keysSet.add(key + LIST_SUFFIX);
+            RSetAsync<String> keysSet = batch.getSet(keysKey, StringCodec.INSTANCE);
+            keysSet.addAsync(key + LIST_SUFFIX);
+
+            batch.execute();
         } catch (Exception e) {
             throw new RuntimeException("Failed to save list: " + key, e);
         }
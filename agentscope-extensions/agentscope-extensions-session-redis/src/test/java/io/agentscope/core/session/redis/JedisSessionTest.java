@@ -20,12 +20,15 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.atLeast;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.agentscope.core.session.ListHashUtil;
 import io.agentscope.core.session.redis.jedis.JedisSession;
 import io.agentscope.core.state.SessionKey;
 import io.agentscope.core.state.SimpleSessionKey;
@@ -40,6 +43,11 @@ import org.junit.jupiter.api.Test;
 import reactor.test.StepVerifier;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.Transaction;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
 
 /**
  * Unit tests for {@link JedisSession}.
@@ -110,7 +118,8 @@ class JedisSessionTest {
     @DisplayName("Should save and get list state correctly")
     void testSaveAndGetListState() {
         when(jedisPool.getResource()).thenReturn(jedis);
-        when(jedis.llen("agentscope:session:session1:testList:list")).thenReturn(0L);
+        Transaction transaction =
+                mockListSave("agentscope:session:session1:testList:list", null, 0L);
         when(jedis.lrange("agentscope:session:session1:testList:list", 0, -1))
                 .thenReturn(
                         List.of(
@@ -129,8 +138,15 @@ class JedisSessionTest {
         // Save list state
         session.save(sessionKey, "testList", states);
 
-        // Verify rpush was called for each item
-        verify(jedis, atLeast(1)).rpush(anyString(), anyString());
+        // Verify all items were pushed with a single RPUSH in one transaction
+        verify(transaction)
+                .rpush(
+                        "agentscope:session:session1:testList:list",
+                        "{\"value\":\"value1\",\"count\":1}",
+                        "{\"value\":\"value2\",\"count\":2}");
+        verify(transaction).sadd("agentscope:session:session1:_keys", "testList:list");
+        verify(transaction).exec();
+        verify(jedis, never()).rpush(anyString(), anyString());
 
         // Get list state
         List<TestState> loaded = session.getList(sessionKey, "testList", TestState.class);
@@ -139,6 +155,69 @@ class JedisSessionTest {
         assertEquals("value2", loaded.get(1).value());
     }
 
+    @Test
+    @DisplayName("Should append only new items when list grows")
+    void testSaveGrowingListAppendsOnlyNewItems() {
+        when(jedisPool.getResource()).thenReturn(jedis);
+
+        TestState first = new TestState("value1", 1);
+        TestState second = new TestState("value2", 2);
+        String storedHash =
+                ListHashUtil.computeContentHash(List.of("{\"value\":\"value1\",\"count\":1}"));
+        Transaction transaction =
+                mockListSave("agentscope:session:session1:testList:list", storedHash, 1L);
+
+        JedisSession session =
+                JedisSession.builder()
+                        .jedisPool(jedisPool)
+                        .keyPrefix("agentscope:session:")
+                        .build();
+
+        session.save(SimpleSessionKey.of("session1"), "testList", List.of(first, second));
+
+        verify(transaction, never()).del(anyString());
+        verify(transaction)
+                .rpush(
+                        "agentscope:session:session1:testList:list",
+                        "{\"value\":\"value2\",\"count\":2}");
+        verify(transaction)
+                .set(
+                        "agentscope:session:session1:testList:list:_hash",
+                        ListHashUtil.computeContentHash(
+                                List.of(
+                                        "{\"value\":\"value1\",\"count\":1}",
+                                        "{\"value\":\"value2\",\"count\":2}")));
+    }
+
+    @Test
+    @DisplayName("Should rewrite list when stored items were modified")
+    void testSaveModifiedListRewrites() {
+        when(jedisPool.getResource()).thenReturn(jedis);
+
+        String storedHash =
+                ListHashUtil.computeContentHash(List.of("{\"value\":\"old\",\"count\":0}"));
+        Transaction transaction =
+                mockListSave("agentscope:session:session1:testList:list", storedHash, 1L);
+
+        JedisSession session =
+                JedisSession.builder()
+                        .jedisPool(jedisPool)
+                        .keyPrefix("agentscope:session:")
+                        .build();
+
+        session.save(
+                SimpleSessionKey.of("session1"),
+                "testList",
+                List.of(new TestState("value1", 1), new TestState("value2", 2)));
+
+        verify(transaction).del("agentscope:session:session1:testList:list");
+        verify(transaction)
+                .rpush(
+                        "agentscope:session:session1:testList:list",
+                        "{\"value\":\"value1\",\"count\":1}",
+                        "{\"value\":\"value2\",\"count\":2}");
+    }
+
     @Test
     @DisplayName("Should return empty for non-existent state")
     void testGetNonExistentState() {
@@ -235,10 +314,10 @@ class JedisSessionTest {
     void testListSessionKeys() {
         when(jedisPool.getResource()).thenReturn(jedis);
 
-        Set<String> keysKeys = new HashSet<>();
-        keysKeys.add("agentscope:session:session1:_keys");
-        keysKeys.add("agentscope:session:session2:_keys");
-        when(jedis.keys("agentscope:session:*:_keys")).thenReturn(keysKeys);
+        when(jedis.scan(eq(ScanParams.SCAN_POINTER_START), any(ScanParams.class)))
+                .thenReturn(new ScanResult<>("42", List.of("agentscope:session:session1:_keys")));
+        when(jedis.scan(eq("42"), any(ScanParams.class)))
+                .thenReturn(new ScanResult<>("0", List.of("agentscope:session:session2:_keys")));
 
         JedisSession session =
                 JedisSession.builder()
@@ -257,12 +336,20 @@ class JedisSessionTest {
     void testClearAllSessions() {
         when(jedisPool.getResource()).thenReturn(jedis);
 
-        Set<String> allKeys = new HashSet<>();
-        allKeys.add("agentscope:session:s1:module1");
-        allKeys.add("agentscope:session:s1:_keys");
-        allKeys.add("agentscope:session:s2:module1");
-        allKeys.add("agentscope:session:s2:_keys");
-        when(jedis.keys("agentscope:session:*")).thenReturn(allKeys);
+        when(jedis.scan(eq(ScanParams.SCAN_POINTER_START), any(ScanParams.class)))
+                .thenReturn(
+                        new ScanResult<>(
+                                "7",
+                                List.of(
+                                        "agentscope:session:s1:module1",
+                                        "agentscope:session:s1:_keys")));
+        when(jedis.scan(eq("7"), any(ScanParams.class)))
+                .thenReturn(
+                        new ScanResult<>(
+                                "0",
+                                List.of(
+                                        "agentscope:session:s2:module1",
+                                        "agentscope:session:s2:_keys")));
 
         JedisSession session =
                 JedisSession.builder()
@@ -271,6 +358,7 @@ class JedisSessionTest {
                         .build();
 
         StepVerifier.create(session.clearAllSessions()).expectNext(4).verifyComplete();
+        verify(jedis, never()).keys(anyString());
     }
 
     @Test
@@ -285,6 +373,21 @@ class JedisSessionTest {
         verify(jedisPool).close();
     }
 
+    @SuppressWarnings("unchecked")
+    private Transaction mockListSave(String listKey, String storedHash, long existingCount) {
+        Pipeline pipeline = mock(Pipeline.class);
+        Response<String> hashResponse = mock(Response.class);
+        Response<Long> lengthResponse = mock(Response.class);
+        Transaction transaction = mock(Transaction.class);
+        when(jedis.pipelined()).thenReturn(pipeline);
+        when(pipeline.get(listKey + ":_hash")).thenReturn(hashResponse);
+        when(pipeline.llen(listKey)).thenReturn(lengthResponse);
+        when(hashResponse.get()).thenReturn(storedHash);
+        when(lengthResponse.get()).thenReturn(existingCount);
+        when(jedis.multi()).thenReturn(transaction);
+        return transaction;
+    }
+
     /** Simple test state record for testing. */
     public record TestState(String value, int count) implements State {}
 }
@@ -64,15 +64,19 @@ public class AgentscopeA2aAutoConfiguration {
     @Bean
     @ConditionalOnMissingBean
     @ConditionalOnBean(ReActAgent.class)
-    public AgentRunner agentRunnerWithStarterRunner(ObjectProvider<ReActAgent> reActAgentProvider) {
-        return ReActAgentWithStarterRunner.newInstance(reActAgentProvider);
+    public AgentRunner agentRunnerWithStarterRunner(
+            ObjectProvider<ReActAgent> reActAgentProvider, A2aCommonProperties commonProperties) {
+        return ReActAgentWithStarterRunner.newInstance(
+                reActAgentProvider, commonProperties.getAgentWarmPoolSize());
     }
 
     @Bean
     @ConditionalOnMissingBean
     @ConditionalOnBean(ReActAgent.Builder.class)
-    public AgentRunner agentRunnerWithBuilder(ReActAgent.Builder agentBuilder) {
-        return ReActAgentWithBuilderRunner.newInstance(agentBuilder);
+    public AgentRunner agentRunnerWithBuilder(
+            ReActAgent.Builder agentBuilder, A2aCommonProperties commonProperties) {
+        return ReActAgentWithBuilderRunner.newInstance(
+                agentBuilder, commonProperties.getAgentWarmPoolSize());
     }
 
     @Bean
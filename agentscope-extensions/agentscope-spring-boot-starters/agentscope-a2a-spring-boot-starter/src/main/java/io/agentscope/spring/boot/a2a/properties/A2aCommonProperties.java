@@ -46,6 +46,12 @@ public class A2aCommonProperties {
      */
     private boolean requireInnerMessage;
 
+    /**
+     * Max number of idle agents kept for reuse by later tasks in the same A2A context, which continue with the
+     * agent's memory. 0 builds a new agent for each task.
+     */
+    private int agentWarmPoolSize;
+
     public A2aCommonProperties() {}
 
     public boolean isEnabled() {
@@ -88,4 +94,12 @@ public class A2aCommonProperties {
     public void setRequireInnerMessage(boolean requireInnerMessage) {
         this.requireInnerMessage = requireInnerMessage;
     }
+
+    public int getAgentWarmPoolSize() {
+        return agentWarmPoolSize;
+    }
+
+    public void setAgentWarmPoolSize(int agentWarmPoolSize) {
+        this.agentWarmPoolSize = agentWarmPoolSize;
+    }
 }
@@ -40,8 +40,8 @@ public class ReActAgentWithStarterRunner extends BaseReActAgentRunner implements
 
     private final ObjectProvider<ReActAgent> agentBuilder;
 
-    private ReActAgentWithStarterRunner(ObjectProvider<ReActAgent> agentBuilder) {
-        super();
+    private ReActAgentWithStarterRunner(ObjectProvider<ReActAgent> agentBuilder, int warmPoolSize) {
+        super(warmPoolSize);
         this.agentBuilder = agentBuilder;
     }
 
@@ -58,6 +58,20 @@ public class ReActAgentWithStarterRunner extends BaseReActAgentRunner implements
      * @return new {@link ReActAgentWithStarterRunner} instance
      */
     public static ReActAgentWithStarterRunner newInstance(ObjectProvider<ReActAgent> agentBuilder) {
-        return new ReActAgentWithStarterRunner(agentBuilder);
+        return new ReActAgentWithStarterRunner(agentBuilder, 0);
+    }
+
+    /**
+     * Build new {@link ReActAgentWithStarterRunner} instance from
+     * {@link org.springframework.beans.factory.ObjectProvider}, which keeps agents of completed tasks for reuse by
+     * later tasks in the same A2A context.
+     *
+     * @param agentBuilder ObjectProvider of {@link ReActAgent}
+     * @param warmPoolSize max number of idle agents to keep, 0 to build a new agent for each task
+     * @return new {@link ReActAgentWithStarterRunner} instance
+     */
+    public static ReActAgentWithStarterRunner newInstance(
+            ObjectProvider<ReActAgent> agentBuilder, int warmPoolSize) {
+        return new ReActAgentWithStarterRunner(agentBuilder, warmPoolSize);
     }
 }
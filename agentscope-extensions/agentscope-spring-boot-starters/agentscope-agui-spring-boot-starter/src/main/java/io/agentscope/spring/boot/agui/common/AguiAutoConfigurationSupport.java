@@ -0,0 +1,72 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.spring.boot.agui.common;
+
+import io.agentscope.core.agui.encoder.AguiEventBatcher;
+import io.agentscope.core.session.Session;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Bean factories shared by the MVC and WebFlux auto-configurations.
+ */
+public final class AguiAutoConfigurationSupport {
+
+    private AguiAutoConfigurationSupport() {}
+
+    /**
+     * Creates the thread session manager described by the properties.
+     *
+     * <p>When {@code agentscope.agui.passivate-sessions} is enabled, the application must provide
+     * exactly one {@link Session} bean; otherwise evicted sessions would silently be discarded.
+     *
+     * @param props The configuration properties
+     * @param session The session store to passivate thread sessions to, if enabled
+     * @return A new ThreadSessionManager
+     * @throws IllegalStateException if passivation is enabled without a unique Session bean
+     */
+    public static ThreadSessionManager threadSessionManager(
+            AguiProperties props, ObjectProvider<Session> session) {
+        Session store = null;
+        if (props.isPassivateSessions()) {
+            store = session.getIfUnique();
+            if (store == null) {
+                throw new IllegalStateException(
+                        "agentscope.agui.passivate-sessions is enabled, but no unique Session bean"
+                                + " is available to passivate thread sessions to");
+            }
+        }
+        return new ThreadSessionManager(
+                props.getMaxThreadSessions(), props.getSessionTimeoutMinutes(), store);
+    }
+
+    /**
+     * Creates the event batcher described by the properties.
+     *
+     * @param props The configuration properties
+     * @return A new AguiEventBatcher, or null if no positive batch window is configured
+     */
+    public static AguiEventBatcher eventBatcher(AguiProperties props) {
+        Duration window = props.getEventBatchWindow();
+        if (window == null || window.isZero() || window.isNegative()) {
+            return null;
+        }
+        return AguiEventBatcher.builder()
+                .window(window)
+                .maxEvents(props.getEventBatchMaxEvents())
+                .build();
+    }
+}
@@ -94,6 +94,14 @@ public class AguiProperties {
      */
     private int sessionTimeoutMinutes = 30;
 
+    /**
+     * Whether to save thread sessions that are evicted or time out to the application's {@link
+     * io.agentscope.core.session.Session} bean, and restore them on the next request for the
+     * thread, instead of discarding them. Startup fails unless there is a single Session bean. Only
+     * used when serverSideMemory is enabled.
+     */
+    private boolean passivateSessions = false;
+
     /**
      * HTTP header name to read agent ID from. The agent ID can be passed via this header when
      * making requests.
@@ -112,6 +120,19 @@ public class AguiProperties {
      */
     private long sseTimeout = 600000L;
 
+    /**
+     * Window in which streamed events are collected and written to the client with a single
+     * flush, merging consecutive text deltas of a message. Adds up to this much latency to each
+     * event. Set to 0 (default) to write every event as soon as it is emitted.
+     */
+    private Duration eventBatchWindow = Duration.ZERO;
+
+    /**
+     * Maximum number of events in one batch; a full batch is written before its window ends. Only
+     * used when eventBatchWindow is positive.
+     */
+    private int eventBatchMaxEvents = 64;
+
     public String getPathPrefix() {
         return pathPrefix;
     }
@@ -208,6 +229,14 @@ public class AguiProperties {
         this.sessionTimeoutMinutes = sessionTimeoutMinutes;
     }
 
+    public boolean isPassivateSessions() {
+        return passivateSessions;
+    }
+
+    public void setPassivateSessions(boolean passivateSessions) {
+        this.passivateSessions = passivateSessions;
+    }
+
     public String getAgentIdHeader() {
         return agentIdHeader;
     }
@@ -231,4 +260,20 @@ public class AguiProperties {
     public void setSseTimeout(long sseTimeout) {
         this.sseTimeout = sseTimeout;
     }
+
+    public Duration getEventBatchWindow() {
+        return eventBatchWindow;
+    }
+
+    public void setEventBatchWindow(Duration eventBatchWindow) {
+        this.eventBatchWindow = eventBatchWindow;
+    }
+
+    public int getEventBatchMaxEvents() {
+        return eventBatchMaxEvents;
+    }
+
+    public void setEventBatchMaxEvents(int eventBatchMaxEvents) {
+        this.eventBatchMaxEvents = eventBatchMaxEvents;
+    }
 }
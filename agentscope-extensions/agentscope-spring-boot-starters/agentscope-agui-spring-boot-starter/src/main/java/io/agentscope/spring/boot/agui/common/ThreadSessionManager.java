@@ -18,10 +18,24 @@ package io.agentscope.spring.boot.agui.common;
 import io.agentscope.core.ReActAgent;
 import io.agentscope.core.agent.Agent;
 import io.agentscope.core.memory.Memory;
+import io.agentscope.core.session.Session;
+import io.agentscope.core.state.SessionKey;
+import io.agentscope.core.state.SimpleSessionKey;
+import io.agentscope.core.state.State;
+import io.agentscope.core.state.StateModule;
 import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,93 +47,204 @@ import org.slf4j.LoggerFactory;
  * server-side memory is enabled, the same agent instance is reused for requests with the same
  * threadId, preserving conversation history across requests.
  *
+ * <p>Sessions are kept in access order, so that making room for a new session and expiring
+ * inactive ones only visit the sessions that go, never the whole pool. Expired sessions are
+ * removed by a background task as well as when room is needed.
+ *
+ * <p><b>Passivation:</b> Without a session store, a session that is evicted or expires is
+ * discarded and the next request for its thread starts with a fresh agent. With a {@link Session}
+ * store, the agent's state (memory, toolkit, etc.) is saved to the store instead, and restored
+ * into a new agent on the next request for the thread. The number of sessions held in memory then
+ * bounds the heap, not the number of threads. Agents that are not a {@link StateModule} are
+ * discarded as before.
+ *
  * <p><b>Usage:</b>
  *
  * <pre>{@code
- * ThreadSessionManager manager = new ThreadSessionManager(1000, 30);
+ * ThreadSessionManager manager =
+ *         new ThreadSessionManager(1000, 30, new JsonSession(Path.of("agui-sessions")));
  *
- * // Get or create an agent for a thread
+ * // Get or create an agent for a thread, restoring it if it was passivated
  * Agent agent = manager.getOrCreateAgent("thread-123", "default", () -> createAgent());
  *
  * // Check if agent has memory
  * boolean hasMemory = manager.hasMemory("thread-123");
  *
- * // Clean up expired sessions
- * manager.cleanupExpiredSessions();
+ * // Passivate the remaining sessions and stop the expiry task
+ * manager.close();
  * }</pre>
  */
-public class ThreadSessionManager {
+public class ThreadSessionManager implements AutoCloseable {
 
     private static final Logger logger = LoggerFactory.getLogger(ThreadSessionManager.class);
 
+    /** State key of the passivated session's metadata. */
+    static final String THREAD_STATE_KEY = "agui_thread";
+
+    /** Prefix of the session store keys, to keep them apart from other users of the store. */
+    static final String SESSION_KEY_PREFIX = "agui_";
+
     private final Map<String, ThreadSession> sessions = new ConcurrentHashMap<>();
+    // Access-ordered view of the sessions, eldest first; guarded by itself. A thread's entry is
+    // only changed while holding its sessions map entry (inside sessions.compute), so that an
+    // eviction decision cannot race with a request for the same thread.
+    private final LinkedHashMap<String, ThreadSession> accessOrder =
+            new LinkedHashMap<>(16, 0.75f, true);
+    // Saves of evicted sessions in progress, by threadId. Store I/O runs outside the sessions map
+    // entry, so a new session for the thread waits for the save before restoring from the store.
+    private final Map<String, CompletableFuture<Void>> passivations = new ConcurrentHashMap<>();
     private final int maxSessions;
     private final int sessionTimeoutMinutes;
+    private final Session store;
+    private final ScheduledExecutorService expiryScheduler;
+    private final AtomicLong passivatedCount = new AtomicLong();
+    private final AtomicLong rehydratedCount = new AtomicLong();
 
     /**
-     * Creates a new ThreadSessionManager.
+     * Creates a new ThreadSessionManager that discards evicted and expired sessions.
      *
      * @param maxSessions Maximum number of sessions to maintain
      * @param sessionTimeoutMinutes Session timeout in minutes (0 = no timeout)
      */
     public ThreadSessionManager(int maxSessions, int sessionTimeoutMinutes) {
+        this(maxSessions, sessionTimeoutMinutes, null);
+    }
+
+    /**
+     * Creates a new ThreadSessionManager that passivates evicted and expired sessions.
+     *
+     * @param maxSessions Maximum number of sessions to keep in memory
+     * @param sessionTimeoutMinutes Minutes of inactivity after which a session leaves memory (0 =
+     *     no timeout)
+     * @param store Session store to passivate sessions to, or null to discard them
+     */
+    public ThreadSessionManager(int maxSessions, int sessionTimeoutMinutes, Session store) {
         this.maxSessions = maxSessions;
         this.sessionTimeoutMinutes = sessionTimeoutMinutes;
+        this.store = store;
+        if (sessionTimeoutMinutes > 0) {
+            this.expiryScheduler =
+                    Executors.newSingleThreadScheduledExecutor(
+                            r -> {
+                                Thread thread = new Thread(r, "agui-session-expiry");
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+            expiryScheduler.scheduleWithFixedDelay(
+                    this::cleanupExpiredSessionsSafely, 1, 1, TimeUnit.MINUTES);
+        } else {
+            this.expiryScheduler = null;
+        }
     }
 
     /**
      * Get or create an agent for the given threadId.
      *
      * <p>This method is thread-safe. It uses atomic operations to ensure that concurrent requests
-     * for the same threadId will share the same agent instance.
+     * for the same threadId will share the same agent instance. If the thread's session was
+     * passivated, the new agent is restored from the session store. The agent is created and
+     * restored outside the map entry; concurrent requests for the thread wait for it.
      *
      * @param threadId The thread identifier
      * @param agentId The agent type identifier
      * @param agentFactory Factory to create new agents if needed
      * @return The agent for this thread
+     * @throws RuntimeException if the agent factory fails
      */
     public Agent getOrCreateAgent(String threadId, String agentId, Supplier<Agent> agentFactory) {
-        // Clean up if we're at capacity
-        if (sessions.size() >= maxSessions) {
-            cleanupExpiredSessions();
-            // If still at capacity, remove oldest session
-            if (sessions.size() >= maxSessions) {
-                removeOldestSession();
-            }
-        }
-
+        boolean[] created = new boolean[1];
+        boolean[] restore = new boolean[1];
+        AtomicReference<CompletableFuture<Void>> pendingSave = new AtomicReference<>();
         // Use compute() for atomic check-and-update to avoid race conditions
         ThreadSession session =
                 sessions.compute(
                         threadId,
                         (k, existing) -> {
+                            ThreadSession result;
                             if (existing == null) {
-                                // No existing session, create new one
+                                // No session in memory, create one, restoring it if passivated
                                 logger.debug("Creating new session for threadId: {}", threadId);
-                                return new ThreadSession(agentId, agentFactory.get());
-                            }
-                            if (!existing.getAgentId().equals(agentId)) {
+                                result = new ThreadSession(agentId);
+                                restore[0] = true;
+                            } else if (!existing.getAgentId().equals(agentId)) {
                                 // Agent type changed, create new session
                                 logger.debug(
                                         "Agent type changed for threadId {}: {} -> {}",
                                         threadId,
                                         existing.getAgentId(),
                                         agentId);
-                                return new ThreadSession(agentId, agentFactory.get());
+                                result = new ThreadSession(agentId);
+                            } else {
+                                // Same agent type, update access time and reuse
+                                existing.updateLastAccess();
+                                result = existing;
+                            }
+                            if (result != existing) {
+                                created[0] = true;
+                                // The save of an earlier session, taken with the entry so that it
+                                // cannot be one that waits for this session
+                                pendingSave.set(passivations.get(k));
+                            }
+                            synchronized (accessOrder) {
+                                accessOrder.put(threadId, result);
                             }
-                            // Same agent type, update access time and reuse
-                            existing.updateLastAccess();
-                            return existing;
+                            return result;
                         });
+        if (created[0]) {
+            load(threadId, session, agentFactory, restore[0], pendingSave.get());
+        }
+
+        // Make room, oldest sessions first
+        while (getSessionCount() > maxSessions && evictEldest(null)) {
+            // Keep evicting
+        }
 
         return session.getAgent();
     }
 
+    /**
+     * Creates a new session's agent, restoring it from the store if requested, and removes the
+     * session if the factory fails. Waits for the save of an earlier session of the thread first,
+     * so that saves and restores of a thread happen in order.
+     */
+    private void load(
+            String threadId,
+            ThreadSession session,
+            Supplier<Agent> agentFactory,
+            boolean restore,
+            CompletableFuture<Void> pendingSave) {
+        Agent agent;
+        try {
+            agent = agentFactory.get();
+            if (pendingSave != null) {
+                pendingSave.join();
+            }
+            if (restore) {
+                rehydrate(threadId, session.getAgentId(), agent);
+            }
+        } catch (RuntimeException | Error e) {
+            sessions.computeIfPresent(
+                    threadId,
+                    (k, current) -> {
+                        if (current != session) {
+                            return current;
+                        }
+                        synchronized (accessOrder) {
+                            accessOrder.remove(k);
+                        }
+                        return null;
+                    });
+            session.agent.completeExceptionally(e);
+            throw e;
+        }
+        session.agent.complete(agent);
+    }
+
     /**
      * Check if a session exists and has memory for the given threadId.
      *
      * @param threadId The thread identifier
-     * @return true if the session exists and the agent has non-empty memory
+     * @return true if the session is in memory and the agent has non-empty memory
      */
     public boolean hasMemory(String threadId) {
         ThreadSession session = sessions.get(threadId);
@@ -127,7 +252,7 @@ public class ThreadSessionManager {
             return false;
         }
 
-        Agent agent = session.getAgent();
+        Agent agent = session.awaitAgent();
         // Check if the agent has a memory and if it has any messages
         // ReActAgent is the main agent type that has memory
         if (agent instanceof ReActAgent reactAgent) {
@@ -139,26 +264,53 @@ public class ThreadSessionManager {
     }
 
     /**
-     * Get the session for a threadId if it exists.
+     * Get the session for a threadId if it is in memory.
      *
      * @param threadId The thread identifier
-     * @return Optional containing the session, or empty if not found
+     * @return Optional containing the session, or empty if not found or passivated
      */
     public Optional<ThreadSession> getSession(String threadId) {
         return Optional.ofNullable(sessions.get(threadId));
     }
 
     /**
-     * Remove a session by threadId.
+     * Remove a session by threadId, including its passivated state if any.
      *
      * @param threadId The thread identifier
      * @return true if a session was removed
      */
     public boolean removeSession(String threadId) {
-        return sessions.remove(threadId) != null;
+        boolean[] removed = new boolean[1];
+        sessions.computeIfPresent(
+                threadId,
+                (k, session) -> {
+                    synchronized (accessOrder) {
+                        accessOrder.remove(k);
+                    }
+                    removed[0] = true;
+                    return null;
+                });
+        if (store != null) {
+            // Let a save in progress finish, so that it does not bring the state back
+            CompletableFuture<Void> pendingSave = passivations.get(threadId);
+            if (pendingSave != null) {
+                pendingSave.join();
+            }
+            SessionKey key = sessionKey(threadId);
+            if (store.exists(key)) {
+                store.delete(key);
+                removed[0] = true;
+            }
+        }
+        return removed[0];
     }
 
-    /** Clean up sessions that have been inactive for longer than the timeout. */
+    /**
+     * Remove sessions that have been inactive for longer than the timeout, passivating them if a
+     * session store is configured.
+     *
+     * <p>This runs every minute in the background; it only visits the expired sessions.
+     */
     public void cleanupExpiredSessions() {
         if (sessionTimeoutMinutes <= 0) {
             return;
@@ -166,14 +318,8 @@ public class ThreadSessionManager {
 
         Instant cutoff = Instant.now().minusSeconds(sessionTimeoutMinutes * 60L);
         int removed = 0;
-
-        var iterator = sessions.entrySet().iterator();
-        while (iterator.hasNext()) {
-            var entry = iterator.next();
-            if (entry.getValue().getLastAccess().isBefore(cutoff)) {
-                iterator.remove();
-                removed++;
-            }
+        while (evictEldest(cutoff)) {
+            removed++;
         }
 
         if (removed > 0) {
@@ -181,26 +327,134 @@ public class ThreadSessionManager {
         }
     }
 
-    /** Remove the oldest session to make room for new ones. */
-    private void removeOldestSession() {
-        String oldestKey = null;
-        Instant oldestTime = Instant.MAX;
+    private void cleanupExpiredSessionsSafely() {
+        try {
+            cleanupExpiredSessions();
+        } catch (RuntimeException e) {
+            // Keep the schedule alive; the next run retries
+            logger.warn("Failed to clean up expired AG-UI sessions", e);
+        }
+    }
 
-        for (var entry : sessions.entrySet()) {
-            if (entry.getValue().getLastAccess().isBefore(oldestTime)) {
-                oldestTime = entry.getValue().getLastAccess();
-                oldestKey = entry.getKey();
+    /**
+     * Remove the least recently used session, passivating it if a session store is configured.
+     *
+     * @param cutoff If not null, only remove the session if it was last used before this time
+     * @return true if a session was removed or a concurrent change needs the caller to look
+     *     again, false if there is nothing (more) to remove
+     */
+    private boolean evictEldest(Instant cutoff) {
+        String threadId;
+        ThreadSession candidate;
+        synchronized (accessOrder) {
+            Iterator<Map.Entry<String, ThreadSession>> it = accessOrder.entrySet().iterator();
+            if (!it.hasNext()) {
+                return false;
             }
+            Map.Entry<String, ThreadSession> eldest = it.next();
+            threadId = eldest.getKey();
+            candidate = eldest.getValue();
+        }
+        if (cutoff != null && !candidate.getLastAccess().isBefore(cutoff)) {
+            return false;
         }
 
-        if (oldestKey != null) {
-            sessions.remove(oldestKey);
-            logger.debug("Removed oldest session: {}", oldestKey);
+        boolean[] present = new boolean[1];
+        boolean[] evicted = new boolean[1];
+        CompletableFuture<Void> save = store != null ? new CompletableFuture<>() : null;
+        sessions.computeIfPresent(
+                threadId,
+                (k, session) -> {
+                    present[0] = true;
+                    synchronized (accessOrder) {
+                        // A request may have used the session since it was picked
+                        Iterator<String> it = accessOrder.keySet().iterator();
+                        if (session != candidate || !it.hasNext() || !it.next().equals(k)) {
+                            return session;
+                        }
+                        accessOrder.remove(k);
+                    }
+                    // Registered with the removal, so that the next session for the thread waits
+                    // for the state to be saved before restoring it
+                    if (save != null) {
+                        passivations.put(k, save);
+                    }
+                    evicted[0] = true;
+                    return null;
+                });
+        if (!present[0]) {
+            // Left behind by a concurrent clear()
+            synchronized (accessOrder) {
+                accessOrder.remove(threadId, candidate);
+            }
+        }
+        if (evicted[0]) {
+            try {
+                passivate(threadId, candidate);
+            } finally {
+                if (save != null) {
+                    passivations.remove(threadId, save);
+                    save.complete(null);
+                }
+            }
         }
+        return true;
+    }
+
+    /** Saves a session's agent to the store, if there is one and the agent has state. */
+    private void passivate(String threadId, ThreadSession session) {
+        // Waits for the agent if the session is still being created
+        if (store == null || !(session.awaitAgent() instanceof StateModule stateModule)) {
+            logger.debug("Removed session: {}", threadId);
+            return;
+        }
+        try {
+            SessionKey key = sessionKey(threadId);
+            stateModule.saveTo(store, key);
+            store.save(key, THREAD_STATE_KEY, new PassivatedThread(session.getAgentId()));
+            passivatedCount.incrementAndGet();
+            logger.debug("Passivated session: {}", threadId);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to passivate session {}, discarding it", threadId, e);
+        }
+    }
+
+    /** Restores a new session's agent from the store, if the thread was passivated. */
+    private void rehydrate(String threadId, String agentId, Agent agent) {
+        if (store == null || !(agent instanceof StateModule stateModule)) {
+            return;
+        }
+        SessionKey key = sessionKey(threadId);
+        try {
+            Optional<PassivatedThread> passivated =
+                    store.get(key, THREAD_STATE_KEY, PassivatedThread.class);
+            if (passivated.isEmpty()) {
+                return;
+            }
+            if (!agentId.equals(passivated.get().agentId())) {
+                // Saved by another agent type, whose state does not apply
+                logger.debug(
+                        "Agent type changed for passivated threadId {}: {} -> {}",
+                        threadId,
+                        passivated.get().agentId(),
+                        agentId);
+                store.delete(key);
+                return;
+            }
+            stateModule.loadFrom(store, key);
+            rehydratedCount.incrementAndGet();
+            logger.debug("Rehydrated session: {}", threadId);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to rehydrate session {}, starting a new one", threadId, e);
+        }
+    }
+
+    private static SessionKey sessionKey(String threadId) {
+        return SimpleSessionKey.of(SESSION_KEY_PREFIX + threadId);
     }
 
     /**
-     * Get the current number of active sessions.
+     * Get the current number of sessions in memory.
      *
      * @return Number of sessions
      */
@@ -208,21 +462,70 @@ public class ThreadSessionManager {
         return sessions.size();
     }
 
-    /** Clear all sessions. */
+    /**
+     * Get the number of sessions saved to the session store so far.
+     *
+     * @return Number of passivations
+     */
+    public long getPassivatedCount() {
+        return passivatedCount.get();
+    }
+
+    /**
+     * Get the number of sessions restored from the session store so far.
+     *
+     * @return Number of rehydrations
+     */
+    public long getRehydratedCount() {
+        return rehydratedCount.get();
+    }
+
+    /** Clear all sessions in memory, without passivating them. Passivated state is kept. */
     public void clear() {
-        sessions.clear();
+        // Entry by entry, taking the map entry before the access order like every other change
+        for (String threadId : sessions.keySet()) {
+            sessions.computeIfPresent(
+                    threadId,
+                    (k, session) -> {
+                        synchronized (accessOrder) {
+                            accessOrder.remove(k);
+                        }
+                        return null;
+                    });
+        }
     }
 
+    /**
+     * Stop the background expiry and passivate all sessions in memory, if a session store is
+     * configured, so that they can be restored after a restart.
+     */
+    @Override
+    public void close() {
+        if (expiryScheduler != null) {
+            expiryScheduler.shutdownNow();
+        }
+        while (evictEldest(null)) {
+            // Keep evicting
+        }
+    }
+
+    /**
+     * Metadata of a passivated session.
+     *
+     * @param agentId The agent type identifier the state was saved from
+     */
+    record PassivatedThread(String agentId) implements State {}
+
     /** Represents a thread session with its agent and metadata. */
     public static class ThreadSession {
 
         private final String agentId;
-        private final Agent agent;
-        private Instant lastAccess;
+        // Completed once the agent is created and restored, outside the sessions map entry
+        private final CompletableFuture<Agent> agent = new CompletableFuture<>();
+        private volatile Instant lastAccess;
 
-        ThreadSession(String agentId, Agent agent) {
+        ThreadSession(String agentId) {
             this.agentId = agentId;
-            this.agent = agent;
             this.lastAccess = Instant.now();
         }
 
@@ -230,8 +533,26 @@ public class ThreadSessionManager {
             return agentId;
         }
 
+        /**
+         * Get the agent, waiting for it if the session is still being created.
+         *
+         * @return The agent of this session
+         * @throws RuntimeException if the agent factory failed
+         */
         public Agent getAgent() {
-            return agent;
+            try {
+                return agent.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        /** Waits for the agent, returning null if the agent factory failed. */
+        Agent awaitAgent() {
+            return agent.exceptionally(e -> null).join();
         }
 
         public Instant getLastAccess() {
@@ -18,8 +18,11 @@ package io.agentscope.spring.boot.agui.mvc;
 import io.agentscope.core.agent.Agent;
 import io.agentscope.core.agui.adapter.AguiAdapterConfig;
 import io.agentscope.core.agui.registry.AguiAgentRegistry;
+import io.agentscope.core.session.Session;
+import io.agentscope.spring.boot.agui.common.AguiAutoConfigurationSupport;
 import io.agentscope.spring.boot.agui.common.AguiProperties;
 import io.agentscope.spring.boot.agui.common.ThreadSessionManager;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -53,13 +56,15 @@ public class AgentscopeAguiMvcAutoConfiguration {
      * Creates the thread session manager bean.
      *
      * @param props The configuration properties
+     * @param session The session store to passivate thread sessions to, if enabled
      * @return A new ThreadSessionManager
+     * @throws IllegalStateException if passivation is enabled without a unique Session bean
      */
     @Bean
     @ConditionalOnMissingBean
-    public ThreadSessionManager threadSessionManager(AguiProperties props) {
-        return new ThreadSessionManager(
-                props.getMaxThreadSessions(), props.getSessionTimeoutMinutes());
+    public ThreadSessionManager threadSessionManager(
+            AguiProperties props, ObjectProvider<Session> session) {
+        return AguiAutoConfigurationSupport.threadSessionManager(props, session);
     }
 
     /**
@@ -90,6 +95,7 @@ public class AgentscopeAguiMvcAutoConfiguration {
                 .serverSideMemory(props.isServerSideMemory())
                 .agentIdHeader(props.getAgentIdHeader())
                 .sseTimeout(props.getSseTimeout())
+                .eventBatcher(AguiAutoConfigurationSupport.eventBatcher(props))
                 .config(config)
                 .build();
     }
@@ -17,6 +17,7 @@ package io.agentscope.spring.boot.agui.mvc;
 
 import io.agentscope.core.agui.AguiException;
 import io.agentscope.core.agui.adapter.AguiAdapterConfig;
+import io.agentscope.core.agui.encoder.AguiEventBatcher;
 import io.agentscope.core.agui.encoder.AguiEventEncoder;
 import io.agentscope.core.agui.event.AguiEvent;
 import io.agentscope.core.agui.model.RunAgentInput;
@@ -25,20 +26,26 @@ import io.agentscope.core.agui.registry.AguiAgentRegistry;
 import io.agentscope.spring.boot.agui.common.DefaultAgentResolver;
 import io.agentscope.spring.boot.agui.common.ThreadSessionManager;
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 
 /**
  * MVC controller for AG-UI protocol requests.
  *
  * <p>This controller processes AG-UI run requests and returns Server-Sent Events (SSE)
- * streams with AG-UI protocol events using Spring MVC's {@link SseEmitter}.
+ * streams with AG-UI protocol events using Spring MVC's {@link SseEmitter}. Events are encoded
+ * straight to bytes and each frame, or each batch of frames when an {@link AguiEventBatcher} is
+ * set, is sent with one flush.
  *
  * <p><b>Agent ID Resolution Priority:</b>
  * <ol>
@@ -68,6 +75,7 @@ public class AguiMvcController {
     private final AguiEventEncoder encoder;
     private final String agentIdHeader;
     private final long sseTimeout;
+    private final AguiEventBatcher eventBatcher;
     private final ExecutorService executorService;
 
     private AguiMvcController(Builder builder) {
@@ -88,6 +96,7 @@ public class AguiMvcController {
         this.agentIdHeader =
                 builder.agentIdHeader != null ? builder.agentIdHeader : DEFAULT_AGENT_ID_HEADER;
         this.sseTimeout = builder.sseTimeout > 0 ? builder.sseTimeout : 600000L;
+        this.eventBatcher = builder.eventBatcher;
         this.executorService = Executors.newCachedThreadPool();
     }
 
@@ -152,29 +161,29 @@ public class AguiMvcController {
                                 });
 
                         // Subscribe to event stream from the same result
+                        Flux<List<AguiEvent>> batches =
+                                eventBatcher != null
+                                        ? eventBatcher.batch(result.events())
+                                        : result.events().map(List::of);
                         subscription =
-                                result.events()
-                                        .subscribe(
-                                                event -> sendEvent(emitter, event),
-                                                error -> {
-                                                    logger.error(
-                                                            "Error during AG-UI run: {}",
-                                                            error.getMessage());
-                                                    sendErrorAndComplete(
-                                                            emitter,
-                                                            threadId,
-                                                            runId,
-                                                            error.getMessage());
-                                                },
-                                                () -> {
-                                                    try {
-                                                        emitter.complete();
-                                                    } catch (Exception e) {
-                                                        logger.debug(
-                                                                "Error completing emitter: {}",
-                                                                e.getMessage());
-                                                    }
-                                                });
+                                batches.subscribe(
+                                        batch -> sendEvents(emitter, batch),
+                                        error -> {
+                                            logger.error(
+                                                    "Error during AG-UI run: {}",
+                                                    error.getMessage());
+                                            sendErrorAndComplete(
+                                                    emitter, threadId, runId, error.getMessage());
+                                        },
+                                        () -> {
+                                            try {
+                                                emitter.complete();
+                                            } catch (Exception e) {
+                                                logger.debug(
+                                                        "Error completing emitter: {}",
+                                                        e.getMessage());
+                                            }
+                                        });
 
                     } catch (AguiException.AgentNotFoundException e) {
                         logger.error("Agent not found: {}", e.getMessage());
@@ -188,10 +197,13 @@ public class AguiMvcController {
         return emitter;
     }
 
-    private void sendEvent(SseEmitter emitter, AguiEvent event) {
+    private void sendEvents(SseEmitter emitter, List<AguiEvent> events) {
         try {
-            String jsonData = encoder.encodeToJson(event);
-            emitter.send(SseEmitter.event().data(jsonData, MediaType.APPLICATION_JSON));
+            // The frames are pre-encoded, so they are written as they are and flushed once
+            emitter.send(
+                    Set.of(
+                            new ResponseBodyEmitter.DataWithMediaType(
+                                    encoder.encodeToBytes(events), MediaType.TEXT_EVENT_STREAM)));
         } catch (IOException e) {
             logger.debug("Failed to send SSE event: {}", e.getMessage());
         }
@@ -244,6 +256,7 @@ public class AguiMvcController {
         private boolean serverSideMemory = false;
         private String agentIdHeader;
         private long sseTimeout = 600000L;
+        private AguiEventBatcher eventBatcher;
 
         /**
          * Set the agent registry.
@@ -311,6 +324,17 @@ public class AguiMvcController {
             return this;
         }
 
+        /**
+         * Set the batcher that groups streamed events into batches sent with a single flush.
+         *
+         * @param eventBatcher The event batcher, or null to send every event on its own (default)
+         * @return This builder
+         */
+        public Builder eventBatcher(AguiEventBatcher eventBatcher) {
+            this.eventBatcher = eventBatcher;
+            return this;
+        }
+
         /**
          * Build the controller.
          *
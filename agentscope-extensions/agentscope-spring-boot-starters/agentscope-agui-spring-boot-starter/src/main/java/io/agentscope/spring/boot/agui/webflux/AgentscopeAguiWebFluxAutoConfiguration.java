@@ -18,8 +18,11 @@ package io.agentscope.spring.boot.agui.webflux;
 import io.agentscope.core.agent.Agent;
 import io.agentscope.core.agui.adapter.AguiAdapterConfig;
 import io.agentscope.core.agui.registry.AguiAgentRegistry;
+import io.agentscope.core.session.Session;
+import io.agentscope.spring.boot.agui.common.AguiAutoConfigurationSupport;
 import io.agentscope.spring.boot.agui.common.AguiProperties;
 import io.agentscope.spring.boot.agui.common.ThreadSessionManager;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -56,13 +59,15 @@ public class AgentscopeAguiWebFluxAutoConfiguration {
      * Creates the thread session manager bean.
      *
      * @param props The configuration properties
+     * @param session The session store to passivate thread sessions to, if enabled
      * @return A new ThreadSessionManager
+     * @throws IllegalStateException if passivation is enabled without a unique Session bean
      */
     @Bean
     @ConditionalOnMissingBean
-    public ThreadSessionManager threadSessionManager(AguiProperties props) {
-        return new ThreadSessionManager(
-                props.getMaxThreadSessions(), props.getSessionTimeoutMinutes());
+    public ThreadSessionManager threadSessionManager(
+            AguiProperties props, ObjectProvider<Session> session) {
+        return AguiAutoConfigurationSupport.threadSessionManager(props, session);
     }
 
     /**
@@ -93,6 +98,7 @@ public class AgentscopeAguiWebFluxAutoConfiguration {
                 .serverSideMemory(props.isServerSideMemory())
                 .agentIdHeader(props.getAgentIdHeader())
                 .config(config)
+                .eventBatcher(AguiAutoConfigurationSupport.eventBatcher(props))
                 .build();
     }
 
@@ -17,6 +17,7 @@ package io.agentscope.spring.boot.agui.webflux;
 
 import io.agentscope.core.agui.AguiException;
 import io.agentscope.core.agui.adapter.AguiAdapterConfig;
+import io.agentscope.core.agui.encoder.AguiEventBatcher;
 import io.agentscope.core.agui.encoder.AguiEventEncoder;
 import io.agentscope.core.agui.event.AguiEvent;
 import io.agentscope.core.agui.model.RunAgentInput;
@@ -24,21 +25,28 @@ import io.agentscope.core.agui.processor.AguiRequestProcessor;
 import io.agentscope.core.agui.registry.AguiAgentRegistry;
 import io.agentscope.spring.boot.agui.common.DefaultAgentResolver;
 import io.agentscope.spring.boot.agui.common.ThreadSessionManager;
+import java.util.List;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
 import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.BodyInserter;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * WebFlux handler for AG-UI protocol requests.
  *
  * <p>This handler processes AG-UI run requests and returns Server-Sent Events (SSE)
- * streams with AG-UI protocol events.
+ * streams with AG-UI protocol events. Events are encoded straight to bytes and each frame, or
+ * each batch of frames when an {@link AguiEventBatcher} is set, is written with one flush. Agents
+ * are resolved on {@link Schedulers#boundedElastic()}, since creating or restoring a thread's
+ * agent may block.
  *
  * <p><b>Agent ID Resolution Priority:</b>
  * <ol>
@@ -73,6 +81,7 @@ public class AguiWebFluxHandler {
     private final AguiRequestProcessor processor;
     private final AguiEventEncoder encoder;
     private final String agentIdHeader;
+    private final AguiEventBatcher eventBatcher;
 
     private AguiWebFluxHandler(Builder builder) {
         this.processor =
@@ -91,6 +100,7 @@ public class AguiWebFluxHandler {
         this.encoder = new AguiEventEncoder();
         this.agentIdHeader =
                 builder.agentIdHeader != null ? builder.agentIdHeader : DEFAULT_AGENT_ID_HEADER;
+        this.eventBatcher = builder.eventBatcher;
     }
 
     /**
@@ -128,44 +138,54 @@ public class AguiWebFluxHandler {
             RunAgentInput input, ServerRequest request, String pathAgentId) {
         String threadId = input.getThreadId();
         String runId = input.getRunId();
+        String headerAgentId = request.headers().firstHeader(agentIdHeader);
 
-        try {
-            // Get header agent ID
-            String headerAgentId = request.headers().firstHeader(agentIdHeader);
-
-            // Process request - returns both agent and event stream
-            AguiRequestProcessor.ProcessResult result =
-                    processor.process(input, headerAgentId, pathAgentId);
+        // Resolving the agent may create it, evict another thread's session or restore this one
+        // from the session store, all of which can block, so keep it off the event loop
+        return Mono.fromCallable(() -> processor.process(input, headerAgentId, pathAgentId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(result -> respond(result, runId))
+                .onErrorResume(
+                        e -> {
+                            if (e instanceof AguiException.AgentNotFoundException) {
+                                logger.error("Agent not found: {}", e.getMessage());
+                            } else {
+                                logger.error("Error processing AG-UI request: {}", e.getMessage());
+                            }
+                            return createErrorResponse(threadId, runId, e.getMessage());
+                        });
+    }
 
-            // Create SSE stream using ServerSentEvent for proper streaming behavior
-            Flux<ServerSentEvent<String>> sseStream =
-                    result.events()
-                            .map(
-                                    event ->
-                                            ServerSentEvent.<String>builder()
-                                                    .data(encoder.encodeToJson(event).trim())
-                                                    .build())
-                            // When client closes connection (cancels stream), interrupt the agent
-                            .doOnCancel(
-                                    () -> {
-                                        logger.info(
-                                                "SSE stream cancelled for run {}, interrupting"
-                                                        + " agent",
-                                                runId);
-                                        result.agent().interrupt();
-                                    });
+    private Mono<ServerResponse> respond(AguiRequestProcessor.ProcessResult result, String runId) {
+        Flux<List<AguiEvent>> batches =
+                eventBatcher != null
+                        ? eventBatcher.batch(result.events())
+                        : result.events().map(List::of);
+        Flux<byte[]> frames =
+                batches.map(encoder::encodeToBytes)
+                        // When client closes connection (cancels stream), interrupt the agent
+                        .doOnCancel(
+                                () -> {
+                                    logger.info(
+                                            "SSE stream cancelled for run {}, interrupting agent",
+                                            runId);
+                                    result.agent().interrupt();
+                                });
 
-            return ServerResponse.ok()
-                    .contentType(MediaType.TEXT_EVENT_STREAM)
-                    .body(sseStream, ServerSentEvent.class);
+        return ServerResponse.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .body(writeFrames(frames));
+    }
 
-        } catch (AguiException.AgentNotFoundException e) {
-            logger.error("Agent not found: {}", e.getMessage());
-            return createErrorResponse(threadId, runId, e.getMessage());
-        } catch (Exception e) {
-            logger.error("Error processing AG-UI request: {}", e.getMessage());
-            return createErrorResponse(threadId, runId, e.getMessage());
-        }
+    /**
+     * Write pre-encoded SSE frames, flushing after each element so that events reach the client
+     * as soon as they are encoded.
+     */
+    private static BodyInserter<Flux<byte[]>, ReactiveHttpOutputMessage> writeFrames(
+            Flux<byte[]> frames) {
+        return (message, context) ->
+                message.writeAndFlushWith(
+                        frames.map(bytes -> Mono.just(message.bufferFactory().wrap(bytes))));
     }
 
     private Mono<ServerResponse> handleParseError(Throwable error) {
@@ -225,6 +245,7 @@ public class AguiWebFluxHandler {
         private AguiAdapterConfig config;
         private boolean serverSideMemory = false;
         private String agentIdHeader;
+        private AguiEventBatcher eventBatcher;
 
         /**
          * Set the agent registry.
@@ -281,6 +302,17 @@ public class AguiWebFluxHandler {
             return this;
         }
 
+        /**
+         * Set the batcher that groups streamed events into batches written with a single flush.
+         *
+         * @param eventBatcher The event batcher, or null to write every event on its own (default)
+         * @return This builder
+         */
+        public Builder eventBatcher(AguiEventBatcher eventBatcher) {
+            this.eventBatcher = eventBatcher;
+            return this;
+        }
+
         /**
          * Build the handler.
          *
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.spring.boot.agui.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import io.agentscope.core.ReActAgent;
+import io.agentscope.core.agent.Agent;
+import io.agentscope.core.message.Msg;
+import io.agentscope.core.message.MsgRole;
+import io.agentscope.core.message.TextBlock;
+import io.agentscope.core.model.Model;
+import io.agentscope.core.session.InMemorySession;
+import io.agentscope.core.state.SimpleSessionKey;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for ThreadSessionManager.
+ */
+@DisplayName("ThreadSessionManager Tests")
+class ThreadSessionManagerTest {
+
+    private final Supplier<Agent> factory =
+            () -> ReActAgent.builder().name("assistant").model(mock(Model.class)).build();
+
+    private static void remember(Agent agent, String text) {
+        ((ReActAgent) agent)
+                .getMemory()
+                .addMessage(
+                        Msg.builder()
+                                .name("user")
+                                .role(MsgRole.USER)
+                                .content(TextBlock.builder().text(text).build())
+                                .build());
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used session when full")
+    void testEvictsLeastRecentlyUsed() {
+        ThreadSessionManager manager = new ThreadSessionManager(2, 0);
+
+        Agent first = manager.getOrCreateAgent("t1", "default", factory);
+        manager.getOrCreateAgent("t2", "default", factory);
+        assertSame(first, manager.getOrCreateAgent("t1", "default", factory));
+        manager.getOrCreateAgent("t3", "default", factory);
+
+        assertEquals(2, manager.getSessionCount());
+        assertTrue(manager.getSession("t1").isPresent());
+        assertFalse(manager.getSession("t2").isPresent());
+        assertEquals(0, manager.getPassivatedCount());
+    }
+
+    @Test
+    @DisplayName("Should passivate evicted sessions and restore them on the next request")
+    void testPassivatesAndRehydrates() {
+        InMemorySession store = new InMemorySession();
+        ThreadSessionManager manager = new ThreadSessionManager(1, 0, store);
+
+        Agent first = manager.getOrCreateAgent("t1", "default", factory);
+        remember(first, "hello");
+        manager.getOrCreateAgent("t2", "default", factory);
+
+        assertFalse(manager.getSession("t1").isPresent());
+        assertEquals(1, manager.getPassivatedCount());
+        assertTrue(store.exists(SimpleSessionKey.of("agui_t1")));
+
+        Agent restored = manager.getOrCreateAgent("t1", "default", factory);
+
+        assertNotSame(first, restored);
+        assertTrue(manager.hasMemory("t1"));
+        assertEquals(
+                "hello", ((ReActAgent) restored).getMemory().getMessages().get(0).getTextContent());
+        assertEquals(1, manager.getRehydratedCount());
+    }
+
+    @Test
+    @DisplayName("Should not restore state saved by another agent type")
+    void testDropsStateOfOtherAgentType() {
+        InMemorySession store = new InMemorySession();
+        ThreadSessionManager manager = new ThreadSessionManager(1, 0, store);
+
+        remember(manager.getOrCreateAgent("t1", "default", factory), "hello");
+        manager.getOrCreateAgent("t2", "default", factory);
+        manager.getOrCreateAgent("t1", "other", factory);
+
+        assertFalse(manager.hasMemory("t1"));
+        assertEquals(0, manager.getRehydratedCount());
+    }
+
+    @Test
+    @DisplayName("Should passivate all sessions on close and forget removed ones")
+    void testCloseAndRemove() {
+        InMemorySession store = new InMemorySession();
+        ThreadSessionManager manager = new ThreadSessionManager(10, 30, store);
+        remember(manager.getOrCreateAgent("t1", "default", factory), "hello");
+        remember(manager.getOrCreateAgent("t2", "default", factory), "hi");
+
+        manager.close();
+
+        assertEquals(0, manager.getSessionCount());
+        assertEquals(2, manager.getPassivatedCount());
+        assertTrue(manager.removeSession("t2"));
+        assertFalse(store.exists(SimpleSessionKey.of("agui_t2")));
+        assertTrue(store.exists(SimpleSessionKey.of("agui_t1")));
+    }
+
+    @Test
+    @DisplayName("Should create agents outside the map entry")
+    void testCreatesAgentOutsideEntry() throws Exception {
+        ThreadSessionManager manager = new ThreadSessionManager(10, 0);
+        CountDownLatch creating = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Agent> slow =
+                CompletableFuture.supplyAsync(
+                        () ->
+                                manager.getOrCreateAgent(
+                                        "t1",
+                                        "default",
+                                        () -> {
+                                            creating.countDown();
+                                            try {
+                                                release.await();
+                                            } catch (InterruptedException e) {
+                                                Thread.currentThread().interrupt();
+                                            }
+                                            return factory.get();
+                                        }));
+        creating.await();
+
+        // Does not wait for the agent being created
+        assertTimeoutPreemptively(Duration.ofSeconds(5), manager::clear);
+        assertFalse(manager.getSession("t1").isPresent());
+
+        release.countDown();
+        assertTrue(slow.get() instanceof ReActAgent);
+        assertEquals(0, manager.getSessionCount());
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.spring.boot.agui.mvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import io.agentscope.core.agent.Agent;
+import io.agentscope.core.agent.StreamOptions;
+import io.agentscope.core.agui.encoder.AguiEventBatcher;
+import io.agentscope.core.agui.registry.AguiAgentRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Flux;
+
+/**
+ * Unit tests for {@link AguiMvcController}.
+ */
+@Tag("unit")
+@DisplayName("AguiMvcController Unit Tests")
+class AguiMvcControllerTest {
+
+    private static final String INPUT =
+            "{\"threadId\":\"thread-1\",\"runId\":\"run-1\","
+                    + "\"messages\":[{\"id\":\"msg-1\",\"role\":\"user\",\"content\":\"Hello\"}]}";
+
+    /** One or more complete SSE frames, each a single data line holding a JSON object. */
+    private static final String FRAMES = "(data: \\{[^\\n]*\\}\\n\\n)+";
+
+    @Test
+    @DisplayName("Should write each event as a data frame")
+    void testFramesWithoutBatcher() throws Exception {
+        String body = run(null);
+
+        assertTrue(body.matches(FRAMES), body);
+        assertEquals(2, body.split("\n\n").length);
+        assertTrue(body.contains("RUN_STARTED") && body.contains("RUN_FINISHED"), body);
+    }
+
+    @Test
+    @DisplayName("Should write batched events as the same data frames")
+    void testFramesWithBatcher() throws Exception {
+        String body =
+                run(AguiEventBatcher.builder().window(Duration.ofMillis(20)).maxEvents(64).build());
+
+        assertTrue(body.matches(FRAMES), body);
+        assertEquals(2, body.split("\n\n").length);
+        assertTrue(body.contains("RUN_STARTED") && body.contains("RUN_FINISHED"), body);
+    }
+
+    private static String run(AguiEventBatcher eventBatcher) throws Exception {
+        Agent agent = mock(Agent.class);
+        when(agent.stream(anyList(), any(StreamOptions.class))).thenReturn(Flux.empty());
+        AguiAgentRegistry registry = new AguiAgentRegistry();
+        registry.register("default", agent);
+
+        AguiMvcController controller =
+                AguiMvcController.builder()
+                        .agentRegistry(registry)
+                        .eventBatcher(eventBatcher)
+                        .build();
+        MockMvc mockMvc =
+                MockMvcBuilders.standaloneSetup(new AguiRestController(controller, "/agui", false))
+                        .build();
+
+        MvcResult result =
+                mockMvc.perform(
+                                post("/agui/run")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(INPUT))
+                        .andExpect(request().asyncStarted())
+                        .andReturn();
+        // Wait for the emitter to complete
+        result.getAsyncResult(5000);
+        return result.getResponse().getContentAsString();
+    }
+}
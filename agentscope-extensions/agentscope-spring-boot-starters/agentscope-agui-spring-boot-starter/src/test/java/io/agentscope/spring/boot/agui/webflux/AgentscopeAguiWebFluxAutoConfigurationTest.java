@@ -0,0 +1,86 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.agentscope.spring.boot.agui.webflux;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.agentscope.core.session.InMemorySession;
+import io.agentscope.core.session.Session;
+import io.agentscope.spring.boot.agui.common.AguiAgentRegistryAutoConfiguration;
+import io.agentscope.spring.boot.agui.common.ThreadSessionManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.core.NestedExceptionUtils;
+
+/**
+ * Unit tests for {@link AgentscopeAguiWebFluxAutoConfiguration}.
+ */
+@Tag("unit")
+@DisplayName("AgentscopeAguiWebFluxAutoConfiguration Unit Tests")
+class AgentscopeAguiWebFluxAutoConfigurationTest {
+
+    private final ReactiveWebApplicationContextRunner contextRunner =
+            new ReactiveWebApplicationContextRunner()
+                    .withConfiguration(
+                            AutoConfigurations.of(
+                                    AguiAgentRegistryAutoConfiguration.class,
+                                    AgentscopeAguiWebFluxAutoConfiguration.class));
+
+    @Test
+    @DisplayName("Should auto-configure the handler and thread session manager")
+    void testAutoConfiguration() {
+        contextRunner.run(
+                ctx -> {
+                    assertNull(ctx.getStartupFailure());
+                    assertNotNull(ctx.getBean(AguiWebFluxHandler.class));
+                    assertNotNull(ctx.getBean(ThreadSessionManager.class));
+                    assertTrue(ctx.containsBean("aguiRoutes"));
+                });
+    }
+
+    @Test
+    @DisplayName("Should fail to start when passivation is enabled without a Session bean")
+    void testPassivateSessionsWithoutStore() {
+        contextRunner
+                .withPropertyValues("agentscope.agui.passivate-sessions=true")
+                .run(
+                        ctx -> {
+                            Throwable cause =
+                                    NestedExceptionUtils.getRootCause(ctx.getStartupFailure());
+                            assertInstanceOf(IllegalStateException.class, cause);
+                            assertTrue(cause.getMessage().contains("passivate-sessions"));
+                        });
+    }
+
+    @Test
+    @DisplayName("Should start when passivation is enabled with a Session bean")
+    void testPassivateSessionsWithStore() {
+        contextRunner
+                .withPropertyValues("agentscope.agui.passivate-sessions=true")
+                .withBean(Session.class, InMemorySession::new)
+                .run(
+                        ctx -> {
+                            assertNull(ctx.getStartupFailure());
+                            assertNotNull(ctx.getBean(ThreadSessionManager.class));
+                        });
+    }
+}
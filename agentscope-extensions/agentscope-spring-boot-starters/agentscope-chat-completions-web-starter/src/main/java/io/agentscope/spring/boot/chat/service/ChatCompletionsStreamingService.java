@@ -17,6 +17,7 @@ package io.agentscope.spring.boot.chat.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.agentscope.core.ReActAgent;
 import io.agentscope.core.chat.completions.model.ChatCompletionsChunk;
 import io.agentscope.core.chat.completions.streaming.ChatCompletionsStreamingAdapter;
@@ -51,7 +52,9 @@ import reactor.core.publisher.Flux;
  */
 public class ChatCompletionsStreamingService {
 
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    /** Writer bound to the chunk type, so the serializer is not looked up for every chunk. */
+    private static final ObjectWriter CHUNK_WRITER =
+            new ObjectMapper().writerFor(ChatCompletionsChunk.class);
 
     private final ChatCompletionsStreamingAdapter streamingAdapter;
 
@@ -91,7 +94,7 @@ public class ChatCompletionsStreamingService {
      */
     private ServerSentEvent<String> chunkToSseEvent(ChatCompletionsChunk chunk) {
         try {
-            String json = OBJECT_MAPPER.writeValueAsString(chunk);
+            String json = CHUNK_WRITER.writeValueAsString(chunk);
             return ServerSentEvent.<String>builder().data(json).build();
         } catch (JsonProcessingException e) {
             return ServerSentEvent.<String>builder()